@@ -301,6 +301,37 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_KEEP_ALIVE = "max_keep_alive";
 
+	/**
+	 * Whether request bodies sent to the Elasticsearch cluster should be compressed with gzip,
+	 * and compressed responses should be requested from the Elasticsearch cluster.
+	 * <p>
+	 * Compression trades CPU time for network bandwidth:
+	 * it is mostly useful when indexing large documents through a slow or metered network.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
+	/**
+	 * The minimum size of request bodies to compress, in bytes, when compression is enabled.
+	 * <p>
+	 * Smaller request bodies are sent uncompressed,
+	 * since compressing them would cost more CPU time than it would save network bandwidth.
+	 * Request bodies that are too large for their size to be known before they are sent,
+	 * e.g. most bulk requests, are always compressed.
+	 * <p>
+	 * Only effective if {@link #COMPRESSION_ENABLED compression is enabled}.
+	 * <p>
+	 * Expects a positive or zero Integer value in bytes, such as {@code 1024},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_THRESHOLD}.
+	 */
+	public static final String COMPRESSION_THRESHOLD = "compression.threshold";
+
 	/**
 	 * This property defines if partial shard failures are ignored.
 	 * <p>
@@ -335,6 +366,8 @@ private Defaults() {
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
+		public static final boolean COMPRESSION_ENABLED = false;
+		public static final int COMPRESSION_THRESHOLD = 1024;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		/**
 		 * @deprecated The default for the {@link ElasticsearchBackendSettings#VERSION_CHECK_ENABLED} property
@@ -142,6 +142,40 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * Whether indexing queues should use a lock-free implementation.
+	 * <p>
+	 * Lock-free queues reduce contention when many threads submit indexing works concurrently,
+	 * but threads waiting for space in a full queue may be unblocked in any order.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_LOCK_FREE}.
+	 */
+	public static final String INDEXING_QUEUE_LOCK_FREE = INDEXING_PREFIX + IndexingRadicals.QUEUE_LOCK_FREE;
+
+	/**
+	 * The target latency for processing a single batch of indexing works, in milliseconds.
+	 * <p>
+	 * When strictly positive, the number of works processed in each batch adapts to the observed latency
+	 * of bulk requests: batches get smaller when processing them exceeds the target latency,
+	 * and larger (up to {@link #INDEXING_QUEUE_SIZE the queue size}) when works keep piling up within the target latency.
+	 * When {@code 0}, each batch includes as many works as possible, up to the queue size.
+	 * <p>
+	 * Expects a positive or zero integer value in milliseconds, such as {@code 500},
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BATCH_TARGET_LATENCY}.
+	 */
+	public static final String INDEXING_BATCH_TARGET_LATENCY = INDEXING_PREFIX + IndexingRadicals.BATCH_TARGET_LATENCY;
+
 	/**
 	 * The maximum size of bulk requests created when processing indexing queues.
 	 * <p>
@@ -155,6 +189,91 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size of the payload of bulk requests created when processing indexing queues, in bytes.
+	 * <p>
+	 * Bulk requests are bounded both by this size, estimated from the documents they contain,
+	 * and by {@link #INDEXING_MAX_BULK_SIZE the maximum number of works}.
+	 * A single document exceeding this size will still be sent, in its own bulk request.
+	 * <p>
+	 * Expects a strictly positive long value,
+	 * or a string that can be parsed into a long value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_PAYLOAD_SIZE}.
+	 */
+	public static final String INDEXING_MAX_BULK_PAYLOAD_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_PAYLOAD_SIZE;
+
+	/**
+	 * The maximum number of times indexing requests rejected by Elasticsearch because it is overloaded
+	 * (HTTP status 429 or {@code es_rejected_execution_exception})
+	 * will be retried before being reported as failed.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * {@code 0} disables retries.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_RETRIES}.
+	 */
+	public static final String INDEXING_MAX_RETRIES = INDEXING_PREFIX + IndexingRadicals.MAX_RETRIES;
+
+	/**
+	 * The maximum delay before the first retry of indexing requests rejected by Elasticsearch
+	 * because it is overloaded, in milliseconds.
+	 * <p>
+	 * The maximum delay doubles with each subsequent retry,
+	 * up to {@link #INDEXING_RETRY_MAX_BACKOFF}.
+	 * The actual delay is picked randomly between zero and the maximum delay.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_INITIAL_BACKOFF}.
+	 */
+	public static final String INDEXING_RETRY_INITIAL_BACKOFF = INDEXING_PREFIX + IndexingRadicals.RETRY_INITIAL_BACKOFF;
+
+	/**
+	 * The maximum delay before any retry of indexing requests rejected by Elasticsearch
+	 * because it is overloaded, in milliseconds.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_MAX_BACKOFF}.
+	 */
+	public static final String INDEXING_RETRY_MAX_BACKOFF = INDEXING_PREFIX + IndexingRadicals.RETRY_MAX_BACKOFF;
+
+	/**
+	 * Whether updates of an entity that only affect some fields at the root of the document
+	 * should be sent to Elasticsearch as partial updates instead of re-indexing the whole document.
+	 * <p>
+	 * Only applies when the mapper knows which properties of the entity changed,
+	 * and only to fields that do not rely on type bridges, routing bridges or embedded objects.
+	 * <p>
+	 * <strong>WARNING:</strong> partial updates fail when the document is missing from the index,
+	 * so this should only be enabled when the index is known to be in sync with the database.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_PARTIAL_UPDATES}.
+	 */
+	public static final String INDEXING_PARTIAL_UPDATES = INDEXING_PREFIX + IndexingRadicals.PARTIAL_UPDATES;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -165,7 +284,14 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String QUEUE_LOCK_FREE = "queue_lock_free";
+		public static final String BATCH_TARGET_LATENCY = "batch_target_latency";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_PAYLOAD_SIZE = "max_bulk_payload_size";
+		public static final String MAX_RETRIES = "max_retries";
+		public static final String RETRY_INITIAL_BACKOFF = "retry_initial_backoff";
+		public static final String RETRY_MAX_BACKOFF = "retry_max_backoff";
+		public static final String PARTIAL_UPDATES = "partial_updates";
 	}
 
 	/**
@@ -186,7 +312,14 @@ private Defaults() {
 		public static final int SCHEMA_MANAGEMENT_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT = 10_000;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final boolean INDEXING_QUEUE_LOCK_FREE = false;
+		public static final int INDEXING_BATCH_TARGET_LATENCY = 0;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final long INDEXING_MAX_BULK_PAYLOAD_SIZE = 10L * 1024 * 1024;
+		public static final int INDEXING_MAX_RETRIES = 10;
+		public static final int INDEXING_RETRY_INITIAL_BACKOFF = 100;
+		public static final int INDEXING_RETRY_MAX_BACKOFF = 10_000;
+		public static final boolean INDEXING_PARTIAL_UPDATES = false;
 		public static final DynamicMapping DYNAMIC_MAPPING = DynamicMapping.STRICT;
 	}
 
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of fixed-size byte buffers, used as pages when encoding request bodies.
+ * <p>
+ * Encoding large bulk requests involves many buffer pages;
+ * allocating a new page each time means a lot of short-lived garbage,
+ * while pooling them means the same few pages get reused over and over.
+ * Pooled pages are direct buffers, so that the HTTP client can hand them
+ * to the socket channel without an additional copy.
+ * <p>
+ * The pool is thread-safe, and retains at most a fixed number of pages:
+ * pages released while the pool is full are left to the garbage collector.
+ */
+public final class ByteBufferPool {
+
+	/**
+	 * @param pageSize The size of pages, in bytes.
+	 * @return A "pool" that allocates a new heap buffer on each call to {@link #acquire()}
+	 * and never retains released buffers.
+	 */
+	public static ByteBufferPool unpooledHeap(int pageSize) {
+		return new ByteBufferPool( pageSize, 0, false );
+	}
+
+	/**
+	 * @param pageSize The size of pages, in bytes.
+	 * @param maxPooledPages The maximum number of pages retained by the pool.
+	 * @return A pool of direct buffers.
+	 */
+	public static ByteBufferPool pooledDirect(int pageSize, int maxPooledPages) {
+		return new ByteBufferPool( pageSize, maxPooledPages, true );
+	}
+
+	private final int pageSize;
+	private final int maxPooledPages;
+	private final boolean direct;
+
+	private final Queue<ByteBuffer> pooledPages = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pooledPageCount = new AtomicInteger();
+
+	private ByteBufferPool(int pageSize, int maxPooledPages, boolean direct) {
+		this.pageSize = pageSize;
+		this.maxPooledPages = maxPooledPages;
+		this.direct = direct;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "pageSize=" + pageSize
+				+ ", direct=" + direct
+				+ ", pooledPageCount=" + pooledPageCount
+				+ ", maxPooledPages=" + maxPooledPages
+				+ "]";
+	}
+
+	public int pageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * @return A cleared buffer of {@link #pageSize()} bytes, for exclusive use by the caller
+	 * until it is passed to {@link #release(ByteBuffer)}.
+	 */
+	public ByteBuffer acquire() {
+		ByteBuffer page = pooledPages.poll();
+		if ( page != null ) {
+			pooledPageCount.decrementAndGet();
+			return page;
+		}
+		return direct ? ByteBuffer.allocateDirect( pageSize ) : ByteBuffer.allocate( pageSize );
+	}
+
+	/**
+	 * @param page A buffer previously returned by {@link #acquire()}.
+	 * The caller must not use the buffer after this call.
+	 */
+	public void release(ByteBuffer page) {
+		if ( maxPooledPages == 0 ) {
+			return;
+		}
+		// Reserve a slot first, so that concurrent releases cannot exceed the limit.
+		if ( pooledPageCount.incrementAndGet() > maxPooledPages ) {
+			pooledPageCount.decrementAndGet();
+			return;
+		}
+		page.clear();
+		pooledPages.offer( page );
+	}
+
+}
@@ -130,6 +130,18 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 							.asBeanReference( ElasticsearchHttpClientConfigurer.class )
 							.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> COMPRESSION_THRESHOLD =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION_THRESHOLD )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION_THRESHOLD )
+					.build();
+
 	private static final OptionalConfigurationProperty<Long> MAX_KEEP_ALIVE =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.MAX_KEEP_ALIVE )
 					.asLongStrictlyPositive()
@@ -143,6 +155,8 @@ public ElasticsearchClientImplementor create(BeanResolver beanResolver, Configur
 			Optional<ElasticsearchVersion> configuredVersion) {
 		Optional<Integer> requestTimeoutMs = REQUEST_TIMEOUT.get( propertySource );
 		int connectionTimeoutMs = CONNECTION_TIMEOUT.get( propertySource );
+		boolean compressionEnabled = COMPRESSION_ENABLED.get( propertySource );
+		int compressionThreshold = COMPRESSION_THRESHOLD.get( propertySource );
 
 		Optional<BeanHolder<? extends RestClient>> providedRestClientHolder = CLIENT_INSTANCE.getAndMap(
 				propertySource, beanResolver::resolve );
@@ -164,6 +178,7 @@ public ElasticsearchClientImplementor create(BeanResolver beanResolver, Configur
 		return new ElasticsearchClientImpl(
 				restClientHolder, sniffer, timeoutExecutorService,
 				requestTimeoutMs, connectionTimeoutMs,
+				compressionEnabled, compressionThreshold,
 				gsonProvider.getGson(), gsonProvider.getLogHelper()
 		);
 	}
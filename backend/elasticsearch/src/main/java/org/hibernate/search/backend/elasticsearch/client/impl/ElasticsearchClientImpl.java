@@ -35,8 +35,10 @@
 import com.google.gson.JsonObject;
 
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.entity.ContentType;
+import org.apache.http.util.EntityUtils;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
@@ -52,6 +54,8 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	private static final Log requestLog =
 			LoggerFactory.make( Log.class, ElasticsearchLogCategories.REQUEST, MethodHandles.lookup() );
 
+	private static final int LOGGED_RESPONSE_BODY_MAX_BYTES = 8 * 1024;
+
 	private final BeanHolder<? extends RestClient> restClientHolder;
 
 	private final Sniffer sniffer;
@@ -60,19 +64,35 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private final Optional<Integer> requestTimeoutMs;
 	private final int connectionTimeoutMs;
+	private final int compressionThreshold;
+	private final RequestOptions requestOptions;
 
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
+	// Shared by all requests, so that bulk request bodies are encoded into reused pages.
+	private final ByteBufferPool requestBodyPagePool = GsonHttpEntity.createPagePool();
 
 	ElasticsearchClientImpl(BeanHolder<? extends RestClient> restClientHolder, Sniffer sniffer,
 			SimpleScheduledExecutor timeoutExecutorService,
 			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs,
+			boolean compressionEnabled, int compressionThreshold,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClientHolder = restClientHolder;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
 		this.requestTimeoutMs = requestTimeoutMs;
 		this.connectionTimeoutMs = connectionTimeoutMs;
+		if ( compressionEnabled ) {
+			this.compressionThreshold = compressionThreshold;
+			// Responses will be decompressed transparently by the RestClient.
+			this.requestOptions = RequestOptions.DEFAULT.toBuilder()
+					.addHeader( HttpHeaders.ACCEPT_ENCODING, "gzip" )
+					.build();
+		}
+		else {
+			this.compressionThreshold = -1;
+			this.requestOptions = RequestOptions.DEFAULT;
+		}
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 	}
@@ -102,7 +122,8 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, requestBodyPagePool,
+					compressionThreshold );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -168,6 +189,7 @@ public void onFailure(Exception exception) {
 
 	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.method(), elasticsearchRequest.path() );
+		request.setOptions( requestOptions );
 		setPerRequestSocketTimeout( elasticsearchRequest, request );
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.parameters().entrySet() ) {
@@ -195,29 +217,34 @@ private void setPerRequestSocketTimeout(ElasticsearchRequest elasticsearchReques
 				.setConnectTimeout( connectionTimeoutMs )
 				.build();
 
-		RequestOptions.Builder requestOptions = RequestOptions.DEFAULT.toBuilder()
+		RequestOptions.Builder perRequestOptions = requestOptions.toBuilder()
 				.setRequestConfig( requestConfig );
 
-		request.setOptions( requestOptions );
+		request.setOptions( perRequestOptions );
 	}
 
 	private ElasticsearchResponse convertResponse(Response response) {
+		int statusCode = response.getStatusLine().getStatusCode();
+		String reasonPhrase = response.getStatusLine().getReasonPhrase();
 		try {
-			JsonObject body = parseBody( response );
-			return new ElasticsearchResponse(
-					response.getHost(),
-					response.getStatusLine().getStatusCode(),
-					response.getStatusLine().getReasonPhrase(),
-					body );
+			HttpEntity entity = response.getEntity();
+			if ( entity != null && ElasticsearchClientUtils.isSuccessCode( statusCode ) ) {
+				// Successful responses can be large (search hits in particular) and some consumers stream them:
+				// only keep the raw bytes for now, and parse them into a JSON tree if and when it's needed.
+				Charset charset = getCharset( entity );
+				byte[] rawBody = EntityUtils.toByteArray( entity );
+				return new ElasticsearchResponse( response.getHost(), statusCode, reasonPhrase,
+						rawBody, charset, reader -> parseBody( statusCode, reasonPhrase, reader ) );
+			}
+			JsonObject body = parseBody( entity );
+			return new ElasticsearchResponse( response.getHost(), statusCode, reasonPhrase, body );
 		}
 		catch (IOException | RuntimeException e) {
-			throw log.failedToParseElasticsearchResponse( response.getStatusLine().getStatusCode(),
-					response.getStatusLine().getReasonPhrase(), e.getMessage(), e );
+			throw log.failedToParseElasticsearchResponse( statusCode, reasonPhrase, e.getMessage(), e );
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
-		HttpEntity entity = response.getEntity();
+	private JsonObject parseBody(HttpEntity entity) throws IOException {
 		if ( entity == null ) {
 			return null;
 		}
@@ -229,6 +256,15 @@ private JsonObject parseBody(Response response) throws IOException {
 		}
 	}
 
+	private JsonObject parseBody(int statusCode, String reasonPhrase, Reader reader) {
+		try ( Reader closedReader = reader ) {
+			return gson.fromJson( closedReader, JsonObject.class );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.failedToParseElasticsearchResponse( statusCode, reasonPhrase, e.getMessage(), e );
+		}
+	}
+
 	private static Charset getCharset(HttpEntity entity) {
 		ContentType contentType = ContentType.get( entity );
 		Charset charset = contentType.getCharset();
@@ -247,7 +283,7 @@ private void log(ElasticsearchRequest request, long start, ElasticsearchResponse
 					request.bodyParts().size(), executionTimeMs,
 					response.statusCode(), response.statusMessage(),
 					jsonLogHelper.toString( request.bodyParts() ),
-					jsonLogHelper.toString( response.body() ) );
+					responseBodyForLog( response ) );
 		}
 		else {
 			requestLog.executedRequestWithFailure( request.method(), response.host(), request.path(), request.parameters(),
@@ -258,6 +294,12 @@ private void log(ElasticsearchRequest request, long start, ElasticsearchResponse
 		}
 	}
 
+	private String responseBodyForLog(ElasticsearchResponse response) {
+		// Successful responses can be large: avoid parsing them just for the sake of logging.
+		String rawBody = response.rawBodyPrefix( LOGGED_RESPONSE_BODY_MAX_BYTES );
+		return rawBody != null ? rawBody : jsonLogHelper.toString( response.body() );
+	}
+
 	@Override
 	public void close() {
 		try ( Closer<IOException> closer = new Closer<>() ) {
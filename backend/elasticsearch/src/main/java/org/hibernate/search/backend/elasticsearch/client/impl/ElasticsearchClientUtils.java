@@ -41,12 +41,24 @@ public static boolean isSuccessCode(int code) {
 		return 200 <= code && code < 300;
 	}
 
-	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, ByteBufferPool pagePool)
+			throws IOException {
+		return toEntity( gson, request, pagePool, GsonHttpEntity.COMPRESSION_DISABLED );
+	}
+
+	/**
+	 * @param compressionThreshold The minimum size of the request body, in bytes, for it to be compressed with gzip,
+	 * or a negative value to never compress the request body.
+	 */
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, ByteBufferPool pagePool,
+			int compressionThreshold)
+			throws IOException {
 		final List<JsonObject> bodyParts = request.bodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		return new GsonHttpEntity( gson, bodyParts, pagePool,
+				compressionThreshold < 0 ? GsonHttpEntity.COMPRESSION_DISABLED : compressionThreshold );
 	}
 
 	public static ElasticsearchVersion tryGetElasticsearchVersion(ElasticsearchClient client) {
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -12,11 +13,13 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.hibernate.search.util.common.impl.Contracts;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -53,6 +56,16 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Body parts are streamed one after the other through a single {@link JsonWriter}
+ * per encoding pass, and the byte buffer pages holding encoded content
+ * are given back to a {@link ByteBufferPool} as soon as the HTTP client has consumed them,
+ * so that encoding even very large bulk requests only involves a handful of (reused) pages.
+ *
+ * Optionally, content can be compressed with gzip as it is encoded, through a {@link GzipContentEncoder}
+ * inserted between the pages and the HTTP client's encoder, so that compression doesn't require
+ * holding the whole body in memory either. Bodies small enough to fit into the initial page
+ * are only compressed if they reach a given threshold.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -62,6 +75,13 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private static final BasicHeader CONTENT_TYPE =
 			new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
+	private static final BasicHeader CONTENT_ENCODING_GZIP = new BasicHeader( HTTP.CONTENT_ENCODING, "gzip" );
+
+	/**
+	 * The value to pass as a compression threshold to disable compression.
+	 */
+	static final int COMPRESSION_DISABLED = -1;
+
 	/**
 	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
 	 * It's a rather large size: a tradeoff for very large JSON
@@ -71,6 +91,20 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 */
 	private static final int BYTE_BUFFER_PAGE_SIZE = 1024;
 
+	/**
+	 * The size of pages in {@link #createPagePool() the pool of direct byte buffers}.
+	 * Pooled pages are not garbage, so we can afford larger pages:
+	 * this means fewer writes to the HTTP client's buffers,
+	 * and more request bodies that fit in a single page and thus get a known content length.
+	 */
+	static final int POOLED_BYTE_BUFFER_PAGE_SIZE = 8 * 1024;
+
+	/**
+	 * The maximum number of pages retained in {@link #createPagePool() the pool of direct byte buffers},
+	 * i.e. 4MiB of direct memory with the page size above.
+	 */
+	static final int MAX_POOLED_BYTE_BUFFER_PAGES = 512;
+
 	/**
 	 * We want the char buffer and byte buffer pages of approximately
 	 * the same size, however one is in characters and the other in bytes.
@@ -81,6 +115,7 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private final Gson gson;
 	private final List<JsonObject> bodyParts;
+	private final ByteBufferPool pagePool;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -117,16 +152,56 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 * partially rendered JSON stored in its buffers while flow control
 	 * refuses to accept more bytes.
 	 */
-	private ProgressiveCharBufferWriter writer =
-			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+	private ProgressiveCharBufferWriter writer;
+
+	/**
+	 * The JSON writer wrapping {@link #writer}, reused for all body parts.
+	 */
+	private JsonWriter jsonWriter;
+
+	/**
+	 * The encoder compressing content before it's passed to the HTTP client's encoder,
+	 * or {@code null} if content is not compressed.
+	 */
+	private final GzipContentEncoder gzipEncoder;
+
+	public static ByteBufferPool createPagePool() {
+		return ByteBufferPool.pooledDirect( POOLED_BYTE_BUFFER_PAGE_SIZE, MAX_POOLED_BYTE_BUFFER_PAGES );
+	}
 
 	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+		this( gson, bodyParts, ByteBufferPool.unpooledHeap( BYTE_BUFFER_PAGE_SIZE ) );
+	}
+
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, ByteBufferPool pagePool) throws IOException {
+		this( gson, bodyParts, pagePool, COMPRESSION_DISABLED );
+	}
+
+	/**
+	 * @param compressionThreshold The minimum content length, in bytes, for content to be compressed with gzip,
+	 * or {@link #COMPRESSION_DISABLED} to never compress content.
+	 * Content whose length cannot be determined upfront is always compressed, unless compression is disabled.
+	 */
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, ByteBufferPool pagePool, int compressionThreshold)
+			throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
+		Contracts.assertNotNull( pagePool, "pagePool" );
 		this.gson = gson;
 		this.bodyParts = bodyParts;
+		this.pagePool = pagePool;
 		this.contentLength = -1;
+		resetWriter();
 		attemptOnePassEncoding();
+		if ( compressionThreshold != COMPRESSION_DISABLED
+				&& ( contentLength < 0 || contentLength >= compressionThreshold ) ) {
+			// The content length we know is the uncompressed one, which is useless.
+			this.contentLength = -1;
+			this.gzipEncoder = new GzipContentEncoder( BYTE_BUFFER_PAGE_SIZE );
+		}
+		else {
+			this.gzipEncoder = null;
+		}
 	}
 
 	@Override
@@ -152,6 +227,9 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
+		if ( gzipEncoder != null ) {
+			return CONTENT_ENCODING_GZIP;
+		}
 		//Apparently this is the correct value:
 		return null;
 	}
@@ -170,14 +248,31 @@ public void writeTo(OutputStream out) throws IOException {
 		 * because we must not close the output stream that was passed as a parameter.
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
-		Writer outWriter = new OutputStreamWriter( countingStream, CHARSET );
+		if ( gzipEncoder == null ) {
+			writeBodyParts( countingStream );
+		}
+		else {
+			/*
+			 * Closing the gzip stream is the only way to release its native resources,
+			 * so we close it, but through a wrapper that will not close the counting stream.
+			 */
+			try ( GZIPOutputStream gzipStream = new GZIPOutputStream( new NonClosingOutputStream( countingStream ),
+					BYTE_BUFFER_PAGE_SIZE ) ) {
+				writeBodyParts( gzipStream );
+			}
+		}
+		//Now we finally know the content size in bytes:
+		hintContentLength( countingStream.getBytesWritten() );
+	}
+
+	private void writeBodyParts(OutputStream out) throws IOException {
+		Writer outWriter = new OutputStreamWriter( out, CHARSET );
+		JsonWriter outJsonWriter = gson.newJsonWriter( outWriter );
 		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, outWriter );
+			gson.toJson( bodyPart, outJsonWriter );
 			outWriter.append( '\n' );
 		}
 		outWriter.flush();
-		//Now we finally know the content size in bytes:
-		hintContentLength( countingStream.getBytesWritten() );
 	}
 
 	@Override
@@ -192,12 +287,23 @@ public void consumeContent() {
 	}
 
 	@Override
-	public void close() {
+	public void close() throws IOException {
 		//Nothing to close but let's make sure we re-wind the stream
 		//so that we can start from the beginning if needed
 		this.nextBodyToEncodeIndex = 0;
 		//Discard previous buffers as they might contain in-process content:
-		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		this.writer.releaseBuffers();
+		resetWriter();
+		if ( gzipEncoder != null ) {
+			gzipEncoder.reset();
+		}
+	}
+
+	private void resetWriter() throws IOException {
+		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, pagePool );
+		// Gson only creates a writer, it doesn't write anything.
+		// Multiple top-level values are allowed since Gson writes JSON elements leniently.
+		this.jsonWriter = gson.newJsonWriter( writer );
 	}
 
 	/**
@@ -234,7 +340,7 @@ private void attemptOnePassEncoding() throws IOException {
 	private void triggerFullWrite() throws IOException {
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
 			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
-			gson.toJson( bodyPart, writer );
+			gson.toJson( bodyPart, jsonWriter );
 			writer.append( '\n' );
 			writer.flush();
 			if ( writer.isFlowControlPushingBack() ) {
@@ -252,7 +358,13 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
 
 		//Re-set the encoder as it might be a different one than a previously used instance:
-		writer.setOutput( encoder );
+		if ( gzipEncoder != null ) {
+			gzipEncoder.setDelegate( encoder );
+			writer.setOutput( gzipEncoder );
+		}
+		else {
+			writer.setOutput( encoder );
+		}
 
 		//First write unfinished business from previous attempts
 		writer.resumePendingWrites();
@@ -275,6 +387,16 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 
 		// If we haven't aborted yet, we finished!
 
+		if ( gzipEncoder != null ) {
+			gzipEncoder.complete();
+			if ( !gzipEncoder.isCompleted() ) {
+				//Compressed content is pending: quit and trust we'll be called again.
+				return;
+			}
+			hintContentLength( gzipEncoder.compressedLength() );
+			return;
+		}
+
 		// The buffer's content length so far is the final content length,
 		// as we know the entire content has been encoded already.
 		// Hint at the content length.
@@ -292,4 +414,21 @@ private void hintContentLength(long contentLength) {
 		}
 	}
 
+	private static final class NonClosingOutputStream extends FilterOutputStream {
+		NonClosingOutputStream(OutputStream out) {
+			super( out );
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			// Avoid the byte-by-byte implementation of FilterOutputStream
+			out.write( b, off, len );
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+	}
+
 }
@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.apache.http.nio.ContentEncoder;
+
+/**
+ * A {@link ContentEncoder} that compresses content in the gzip format
+ * before passing it to a delegate encoder.
+ * <p>
+ * Content is compressed as it is written, so that compressing a request body
+ * never requires holding the whole body (compressed or not) in memory.
+ * <p>
+ * Flow control is preserved: when the delegate doesn't accept all compressed bytes,
+ * the remaining compressed bytes are kept aside and writes are refused
+ * until these bytes have been flushed to the delegate.
+ * Refused writes return {@code 0}, which callers such as {@link ProgressiveCharBufferWriter}
+ * interpret as the delegate pushing back.
+ * <p>
+ * Instances can be reused for multiple passes through {@link #reset()}.
+ */
+final class GzipContentEncoder implements ContentEncoder {
+
+	private static final byte[] HEADER = {
+			(byte) 0x1f, (byte) 0x8b, // Magic number
+			Deflater.DEFLATED, // Compression method
+			0, // Flags
+			0, 0, 0, 0, // Modification time
+			0, // Extra flags
+			(byte) 0xff // Operating system: unknown
+	};
+
+	private static final int TRAILER_SIZE = 8;
+
+	private final int bufferSize;
+	private final CRC32 crc = new CRC32();
+
+	private Deflater deflater;
+	/**
+	 * Compressed bytes that have not been written to the delegate yet, in "write" mode.
+	 */
+	private ByteBuffer pending;
+	private ContentEncoder delegate;
+
+	private long uncompressedLength;
+	private long compressedLength;
+	private boolean finished;
+	private boolean completed;
+
+	GzipContentEncoder(int bufferSize) {
+		this.bufferSize = bufferSize;
+		reset();
+	}
+
+	void setDelegate(ContentEncoder delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * @return The number of compressed bytes written to the delegate so far.
+	 */
+	long compressedLength() {
+		return compressedLength;
+	}
+
+	/**
+	 * Discards any state, so that this encoder can be used to compress content from the beginning.
+	 */
+	void reset() {
+		end();
+		crc.reset();
+		pending = ByteBuffer.allocate( bufferSize );
+		pending.put( HEADER );
+		uncompressedLength = 0L;
+		compressedLength = 0L;
+		finished = false;
+		completed = false;
+	}
+
+	@Override
+	public int write(ByteBuffer src) throws IOException {
+		if ( !flushPending() ) {
+			// The delegate is pushing back.
+			return 0;
+		}
+		int length = src.remaining();
+		// Don't let the checksum move the buffer's position: the deflater will do that.
+		crc.update( src.duplicate() );
+		uncompressedLength += length;
+		if ( deflater == null ) {
+			deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+		}
+		deflater.setInput( src );
+		while ( !deflater.needsInput() ) {
+			deflateToPending();
+		}
+		// Best effort: if the delegate pushes back, we'll refuse the next write.
+		flushPending();
+		return length;
+	}
+
+	@Override
+	public void complete() throws IOException {
+		if ( !finished ) {
+			if ( deflater == null ) {
+				deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+			}
+			deflater.finish();
+			while ( !deflater.finished() ) {
+				deflateToPending();
+			}
+			end();
+			writeTrailer();
+			finished = true;
+		}
+		if ( flushPending() ) {
+			delegate.complete();
+			completed = true;
+		}
+		// Otherwise the delegate is pushing back: the caller will have to call this method again.
+	}
+
+	@Override
+	public boolean isCompleted() {
+		return completed;
+	}
+
+	/**
+	 * Releases the native resources held by this encoder, if any.
+	 */
+	void end() {
+		if ( deflater != null ) {
+			deflater.end();
+			deflater = null;
+		}
+	}
+
+	private void deflateToPending() {
+		ensurePendingRemaining( 1 );
+		deflater.deflate( pending );
+	}
+
+	private void writeTrailer() {
+		ensurePendingRemaining( TRAILER_SIZE );
+		putIntLittleEndian( (int) crc.getValue() );
+		// The size of the uncompressed input, modulo 2^32
+		putIntLittleEndian( (int) uncompressedLength );
+	}
+
+	private void putIntLittleEndian(int value) {
+		pending.put( (byte) value );
+		pending.put( (byte) ( value >>> 8 ) );
+		pending.put( (byte) ( value >>> 16 ) );
+		pending.put( (byte) ( value >>> 24 ) );
+	}
+
+	private void ensurePendingRemaining(int size) {
+		if ( pending.remaining() >= size ) {
+			return;
+		}
+		ByteBuffer newPending = ByteBuffer.allocate( Math.max( pending.capacity() * 2, pending.position() + size ) );
+		pending.flip();
+		newPending.put( pending );
+		pending = newPending;
+	}
+
+	/**
+	 * @return {@code true} if all pending bytes were written to the delegate, {@code false} otherwise.
+	 */
+	private boolean flushPending() throws IOException {
+		if ( pending.position() == 0 ) {
+			return true;
+		}
+		if ( delegate == null ) {
+			return false;
+		}
+		pending.flip();
+		int written = delegate.write( pending );
+		compressedLength += written;
+		boolean flushed = !pending.hasRemaining();
+		pending.compact();
+		return flushed;
+	}
+}
@@ -32,9 +32,9 @@ class ProgressiveCharBufferWriter extends Writer {
 	private final CharsetEncoder charsetEncoder;
 
 	/**
-	 * Size of buffer pages.
+	 * Where buffer pages come from, and where they go once they have been written to the output.
 	 */
-	private final int pageSize;
+	private final ByteBufferPool pagePool;
 
 	/**
 	 * A higher-level buffer for chars, so that we don't have
@@ -70,9 +70,9 @@ class ProgressiveCharBufferWriter extends Writer {
 
 	private int contentLength = 0;
 
-	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize) {
+	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, ByteBufferPool pagePool) {
 		this.charsetEncoder = charset.newEncoder();
-		this.pageSize = pageSize;
+		this.pagePool = pagePool;
 		this.charBuffer = CharBuffer.allocate( charBufferSize );
 	}
 
@@ -159,6 +159,22 @@ public void close() {
 		// Nothing to do
 	}
 
+	/**
+	 * Gives all buffer pages back to the pool, discarding any content that wasn't written to the output yet.
+	 * <p>
+	 * This writer must not be used after this method was called.
+	 */
+	public void releaseBuffers() {
+		ByteBuffer page;
+		while ( ( page = needWritingPages.poll() ) != null ) {
+			pagePool.release( page );
+		}
+		if ( currentPage != null ) {
+			pagePool.release( currentPage );
+			currentPage = null;
+		}
+	}
+
 	/**
 	 * Send all full buffer pages to the {@link #setOutput(ContentEncoder) output}.
 	 * <p>
@@ -207,7 +223,7 @@ public int contentLength() {
 	private void writeToByteBuffer(CharBuffer input) throws IOException {
 		while ( true ) {
 			if ( currentPage == null ) {
-				currentPage = ByteBuffer.allocate( pageSize );
+				currentPage = pagePool.acquire();
 			}
 			int initialPagePosition = currentPage.position();
 			CoderResult coderResult = charsetEncoder.encode( input, currentPage, false );
@@ -257,6 +273,8 @@ private void attemptFlushPendingBuffers(boolean flushCurrentPage) throws IOExcep
 			boolean written = write( buffer );
 			if ( written ) {
 				iterator.remove();
+				// The content was copied to the output, so the page can be reused.
+				pagePool.release( buffer );
 			}
 			else {
 				flowControlPushingBack = true;
@@ -266,7 +284,10 @@ private void attemptFlushPendingBuffers(boolean flushCurrentPage) throws IOExcep
 			// The encoder still accepts some input, and we are allowed to flush the current page. Let's do.
 			currentPage.flip();
 			boolean written = write( currentPage );
-			if ( !written ) {
+			if ( written ) {
+				pagePool.release( currentPage );
+			}
+			else {
 				flowControlPushingBack = true;
 				needWritingPages.add( currentPage );
 			}
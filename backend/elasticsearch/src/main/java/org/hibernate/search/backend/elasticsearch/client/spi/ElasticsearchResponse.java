@@ -4,7 +4,14 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.function.Function;
+
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 import org.apache.http.HttpHost;
 
@@ -15,13 +22,46 @@ public final class ElasticsearchResponse {
 
 	private final String statusMessage;
 
-	private final JsonObject body;
+	private final byte[] rawBody;
+	private final Charset rawBodyCharset;
+	private final Function<Reader, JsonObject> bodyParser;
+
+	private volatile JsonObject body;
+	private volatile boolean bodyParsed;
 
 	public ElasticsearchResponse(HttpHost host, int statusCode, String statusMessage, JsonObject body) {
 		this.host = host;
 		this.statusCode = statusCode;
 		this.statusMessage = statusMessage;
+		this.rawBody = null;
+		this.rawBodyCharset = null;
+		this.bodyParser = null;
 		this.body = body;
+		this.bodyParsed = true;
+	}
+
+	/**
+	 * Creates a response whose body will only be parsed into a {@link JsonObject} on the first call to {@link #body()},
+	 * so that consumers interested in a small part of the body can
+	 * {@link #bodyReader() stream it} instead.
+	 *
+	 * @param host The host that sent the response.
+	 * @param statusCode The HTTP status code.
+	 * @param statusMessage The HTTP status message.
+	 * @param rawBody The raw bytes of the response body.
+	 * @param rawBodyCharset The charset of {@code rawBody}.
+	 * @param bodyParser A function parsing the body; expected to throw a runtime exception on failure.
+	 */
+	public ElasticsearchResponse(HttpHost host, int statusCode, String statusMessage,
+			byte[] rawBody, Charset rawBodyCharset, Function<Reader, JsonObject> bodyParser) {
+		this.host = host;
+		this.statusCode = statusCode;
+		this.statusMessage = statusMessage;
+		this.rawBody = rawBody;
+		this.rawBodyCharset = rawBodyCharset;
+		this.bodyParser = bodyParser;
+		this.body = null;
+		this.bodyParsed = false;
 	}
 
 	public HttpHost host() {
@@ -36,8 +76,53 @@ public String statusMessage() {
 		return statusMessage;
 	}
 
+	/**
+	 * @return The response body, parsed into a JSON tree on the first call.
+	 */
 	public JsonObject body() {
+		if ( !bodyParsed ) {
+			synchronized (this) {
+				if ( !bodyParsed ) {
+					body = bodyParser.apply( rawBodyReader() );
+					bodyParsed = true;
+				}
+			}
+		}
 		return body;
 	}
 
+	/**
+	 * @return A streaming reader over the response body that does not build a JSON tree,
+	 * or {@code null} if the body is not available as raw bytes,
+	 * in which case callers should fall back to {@link #body()}.
+	 */
+	public JsonReader bodyReader() {
+		if ( rawBody == null ) {
+			return null;
+		}
+		return new JsonReader( rawBodyReader() );
+	}
+
+	/**
+	 * @param maxBytes The maximum number of bytes of the body to include.
+	 * @return The raw response body, truncated to {@code maxBytes} bytes if necessary,
+	 * without parsing it into a JSON tree; useful for logging.
+	 * {@code null} if the body is not available as raw bytes,
+	 * in which case callers should fall back to {@link #body()}.
+	 */
+	public String rawBodyPrefix(int maxBytes) {
+		if ( rawBody == null ) {
+			return null;
+		}
+		if ( rawBody.length <= maxBytes ) {
+			return new String( rawBody, rawBodyCharset );
+		}
+		return new String( rawBody, 0, maxBytes, rawBodyCharset )
+				+ "... (truncated, " + rawBody.length + " bytes in total)";
+	}
+
+	private Reader rawBodyReader() {
+		return new InputStreamReader( new ByteArrayInputStream( rawBody ), rawBodyCharset );
+	}
+
 }
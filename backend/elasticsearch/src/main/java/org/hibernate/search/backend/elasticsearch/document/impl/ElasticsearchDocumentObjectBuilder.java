@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.elasticsearch.document.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.Objects;
 
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexCompositeNode;
@@ -24,6 +25,7 @@
 import org.hibernate.search.engine.common.tree.spi.TreeNodeInclusion;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 
 public class ElasticsearchDocumentObjectBuilder implements DocumentElement {
@@ -119,6 +121,27 @@ public void addNullObject(String relativeFieldName) {
 		addObject( objectFieldSchemaNode, null );
 	}
 
+	/**
+	 * Explicitly sets the given fields to {@code null} if they did not receive any value,
+	 * so that they get cleared when this object is used as a partial document.
+	 *
+	 * @param fieldReferences References to value fields of the node this builder is about.
+	 */
+	public void clearFieldsWithoutValue(Collection<? extends IndexFieldReference<?>> fieldReferences) {
+		for ( IndexFieldReference<?> fieldReference : fieldReferences ) {
+			ElasticsearchIndexValueField<?> node =
+					( (ElasticsearchIndexFieldReference<?>) fieldReference ).getSchemaNode();
+			checkTreeConsistency( node.parent() );
+			if ( TreeNodeInclusion.EXCLUDED.equals( node.inclusion() ) ) {
+				continue;
+			}
+			String jsonPropertyName = node.relativeName();
+			if ( !content.has( jsonPropertyName ) ) {
+				content.add( jsonPropertyName, JsonNull.INSTANCE );
+			}
+		}
+	}
+
 	public JsonObject build() {
 		return content;
 	}
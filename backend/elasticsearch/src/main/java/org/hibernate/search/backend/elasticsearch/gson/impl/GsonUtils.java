@@ -4,10 +4,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.gson.impl;
 
+import java.util.Map;
+
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
 public final class GsonUtils {
 
@@ -59,4 +62,76 @@ public static <T> T deepCopy(Gson gson, Class<T> objectType, T object) {
 		return gson.fromJson( gson.toJsonTree( object ), objectType );
 	}
 
+	/**
+	 * Estimates the size of the compact JSON serialization of the given element, in bytes.
+	 * <p>
+	 * Strings are counted in UTF-8 bytes, taking into account the escaping performed by default by {@link Gson},
+	 * HTML escaping included.
+	 * The estimate is much cheaper than actually serializing the element.
+	 *
+	 * @param element The element, or {@code null}.
+	 * @return An estimate of the size of the serialized element, in bytes.
+	 */
+	public static long estimateSerializedSize(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			return 4; // null
+		}
+		else if ( element.isJsonObject() ) {
+			JsonObject object = element.getAsJsonObject();
+			// {}, commas between entries
+			long size = 2 + Math.max( 0, object.size() - 1 );
+			for ( Map.Entry<String, JsonElement> entry : object.entrySet() ) {
+				// Key, colon
+				size += estimateSerializedSize( entry.getKey() ) + 1 + estimateSerializedSize( entry.getValue() );
+			}
+			return size;
+		}
+		else if ( element.isJsonArray() ) {
+			JsonArray array = element.getAsJsonArray();
+			// [], commas between elements
+			long size = 2 + Math.max( 0, array.size() - 1 );
+			for ( JsonElement child : array ) {
+				size += estimateSerializedSize( child );
+			}
+			return size;
+		}
+		else {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if ( primitive.isString() ) {
+				return estimateSerializedSize( primitive.getAsString() );
+			}
+			else {
+				return primitive.getAsString().length();
+			}
+		}
+	}
+
+	private static long estimateSerializedSize(String string) {
+		long size = 2; // Quotes
+		int length = string.length();
+		for ( int i = 0; i < length; i++ ) {
+			char c = string.charAt( i );
+			if ( c == '"' || c == '\\' || c == '\b' || c == '\f' || c == '\n' || c == '\r' || c == '\t' ) {
+				size += 2; // Escaped as a backslash followed by a character
+			}
+			else if ( c < 0x20 || c == '<' || c == '>' || c == '&' || c == '=' || c == '\''
+					|| c == 0x2028 || c == 0x2029 ) {
+				size += 6; // Escaped as a six-character unicode escape sequence
+			}
+			else if ( c < 0x80 ) {
+				size += 1;
+			}
+			else if ( c < 0x800 ) {
+				size += 2;
+			}
+			else if ( Character.isSurrogate( c ) ) {
+				size += 2; // A surrogate pair is encoded as 4 bytes
+			}
+			else {
+				size += 3;
+			}
+		}
+		return size;
+	}
+
 }
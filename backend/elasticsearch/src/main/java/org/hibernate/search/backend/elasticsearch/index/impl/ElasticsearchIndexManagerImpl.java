@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.elasticsearch.index.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -12,6 +13,7 @@
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
 import org.hibernate.search.backend.elasticsearch.analysis.impl.ElasticsearchAnalysisPerformer;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.document.impl.DocumentMetadataContributor;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
@@ -23,6 +25,7 @@
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.engine.backend.analysis.AnalysisToken;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
@@ -59,6 +62,12 @@
 					.asString()
 					.build();
 
+	private static final ConfigurationProperty<Boolean> PARTIAL_UPDATES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_PARTIAL_UPDATES )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_PARTIAL_UPDATES )
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 	private final List<DocumentMetadataContributor> documentMetadataContributors;
 	private final ElasticsearchBatchingWorkOrchestrator indexingOrchestrator;
@@ -66,6 +75,7 @@
 
 	private ElasticsearchIndexSchemaManager schemaManager;
 	private ElasticsearchAnalysisPerformer analysisPerformer;
+	private boolean partialUpdatesEnabled;
 
 	ElasticsearchIndexManagerImpl(IndexManagerBackendContext backendContext,
 			ElasticsearchIndexModel model,
@@ -112,6 +122,8 @@ public void start(IndexManagerStartContext context) {
 
 			indexingOrchestrator.start( context.configurationPropertySource() );
 
+			partialUpdatesEnabled = PARTIAL_UPDATES.get( context.configurationPropertySource() );
+
 			analysisPerformer = backendContext.createAnalysisPerformer( model );
 		}
 		catch (RuntimeException e) {
@@ -163,6 +175,23 @@ public JsonObject createDocument(String tenantId, String id,
 		return document;
 	}
 
+	@Override
+	public boolean partialUpdatesEnabled() {
+		return partialUpdatesEnabled;
+	}
+
+	@Override
+	public JsonObject createPartialDocument(Collection<? extends IndexFieldReference<?>> fieldReferences,
+			DocumentContributor documentContributor) {
+		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder( model );
+		documentContributor.contribute( builder );
+		// Fields that did not receive a value must be cleared explicitly,
+		// since the partial document is merged into the existing one.
+		builder.clearFieldsWithoutValue( fieldReferences );
+		// Metadata (tenant ID, routing key, ...) is left untouched by partial updates.
+		return builder.build();
+	}
+
 	public ElasticsearchIndexModel model() {
 		return model;
 	}
@@ -40,8 +40,14 @@ private static String formatResponse(ElasticsearchResponse response) {
 				.append( response.statusMessage() )
 				.append( "' from '" )
 				.append( response.host() )
-				.append( "' with body " )
-				.append( helper.toString( response.body() ) );
+				.append( "' with body " );
+		try {
+			sb.append( helper.toString( response.body() ) );
+		}
+		catch (RuntimeException e) {
+			// The body is parsed lazily, and parsing it may be what failed in the first place.
+			sb.append( "(unparseable: " ).append( e.getMessage() ).append( ")" );
+		}
 
 		return sb.toString();
 	}
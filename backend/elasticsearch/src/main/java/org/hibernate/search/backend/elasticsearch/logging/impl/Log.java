@@ -889,4 +889,10 @@ SearchException vectorKnnMatchVectorTypeDiffersFromField(String absoluteFieldPat
 	@Message(id = ID_OFFSET + 190, value = "A single-valued highlight projection requested, "
 			+ "but the corresponding highlighter does not set number of fragments to 1.")
 	SearchException highlighterIncompatibleCardinality();
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET + 191,
+			value = "Elasticsearch rejected %1$d bulked works because it is overloaded."
+					+ " Retrying these works in %2$dms (retry %3$d out of %4$d).")
+	void retryingRejectedBulkedWorks(int rejectedCount, long delay, int retry, int maxRetries);
 }
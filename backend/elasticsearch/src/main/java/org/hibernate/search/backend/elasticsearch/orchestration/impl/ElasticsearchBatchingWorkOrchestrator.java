@@ -46,12 +46,48 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> QUEUE_LOCK_FREE =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_QUEUE_LOCK_FREE )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_QUEUE_LOCK_FREE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BATCH_TARGET_LATENCY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_BATCH_TARGET_LATENCY )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_BATCH_TARGET_LATENCY )
+					.build();
+
 	private static final ConfigurationProperty<Integer> MAX_BULK_SIZE =
 			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_SIZE )
 					.asIntegerStrictlyPositive()
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Long> MAX_BULK_PAYLOAD_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_PAYLOAD_SIZE )
+					.asLongStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_PAYLOAD_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_RETRIES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_RETRIES )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_RETRIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_INITIAL_BACKOFF =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_INITIAL_BACKOFF )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_INITIAL_BACKOFF )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_MAX_BACKOFF =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_MAX_BACKOFF )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_MAX_BACKOFF )
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
 
@@ -82,19 +118,31 @@ public <T> CompletableFuture<T> submit(IndexingWork<T> work, OperationSubmitter
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		boolean queueLockFree = QUEUE_LOCK_FREE.get( propertySource );
+		int batchTargetLatency = BATCH_TARGET_LATENCY.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		long maxBulkPayloadSize = MAX_BULK_PAYLOAD_SIZE.get( propertySource );
+		// Each queue sends at most one bulk request at a time,
+		// so the congestion controller can only reduce the number of requests in flight.
+		ElasticsearchCongestionController congestionController = new ElasticsearchCongestionController(
+				queueCount, MAX_RETRIES.get( propertySource ),
+				RETRY_INITIAL_BACKOFF.get( propertySource ), RETRY_MAX_BACKOFF.get( propertySource )
+		);
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize,
+					maxBulkPayloadSize, congestionController );
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
 					queueSize,
 					true,
+					queueLockFree,
+					batchTargetLatency,
 					failureHandler,
 					blockingRetryProducer
 			) );
@@ -128,12 +176,14 @@ protected void doStop() {
 	}
 
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
+			int maxBulkSize, long maxBulkPayloadSize, ElasticsearchCongestionController congestionController) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
-				(worksToBulk, refreshStrategy) -> link.getWorkFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
+				(worksToBulk, refreshStrategy) -> new ElasticsearchRetryingBulkWork( worksToBulk, refreshStrategy,
+						(works, refresh) -> link.getWorkFactory().bulk( works ).refresh( refresh ).build(),
+						congestionController, threads.getWorkExecutor() ),
+				maxBulkSize, maxBulkPayloadSize
 		);
 		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
 	}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Controls how many bulk requests an orchestrator may have in flight,
+ * and how long to wait before retrying works that Elasticsearch rejected because it is overloaded.
+ * <p>
+ * The number of bulk requests allowed in flight (the "window") follows an AIMD scheme
+ * (additive increase, multiplicative decrease):
+ * it is halved whenever Elasticsearch rejects works,
+ * and slowly grows back to its maximum as long as bulk requests succeed.
+ * The window starts at its maximum and never exceeds it:
+ * the additive increase only restores the window after a decrease.
+ * The orchestrator sets the maximum to its number of queues, since each queue sends at most one bulk request at a time:
+ * the controller can only reduce the number of bulk requests in flight, never raise it above that.
+ * <p>
+ * Delays before retries follow an exponential backoff with "full jitter",
+ * so that rejected works from different queues do not all get retried at the same time.
+ * <p>
+ * This class is thread-safe.
+ */
+final class ElasticsearchCongestionController {
+
+	private static final CompletableFuture<Void> COMPLETED_FUTURE = CompletableFuture.completedFuture( null );
+
+	private final int maxWindow;
+	private final int maxRetries;
+	private final long initialBackoff;
+	private final long maxBackoff;
+
+	private final Deque<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+	private double window;
+	private int inFlight;
+
+	/**
+	 * @param maxWindow The maximum number of bulk requests in flight.
+	 * @param maxRetries The maximum number of times a rejected work will be retried.
+	 * @param initialBackoff The maximum delay before the first retry, in milliseconds.
+	 * @param maxBackoff The maximum delay before any retry, in milliseconds.
+	 */
+	ElasticsearchCongestionController(int maxWindow, int maxRetries, long initialBackoff, long maxBackoff) {
+		this.maxWindow = maxWindow;
+		this.maxRetries = maxRetries;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.window = maxWindow;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return getClass().getSimpleName() + "["
+				+ "window=" + window
+				+ ", inFlight=" + inFlight
+				+ ", waiting=" + waiting.size()
+				+ "]";
+	}
+
+	/**
+	 * @return A future that will complete when a bulk request may be sent.
+	 * The caller must call {@link #release(boolean)} exactly once after the request completes.
+	 */
+	synchronized CompletableFuture<Void> acquire() {
+		if ( inFlight < (int) window ) {
+			++inFlight;
+			return COMPLETED_FUTURE;
+		}
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		waiting.addLast( future );
+		return future;
+	}
+
+	/**
+	 * @param rejected Whether Elasticsearch rejected some works in the request because it is overloaded.
+	 */
+	void release(boolean rejected) {
+		List<CompletableFuture<Void>> toComplete = null;
+		synchronized (this) {
+			--inFlight;
+			if ( rejected ) {
+				window = Math.max( 1.0, window / 2 );
+			}
+			else {
+				// Grows by approximately 1 after a whole window of successful requests.
+				window = Math.min( maxWindow, window + 1.0 / window );
+			}
+			while ( !waiting.isEmpty() && inFlight < (int) window ) {
+				++inFlight;
+				if ( toComplete == null ) {
+					toComplete = new ArrayList<>();
+				}
+				toComplete.add( waiting.removeFirst() );
+			}
+		}
+		// Complete futures outside of the lock, since this may trigger the execution of other requests.
+		if ( toComplete != null ) {
+			for ( CompletableFuture<Void> future : toComplete ) {
+				future.complete( null );
+			}
+		}
+	}
+
+	int maxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * @param retry The number of the upcoming retry, starting at 0.
+	 * @return The delay to wait before that retry, in milliseconds.
+	 */
+	long backoffDelay(int retry) {
+		long cap = initialBackoff;
+		for ( int i = 0; i < retry && cap < maxBackoff; i++ ) {
+			cap *= 2;
+		}
+		cap = Math.min( cap, maxBackoff );
+		return ThreadLocalRandom.current().nextLong( cap + 1 );
+	}
+}
@@ -21,8 +21,10 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 			DocumentRefreshStrategy,
 			NonBulkableWork<BulkResult>> bulkWorkFactory;
 	private final int maxBulkSize;
+	private final long maxBulkPayloadSize;
 
 	private final List<BulkableWork<?>> currentBulkItems;
+	private long currentBulkPayloadSize;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<NonBulkableWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -33,15 +35,21 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	 * @param maxBulkSize Maximum number of works in a single bulk.
 	 * If a bulk reaches this size, it will be automatically
 	 * {@link #finalizeBulkWork() finalized}.
+	 * @param maxBulkPayloadSize Maximum estimated size of the payload of a single bulk, in bytes.
+	 * If adding a work would make a non-empty bulk exceed this size,
+	 * the bulk will be automatically {@link #finalizeBulkWork() finalized} before the work is added.
+	 * A single work exceeding this size will still be sent, in its own bulk.
 	 */
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
-			int maxBulkSize) {
+			int maxBulkSize, long maxBulkPayloadSize) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.maxBulkSize = maxBulkSize;
+		this.maxBulkPayloadSize = maxBulkPayloadSize;
 
 		this.currentBulkItems = new ArrayList<>();
+		this.currentBulkPayloadSize = 0L;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
@@ -58,6 +66,13 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
 
+		long workPayloadSize = work.getEstimatedSize();
+		if ( !currentBulkItems.isEmpty() && currentBulkPayloadSize + workPayloadSize > maxBulkPayloadSize ) {
+			// This work would make the bulk too large; start a new one.
+			finalizeBulkWork();
+			currentBulkRefreshStrategy = workRefreshStrategy;
+		}
+
 		if ( currentBulkWorkFuture == null ) {
 			currentBulkWorkFuture = new CompletableFuture<>();
 			currentBulkResultFuture = sequenceBuilder.addBulkExecution( currentBulkWorkFuture );
@@ -65,12 +80,13 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 
 		int currentBulkWorkIndex = currentBulkItems.size();
 		currentBulkItems.add( work );
+		currentBulkPayloadSize += workPayloadSize;
 
 		CompletableFuture<T> future = sequenceBuilder.addBulkResultExtraction(
 				currentBulkResultFuture, work, currentBulkWorkIndex
 		);
 
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= maxBulkSize || currentBulkPayloadSize >= maxBulkPayloadSize ) {
 			finalizeBulkWork();
 		}
 
@@ -92,6 +108,7 @@ public void finalizeBulkWork() {
 	@Override
 	public void reset() {
 		this.currentBulkItems.clear();
+		this.currentBulkPayloadSize = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
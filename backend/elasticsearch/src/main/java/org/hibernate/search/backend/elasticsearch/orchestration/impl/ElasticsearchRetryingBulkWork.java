@@ -0,0 +1,247 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * A bulk work that goes through a {@link ElasticsearchCongestionController}
+ * and re-submits bulked works rejected by Elasticsearch because it is overloaded.
+ * <p>
+ * Only the rejected works are re-submitted, in a new bulk, after a delay,
+ * along with any work following a rejected work on the same document, so that the order of operations is preserved.
+ * The results of all attempts are combined, so that from the point of view of the caller,
+ * this work behaves exactly as a single bulk work.
+ */
+final class ElasticsearchRetryingBulkWork implements NonBulkableWork<BulkResult> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final List<BulkableWork<?>> bulkedWorks;
+	private final DocumentRefreshStrategy refreshStrategy;
+	private final BiFunction<List<? extends BulkableWork<?>>,
+			DocumentRefreshStrategy,
+			NonBulkableWork<BulkResult>> bulkWorkFactory;
+	private final ElasticsearchCongestionController congestionController;
+	private final SimpleScheduledExecutor scheduler;
+
+	private final NonBulkableWork<BulkResult> firstAttempt;
+
+	ElasticsearchRetryingBulkWork(List<? extends BulkableWork<?>> bulkedWorks, DocumentRefreshStrategy refreshStrategy,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			ElasticsearchCongestionController congestionController, SimpleScheduledExecutor scheduler) {
+		// Copy the list: the caller may clear it as soon as we return.
+		this.bulkedWorks = new ArrayList<>( bulkedWorks );
+		this.refreshStrategy = refreshStrategy;
+		this.bulkWorkFactory = bulkWorkFactory;
+		this.congestionController = congestionController;
+		this.scheduler = scheduler;
+		// Build the first bulk immediately, like we would without retries.
+		this.firstAttempt = bulkWorkFactory.apply( this.bulkedWorks, refreshStrategy );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + firstAttempt + "]";
+	}
+
+	@Override
+	public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+		int[] allIndexes = new int[bulkedWorks.size()];
+		Arrays.setAll( allIndexes, i -> i );
+		CombinedBulkResult combinedResult = new CombinedBulkResult( bulkedWorks.size() );
+		return executeAttempt( context, firstAttempt, allIndexes, combinedResult, 0 );
+	}
+
+	private CompletableFuture<BulkResult> executeAttempt(ElasticsearchWorkExecutionContext context,
+			NonBulkableWork<BulkResult> bulkWork, int[] indexes, CombinedBulkResult combinedResult, int retry) {
+		CompletableFuture<BulkResult> attemptFuture = congestionController.acquire()
+				.thenCompose( ignored -> Futures.create( () -> bulkWork.execute( context ) )
+						.whenComplete( (result, throwable) -> {
+							if ( throwable != null ) {
+								// Not a sign of congestion: just free the slot.
+								congestionController.release( false );
+							}
+						} ) );
+		if ( retry > 0 ) {
+			// Some works already succeeded in a previous attempt:
+			// make sure a failure of the whole bulk only affects the works of this attempt.
+			attemptFuture = attemptFuture.exceptionally(
+					Futures.handler( throwable -> new FailedBulkResult( throwable ) ) );
+		}
+		return attemptFuture.thenCompose( result -> onAttemptResult( context, indexes, combinedResult, retry, result ) );
+	}
+
+	private CompletableFuture<BulkResult> onAttemptResult(ElasticsearchWorkExecutionContext context,
+			int[] indexes, CombinedBulkResult combinedResult, int retry, BulkResult result) {
+		combinedResult.add( indexes, result );
+		if ( result instanceof FailedBulkResult ) {
+			// The request failed and the slot was released already; nothing to retry.
+			return CompletableFuture.completedFuture( combinedResult );
+		}
+
+		boolean rejected = false;
+		int retriedCount = 0;
+		int[] retriedIndexesBuffer = new int[indexes.length];
+		try {
+			// Works retried later will be applied after every other work of this attempt.
+			// To preserve the order of operations on each document,
+			// we must also retry any work following a rejected work on the same document,
+			// even if it succeeded.
+			Set<Object> retriedDocuments = new HashSet<>();
+			boolean retryAllFollowing = false;
+			for ( int i = 0; i < indexes.length; i++ ) {
+				boolean workRejected = result.isRejected( i );
+				rejected |= workRejected;
+				if ( !workRejected && retriedCount == 0 ) {
+					// Nothing retried so far: no need to check the document.
+					continue;
+				}
+				Object documentKey = documentKey( bulkedWorks.get( indexes[i] ) );
+				if ( workRejected || retryAllFollowing || documentKey == null
+						|| retriedDocuments.contains( documentKey ) ) {
+					retriedIndexesBuffer[retriedCount++] = indexes[i];
+					if ( documentKey == null ) {
+						// Unknown document: any following work may target it.
+						retryAllFollowing = true;
+					}
+					else {
+						retriedDocuments.add( documentKey );
+					}
+				}
+			}
+		}
+		finally {
+			// Always free the slot, even if the result could not be inspected,
+			// otherwise the window would shrink permanently.
+			congestionController.release( rejected );
+		}
+
+		int maxRetries = congestionController.maxRetries();
+		if ( retriedCount == 0 || retry >= maxRetries ) {
+			// Either everything went fine,
+			// or we gave up and rejected works will be reported as failed when extracting their result.
+			return CompletableFuture.completedFuture( combinedResult );
+		}
+
+		int[] retriedIndexes = Arrays.copyOf( retriedIndexesBuffer, retriedCount );
+		List<BulkableWork<?>> retriedWorks = new ArrayList<>( retriedCount );
+		for ( int index : retriedIndexes ) {
+			retriedWorks.add( bulkedWorks.get( index ) );
+		}
+		NonBulkableWork<BulkResult> retriedBulkWork = bulkWorkFactory.apply( retriedWorks, refreshStrategy );
+
+		long delay = congestionController.backoffDelay( retry );
+		log.retryingRejectedBulkedWorks( retriedCount, delay, retry + 1, maxRetries );
+		CompletableFuture<Void> delayFuture = new CompletableFuture<>();
+		try {
+			scheduler.schedule( () -> delayFuture.complete( null ), delay, TimeUnit.MILLISECONDS );
+		}
+		catch (RuntimeException e) {
+			// Typically happens on shutdown.
+			// Only fail the works we meant to retry: works that already succeeded keep their result.
+			combinedResult.add( retriedIndexes, new FailedBulkResult( e ) );
+			return CompletableFuture.completedFuture( combinedResult );
+		}
+		return delayFuture.thenCompose(
+				ignored -> executeAttempt( context, retriedBulkWork, retriedIndexes, combinedResult, retry + 1 ) );
+	}
+
+	/**
+	 * @param work A bulked work.
+	 * @return A key identifying the document targeted by the work, i.e. its index name and identifier,
+	 * or {@code null} if unknown.
+	 */
+	private static Object documentKey(BulkableWork<?> work) {
+		// Metadata has the following format: { "actionName" : { "_index" : "...", "_id" : "...", ... } }
+		JsonObject metadata = work.getBulkableActionMetadata();
+		if ( metadata == null || metadata.size() != 1 ) {
+			return null;
+		}
+		JsonElement action = metadata.entrySet().iterator().next().getValue();
+		if ( !action.isJsonObject() ) {
+			return null;
+		}
+		JsonElement index = action.getAsJsonObject().get( "_index" );
+		JsonElement id = action.getAsJsonObject().get( "_id" );
+		if ( index == null || id == null ) {
+			return null;
+		}
+		return Arrays.asList( index, id );
+	}
+
+	/**
+	 * Combines the results of multiple attempts, each covering a subset of the bulked works.
+	 */
+	private static final class CombinedBulkResult implements BulkResult {
+		private final BulkResult[] results;
+		private final int[] indexesInResults;
+
+		private CombinedBulkResult(int size) {
+			this.results = new BulkResult[size];
+			this.indexesInResults = new int[size];
+		}
+
+		void add(int[] indexes, BulkResult result) {
+			for ( int i = 0; i < indexes.length; i++ ) {
+				results[indexes[i]] = result;
+				indexesInResults[indexes[i]] = i;
+			}
+		}
+
+		@Override
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			return results[index].extract( context, work, indexesInResults[index] );
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return results[index].isRejected( indexesInResults[index] );
+		}
+	}
+
+	/**
+	 * The result of a retry that failed as a whole, e.g. because of a connection failure,
+	 * or because it could not be scheduled.
+	 */
+	private static final class FailedBulkResult implements BulkResult {
+		private final Throwable throwable;
+
+		private FailedBulkResult(Throwable throwable) {
+			this.throwable = throwable;
+		}
+
+		@Override
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			throw log.elasticsearchFailedBecauseOfBulkFailure( throwable.getMessage(), throwable );
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return false;
+		}
+	}
+}
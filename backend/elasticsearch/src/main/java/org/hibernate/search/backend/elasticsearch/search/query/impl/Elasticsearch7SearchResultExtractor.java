@@ -4,15 +4,22 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ProjectionExtractContext;
@@ -22,10 +29,15 @@
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 class Elasticsearch7SearchResultExtractor<H>
 		implements ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> {
@@ -57,12 +69,21 @@
 	private static final JsonObjectAccessor HIT_SOURCE_ACCESSOR =
 			JsonAccessor.root().property( "_source" ).asObject();
 
+	private static final JsonAccessor<Long> TOTAL_VALUE_ACCESSOR =
+			JsonAccessor.root().property( "value" ).asLong();
+
+	private static final JsonAccessor<String> TOTAL_RELATION_ACCESSOR =
+			JsonAccessor.root().property( "relation" ).asString();
+
 	private static final String HITS_TOTAL_RELATION_EXACT_VALUE = "eq";
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchSearchQueryRequestContext requestContext;
 
 	private final ElasticsearchSearchProjection.Extractor<?, H> rootExtractor;
 	private final Map<AggregationKey<?>, ElasticsearchSearchAggregation.Extractor<?>> aggregations;
+	private final Set<String> requestedAggregationNames;
 
 	Elasticsearch7SearchResultExtractor(
 			ElasticsearchSearchQueryRequestContext requestContext,
@@ -71,13 +92,17 @@
 		this.requestContext = requestContext;
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
+		this.requestedAggregationNames = new HashSet<>();
+		for ( AggregationKey<?> key : aggregations.keySet() ) {
+			requestedAggregationNames.add( key.name() );
+		}
 	}
 
 	@Override
 	public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody,
 			Deadline deadline) {
 		ElasticsearchSearchQueryExtractContext extractContext = requestContext.createExtractContext(
-				responseBody
+				() -> responseBody
 		);
 
 		Integer took = TOOK_ACCESSOR.get( responseBody ).get();
@@ -110,6 +135,54 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody,
 		);
 	}
 
+	/**
+	 * Extracts the result while streaming through the response body,
+	 * without ever building a JSON tree for the whole response:
+	 * each hit is parsed into a small JSON object and extracted right away,
+	 * and parts of the response we have no use for (e.g. aggregations that were not requested)
+	 * are skipped without being parsed.
+	 * <p>
+	 * The full JSON tree is only built if someone asks for it
+	 * through the {@code responseBody()} method of the search result.
+	 */
+	@Override
+	public ElasticsearchLoadableSearchResult<H> extract(ElasticsearchResponse response, Deadline deadline) {
+		JsonReader bodyReader = response.bodyReader();
+		if ( bodyReader == null ) {
+			return extract( response.body(), deadline );
+		}
+
+		ElasticsearchSearchQueryExtractContext extractContext = requestContext.createExtractContext( response::body );
+		StreamingExtraction extraction = new StreamingExtraction( extractContext );
+		try ( JsonReader reader = bodyReader ) {
+			extraction.readResponse( reader );
+		}
+		catch (IOException | JsonParseException e) {
+			throw log.failedToParseElasticsearchResponse( response.statusCode(), response.statusMessage(),
+					e.getMessage(), e );
+		}
+
+		SearchResultTotal total = extraction.total;
+		if ( extraction.timedOut ) {
+			// Elasticsearch doesn't return the correct relation in this case:
+			// it tells us the count is exact, but it obviously isn't.
+			total = SimpleSearchResultTotal.lowerBound( total.hitCountLowerBound() );
+		}
+
+		Map<AggregationKey<?>, ?> extractedAggregations =
+				aggregations.isEmpty() ? Collections.emptyMap() : extraction.extractAggregations();
+
+		return new ElasticsearchLoadableSearchResult<>(
+				extractContext,
+				rootExtractor,
+				total,
+				extraction.extractedHits,
+				extractedAggregations,
+				extraction.took, extraction.timedOut, extraction.scrollId,
+				deadline
+		);
+	}
+
 	protected SearchResultTotal extractTotal(JsonObject responseBody) {
 		Long hitsTotal = HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
 		Optional<String> hitsTotalRelation = HITS_TOTAL_RELATION_ACCESSOR.get( responseBody );
@@ -118,8 +191,16 @@ protected SearchResultTotal extractTotal(JsonObject responseBody) {
 		return SimpleSearchResultTotal.of( hitsTotal, exact );
 	}
 
+	private static SearchResultTotal toTotal(JsonObject hitsTotal) {
+		Long hitsTotalValue = TOTAL_VALUE_ACCESSOR.get( hitsTotal ).orElse( 0L );
+		Optional<String> hitsTotalRelation = TOTAL_RELATION_ACCESSOR.get( hitsTotal );
+		boolean exact = hitsTotalRelation.isPresent()
+				&& HITS_TOTAL_RELATION_EXACT_VALUE.equals( hitsTotalRelation.get() );
+		return SimpleSearchResultTotal.of( hitsTotalValue, exact );
+	}
+
 	private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractContext) {
-		JsonObject responseBody = extractContext.getResponseBody();
+		JsonObject responseBody = extractContext.getResponseBody().get();
 		ProjectionHitMapper<?> hitMapper = extractContext.getProjectionHitMapper();
 		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
 
@@ -157,4 +238,106 @@ private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractC
 	protected String extractScrollId(JsonObject responseBody) {
 		return SCROLL_ID_ACCESSOR.get( responseBody ).orElse( null );
 	}
+
+	private final class StreamingExtraction {
+		private final ElasticsearchSearchQueryExtractContext extractContext;
+		private final ProjectionHitMapper<?> hitMapper;
+		private final ProjectionExtractContext projectionExtractContext;
+
+		private Integer took;
+		private boolean timedOut;
+		private String scrollId;
+		private SearchResultTotal total = SimpleSearchResultTotal.of( 0L, false );
+		private final List<Object> extractedHits = new ArrayList<>();
+		private final Map<String, JsonObject> jsonAggregations = new HashMap<>();
+
+		private StreamingExtraction(ElasticsearchSearchQueryExtractContext extractContext) {
+			this.extractContext = extractContext;
+			this.hitMapper = extractContext.getProjectionHitMapper();
+			this.projectionExtractContext = extractContext.createProjectionExtractContext();
+		}
+
+		void readResponse(JsonReader reader) throws IOException {
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String name = reader.nextName();
+				if ( reader.peek() == JsonToken.NULL ) {
+					reader.skipValue();
+					continue;
+				}
+				switch ( name ) {
+					case "took":
+						took = reader.nextInt();
+						break;
+					case "timed_out":
+						timedOut = reader.nextBoolean();
+						break;
+					case "_scroll_id":
+						scrollId = reader.nextString();
+						break;
+					case "hits":
+						readHits( reader );
+						break;
+					case "aggregations":
+						readAggregations( reader );
+						break;
+					default:
+						reader.skipValue();
+						break;
+				}
+			}
+			reader.endObject();
+		}
+
+		private void readHits(JsonReader reader) throws IOException {
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String name = reader.nextName();
+				if ( "total".equals( name ) && reader.peek() == JsonToken.BEGIN_OBJECT ) {
+					total = toTotal( JsonParser.parseReader( reader ).getAsJsonObject() );
+				}
+				else if ( "hits".equals( name ) && reader.peek() == JsonToken.BEGIN_ARRAY ) {
+					reader.beginArray();
+					while ( reader.hasNext() ) {
+						extractHit( JsonParser.parseReader( reader ).getAsJsonObject() );
+					}
+					reader.endArray();
+				}
+				else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+		}
+
+		private void extractHit(JsonObject hitObject) {
+			JsonObject source = HIT_SOURCE_ACCESSOR.get( hitObject ).orElse( null );
+			extractedHits.add( rootExtractor.extract( hitMapper, hitObject, source, projectionExtractContext ) );
+		}
+
+		private void readAggregations(JsonReader reader) throws IOException {
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String name = reader.nextName();
+				if ( requestedAggregationNames.contains( name ) && reader.peek() == JsonToken.BEGIN_OBJECT ) {
+					jsonAggregations.put( name, JsonParser.parseReader( reader ).getAsJsonObject() );
+				}
+				else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+		}
+
+		Map<AggregationKey<?>, ?> extractAggregations() {
+			Map<AggregationKey<?>, Object> extractedMap = new LinkedHashMap<>();
+			for ( Map.Entry<AggregationKey<?>, ElasticsearchSearchAggregation.Extractor<?>> entry : aggregations
+					.entrySet() ) {
+				AggregationKey<?> key = entry.getKey();
+				Object extracted = entry.getValue().extract( jsonAggregations.get( key.name() ), extractContext );
+				extractedMap.put( key, extracted );
+			}
+			return extractedMap;
+		}
+	}
 }
@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.function.Supplier;
+
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ProjectionTransformContext;
@@ -24,12 +26,12 @@ class ElasticsearchSearchQueryExtractContext implements AggregationExtractContex
 	private final ProjectionHitMapper<?> projectionHitMapper;
 	private final FromDocumentValueConvertContext fromDocumentValueConvertContext;
 
-	private final JsonObject responseBody;
+	private final Supplier<JsonObject> responseBody;
 
 	ElasticsearchSearchQueryExtractContext(ElasticsearchSearchQueryRequestContext requestContext,
 			BackendSessionContext sessionContext,
 			ProjectionHitMapper<?> projectionHitMapper,
-			JsonObject responseBody) {
+			Supplier<JsonObject> responseBody) {
 		this.requestContext = requestContext;
 		this.projectionHitMapper = projectionHitMapper;
 		this.fromDocumentValueConvertContext = new FromDocumentValueConvertContextImpl( sessionContext );
@@ -41,7 +43,7 @@ public FromDocumentValueConvertContext fromDocumentValueConvertContext() {
 		return fromDocumentValueConvertContext;
 	}
 
-	JsonObject getResponseBody() {
+	Supplier<JsonObject> getResponseBody() {
 		return responseBody;
 	}
 
@@ -7,6 +7,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
@@ -38,7 +39,7 @@
  *     For example distance projections need to inspect distance sorts (if any) for optimization purposes.
  *     ({@link #getDistanceSortIndex(String, GeoPoint)}</li>
  *     <li>When extracting data from the response, to get an "extract" context linked to the session/loading context
- *     ({@link #createExtractContext(JsonObject)}</li>
+ *     ({@link #createExtractContext(Supplier)}</li>
  * </ul>
  */
 class ElasticsearchSearchQueryRequestContext implements ProjectionRequestRootContext, AggregationRequestContext {
@@ -158,7 +159,7 @@ public boolean isCompatibleHighlighter(String highlighterName, ProjectionAccumul
 		}
 	}
 
-	ElasticsearchSearchQueryExtractContext createExtractContext(JsonObject responseBody) {
+	ElasticsearchSearchQueryExtractContext createExtractContext(Supplier<JsonObject> responseBody) {
 		return new ElasticsearchSearchQueryExtractContext(
 				this,
 				sessionContext,
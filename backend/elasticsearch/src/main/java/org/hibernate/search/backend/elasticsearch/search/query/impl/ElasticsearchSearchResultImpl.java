@@ -7,6 +7,7 @@
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
@@ -18,10 +19,10 @@
 class ElasticsearchSearchResultImpl<H> extends SimpleSearchResult<H>
 		implements ElasticsearchSearchResult<H> {
 
-	private final JsonObject responseBody;
+	private final Supplier<JsonObject> responseBody;
 	private final String scrollId;
 
-	ElasticsearchSearchResultImpl(JsonObject responseBody, SearchResultTotal resultTotal, List<H> hits,
+	ElasticsearchSearchResultImpl(Supplier<JsonObject> responseBody, SearchResultTotal resultTotal, List<H> hits,
 			Map<AggregationKey<?>, ?> aggregationResults, Integer took, Boolean timedOut, String scrollId) {
 		super( resultTotal, hits, aggregationResults, ( took == null ) ? null : Duration.ofMillis( took ), timedOut );
 		this.responseBody = responseBody;
@@ -30,7 +31,7 @@
 
 	@Override
 	public JsonObject responseBody() {
-		return responseBody;
+		return responseBody.get();
 	}
 
 	public String scrollId() {
@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -13,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
@@ -58,6 +60,31 @@ public void addOrUpdate(DocumentReferenceProvider referenceProvider,
 		index( referenceProvider, documentContributor );
 	}
 
+	@Override
+	public boolean supportsPartialUpdates() {
+		return indexManagerContext.partialUpdatesEnabled();
+	}
+
+	@Override
+	public void updatePartially(DocumentReferenceProvider referenceProvider,
+			Collection<? extends IndexFieldReference<?>> fieldReferences,
+			DocumentContributor documentContributor) {
+		String elasticsearchId = indexManagerContext.toElasticsearchId( tenantId, referenceProvider.identifier() );
+		String routingKey = referenceProvider.routingKey();
+
+		JsonObject partialDocument = indexManagerContext.createPartialDocument( fieldReferences, documentContributor );
+
+		collect(
+				workFactory.update(
+						indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
+						indexManagerContext.getElasticsearchIndexWriteName(),
+						elasticsearchId, routingKey, partialDocument
+				)
+						.refresh( refreshStrategy )
+						.build()
+		);
+	}
+
 	@Override
 	public void delete(DocumentReferenceProvider referenceProvider) {
 		String elasticsearchId = indexManagerContext.toElasticsearchId( tenantId, referenceProvider.identifier() );
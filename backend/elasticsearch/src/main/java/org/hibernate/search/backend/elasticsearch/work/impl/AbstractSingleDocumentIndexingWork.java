@@ -6,6 +6,7 @@
 
 import java.lang.invoke.MethodHandles;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.GsonUtils;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -19,6 +20,7 @@
 
 	private final JsonObject bulkableActionMetadata;
 	private final JsonObject bulkableActionBody;
+	private final long estimatedSize;
 	protected final ElasticsearchRequestSuccessAssessor resultAssessor;
 
 	private final String entityTypeName;
@@ -30,6 +32,11 @@
 	protected AbstractSingleDocumentIndexingWork(AbstractBuilder<?> builder) {
 		this.bulkableActionMetadata = builder.buildBulkableActionMetadata();
 		this.bulkableActionBody = builder.buildBulkableActionBody();
+		// Estimate the size here, in the thread that built the document,
+		// rather than in the (single) orchestrator thread.
+		this.estimatedSize = GsonUtils.estimateSerializedSize( bulkableActionMetadata )
+				+ ( bulkableActionBody == null ? 0 : GsonUtils.estimateSerializedSize( bulkableActionBody ) + 1 )
+				+ 1; // Line feed(s)
 		this.resultAssessor = builder.resultAssessor;
 		this.entityTypeName = builder.entityTypeName;
 		this.entityIdentifier = builder.entityIdentifier;
@@ -67,6 +74,11 @@ public JsonObject getBulkableActionBody() {
 		return bulkableActionBody;
 	}
 
+	@Override
+	public long getEstimatedSize() {
+		return estimatedSize;
+	}
+
 	@Override
 	public Void handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem) {
 		try {
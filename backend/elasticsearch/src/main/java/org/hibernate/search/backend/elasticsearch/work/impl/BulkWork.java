@@ -14,11 +14,30 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 public class BulkWork extends AbstractNonBulkableWork<BulkResult> {
 
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	private static final JsonAccessor<Integer> STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+	private static final JsonAccessor<JsonElement> ERROR = JsonAccessor.root().property( "error" );
+	private static final JsonAccessor<String> ERROR_TYPE =
+			JsonAccessor.root().property( "error" ).property( "type" ).asString();
+
+	private static final int TOO_MANY_REQUESTS_STATUS_CODE = 429;
+	private static final String REJECTED_EXECUTION_ERROR_TYPE = "es_rejected_execution_exception";
+
+	/*
+	 * A "429 Too many requests" response means the whole bulk was rejected because Elasticsearch is overloaded.
+	 * We don't treat it as a failure of the bulk work, so that the orchestrator can retry the bulked works,
+	 * and so that each bulked work gets reported as failed if the orchestrator gives up.
+	 * Errors reported in successful responses are checked item by item, by each bulked work.
+	 */
+	private static final ElasticsearchRequestSuccessAssessor SUCCESS_ASSESSOR =
+			ElasticsearchRequestSuccessAssessor.builder().ignoreErrorStatuses( TOO_MANY_REQUESTS_STATUS_CODE )
+					.bodyErrorsCheckedElsewhere( true )
+					.build();
 
 	protected BulkWork(Builder builder) {
 		super( builder );
@@ -27,6 +46,9 @@ protected BulkWork(Builder builder) {
 	@Override
 	protected BulkResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
 		JsonObject parsedResponseBody = response.body();
+		if ( response.statusCode() == TOO_MANY_REQUESTS_STATUS_CODE ) {
+			return new RejectedBulkResultImpl( parsedResponseBody );
+		}
 		JsonArray resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
 		return new BulkResultImpl( resultItems );
 	}
@@ -37,7 +59,7 @@ public static class Builder extends AbstractNonBulkableWork.AbstractBuilder<Buil
 		private DocumentRefreshStrategy refreshStrategy = DocumentRefreshStrategy.NONE;
 
 		public Builder(List<? extends BulkableWork<?>> bulkableWorks) {
-			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
+			super( SUCCESS_ASSESSOR );
 			this.bulkableWorks = bulkableWorks;
 		}
 
@@ -89,6 +111,51 @@ public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T>
 			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
 			return work.handleBulkResult( context, bulkItemResponse );
 		}
+
+		@Override
+		public boolean isRejected(int index) {
+			if ( index < 0 || index >= results.size() ) {
+				// Missing item: not something a retry can fix.
+				return false;
+			}
+			JsonElement bulkItemResponse = results.get( index );
+			if ( !bulkItemResponse.isJsonObject() || bulkItemResponse.getAsJsonObject().size() == 0 ) {
+				return false;
+			}
+			// Result items have the following format: { "actionName" : { "status" : 201, ... } }
+			JsonElement itemBody = bulkItemResponse.getAsJsonObject().entrySet().iterator().next().getValue();
+			return itemBody.isJsonObject() && isRejection( itemBody.getAsJsonObject() );
+		}
+	}
+
+	private static class RejectedBulkResultImpl implements BulkResult {
+		private final JsonObject responseBody;
+
+		public RejectedBulkResultImpl(JsonObject responseBody) {
+			this.responseBody = responseBody;
+		}
+
+		@Override
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			// Simulate a bulk item response, so that the work reports the failure as usual.
+			JsonObject itemBody = new JsonObject();
+			itemBody.addProperty( "status", TOO_MANY_REQUESTS_STATUS_CODE );
+			ERROR.get( responseBody ).ifPresent( error -> itemBody.add( "error", error ) );
+			String actionName = work.getBulkableActionMetadata().keySet().iterator().next();
+			JsonObject bulkItemResponse = new JsonObject();
+			bulkItemResponse.add( actionName, itemBody );
+			return work.handleBulkResult( context, bulkItemResponse );
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return true;
+		}
+	}
+
+	private static boolean isRejection(JsonObject itemBody) {
+		return STATUS_CODE.get( itemBody ).map( status -> status == TOO_MANY_REQUESTS_STATUS_CODE ).orElse( false )
+				|| ERROR_TYPE.get( itemBody ).map( REJECTED_EXECUTION_ERROR_TYPE::equals ).orElse( false );
 	}
 
 }
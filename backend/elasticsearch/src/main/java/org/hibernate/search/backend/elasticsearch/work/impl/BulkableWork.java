@@ -16,6 +16,11 @@
 
 	JsonObject getBulkableActionBody();
 
+	/**
+	 * @return An estimate of the size of this work once serialized in a bulk request, in bytes.
+	 */
+	long getEstimatedSize();
+
 	/**
 	 * @param context The execution context
 	 * @param resultItem A future eventually returning the part of the bulk JSON result relevant to this work
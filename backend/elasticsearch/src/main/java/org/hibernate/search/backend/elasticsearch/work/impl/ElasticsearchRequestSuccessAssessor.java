@@ -6,6 +6,7 @@
 
 import static java.util.function.Predicate.isEqual;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.Collections;
 import java.util.HashSet;
@@ -19,15 +20,20 @@
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 public class ElasticsearchRequestSuccessAssessor {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+	private static final JsonAccessor<JsonElement> ERROR = JsonAccessor.root().property( "error" );
 	private static final JsonAccessor<String> ERROR_TYPE =
 			JsonAccessor.root().property( "error" ).property( "type" ).asString();
+	private static final JsonAccessor<Boolean> ERRORS = JsonAccessor.root().property( "errors" ).asBoolean();
 
 	private static final JsonAccessor<Integer> FAILED_SHARDS_COUNT = JsonAccessor.root()
 			.property( "_shards" )
@@ -48,6 +54,7 @@ public static class Builder {
 		private final Set<Integer> ignoredErrorStatuses = new HashSet<>();
 		private final Set<String> ignoredErrorTypes = new HashSet<>();
 		private boolean ignoreShardFailures = true;
+		private boolean bodyErrorsCheckedElsewhere = false;
 
 		public Builder ignoreErrorStatuses(int... ignoredErrorStatuses) {
 			for ( int ignoredErrorStatus : ignoredErrorStatuses ) {
@@ -66,6 +73,17 @@ public Builder ignoreShardFailures(boolean ignoreShardFailures) {
 			return this;
 		}
 
+		/**
+		 * @param bodyErrorsCheckedElsewhere Whether errors reported in the body of successful (2xx) responses
+		 * are checked by the caller, e.g. item by item for bulk responses,
+		 * in which case the body of such responses can be left alone.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder bodyErrorsCheckedElsewhere(boolean bodyErrorsCheckedElsewhere) {
+			this.bodyErrorsCheckedElsewhere = bodyErrorsCheckedElsewhere;
+			return this;
+		}
+
 		public ElasticsearchRequestSuccessAssessor build() {
 			return new ElasticsearchRequestSuccessAssessor( this );
 		}
@@ -74,11 +92,13 @@ public ElasticsearchRequestSuccessAssessor build() {
 	private final Set<Integer> ignoredErrorStatuses;
 	private final Set<String> ignoredErrorTypes;
 	private final boolean ignoreShardFailures;
+	private final boolean bodyErrorsCheckedElsewhere;
 
 	private ElasticsearchRequestSuccessAssessor(Builder builder) {
 		this.ignoredErrorStatuses = Collections.unmodifiableSet( new HashSet<>( builder.ignoredErrorStatuses ) );
 		this.ignoredErrorTypes = Collections.unmodifiableSet( new HashSet<>( builder.ignoredErrorTypes ) );
 		this.ignoreShardFailures = builder.ignoreShardFailures;
+		this.bodyErrorsCheckedElsewhere = builder.bodyErrorsCheckedElsewhere;
 	}
 
 	@Override
@@ -88,6 +108,7 @@ public String toString() {
 				.append( "ignoredErrorStatuses=" ).append( ignoredErrorStatuses )
 				.append( ", ignoredErrorTypes=" ).append( ignoredErrorTypes )
 				.append( ", ignoreShardFailures=" ).append( ignoreShardFailures )
+				.append( ", bodyErrorsCheckedElsewhere=" ).append( bodyErrorsCheckedElsewhere )
 				.append( "]" )
 				.toString();
 	}
@@ -98,6 +119,18 @@ public String toString() {
 	 * @throws SearchException If the result is a failure.
 	 */
 	public void checkSuccess(ElasticsearchResponse response) throws SearchException {
+		if ( ElasticsearchClientUtils.isSuccessCode( response.statusCode() ) ) {
+			// Avoid parsing the whole body into a JSON tree when we can:
+			// the caller may want to stream it instead.
+			if ( ignoreShardFailures && bodyErrorsCheckedElsewhere ) {
+				// Nothing to check in the body.
+				return;
+			}
+			JsonReader bodyReader = response.bodyReader();
+			if ( bodyReader != null && hasNoFailure( bodyReader ) ) {
+				return;
+			}
+		}
 		JsonObject responseBody = response.body();
 		Optional<Integer> statusCode = Optional.of( response.statusCode() );
 		checkSuccess( statusCode, responseBody );
@@ -129,13 +162,71 @@ private void checkSuccess(Optional<Integer> statusCode, JsonObject responseBody)
 
 	private boolean isSuccess(Optional<Integer> statusCode, JsonObject responseBody) {
 		return statusCode.map(
-				c -> ElasticsearchClientUtils.isSuccessCode( c ) || ignoredErrorStatuses.contains( c )
+				c -> ElasticsearchClientUtils.isSuccessCode( c )
+						? bodyErrorsCheckedElsewhere || !hasErrors( responseBody )
+						: ignoredErrorStatuses.contains( c )
 		).orElse( false )
 				&& ( FAILED_SHARDS_COUNT.get( responseBody ).map( this::checkShardFailures )
 						.orElse( true ) )
 				|| ERROR_TYPE.get( responseBody ).map( ignoredErrorTypes::contains ).orElse( false );
 	}
 
+	private static boolean hasErrors(JsonObject responseBody) {
+		return ERROR.get( responseBody ).filter( error -> !error.isJsonNull() ).isPresent()
+				|| ERRORS.get( responseBody ).orElse( false );
+	}
+
+	/**
+	 * @return {@code true} if the body could be read and reports neither errors nor (checked) shard failures,
+	 * {@code false} if it reports any or could not be read,
+	 * in which case the caller should fall back to the parsed body.
+	 */
+	private boolean hasNoFailure(JsonReader reader) {
+		try ( JsonReader closedReader = reader ) {
+			closedReader.beginObject();
+			while ( closedReader.hasNext() ) {
+				String name = closedReader.nextName();
+				JsonToken token = closedReader.peek();
+				if ( !bodyErrorsCheckedElsewhere && "error".equals( name ) && token != JsonToken.NULL ) {
+					return false;
+				}
+				else if ( !bodyErrorsCheckedElsewhere && "errors".equals( name ) && token == JsonToken.BOOLEAN ) {
+					if ( closedReader.nextBoolean() ) {
+						return false;
+					}
+				}
+				else if ( !ignoreShardFailures && "_shards".equals( name ) && token == JsonToken.BEGIN_OBJECT ) {
+					if ( !hasNoShardFailure( closedReader ) ) {
+						return false;
+					}
+				}
+				else {
+					closedReader.skipValue();
+				}
+			}
+			return true;
+		}
+		catch (IOException | RuntimeException e) {
+			// Let the caller fall back to the parsed body, which will report parsing failures properly.
+			return false;
+		}
+	}
+
+	private boolean hasNoShardFailure(JsonReader reader) throws IOException {
+		boolean result = true;
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			if ( "failed".equals( reader.nextName() ) && reader.peek() == JsonToken.NUMBER ) {
+				result = checkShardFailures( reader.nextInt() );
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return result;
+	}
+
 	private boolean checkShardFailures(Integer failures) {
 		return ignoreShardFailures || failures == 0;
 	}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.engine.common.timing.Deadline;
 
 import com.google.gson.JsonObject;
@@ -12,4 +13,15 @@
 
 	R extract(JsonObject responseBody, Deadline deadline);
 
+	/**
+	 * @param response The response to extract a result from.
+	 * Implementations may stream the {@link ElasticsearchResponse#bodyReader() response body}
+	 * instead of parsing it into a JSON tree.
+	 * @param deadline The deadline, or {@code null}.
+	 * @return The result.
+	 */
+	default R extract(ElasticsearchResponse response, Deadline deadline) {
+		return extract( response.body(), deadline );
+	}
+
 }
@@ -48,8 +48,7 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
-		JsonObject body = response.body();
-		return resultExtractor.extract( body, failOnDeadline ? deadline : null );
+		return resultExtractor.extract( response, failOnDeadline ? deadline : null );
 	}
 
 	public static class Builder<R>
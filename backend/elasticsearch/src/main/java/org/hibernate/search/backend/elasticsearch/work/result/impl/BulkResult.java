@@ -11,4 +11,11 @@ public interface BulkResult {
 
 	<T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index);
 
+	/**
+	 * @param index The index of a bulked work.
+	 * @return {@code true} if Elasticsearch rejected the bulked work because it is overloaded,
+	 * meaning the work may succeed if submitted again later.
+	 */
+	boolean isRejected(int index);
+
 }
@@ -8,6 +8,7 @@
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -20,8 +21,10 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 
@@ -147,8 +150,23 @@ public static List<? extends Arguments> params() {
 	private int expectedContentLength;
 
 	public void init(List<JsonObject> payload) throws IOException {
+		init( payload, null );
+	}
+
+	public void init(List<JsonObject> payload, ByteBufferPool pagePool) throws IOException {
+		init( payload, pagePool, GsonHttpEntity.COMPRESSION_DISABLED );
+	}
+
+	public void init(List<JsonObject> payload, ByteBufferPool pagePool, int compressionThreshold) throws IOException {
 		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
-		this.gsonEntity = new GsonHttpEntity( gson, payload );
+		if ( compressionThreshold != GsonHttpEntity.COMPRESSION_DISABLED ) {
+			this.gsonEntity = new GsonHttpEntity( gson, payload, pagePool, compressionThreshold );
+		}
+		else {
+			this.gsonEntity = pagePool == null
+					? new GsonHttpEntity( gson, payload )
+					: new GsonHttpEntity( gson, payload, pagePool );
+		}
 		StringBuilder builder = new StringBuilder();
 		for ( JsonObject object : payload ) {
 			gson.toJson( object, builder );
@@ -231,6 +249,21 @@ void produceContent_pushBack_every500Bytes(String ignoredLabel, List<JsonObject>
 		}
 	}
 
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void produceContent_pooledDirectPages_pushBack_every100Bytes(String ignoredLabel, List<JsonObject> payload)
+			throws IOException {
+		// Use a small pool, so that some pages get pooled and others don't.
+		init( payload, ByteBufferPool.pooledDirect( 1024, 2 ) );
+		int pushBackPeriod = 100;
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change, even with reused pages.
+			assertThat( doProduceContent( gsonEntity, pushBackPeriod ) )
+					.isEqualTo( expectedPayloadString );
+			assertThat( gsonEntity.getContentLength() )
+					.isEqualTo( expectedContentLength );
+		}
+	}
+
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("params")
 	void writeTo(String ignoredLabel, List<JsonObject> payload) throws IOException {
@@ -255,13 +288,80 @@ void getContent(String ignoredLabel, List<JsonObject> payload) throws IOExceptio
 		}
 	}
 
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void produceContent_compressed_pushBack_every100Bytes(String ignoredLabel, List<JsonObject> payload)
+			throws IOException {
+		init( payload, ByteBufferPool.pooledDirect( 1024, 2 ), 0 );
+		assertThat( gsonEntity.getContentEncoding().getValue() ).isEqualTo( "gzip" );
+		int pushBackPeriod = 100;
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			byte[] compressed = doProduceContentBytes( gsonEntity, pushBackPeriod );
+			assertThat( decompress( compressed ) )
+					.isEqualTo( expectedPayloadString );
+			assertThat( gsonEntity.getContentLength() )
+					.isEqualTo( compressed.length );
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void writeTo_compressed(String ignoredLabel, List<JsonObject> payload) throws IOException {
+		init( payload, ByteBufferPool.unpooledHeap( 1024 ), 0 );
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			byte[] compressed = doWriteToBytes( gsonEntity );
+			assertThat( decompress( compressed ) )
+					.isEqualTo( expectedPayloadString );
+			assertThat( gsonEntity.getContentLength() )
+					.isEqualTo( compressed.length );
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void writeTo_compressed_doesNotCloseOutputStream(String ignoredLabel, List<JsonObject> payload) throws IOException {
+		init( payload, ByteBufferPool.unpooledHeap( 1024 ), 0 );
+		AtomicBoolean closed = new AtomicBoolean( false );
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+			@Override
+			public void close() {
+				closed.set( true );
+			}
+		};
+		gsonEntity.writeTo( outputStream );
+		assertThat( closed ).isFalse();
+		assertThat( decompress( outputStream.toByteArray() ) )
+				.isEqualTo( expectedPayloadString );
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compressionThreshold(String ignoredLabel, List<JsonObject> payload) throws IOException {
+		// Only small payloads have a known length upfront; larger ones are always compressed.
+		assumeTrue( payload.size() <= 1 || expectedContentLengthOf( payload ) < 1024 );
+		init( payload, ByteBufferPool.unpooledHeap( 1024 ), expectedContentLengthOf( payload ) + 1 );
+		assertThat( gsonEntity.getContentEncoding() ).isNull();
+		assertThat( gsonEntity.getContentLength() ).isEqualTo( expectedContentLength );
+		assertThat( doProduceContent( gsonEntity, Integer.MAX_VALUE ) )
+				.isEqualTo( expectedPayloadString );
+	}
+
+	private int expectedContentLengthOf(List<JsonObject> payload) throws IOException {
+		init( payload );
+		return expectedContentLength;
+	}
+
 	private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
+		return new String( doProduceContentBytes( entity, pushBackPeriod ), StandardCharsets.UTF_8 );
+	}
+
+	private byte[] doProduceContentBytes(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			ContentEncoder contentEncoder = new OutputStreamContentEncoder( outputStream, pushBackPeriod );
 			while ( !contentEncoder.isCompleted() ) {
 				entity.produceContent( contentEncoder, StubIOControl.INSTANCE );
 			}
-			return outputStream.toString( StandardCharsets.UTF_8.name() );
+			return outputStream.toByteArray();
 		}
 		finally {
 			entity.close();
@@ -269,9 +369,19 @@ private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throw
 	}
 
 	private String doWriteTo(GsonHttpEntity entity) throws IOException {
+		return new String( doWriteToBytes( entity ), StandardCharsets.UTF_8 );
+	}
+
+	private byte[] doWriteToBytes(GsonHttpEntity entity) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			entity.writeTo( outputStream );
-			return outputStream.toString( StandardCharsets.UTF_8.name() );
+			return outputStream.toByteArray();
+		}
+	}
+
+	private static String decompress(byte[] compressed) throws IOException {
+		try ( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			return new String( inputStream.readAllBytes(), StandardCharsets.UTF_8 );
 		}
 	}
 
@@ -310,7 +420,10 @@ public int write(ByteBuffer src) throws IOException {
 				return 0;
 			}
 			pushedBack = false;
-			outputStream.write( src.array(), src.arrayOffset(), toWrite );
+			byte[] bytes = new byte[toWrite];
+			// Don't use src.array(): the buffer may be a direct buffer.
+			src.get( bytes );
+			outputStream.write( bytes );
 			written += toWrite;
 			return toWrite;
 		}
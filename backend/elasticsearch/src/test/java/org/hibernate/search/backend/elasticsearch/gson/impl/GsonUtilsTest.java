@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.gson.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+class GsonUtilsTest {
+
+	private final Gson gson = new GsonBuilder().serializeNulls().create();
+
+	public static List<? extends Arguments> params() {
+		JsonObject object = new JsonObject();
+		object.addProperty( "string", "some text" );
+		object.addProperty( "integer", 42 );
+		object.addProperty( "decimal", 42.5 );
+		object.addProperty( "boolean", true );
+		object.add( "null", JsonNull.INSTANCE );
+		JsonArray array = new JsonArray();
+		array.add( "élément" );
+		array.add( 1 );
+		array.add( new JsonObject() );
+		array.add( new JsonArray() );
+		object.add( "array", array );
+		JsonObject nested = new JsonObject();
+		nested.addProperty( "clé", "値" );
+		object.add( "nested", nested );
+
+		return Arrays.asList(
+				Arguments.of( JsonNull.INSTANCE ),
+				Arguments.of( new JsonObject() ),
+				Arguments.of( new JsonArray() ),
+				Arguments.of( new JsonPrimitive( 42 ) ),
+				Arguments.of( new JsonPrimitive( -0.125 ) ),
+				Arguments.of( new JsonPrimitive( false ) ),
+				Arguments.of( new JsonPrimitive( "" ) ),
+				Arguments.of( new JsonPrimitive( "ascii" ) ),
+				// 2-byte UTF-8 characters
+				Arguments.of( new JsonPrimitive( "àéîõü" ) ),
+				// 3-byte UTF-8 characters
+				Arguments.of( new JsonPrimitive( "日本語" ) ),
+				// 4-byte UTF-8 characters (surrogate pairs)
+				Arguments.of( new JsonPrimitive( "😀👍" ) ),
+				// Escaped characters
+				Arguments.of( new JsonPrimitive( "\"quoted\" back\\slash\nnew line\ttab\u0001control" ) ),
+				Arguments.of( new JsonPrimitive( "<html> & 'quotes' =   " ) ),
+				Arguments.of( object ),
+				Arguments.of( JsonParser.parseString( "[[1, 2], {\"a\": [\"b\", {\"c\": null}]}, \"d\"]" ) )
+		);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void estimateSerializedSize(JsonElement element) {
+		assertThat( GsonUtils.estimateSerializedSize( element ) )
+				.isEqualTo( gson.toJson( element ).getBytes( StandardCharsets.UTF_8 ).length );
+	}
+
+	@Test
+	void estimateSerializedSize_null() {
+		assertThat( GsonUtils.estimateSerializedSize( null ) )
+				.isEqualTo( gson.toJson( JsonNull.INSTANCE ).getBytes( StandardCharsets.UTF_8 ).length );
+	}
+
+}
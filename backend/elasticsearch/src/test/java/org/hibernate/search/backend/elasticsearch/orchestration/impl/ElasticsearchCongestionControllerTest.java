@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class ElasticsearchCongestionControllerTest {
+
+	@Test
+	void acquire_withinWindow() {
+		ElasticsearchCongestionController controller = new ElasticsearchCongestionController( 3, 10, 100, 1000 );
+
+		assertThatFuture( controller.acquire() ).isSuccessful();
+		assertThatFuture( controller.acquire() ).isSuccessful();
+		assertThatFuture( controller.acquire() ).isSuccessful();
+		CompletableFuture<Void> waiting1 = controller.acquire();
+		CompletableFuture<Void> waiting2 = controller.acquire();
+		assertThatFuture( waiting1 ).isPending();
+		assertThatFuture( waiting2 ).isPending();
+
+		// Releasing a slot lets waiting requests through, in order
+		controller.release( false );
+		assertThatFuture( waiting1 ).isSuccessful();
+		assertThatFuture( waiting2 ).isPending();
+		controller.release( false );
+		assertThatFuture( waiting2 ).isSuccessful();
+	}
+
+	@Test
+	void release_rejected_multiplicativeDecrease() {
+		ElasticsearchCongestionController controller = new ElasticsearchCongestionController( 8, 10, 100, 1000 );
+
+		acquireAll( controller, 8 );
+		controller.release( true );
+		// The window was halved to 4, and 7 requests are still in flight
+		CompletableFuture<Void> waiting = controller.acquire();
+		assertThatFuture( waiting ).isPending();
+		releaseAll( controller, 3 );
+		// 4 requests still in flight
+		assertThatFuture( waiting ).isPending();
+		controller.release( false );
+		assertThatFuture( waiting ).isSuccessful();
+		// 4 requests in flight again
+		assertThatFuture( controller.acquire() ).isPending();
+	}
+
+	@Test
+	void release_rejected_minimumWindow() {
+		ElasticsearchCongestionController controller = new ElasticsearchCongestionController( 2, 10, 100, 1000 );
+
+		for ( int i = 0; i < 5; i++ ) {
+			assertThatFuture( controller.acquire() ).isSuccessful();
+			controller.release( true );
+		}
+
+		// The window never goes below 1
+		assertThatFuture( controller.acquire() ).isSuccessful();
+		assertThatFuture( controller.acquire() ).isPending();
+	}
+
+	@Test
+	void release_success_additiveIncrease() {
+		ElasticsearchCongestionController controller = new ElasticsearchCongestionController( 4, 10, 100, 1000 );
+
+		// Shrink the window to 1
+		for ( int i = 0; i < 2; i++ ) {
+			assertThatFuture( controller.acquire() ).isSuccessful();
+			controller.release( true );
+		}
+
+		// A window of 1 grows by 1 after a single successful request
+		assertThatFuture( controller.acquire() ).isSuccessful();
+		controller.release( false );
+		acquireAll( controller, 2 );
+		assertThatFuture( controller.acquire() ).isPending();
+	}
+
+	@Test
+	void release_success_maximumWindow() {
+		ElasticsearchCongestionController controller = new ElasticsearchCongestionController( 4, 10, 100, 1000 );
+
+		// Shrink the window to 1
+		for ( int i = 0; i < 2; i++ ) {
+			assertThatFuture( controller.acquire() ).isSuccessful();
+			controller.release( true );
+		}
+
+		// Grow the window back with many successful requests
+		for ( int i = 0; i < 100; i++ ) {
+			assertThatFuture( controller.acquire() ).isSuccessful();
+			controller.release( false );
+		}
+
+		// The window never grows beyond its maximum
+		acquireAll( controller, 4 );
+		assertThatFuture( controller.acquire() ).isPending();
+	}
+
+	@Test
+	void backoffDelay() {
+		ElasticsearchCongestionController controller = new ElasticsearchCongestionController( 4, 10, 100, 1000 );
+
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( controller.backoffDelay( 0 ) ).isBetween( 0L, 100L );
+			assertThat( controller.backoffDelay( 1 ) ).isBetween( 0L, 200L );
+			assertThat( controller.backoffDelay( 3 ) ).isBetween( 0L, 800L );
+			// Capped
+			assertThat( controller.backoffDelay( 4 ) ).isBetween( 0L, 1000L );
+			assertThat( controller.backoffDelay( 1000 ) ).isBetween( 0L, 1000L );
+		}
+
+		// Full jitter: delays are spread over the whole range
+		List<Long> delays = new ArrayList<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			delays.add( controller.backoffDelay( 10 ) );
+		}
+		assertThat( delays ).anyMatch( delay -> delay < 500L ).anyMatch( delay -> delay >= 500L );
+	}
+
+	private static void acquireAll(ElasticsearchCongestionController controller, int count) {
+		for ( int i = 0; i < count; i++ ) {
+			assertThatFuture( controller.acquire() ).isSuccessful();
+		}
+	}
+
+	private static void releaseAll(ElasticsearchCongestionController controller, int count) {
+		for ( int i = 0; i < count; i++ ) {
+			controller.release( false );
+		}
+	}
+
+}
@@ -33,6 +33,7 @@
 class ElasticsearchDefaultWorkBulkerTest {
 
 	private static final int DEFAULT_MAX_BULK_SIZE = 10;
+	private static final long DEFAULT_MAX_BULK_PAYLOAD_SIZE = 1000L;
 
 	private static final DocumentRefreshStrategy DEFAULT_REFRESH = DocumentRefreshStrategy.NONE;
 
@@ -57,7 +58,8 @@ void simple() {
 		CompletableFuture<BulkResult> bulkWorkResultFuture = new CompletableFuture<>();
 
 		ElasticsearchDefaultWorkBulker bulker =
-				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE );
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE,
+						DEFAULT_MAX_BULK_PAYLOAD_SIZE );
 		verifyNoOtherSequenceInteractionsAndReset();
 
 		when( work1.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
@@ -104,7 +106,8 @@ void alwaysBulk() {
 		CompletableFuture<BulkResult> bulkWorkResultFuture = new CompletableFuture<>();
 
 		ElasticsearchDefaultWorkBulker bulker =
-				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE );
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE,
+						DEFAULT_MAX_BULK_PAYLOAD_SIZE );
 		verifyNoOtherSequenceInteractionsAndReset();
 
 		when( work1.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
@@ -145,7 +148,8 @@ void newBulkOnTooManyBulkedWorks() {
 		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureArgumentCaptor = futureCaptor();
 
 		ElasticsearchDefaultWorkBulker bulker =
-				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE );
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE,
+						DEFAULT_MAX_BULK_PAYLOAD_SIZE );
 		verifyNoOtherSequenceInteractionsAndReset();
 
 		when( sequenceBuilderMock.addBulkExecution( bulkWork1FutureArgumentCaptor.capture() ) )
@@ -186,6 +190,81 @@ void newBulkOnTooManyBulkedWorks() {
 		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork2 );
 	}
 
+	@Test
+	void newBulkOnTooLargePayload() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3 );
+		BulkableWork<Void> work4 = bulkableWorkMock( 4 );
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( 5 );
+		NonBulkableWork<BulkResult> bulkWork2 = workMock( 6 );
+		NonBulkableWork<BulkResult> bulkWork3 = workMock( 7 );
+
+		CompletableFuture<Void> work1FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work2FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work3FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work4FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork3ResultFuture = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork3FutureArgumentCaptor = futureCaptor();
+
+		ElasticsearchDefaultWorkBulker bulker =
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE,
+						DEFAULT_MAX_BULK_PAYLOAD_SIZE );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work1.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work1.getEstimatedSize() ).thenReturn( 400L );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork1FutureArgumentCaptor.capture() ) )
+				.thenReturn( bulkWork1ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work1, 0 ) )
+				.thenReturn( work1FutureFromSequenceBuilder );
+		bulker.add( work1 );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work2.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work2.getEstimatedSize() ).thenReturn( 400L );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work2, 1 ) )
+				.thenReturn( work2FutureFromSequenceBuilder );
+		bulker.add( work2 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isPending();
+
+		// The payload would exceed the maximum size => new bulk
+		when( work3.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work3.getEstimatedSize() ).thenReturn( 400L );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork2FutureArgumentCaptor.capture() ) )
+				.thenReturn( bulkWork2ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, work3, 0 ) )
+				.thenReturn( work3FutureFromSequenceBuilder );
+		bulker.add( work3 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork1 );
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isPending();
+
+		// A single work exceeding the maximum size gets its own bulk, finalized immediately
+		when( work4.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work4.getEstimatedSize() ).thenReturn( 2000L );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work3 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork3FutureArgumentCaptor.capture() ) )
+				.thenReturn( bulkWork3ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork3ResultFuture, work4, 0 ) )
+				.thenReturn( work4FutureFromSequenceBuilder );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work4 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork3 );
+		bulker.add( work4 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork2 );
+		assertThatFuture( bulkWork3FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork3 );
+
+		// Nothing left to bulk
+		bulker.finalizeBulkWork();
+		verifyNoOtherSequenceInteractionsAndReset();
+	}
+
 	@Test
 	void newBulkOnDifferentRefresh() {
 		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
@@ -210,7 +289,8 @@ void newBulkOnDifferentRefresh() {
 		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork3FutureArgumentCaptor = futureCaptor();
 
 		ElasticsearchDefaultWorkBulker bulker =
-				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, 10 );
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, 10,
+						DEFAULT_MAX_BULK_PAYLOAD_SIZE );
 		verifyNoOtherSequenceInteractionsAndReset();
 
 		when( work1.getRefreshStrategy() ).thenReturn( DocumentRefreshStrategy.NONE );
@@ -0,0 +1,266 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+@SuppressWarnings("unchecked") // Raw types are the only way to mock parameterized types
+class ElasticsearchRetryingBulkWorkTest {
+
+	private static final DocumentRefreshStrategy DEFAULT_REFRESH = DocumentRefreshStrategy.NONE;
+
+	@Mock
+	private ElasticsearchWorkExecutionContext contextMock;
+	@Mock
+	private SimpleScheduledExecutor schedulerMock;
+	@Mock
+	private BiFunction<List<? extends BulkableWork<?>>,
+			DocumentRefreshStrategy,
+			NonBulkableWork<BulkResult>> bulkWorkFactoryMock;
+
+	@Test
+	void retryRejectedOnly() {
+		BulkableWork<Object> work0 = bulkableWorkMock( 0 );
+		BulkableWork<Object> work1 = bulkableWorkMock( 1, "document1" );
+		BulkableWork<Object> work2 = bulkableWorkMock( 2, "document2" );
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( 1 );
+		NonBulkableWork<BulkResult> bulkWork2 = workMock( 2 );
+		BulkResult bulkResult1 = mock( BulkResult.class );
+		BulkResult bulkResult2 = mock( BulkResult.class );
+		Object result0 = new Object();
+		Object result1 = new Object();
+		Object result2 = new Object();
+
+		ElasticsearchCongestionController congestionController = new ElasticsearchCongestionController( 2, 3, 100, 1000 );
+
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work0, work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		ElasticsearchRetryingBulkWork retryingWork = new ElasticsearchRetryingBulkWork(
+				Arrays.asList( work0, work1, work2 ), DEFAULT_REFRESH, bulkWorkFactoryMock,
+				congestionController, schedulerMock );
+
+		// First attempt: work1 is rejected
+		when( bulkWork1.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult1 ) );
+		when( bulkResult1.isRejected( 0 ) ).thenReturn( false );
+		when( bulkResult1.isRejected( 1 ) ).thenReturn( true );
+		when( bulkResult1.isRejected( 2 ) ).thenReturn( false );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		CompletableFuture<BulkResult> future = retryingWork.execute( contextMock );
+		assertThatFuture( future ).isPending();
+
+		ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass( Runnable.class );
+		ArgumentCaptor<Long> delayCaptor = ArgumentCaptor.forClass( Long.class );
+		verify( schedulerMock ).schedule( retryCaptor.capture(), delayCaptor.capture(), eq( TimeUnit.MILLISECONDS ) );
+		assertThat( delayCaptor.getValue() ).isBetween( 0L, 100L );
+		// Rejection => the window was halved
+		assertThat( congestionController.acquire() ).isDone();
+		assertThat( congestionController.acquire() ).isNotDone();
+
+		// Second attempt: work1 succeeds
+		congestionController.release( false );
+		when( bulkWork2.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult2 ) );
+		when( bulkResult2.isRejected( 0 ) ).thenReturn( false );
+		retryCaptor.getValue().run();
+		assertThatFuture( future ).isSuccessful();
+
+		BulkResult combinedResult = future.join();
+		when( bulkResult1.extract( contextMock, work0, 0 ) ).thenReturn( result0 );
+		when( bulkResult2.extract( contextMock, work1, 0 ) ).thenReturn( result1 );
+		when( bulkResult1.extract( contextMock, work2, 2 ) ).thenReturn( result2 );
+		assertThat( combinedResult.extract( contextMock, work0, 0 ) ).isSameAs( result0 );
+		assertThat( combinedResult.extract( contextMock, work1, 1 ) ).isSameAs( result1 );
+		assertThat( combinedResult.extract( contextMock, work2, 2 ) ).isSameAs( result2 );
+		verifyNoMoreInteractions( schedulerMock );
+	}
+
+	@Test
+	void retryFollowingWorksOnSameDocument() {
+		BulkableWork<Object> work0 = bulkableWorkMock( 0, "document1" );
+		BulkableWork<Object> work1 = bulkableWorkMock( 1, "document2" );
+		BulkableWork<Object> work2 = bulkableWorkMock( 2, "document1" );
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( 1 );
+		NonBulkableWork<BulkResult> bulkWork2 = workMock( 2 );
+		BulkResult bulkResult1 = mock( BulkResult.class );
+		BulkResult bulkResult2 = mock( BulkResult.class );
+		Object result0 = new Object();
+		Object result1 = new Object();
+		Object result2 = new Object();
+
+		ElasticsearchCongestionController congestionController = new ElasticsearchCongestionController( 2, 3, 100, 1000 );
+
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work0, work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		ElasticsearchRetryingBulkWork retryingWork = new ElasticsearchRetryingBulkWork(
+				Arrays.asList( work0, work1, work2 ), DEFAULT_REFRESH, bulkWorkFactoryMock,
+				congestionController, schedulerMock );
+
+		// First attempt: work0 is rejected, but work2, which targets the same document, succeeds.
+		// Retrying work0 alone would apply it after work2, leaving the document in a stale state.
+		when( bulkWork1.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult1 ) );
+		when( bulkResult1.isRejected( 0 ) ).thenReturn( true );
+		when( bulkResult1.isRejected( 1 ) ).thenReturn( false );
+		when( bulkResult1.isRejected( 2 ) ).thenReturn( false );
+		// Both works on the same document must be retried, in their original order
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work0, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		CompletableFuture<BulkResult> future = retryingWork.execute( contextMock );
+		assertThatFuture( future ).isPending();
+
+		ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass( Runnable.class );
+		verify( schedulerMock ).schedule( retryCaptor.capture(), anyLong(), eq( TimeUnit.MILLISECONDS ) );
+
+		// Second attempt: both works succeed
+		when( bulkWork2.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult2 ) );
+		when( bulkResult2.isRejected( 0 ) ).thenReturn( false );
+		when( bulkResult2.isRejected( 1 ) ).thenReturn( false );
+		retryCaptor.getValue().run();
+		assertThatFuture( future ).isSuccessful();
+
+		BulkResult combinedResult = future.join();
+		when( bulkResult2.extract( contextMock, work0, 0 ) ).thenReturn( result0 );
+		when( bulkResult1.extract( contextMock, work1, 1 ) ).thenReturn( result1 );
+		when( bulkResult2.extract( contextMock, work2, 1 ) ).thenReturn( result2 );
+		assertThat( combinedResult.extract( contextMock, work0, 0 ) ).isSameAs( result0 );
+		assertThat( combinedResult.extract( contextMock, work1, 1 ) ).isSameAs( result1 );
+		assertThat( combinedResult.extract( contextMock, work2, 2 ) ).isSameAs( result2 );
+		verifyNoMoreInteractions( schedulerMock );
+	}
+
+	@Test
+	void giveUpAfterMaxRetries() {
+		BulkableWork<Object> work0 = bulkableWorkMock( 0 );
+		NonBulkableWork<BulkResult> bulkWork = workMock( 1 );
+		BulkResult bulkResult = mock( BulkResult.class );
+
+		ElasticsearchCongestionController congestionController = new ElasticsearchCongestionController( 2, 0, 100, 1000 );
+
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work0 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork );
+		ElasticsearchRetryingBulkWork retryingWork = new ElasticsearchRetryingBulkWork(
+				Arrays.asList( work0 ), DEFAULT_REFRESH, bulkWorkFactoryMock,
+				congestionController, schedulerMock );
+
+		when( bulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult ) );
+		when( bulkResult.isRejected( 0 ) ).thenReturn( true );
+		CompletableFuture<BulkResult> future = retryingWork.execute( contextMock );
+
+		// No retry: the rejected work will be reported as failed upon extraction
+		assertThatFuture( future ).isSuccessful();
+		assertThat( future.join().isRejected( 0 ) ).isTrue();
+		verifyNoInteractions( schedulerMock );
+	}
+
+	@Test
+	void retrySchedulingRejected() {
+		BulkableWork<Object> work0 = bulkableWorkMock( 0 );
+		BulkableWork<Object> work1 = bulkableWorkMock( 1 );
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( 1 );
+		NonBulkableWork<BulkResult> bulkWork2 = workMock( 2 );
+		BulkResult bulkResult1 = mock( BulkResult.class );
+		Object result0 = new Object();
+		RejectedExecutionException schedulingFailure = new RejectedExecutionException( "Shutting down" );
+
+		ElasticsearchCongestionController congestionController = new ElasticsearchCongestionController( 2, 3, 100, 1000 );
+
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work0, work1 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		ElasticsearchRetryingBulkWork retryingWork = new ElasticsearchRetryingBulkWork(
+				Arrays.asList( work0, work1 ), DEFAULT_REFRESH, bulkWorkFactoryMock,
+				congestionController, schedulerMock );
+
+		// First attempt: work1 is rejected, but the retry cannot be scheduled
+		when( bulkWork1.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult1 ) );
+		when( bulkResult1.isRejected( 0 ) ).thenReturn( false );
+		when( bulkResult1.isRejected( 1 ) ).thenReturn( true );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		when( schedulerMock.schedule( any(), anyLong(), eq( TimeUnit.MILLISECONDS ) ) ).thenThrow( schedulingFailure );
+		CompletableFuture<BulkResult> future = retryingWork.execute( contextMock );
+
+		// The work that succeeded must keep its result; only the work we meant to retry fails.
+		assertThatFuture( future ).isSuccessful();
+		BulkResult combinedResult = future.join();
+		when( bulkResult1.extract( contextMock, work0, 0 ) ).thenReturn( result0 );
+		assertThat( combinedResult.extract( contextMock, work0, 0 ) ).isSameAs( result0 );
+		assertThatThrownBy( () -> combinedResult.extract( contextMock, work1, 1 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Call to the bulk REST API failed" )
+				.hasCause( schedulingFailure );
+		assertThat( combinedResult.isRejected( 1 ) ).isFalse();
+		verifyNoInteractions( bulkWork2 );
+	}
+
+	@Test
+	void resultInspectionFailure_releasesSlot() {
+		BulkableWork<Object> work0 = bulkableWorkMock( 0 );
+		NonBulkableWork<BulkResult> bulkWork = workMock( 1 );
+		BulkResult bulkResult = mock( BulkResult.class );
+		RuntimeException inspectionFailure = new IllegalStateException( "Unexpected result" );
+
+		ElasticsearchCongestionController congestionController = new ElasticsearchCongestionController( 1, 3, 100, 1000 );
+
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work0 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork );
+		ElasticsearchRetryingBulkWork retryingWork = new ElasticsearchRetryingBulkWork(
+				Arrays.asList( work0 ), DEFAULT_REFRESH, bulkWorkFactoryMock,
+				congestionController, schedulerMock );
+
+		when( bulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult ) );
+		when( bulkResult.isRejected( 0 ) ).thenThrow( inspectionFailure );
+		CompletableFuture<BulkResult> future = retryingWork.execute( contextMock );
+
+		assertThatFuture( future ).isFailed( inspectionFailure );
+		// The slot must have been released despite the failure
+		assertThat( congestionController.acquire() ).isDone();
+		verifyNoInteractions( schedulerMock );
+	}
+
+	private <T> NonBulkableWork<T> workMock(int index) {
+		return mock( NonBulkableWork.class, "work" + index );
+	}
+
+	private <T> BulkableWork<T> bulkableWorkMock(int index) {
+		return mock( BulkableWork.class, "bulkableWork" + index );
+	}
+
+	private <T> BulkableWork<T> bulkableWorkMock(int index, String documentId) {
+		BulkableWork<T> work = bulkableWorkMock( index );
+		JsonObject action = new JsonObject();
+		action.addProperty( "_index", "indexName" );
+		action.addProperty( "_id", documentId );
+		JsonObject metadata = new JsonObject();
+		metadata.add( "index", action );
+		when( work.getBulkableActionMetadata() ).thenReturn( metadata );
+		return work;
+	}
+}
@@ -7,6 +7,7 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -135,6 +136,98 @@ void execute_http500() {
 				) );
 	}
 
+	@Test
+	void execute_http429() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+
+		JsonObject error = new JsonObject();
+		error.addProperty( "type", "es_rejected_execution_exception" );
+		JsonObject responseBody = new JsonObject();
+		responseBody.add( "error", error );
+		responseBody.addProperty( "status", 429 );
+		// The whole bulk was rejected: this is not a failure of the bulk work itself.
+		BulkResult result = executeAndGetResult( 429, responseBody, bulkableWork0, bulkableWork1 );
+
+		assertThat( result.isRejected( 0 ) ).isTrue();
+		assertThat( result.isRejected( 1 ) ).isTrue();
+
+		// Each bulked work must get a simulated item response, so that it reports the failure as usual.
+		ArgumentCaptor<JsonObject> itemCaptor = ArgumentCaptor.forClass( JsonObject.class );
+		Object bulkableResult = new Object();
+		when( bulkableWork1.handleBulkResult( same( contextMock ), itemCaptor.capture() ) ).thenReturn( bulkableResult );
+		assertThat( result.extract( contextMock, bulkableWork1, 1 ) ).isSameAs( bulkableResult );
+		JsonObject expectedItemBody = new JsonObject();
+		expectedItemBody.addProperty( "status", 429 );
+		expectedItemBody.add( "error", error );
+		JsonObject expectedItem = new JsonObject();
+		expectedItem.add( "type", expectedItemBody );
+		assertThat( itemCaptor.getValue() ).isEqualTo( expectedItem );
+	}
+
+	@Test
+	void isRejected_items() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+		BulkableWork<Object> bulkableWork2 = bulkableWork( 2 );
+		BulkableWork<Object> bulkableWork3 = bulkableWork( 3 );
+
+		JsonArray items = new JsonArray();
+		items.add( bulkItem( "index", 201, null ) );
+		items.add( bulkItem( "index", 429, "es_rejected_execution_exception" ) );
+		// Rejections are also detected through the error type alone
+		items.add( bulkItem( "delete", 503, "es_rejected_execution_exception" ) );
+		items.add( bulkItem( "index", 400, "mapper_parsing_exception" ) );
+		JsonObject responseBody = new JsonObject();
+		responseBody.addProperty( "errors", true );
+		responseBody.add( "items", items );
+		BulkResult result = executeAndGetResult( 200, responseBody,
+				bulkableWork0, bulkableWork1, bulkableWork2, bulkableWork3 );
+
+		assertThat( result.isRejected( 0 ) ).isFalse();
+		assertThat( result.isRejected( 1 ) ).isTrue();
+		assertThat( result.isRejected( 2 ) ).isTrue();
+		assertThat( result.isRejected( 3 ) ).isFalse();
+	}
+
+	@Test
+	void isRejected_missingItems() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+
+		JsonArray items = new JsonArray();
+		items.add( new JsonObject() );
+		JsonObject responseBody = new JsonObject();
+		responseBody.add( "items", items );
+		BulkResult result = executeAndGetResult( 200, responseBody, bulkableWork0, bulkableWork1 );
+
+		// Empty or missing items cannot be fixed by a retry
+		assertThat( result.isRejected( 0 ) ).isFalse();
+		assertThat( result.isRejected( 1 ) ).isFalse();
+
+		// No items at all
+		result = executeAndGetResult( 200, new JsonObject(), bulkableWork0, bulkableWork1 );
+		assertThat( result.isRejected( 0 ) ).isFalse();
+		assertThat( result.isRejected( 1 ) ).isFalse();
+	}
+
+	private BulkResult executeAndGetResult(int statusCode, JsonObject responseBody, BulkableWork<?>... bulkableWorks) {
+		for ( int i = 0; i < bulkableWorks.length; i++ ) {
+			when( bulkableWorks[i].getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( i ) );
+			when( bulkableWorks[i].getBulkableActionBody() ).thenReturn( bulkableWorkBody( i ) );
+		}
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWorks ) ).build();
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		when( clientMock.submit( any() ) ).thenReturn( futureFromClient );
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+		verifyNoOtherClientInteractionsAndReset();
+
+		futureFromClient.complete( new ElasticsearchResponse( new HttpHost( "mockHost:9200" ),
+				statusCode, "SomeStatus", responseBody ) );
+		assertThatFuture( returnedFuture ).isSuccessful();
+		return returnedFuture.join();
+	}
+
 	private void assertBulkRequest(ElasticsearchRequest request, int... bulkableIndices) {
 		assertThat( request ).isNotNull();
 		assertSoftly( softly -> {
@@ -158,6 +251,19 @@ private <T> BulkableWork<T> bulkableWork(int index) {
 		return mock( BulkableWork.class, "bulkableWork" + index );
 	}
 
+	private static JsonObject bulkItem(String actionName, int status, String errorType) {
+		JsonObject itemBody = new JsonObject();
+		itemBody.addProperty( "status", status );
+		if ( errorType != null ) {
+			JsonObject error = new JsonObject();
+			error.addProperty( "type", errorType );
+			itemBody.add( "error", error );
+		}
+		JsonObject item = new JsonObject();
+		item.add( actionName, itemBody );
+		return item;
+	}
+
 	private static JsonObject bulkableWorkMetadata(int index) {
 		JsonObject result = new JsonObject();
 		result.addProperty( "type", "metadata" );
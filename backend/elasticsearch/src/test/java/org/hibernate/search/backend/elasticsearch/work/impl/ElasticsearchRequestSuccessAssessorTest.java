@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import org.apache.http.HttpHost;
+
+class ElasticsearchRequestSuccessAssessorTest {
+
+	private final Gson gson = new Gson();
+	private final AtomicInteger parseCount = new AtomicInteger();
+
+	@Test
+	void shardFailuresChecked_noFailure_bodyNotParsed() {
+		ElasticsearchResponse response = lazyResponse( 200,
+				"{\"took\":1,\"_shards\":{\"total\":2,\"successful\":2,\"failed\":0},\"hits\":{\"hits\":[]}}" );
+		assertThatCode( () -> ElasticsearchRequestSuccessAssessor.SHARD_FAILURE_CHECKED_INSTANCE.checkSuccess( response ) )
+				.doesNotThrowAnyException();
+		assertThatCode( () -> ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE.checkSuccess( response ) )
+				.doesNotThrowAnyException();
+		assertThat( parseCount ).hasValue( 0 );
+	}
+
+	@Test
+	void shardFailuresChecked_failure() {
+		ElasticsearchResponse response = lazyResponse( 200,
+				"{\"took\":1,\"_shards\":{\"total\":2,\"successful\":1,\"failed\":1},\"hits\":{\"hits\":[]}}" );
+		assertThatThrownBy( () -> ElasticsearchRequestSuccessAssessor.SHARD_FAILURE_CHECKED_INSTANCE.checkSuccess( response ) )
+				.isInstanceOf( SearchException.class );
+		assertThatCode( () -> ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE.checkSuccess( response ) )
+				.doesNotThrowAnyException();
+	}
+
+	@Test
+	void shardFailuresChecked_failureAfterHits() {
+		// The streaming reader must skip the hits to find the shard failures.
+		ElasticsearchResponse response = lazyResponse( 200,
+				"{\"took\":1,\"hits\":{\"hits\":[{\"_id\":\"1\",\"_source\":{\"_shards\":{\"failed\":0}}}]},"
+						+ "\"_shards\":{\"total\":2,\"successful\":1,\"failed\":1}}" );
+		assertThatThrownBy( () -> ElasticsearchRequestSuccessAssessor.SHARD_FAILURE_CHECKED_INSTANCE.checkSuccess( response ) )
+				.isInstanceOf( SearchException.class );
+	}
+
+	@Test
+	void shardFailuresChecked_noShardsInfo_bodyNotParsed() {
+		ElasticsearchResponse response = lazyResponse( 200, "{\"took\":1,\"hits\":{\"hits\":[]}}" );
+		assertThatCode( () -> ElasticsearchRequestSuccessAssessor.SHARD_FAILURE_CHECKED_INSTANCE.checkSuccess( response ) )
+				.doesNotThrowAnyException();
+		assertThat( parseCount ).hasValue( 0 );
+	}
+
+	@Test
+	void shardFailuresChecked_malformedBody() {
+		// The streaming reader fails before reaching "_shards":
+		// the failure must not be mistaken for a success.
+		ElasticsearchResponse response = lazyResponse( 200,
+				"{\"took\":1,\"hits\":{\"hits\":[}},\"_shards\":{\"total\":2,\"successful\":1,\"failed\":1}}" );
+		assertThatThrownBy( () -> ElasticsearchRequestSuccessAssessor.SHARD_FAILURE_CHECKED_INSTANCE.checkSuccess( response ) )
+				.isInstanceOf( RuntimeException.class );
+		assertThat( parseCount ).hasValue( 1 );
+	}
+
+	@Test
+	void successStatus_bulkErrors() {
+		ElasticsearchResponse response = lazyResponse( 200,
+				"{\"took\":1,\"errors\":true,\"items\":[{\"update\":{\"_id\":\"1\",\"status\":404,"
+						+ "\"error\":{\"type\":\"document_missing_exception\"}}}]}" );
+		assertThatThrownBy( () -> ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE.checkSuccess( response ) )
+				.isInstanceOf( SearchException.class );
+		// Errors are expected to be checked item by item
+		parseCount.set( 0 );
+		assertThatCode( () -> ElasticsearchRequestSuccessAssessor.builder().bodyErrorsCheckedElsewhere( true ).build()
+				.checkSuccess( response ) )
+				.doesNotThrowAnyException();
+		assertThat( parseCount ).hasValue( 0 );
+	}
+
+	@Test
+	void successStatus_noBulkErrors_bodyNotParsed() {
+		ElasticsearchResponse response = lazyResponse( 200,
+				"{\"took\":1,\"errors\":false,\"items\":[{\"index\":{\"_id\":\"1\",\"status\":201,"
+						+ "\"error\":null}}]}" );
+		assertThatCode( () -> ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE.checkSuccess( response ) )
+				.doesNotThrowAnyException();
+		assertThat( parseCount ).hasValue( 0 );
+	}
+
+	@Test
+	void successStatus_error() {
+		ElasticsearchResponse response = lazyResponse( 200,
+				"{\"_shards\":{\"total\":2,\"successful\":2,\"failed\":0},"
+						+ "\"error\":{\"type\":\"version_conflict_engine_exception\"}}" );
+		assertThatThrownBy( () -> ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE.checkSuccess( response ) )
+				.isInstanceOf( SearchException.class );
+		assertThatThrownBy( () -> ElasticsearchRequestSuccessAssessor.SHARD_FAILURE_CHECKED_INSTANCE.checkSuccess( response ) )
+				.isInstanceOf( SearchException.class );
+		assertThatCode( () -> ElasticsearchRequestSuccessAssessor.builder()
+				.ignoreErrorTypes( "version_conflict_engine_exception" ).build()
+				.checkSuccess( response ) )
+				.doesNotThrowAnyException();
+	}
+
+	@Test
+	void errorStatus() {
+		JsonObject error = new JsonObject();
+		error.addProperty( "type", "index_not_found_exception" );
+		JsonObject body = new JsonObject();
+		body.add( "error", error );
+		ElasticsearchResponse response = new ElasticsearchResponse( new HttpHost( "mockHost:9200" ), 404, "", body );
+		assertThatThrownBy( () -> ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE.checkSuccess( response ) )
+				.isInstanceOf( SearchException.class );
+		assertThatCode( () -> ElasticsearchRequestSuccessAssessor.builder().ignoreErrorStatuses( 404 ).build()
+				.checkSuccess( response ) )
+				.doesNotThrowAnyException();
+	}
+
+	private ElasticsearchResponse lazyResponse(int statusCode, String body) {
+		return new ElasticsearchResponse( new HttpHost( "mockHost:9200" ), statusCode, "",
+				body.getBytes( StandardCharsets.UTF_8 ), StandardCharsets.UTF_8,
+				reader -> {
+					parseCount.incrementAndGet();
+					return gson.fromJson( reader, JsonObject.class );
+				} );
+	}
+
+}
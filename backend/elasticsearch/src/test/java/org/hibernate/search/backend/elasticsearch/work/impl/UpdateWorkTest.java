@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+class UpdateWorkTest {
+
+	@Test
+	void bulkableAction() {
+		JsonObject partialDocument = new JsonObject();
+		partialDocument.addProperty( "text", "someValue" );
+		partialDocument.add( "cleared", JsonNull.INSTANCE );
+
+		UpdateWork work = UpdateWork.Builder.create( "SomeEntity", 1, URLEncodedString.fromString( "index-write" ),
+				"1", "someRoutingKey", partialDocument )
+				.build();
+
+		assertThat( work.getBulkableActionMetadata() ).hasToString(
+				"{\"update\":{\"_index\":\"index-write\",\"_id\":\"1\",\"routing\":\"someRoutingKey\"}}" );
+		assertThat( work.getBulkableActionBody() ).hasToString(
+				"{\"doc\":{\"text\":\"someValue\",\"cleared\":null},\"doc_as_upsert\":false}" );
+	}
+
+}
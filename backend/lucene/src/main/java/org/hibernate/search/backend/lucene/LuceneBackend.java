@@ -6,8 +6,10 @@
 
 import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.cache.SearchResultCacheStatistics;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.metamodel.IndexValueFieldTypeDescriptor;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import org.apache.lucene.analysis.Analyzer;
 
@@ -26,4 +28,12 @@ public interface LuceneBackend extends Backend {
 	 */
 	Optional<? extends Analyzer> normalizer(String name);
 
+	/**
+	 * @return Statistics about the search result cache,
+	 * or {@link Optional#empty()} if the search result cache is disabled.
+	 * @see org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings#QUERY_RESULT_CACHE_MAX_ENTRIES
+	 */
+	@Incubating
+	Optional<SearchResultCacheStatistics> searchResultCacheStatistics();
+
 }
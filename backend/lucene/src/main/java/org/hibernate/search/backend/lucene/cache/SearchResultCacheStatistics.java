@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.cache;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Statistics about the search result cache of a Lucene backend.
+ * <p>
+ * The search result cache is enabled through the
+ * {@link LuceneBackendSettings#QUERY_RESULT_CACHE_MAX_ENTRIES configuration properties}.
+ * <p>
+ * Values are updated concurrently and are only a snapshot.
+ */
+@Incubating
+public interface SearchResultCacheStatistics {
+
+	/**
+	 * @return The number of searches whose matching documents were retrieved from the cache.
+	 */
+	long hitCount();
+
+	/**
+	 * @return The number of cacheable searches whose matching documents were not found in the cache.
+	 */
+	long missCount();
+
+	/**
+	 * @return The number of entries removed from the cache to make room for more recently used entries.
+	 */
+	long evictionCount();
+
+	/**
+	 * @return The number of entries removed from the cache because an index reader they relied on was closed,
+	 * generally after a refresh of that index reader.
+	 */
+	long invalidationCount();
+
+	/**
+	 * @return The number of entries currently in the cache.
+	 */
+	int size();
+
+}
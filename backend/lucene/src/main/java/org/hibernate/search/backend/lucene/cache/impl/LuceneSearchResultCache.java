@@ -0,0 +1,256 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.cache.SearchResultCacheStatistics;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.search.extraction.impl.HibernateSearchMultiCollectorManager.MultiCollectedResults;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+
+/**
+ * A size-bounded, least-recently-used cache of the results of collecting matching documents:
+ * top docs, total hit count, aggregation collectors.
+ * <p>
+ * Entries are keyed by the exact index readers they were collected from,
+ * so they never become stale: as soon as an index reader is refreshed,
+ * new searches use different keys,
+ * and entries relying on the previous reader are invalidated when it is closed.
+ * <p>
+ * Collector keys are specific to each search, so entries hold results by collector descriptor instead,
+ * and results are copied on the way in and out of the cache,
+ * because search results are mutated after collection (e.g. rescoring).
+ */
+public final class LuceneSearchResultCache implements SearchResultCacheStatistics {
+
+	private final int maxEntries;
+	// Guarded by "this"
+	private final LinkedHashMap<Key, Map<Object, Object>> entries;
+	private final Set<IndexReader.CacheKey> trackedReaderKeys = ConcurrentHashMap.newKeySet();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder invalidationCount = new LongAdder();
+
+	public LuceneSearchResultCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<>( 16, 0.75f, true );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxEntries=" + maxEntries
+				+ ", size=" + size()
+				+ "]";
+	}
+
+	/**
+	 * @param reader The reader the search will be executed on.
+	 * @param query The query.
+	 * @param sort The sort, or {@code null}.
+	 * @param offset The offset of the first top doc.
+	 * @param maxDocs The maximum number of top docs to collect.
+	 * @param totalHitCountThreshold The threshold for the total hit count.
+	 * @param collectorDescriptors The key of each collector whose results must be cached,
+	 * mapped to a descriptor of that collector: see
+	 * {@link org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory#cacheDescriptorOrNull()}.
+	 * @return A key, or {@code null} if the results of this search cannot be cached.
+	 */
+	public Key createKeyOrNull(IndexReader reader, Query query, Sort sort, int offset, int maxDocs,
+			int totalHitCountThreshold, Map<CollectorKey<?, ?>, Object> collectorDescriptors) {
+		List<IndexReaderContext> children = reader.getContext().children();
+		List<IndexReader.CacheKey> readerKeys = new ArrayList<>( children == null ? 1 : children.size() );
+		if ( children == null ) {
+			if ( !addReaderKey( readerKeys, reader ) ) {
+				return null;
+			}
+		}
+		else {
+			for ( IndexReaderContext child : children ) {
+				if ( !addReaderKey( readerKeys, child.reader() ) ) {
+					return null;
+				}
+			}
+		}
+		return new Key( readerKeys, query, sort, offset, maxDocs, totalHitCountThreshold, collectorDescriptors );
+	}
+
+	public MultiCollectedResults get(Key key) {
+		Map<Object, Object> valuesByDescriptor;
+		synchronized (this) {
+			valuesByDescriptor = entries.get( key );
+		}
+		if ( valuesByDescriptor == null ) {
+			missCount.increment();
+			return null;
+		}
+		hitCount.increment();
+		Map<CollectorKey<?, ?>, Object> results = new HashMap<>();
+		for ( Map.Entry<CollectorKey<?, ?>, Object> entry : key.collectorDescriptors.entrySet() ) {
+			results.put( entry.getKey(), copy( valuesByDescriptor.get( entry.getValue() ) ) );
+		}
+		return new MultiCollectedResults( results );
+	}
+
+	public void put(Key key, MultiCollectedResults results) {
+		Map<Object, Object> valuesByDescriptor = new HashMap<>();
+		for ( Map.Entry<CollectorKey<?, ?>, Object> entry : key.collectorDescriptors.entrySet() ) {
+			valuesByDescriptor.put( entry.getValue(), copy( results.get( entry.getKey() ) ) );
+		}
+		synchronized (this) {
+			entries.put( key, valuesByDescriptor );
+			Iterator<Key> iterator = entries.keySet().iterator();
+			while ( entries.size() > maxEntries ) {
+				iterator.next();
+				iterator.remove();
+				evictionCount.increment();
+			}
+		}
+	}
+
+	@Override
+	public long hitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long missCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public long evictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public long invalidationCount() {
+		return invalidationCount.sum();
+	}
+
+	@Override
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private boolean addReaderKey(List<IndexReader.CacheKey> readerKeys, IndexReader reader) {
+		IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+		if ( cacheHelper == null ) {
+			// This reader does not support caching.
+			return false;
+		}
+		IndexReader.CacheKey readerKey = cacheHelper.getKey();
+		if ( trackedReaderKeys.add( readerKey ) ) {
+			cacheHelper.addClosedListener( this::invalidate );
+		}
+		readerKeys.add( readerKey );
+		return true;
+	}
+
+	private void invalidate(IndexReader.CacheKey readerKey) {
+		trackedReaderKeys.remove( readerKey );
+		synchronized (this) {
+			Iterator<Key> iterator = entries.keySet().iterator();
+			while ( iterator.hasNext() ) {
+				if ( iterator.next().readerKeys.contains( readerKey ) ) {
+					iterator.remove();
+					invalidationCount.increment();
+				}
+			}
+		}
+	}
+
+	private static Object copy(Object value) {
+		// Other results (total hit count, aggregations) are never mutated after collection.
+		return value instanceof TopDocs ? copy( (TopDocs) value ) : value;
+	}
+
+	private static TopDocs copy(TopDocs topDocs) {
+		TotalHits totalHits = new TotalHits( topDocs.totalHits.value, topDocs.totalHits.relation );
+		ScoreDoc[] scoreDocs = new ScoreDoc[topDocs.scoreDocs.length];
+		for ( int i = 0; i < scoreDocs.length; i++ ) {
+			ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+			scoreDocs[i] = scoreDoc instanceof FieldDoc
+					? new FieldDoc( scoreDoc.doc, scoreDoc.score, ( (FieldDoc) scoreDoc ).fields.clone(),
+							scoreDoc.shardIndex )
+					: new ScoreDoc( scoreDoc.doc, scoreDoc.score, scoreDoc.shardIndex );
+		}
+		return topDocs instanceof TopFieldDocs
+				? new TopFieldDocs( totalHits, scoreDocs, ( (TopFieldDocs) topDocs ).fields )
+				: new TopDocs( totalHits, scoreDocs );
+	}
+
+	public static final class Key {
+		private final List<IndexReader.CacheKey> readerKeys;
+		private final Query query;
+		private final Sort sort;
+		private final int offset;
+		private final int maxDocs;
+		private final int totalHitCountThreshold;
+		// Collector keys are specific to each search: only the descriptors are part of the key.
+		private final Map<CollectorKey<?, ?>, Object> collectorDescriptors;
+		private final Set<Object> descriptors;
+		private final int hashCode;
+
+		private Key(List<IndexReader.CacheKey> readerKeys, Query query, Sort sort, int offset, int maxDocs,
+				int totalHitCountThreshold, Map<CollectorKey<?, ?>, Object> collectorDescriptors) {
+			this.readerKeys = readerKeys;
+			this.query = query;
+			this.sort = sort;
+			this.offset = offset;
+			this.maxDocs = maxDocs;
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			this.collectorDescriptors = collectorDescriptors;
+			this.descriptors = new HashSet<>( collectorDescriptors.values() );
+			this.hashCode = Objects.hash( readerKeys, query, sort, offset, maxDocs, totalHitCountThreshold,
+					descriptors );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return offset == other.offset
+					&& maxDocs == other.maxDocs
+					&& totalHitCountThreshold == other.totalHitCountThreshold
+					&& readerKeys.equals( other.readerKeys )
+					&& query.equals( other.query )
+					&& Objects.equals( sort, other.sort )
+					&& descriptors.equals( other.descriptors );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -78,6 +78,29 @@ private LuceneBackendSettings() {
 	 */
 	public static final String QUERY_CACHING_CONFIGURER = "query.caching.configurer";
 
+	/**
+	 * The maximum number of entries in the search result cache.
+	 * <p>
+	 * The search result cache holds the matching documents of recent searches
+	 * (top hits, total hit count and data necessary to compute aggregations),
+	 * so that executing the same search query again on unchanged indexes does not require searching the indexes.
+	 * Entries are evicted on a least-recently-used basis,
+	 * and invalidated as soon as the index readers they were computed from are refreshed.
+	 * <p>
+	 * Queries are considered identical if their Lucene query, sort, offset, limit, total hit count threshold
+	 * and aggregations are equal.
+	 * Queries with aggregations on nested documents only match if the same {@code SearchQuery} instance is executed again.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * {@code 0} disables the cache.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_MAX_ENTRIES}.
+	 *
+	 * @see org.hibernate.search.backend.lucene.LuceneBackend#searchResultCacheStatistics()
+	 */
+	public static final String QUERY_RESULT_CACHE_MAX_ENTRIES = "query.result_cache.max_entries";
+
 	/**
 	 * The size of the thread pool assigned to the backend.
 	 * <p>
@@ -91,6 +114,52 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to search index segments in parallel within a single query.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * When set to {@code 0}, intra-query parallelism is disabled
+	 * and every search is executed entirely in the thread that submitted it.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_THREAD_POOL_SIZE}.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search.thread_pool.size";
+
+	/**
+	 * The size of the queue holding segment search tasks
+	 * when all threads of the {@link #SEARCH_THREAD_POOL_SIZE search thread pool} are busy.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * When the queue is full, additional tasks are executed in the thread that submitted the search,
+	 * so that a burst of heavy queries degrades to sequential search instead of piling up.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_THREAD_POOL_QUEUE_SIZE}.
+	 */
+	public static final String SEARCH_THREAD_POOL_QUEUE_SIZE = "search.thread_pool.queue_size";
+
+	/**
+	 * Whether searches spanning multiple shards should search each shard concurrently.
+	 * <p>
+	 * Only has an effect if the {@link #SEARCH_THREAD_POOL_SIZE search thread pool} is enabled.
+	 * When enabled, segments of different shards are never searched in the same task,
+	 * and results of each shard are merged once all shards have been searched.
+	 * In case of a soft timeout ({@code truncateAfter}), results collected from each shard
+	 * before the timeout are returned as partial results.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_SLICE_PER_SHARD}.
+	 */
+	public static final String SEARCH_SLICE_PER_SHARD = "search.slice_per_shard";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -100,6 +169,10 @@ private Defaults() {
 		}
 
 		public static final Version LUCENE_VERSION = Version.LATEST;
+		public static final int SEARCH_THREAD_POOL_SIZE = 0;
+		public static final int SEARCH_THREAD_POOL_QUEUE_SIZE = 100;
+		public static final boolean SEARCH_SLICE_PER_SHARD = false;
+		public static final int QUERY_RESULT_CACHE_MAX_ENTRIES = 0;
 
 		/**
 		 * @deprecated The default for this property is now dynamic and depends on the mapper.
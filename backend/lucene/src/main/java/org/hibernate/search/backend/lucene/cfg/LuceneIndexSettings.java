@@ -77,6 +77,41 @@ private LuceneIndexSettings() {
 	public static final String DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY;
 
+	/**
+	 * The extensions of index files to preload into the page cache when they are opened.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type,
+	 * and only effective if the {@link #DIRECTORY_FILESYSTEM_ACCESS_STRATEGY filesystem access strategy}
+	 * memory-maps files, i.e. with the "mmap" strategy, or with the "auto" strategy on 64-bit platforms.
+	 * <p>
+	 * Preloading files that are accessed on every search, such as the terms index ("tip")
+	 * or doc values ("dvd"), avoids latency spikes on the first searches after a refresh,
+	 * at the cost of slower refreshes.
+	 * <p>
+	 * Expects either a String containing multiple file extensions separated by commas (','),
+	 * or a {@code Collection<String>} containing such file extensions.
+	 * <p>
+	 * Defaults to no extension, i.e. no file is preloaded.
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_PRELOAD =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_PRELOAD;
+
+	/**
+	 * Whether files written by large merges should use direct I/O, bypassing the page cache.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * When enabled, merges no longer evict data used by searches from the page cache.
+	 * Requires a platform and filesystem supporting direct I/O (e.g. Linux with ext4 or XFS).
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_FILESYSTEM_ACCESS_MERGE_DIRECT_IO}.
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_MERGE_DIRECT_IO =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_MERGE_DIRECT_IO;
+
 	/**
 	 * The prefix for I/O-related property keys.
 	 */
@@ -144,6 +179,26 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether index readers should be refreshed in a background thread
+	 * instead of on demand when executing a search query.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy,
+	 * and only has an effect when {@link #IO_REFRESH_INTERVAL the refresh interval} is strictly positive.
+	 * <p>
+	 * When enabled, index readers are refreshed at most once per refresh interval,
+	 * and only after the index was written to:
+	 * search queries never need to wait for a refresh, and idle indexes are never refreshed.
+	 * Explicit refreshes, e.g. those triggered by the {@code read-sync} synchronization strategy,
+	 * only reopen index readers if the current ones do not reflect writes applied so far.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_BACKGROUND_REFRESH}.
+	 */
+	public static final String IO_BACKGROUND_REFRESH = IO_PREFIX + IORadicals.BACKGROUND_REFRESH;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -342,6 +397,40 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * Whether indexing queues should use a lock-free implementation.
+	 * <p>
+	 * Lock-free queues reduce contention when many threads submit indexing works concurrently,
+	 * but threads waiting for space in a full queue may be unblocked in any order.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_LOCK_FREE}.
+	 */
+	public static final String INDEXING_QUEUE_LOCK_FREE = INDEXING_PREFIX + IndexingRadicals.QUEUE_LOCK_FREE;
+
+	/**
+	 * The target latency for processing a single batch of indexing works, in milliseconds.
+	 * <p>
+	 * When strictly positive, the number of works processed in each batch adapts to the observed latency
+	 * of index writes and commits: batches get smaller when processing them exceeds the target latency,
+	 * and larger (up to {@link #INDEXING_QUEUE_SIZE the queue size}) when works keep piling up within the target latency.
+	 * When {@code 0}, each batch includes as many works as possible, up to the queue size.
+	 * <p>
+	 * Expects a positive or zero integer value in milliseconds, such as {@code 500},
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BATCH_TARGET_LATENCY}.
+	 */
+	public static final String INDEXING_BATCH_TARGET_LATENCY = INDEXING_PREFIX + IndexingRadicals.BATCH_TARGET_LATENCY;
+
 	/**
 	 * Builds a configuration property key for the given shard of all indexes of the default backend,
 	 * with the given radical.
@@ -418,6 +507,8 @@ private DirectoryRadicals() {
 		public static final String ROOT = "root";
 		public static final String LOCKING_STRATEGY = "locking.strategy";
 		public static final String FILESYSTEM_ACCESS_STRATEGY = "filesystem_access.strategy";
+		public static final String FILESYSTEM_ACCESS_PRELOAD = "filesystem_access.preload";
+		public static final String FILESYSTEM_ACCESS_MERGE_DIRECT_IO = "filesystem_access.merge_direct_io";
 	}
 
 	/**
@@ -431,6 +522,7 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String BACKGROUND_REFRESH = "background_refresh";
 	}
 
 	/**
@@ -487,6 +579,8 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String QUEUE_LOCK_FREE = "queue_lock_free";
+		public static final String BATCH_TARGET_LATENCY = "batch_target_latency";
 	}
 
 	/**
@@ -501,11 +595,15 @@ private Defaults() {
 		public static final String DIRECTORY_ROOT = ".";
 		public static final FileSystemAccessStrategyName DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 				FileSystemAccessStrategyName.AUTO;
+		public static final boolean DIRECTORY_FILESYSTEM_ACCESS_MERGE_DIRECT_IO = false;
 		public static final String SHARDING_STRATEGY = "none";
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_BACKGROUND_REFRESH = false;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final boolean INDEXING_QUEUE_LOCK_FREE = false;
+		public static final int INDEXING_BATCH_TARGET_LATENCY = 0;
 	}
 }
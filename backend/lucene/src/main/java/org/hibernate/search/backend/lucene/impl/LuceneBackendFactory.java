@@ -18,6 +18,7 @@
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurationContext;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurer;
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
@@ -70,6 +71,18 @@ public class LuceneBackendFactory implements BackendFactory {
 							.multivalued()
 							.build();
 
+	private static final ConfigurationProperty<Boolean> SEARCH_SLICE_PER_SHARD =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_SLICE_PER_SHARD )
+					.asBoolean()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_SLICE_PER_SHARD )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_RESULT_CACHE_MAX_ENTRIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.build();
+
 	@Override
 	public BackendImplementor create(EventContext eventContext, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -90,6 +103,11 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 
 			configureQueryCache( buildContext, propertySource, cachingContext );
 
+			int resultCacheMaxEntries = QUERY_RESULT_CACHE_MAX_ENTRIES.get( propertySource );
+			LuceneSearchResultCache resultCacheOrNull = resultCacheMaxEntries == 0
+					? null
+					: new LuceneSearchResultCache( resultCacheMaxEntries );
+
 			return new LuceneBackendImpl(
 					buildContext.backendName(),
 					eventContext,
@@ -97,6 +115,8 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					new LuceneWorkFactory( multiTenancyStrategy ),
 					analysisDefinitionRegistry,
 					cachingContext,
+					SEARCH_SLICE_PER_SHARD.get( propertySource ),
+					resultCacheOrNull,
 					multiTenancyStrategy,
 					buildContext.timingSource(),
 					buildContext.failureHandler()
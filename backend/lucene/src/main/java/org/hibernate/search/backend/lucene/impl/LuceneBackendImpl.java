@@ -10,7 +10,9 @@
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cache.SearchResultCacheStatistics;
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexRootBuilder;
 import org.hibernate.search.backend.lucene.index.impl.IndexManagerBackendContext;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerBuilder;
@@ -50,6 +52,8 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 
 	private final LuceneSyncWorkOrchestratorImpl readOrchestrator;
 
+	private final LuceneSearchResultCache resultCacheOrNull;
+
 	private final IndexManagerBackendContext indexManagerBackendContext;
 
 	LuceneBackendImpl(Optional<String> backendName,
@@ -58,18 +62,22 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			LuceneQueryCachingContext cachingContext,
+			boolean searchSlicePerShard,
+			LuceneSearchResultCache resultCacheOrNull,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
 			FailureHandler failureHandler) {
 		this.backendName = backendName;
 		this.eventContext = eventContext;
 		this.threads = threads;
+		this.resultCacheOrNull = resultCacheOrNull;
 
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		Similarity similarity = analysisDefinitionRegistry.getSimilarity();
 
 		this.readOrchestrator = new LuceneSyncWorkOrchestratorImpl(
-				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext
+				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext, threads,
+				searchSlicePerShard
 		);
 
 		this.indexManagerBackendContext = new IndexManagerBackendContext(
@@ -77,7 +85,9 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 				workFactory, multiTenancyStrategy,
 				timingSource, analysisDefinitionRegistry,
 				failureHandler,
-				readOrchestrator
+				readOrchestrator,
+				searchSlicePerShard,
+				resultCacheOrNull
 		);
 	}
 
@@ -136,6 +146,11 @@ public Optional<Analyzer> normalizer(String name) {
 		return Optional.ofNullable( analysisDefinitionRegistry.getNormalizerDefinition( name ) );
 	}
 
+	@Override
+	public Optional<SearchResultCacheStatistics> searchResultCacheStatistics() {
+		return Optional.ofNullable( resultCacheOrNull );
+	}
+
 	@Override
 	public IndexManagerBuilder createIndexManagerBuilder(
 			String indexName, String mappedTypeName, BackendBuildContext context, BackendMapperContext backendMapperContext,
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
@@ -73,6 +74,8 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final FailureHandler failureHandler;
 	private final LuceneSyncWorkOrchestrator readOrchestrator;
+	private final boolean searchSlicePerShard;
+	private final LuceneSearchResultCache resultCacheOrNull;
 
 	public IndexManagerBackendContext(LuceneBackend backendAPI,
 			EventContext eventContext,
@@ -83,7 +86,9 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 			TimingSource timingSource,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			FailureHandler failureHandler,
-			LuceneSyncWorkOrchestrator readOrchestrator) {
+			LuceneSyncWorkOrchestrator readOrchestrator,
+			boolean searchSlicePerShard,
+			LuceneSearchResultCache resultCacheOrNull) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -94,6 +99,8 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 		this.workFactory = workFactory;
 		this.failureHandler = failureHandler;
 		this.readOrchestrator = readOrchestrator;
+		this.searchSlicePerShard = searchSlicePerShard;
+		this.resultCacheOrNull = resultCacheOrNull;
 	}
 
 	@Override
@@ -156,13 +163,19 @@ public <H> LuceneSearchQueryBuilder<H> createSearchQueryBuilder(
 			LuceneSearchProjection<H> rootProjection) {
 		multiTenancyStrategy.checkTenantId( sessionContext.tenantIdentifier(), eventContext );
 
+		// Shards are only searched separately when there is an executor to search them concurrently:
+		// see LuceneSyncWorkOrchestratorImpl.
+		boolean partialResultsOnSoftTimeout = searchSlicePerShard && threads.getSearchExecutor() != null;
+
 		return new LuceneSearchQueryBuilder<>(
 				workFactory,
 				readOrchestrator,
 				scope,
 				sessionContext,
 				loadingContextBuilder,
-				rootProjection
+				rootProjection,
+				partialResultsOnSoftTimeout,
+				resultCacheOrNull
 		);
 	}
 
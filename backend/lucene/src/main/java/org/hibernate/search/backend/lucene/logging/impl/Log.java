@@ -759,4 +759,19 @@ SearchException unableToPerformAnalysisOperation(String analyzerName, String str
 	@Message(id = ID_OFFSET + 187,
 			value = "Unable to refresh an index reader: %1$s")
 	SearchException unableToRefresh(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 188,
+			value = "Ignoring the configured preloading of index files: directory '%1$s' does not memory-map files."
+					+ " Preloading is only available with the 'mmap' filesystem access strategy,"
+					+ " or with the 'auto' strategy on 64-bit platforms. %2$s")
+	void ignoringPreloadForNonMemoryMappedDirectory(String directoryClassName,
+			@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET + 189,
+			value = "Unable to use direct I/O for merges: %1$s"
+					+ " Direct I/O is not supported by this JVM or platform;"
+					+ " disable it by setting '%2$s' to 'false'.")
+	SearchException unableToUseDirectIOForMerges(String causeMessage, String propertyKey,
+			@Param EventContext context, @Cause Exception cause);
 }
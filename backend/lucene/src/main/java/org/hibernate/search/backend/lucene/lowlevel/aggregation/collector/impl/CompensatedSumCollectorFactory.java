@@ -4,12 +4,13 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
 
-import java.util.function.Function;
+import java.util.List;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningLongMultiValuesSource;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
 public class CompensatedSumCollectorFactory
 		implements
@@ -19,20 +20,26 @@
 
 	private final JoiningLongMultiValuesSource source;
 	private final CollectorKey<DoubleAggregationFunctionCollector<CompensatedSum>, Double> key = CollectorKey.create();
-	private final Function<Long, Double> longToDouble;
+	private final LuceneNumericDomain<?> numericDomain;
 
-	public CompensatedSumCollectorFactory(JoiningLongMultiValuesSource source, Function<Long, Double> longToDouble) {
+	public CompensatedSumCollectorFactory(JoiningLongMultiValuesSource source, LuceneNumericDomain<?> numericDomain) {
 		this.source = source;
-		this.longToDouble = longToDouble;
+		this.numericDomain = numericDomain;
 	}
 
 	@Override
 	public DoubleAggregationFunctionCollectorManager<CompensatedSum> createCollectorManager(CollectorExecutionContext context) {
-		return new DoubleAggregationFunctionCollectorManager<>( source, CompensatedSum::new, longToDouble );
+		return new DoubleAggregationFunctionCollectorManager<>( source, CompensatedSum::new,
+				numericDomain::sortedDocValueToDouble );
 	}
 
 	@Override
 	public CollectorKey<DoubleAggregationFunctionCollector<CompensatedSum>, Double> getCollectorKey() {
 		return key;
 	}
+
+	@Override
+	public Object cacheDescriptorOrNull() {
+		return List.of( getClass(), source, numericDomain );
+	}
 }
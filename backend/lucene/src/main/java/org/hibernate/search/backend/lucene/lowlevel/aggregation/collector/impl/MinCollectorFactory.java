@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
 
+import java.util.List;
+
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
@@ -29,4 +31,9 @@ public AggregationFunctionCollectorManager<Min> createCollectorManager(Collector
 	public CollectorKey<AggregationFunctionCollector<Min>, Long> getCollectorKey() {
 		return key;
 	}
+
+	@Override
+	public Object cacheDescriptorOrNull() {
+		return List.of( getClass(), source );
+	}
 }
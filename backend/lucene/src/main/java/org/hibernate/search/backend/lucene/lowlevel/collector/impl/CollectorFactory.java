@@ -15,4 +15,15 @@
 
 	CollectorKey<C, T> getCollectorKey();
 
+	/**
+	 * @return An object describing the collectors created by this factory,
+	 * such that two factories with {@link Object#equals(Object) equal} descriptors
+	 * produce the same results when applied to the same search,
+	 * or {@code null} if results of this factory must not be shared between searches.
+	 * Used to cache search results.
+	 */
+	default Object cacheDescriptorOrNull() {
+		return null;
+	}
+
 }
@@ -22,4 +22,9 @@ public FacetsCollectorManager createCollectorManager(CollectorExecutionContext c
 	public CollectorKey<FacetsCollector, FacetsCollector> getCollectorKey() {
 		return KEY;
 	}
+
+	@Override
+	public Object cacheDescriptorOrNull() {
+		return KEY;
+	}
 }
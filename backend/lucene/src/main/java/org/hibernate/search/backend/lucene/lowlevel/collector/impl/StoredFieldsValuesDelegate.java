@@ -9,13 +9,13 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.ChildDocIds;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
-import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LoadedStoredFields;
+import org.hibernate.search.backend.lucene.search.extraction.impl.StoredFieldSlotsVisitor;
 import org.hibernate.search.util.common.AssertionFailure;
 
 import com.carrotsearch.hppc.IntObjectHashMap;
 import com.carrotsearch.hppc.IntObjectMap;
 
-import org.apache.lucene.document.Document;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.DocIdSetIterator;
@@ -31,10 +31,10 @@
  */
 public class StoredFieldsValuesDelegate {
 	public static class Factory {
-		private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+		private final StoredFieldSlotsVisitor storedFieldVisitor;
 		private final Set<String> requiredNestedDocumentPathsForStoredFields;
 
-		public Factory(ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+		public Factory(StoredFieldSlotsVisitor storedFieldVisitor,
 				Set<String> requiredNestedDocumentPathsForStoredFields) {
 
 			this.storedFieldVisitor = storedFieldVisitor;
@@ -56,17 +56,17 @@ public StoredFieldsValuesDelegate create(CollectorExecutionContext context) thro
 
 	private final NestedDocsProvider nestedDocsProvider;
 	private final Weight childrenWeight;
-	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+	private final StoredFieldSlotsVisitor storedFieldVisitor;
 
 	private ChildDocIds currentLeafChildDocs;
 	private LeafReader currentLeafReader;
 
 	private int currentRootDoc;
-	private Document currentRootDocValue;
-	private final IntObjectMap<Document> currentChildDocValues;
+	private LoadedStoredFields currentRootDocValue;
+	private final IntObjectMap<LoadedStoredFields> currentChildDocValues;
 
 	public StoredFieldsValuesDelegate(NestedDocsProvider nestedDocsProvider,
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+			StoredFieldSlotsVisitor storedFieldVisitor,
 			IndexSearcher indexSearcher)
 			throws IOException {
 		this.childrenWeight = nestedDocsProvider == null ? null : nestedDocsProvider.childDocsWeight( indexSearcher );
@@ -88,6 +88,8 @@ void context(LeafReaderContext context) throws IOException {
 				? null
 				: nestedDocsProvider.childDocs( childrenWeight, context, null );
 
+		this.storedFieldVisitor.resetForSegment();
+
 		this.currentRootDoc = -1;
 		this.currentRootDocValue = null;
 		if ( currentChildDocValues != null ) {
@@ -103,20 +105,33 @@ void collect(int parentDoc) throws IOException {
 			for ( int childDoc = currentLeafChildDocs.nextChild(); childDoc != DocIdSetIterator.NO_MORE_DOCS;
 					childDoc = currentLeafChildDocs.nextChild() ) {
 				currentLeafReader.storedFields().document( childDoc, storedFieldVisitor );
-				currentChildDocValues.put( childDoc, storedFieldVisitor.getDocumentAndReset() );
+				currentChildDocValues.put( childDoc, storedFieldVisitor.getStoredFieldsAndReset() );
 			}
 		}
 
 		// collect root document
 		currentLeafReader.storedFields().document( parentDoc, storedFieldVisitor );
-		this.currentRootDocValue = storedFieldVisitor.getDocumentAndReset();
+		this.currentRootDocValue = storedFieldVisitor.getStoredFieldsAndReset();
+	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of a stored field that was required.
+	 * @return The ordinal to pass to {@link LoadedStoredFields#valueCount(int)}
+	 * and {@link LoadedStoredFields#value(int, int)} to retrieve values of that field.
+	 */
+	public int storedFieldOrdinal(String absoluteFieldPath) {
+		int ordinal = storedFieldVisitor.ordinal( absoluteFieldPath );
+		if ( ordinal < 0 ) {
+			throw new AssertionFailure( "Stored field " + absoluteFieldPath + " was not required" );
+		}
+		return ordinal;
 	}
 
-	public Document get(int docId) {
+	public LoadedStoredFields get(int docId) {
 		if ( docId == currentRootDoc ) {
 			return currentRootDocValue;
 		}
-		Document doc = currentChildDocValues.get( docId );
+		LoadedStoredFields doc = currentChildDocValues.get( docId );
 		if ( doc == null ) {
 			throw new AssertionFailure( "Getting value for " + docId + ", which is neither root document "
 					+ currentRootDoc + " nor children " + currentChildDocValues.keys() );
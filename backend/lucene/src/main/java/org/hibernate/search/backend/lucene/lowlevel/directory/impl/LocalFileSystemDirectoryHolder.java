@@ -7,15 +7,21 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.misc.store.DirectIODirectory;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.MMapDirectory;
 
 final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 
@@ -24,15 +30,23 @@ final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 	private final Path directoryPath;
 	private final FileSystemAccessStrategy accessStrategy;
 	private final Supplier<LockFactory> lockFactorySupplier;
+	private final Set<String> preloadedExtensions;
+	private final boolean mergeDirectIO;
+	private final String mergeDirectIOPropertyKey;
 	private final EventContext eventContext;
 
 	private Directory directory;
 
 	LocalFileSystemDirectoryHolder(Path directoryPath, FileSystemAccessStrategy accessStrategy,
-			Supplier<LockFactory> lockFactorySupplier, EventContext eventContext) {
+			Supplier<LockFactory> lockFactorySupplier, Set<String> preloadedExtensions,
+			boolean mergeDirectIO, String mergeDirectIOPropertyKey,
+			EventContext eventContext) {
 		this.directoryPath = directoryPath;
 		this.accessStrategy = accessStrategy;
 		this.lockFactorySupplier = lockFactorySupplier;
+		this.preloadedExtensions = preloadedExtensions;
+		this.mergeDirectIO = mergeDirectIO;
+		this.mergeDirectIOPropertyKey = mergeDirectIOPropertyKey;
 		this.eventContext = eventContext;
 	}
 
@@ -45,7 +59,39 @@ public void start() throws IOException {
 			throw log.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
 		}
 
-		this.directory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		FSDirectory fsDirectory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		try {
+			configurePreload( fsDirectory );
+			// Direct I/O is only used for merges, and only for large enough segments:
+			// other writes and all reads still go through the page cache.
+			this.directory = mergeDirectIO ? createDirectIODirectory( fsDirectory ) : fsDirectory;
+		}
+		catch (IOException | RuntimeException e) {
+			new SuppressingCloser( e ).push( fsDirectory );
+			throw e;
+		}
+	}
+
+	private Directory createDirectIODirectory(FSDirectory fsDirectory) throws IOException {
+		try {
+			return new DirectIODirectory( fsDirectory );
+		}
+		catch (UnsupportedOperationException e) {
+			// Thrown when the JDK does not expose O_DIRECT (ExtendedOpenOption.DIRECT).
+			throw log.unableToUseDirectIOForMerges( e.getMessage(), mergeDirectIOPropertyKey, eventContext, e );
+		}
+	}
+
+	private void configurePreload(FSDirectory fsDirectory) {
+		if ( preloadedExtensions.isEmpty() ) {
+			return;
+		}
+		if ( !( fsDirectory instanceof MMapDirectory ) ) {
+			log.ignoringPreloadForNonMemoryMappedDirectory( fsDirectory.getClass().getName(), eventContext );
+			return;
+		}
+		( (MMapDirectory) fsDirectory ).setPreload(
+				(fileName, context) -> preloadedExtensions.contains( IndexFileNames.getExtension( fileName ) ) );
 	}
 
 	@Override
@@ -7,7 +7,11 @@
 import java.lang.invoke.MethodHandles;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
@@ -41,6 +45,18 @@ public class LocalFileSystemDirectoryProvider implements DirectoryProvider {
 					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<List<String>> FILESYSTEM_ACCESS_PRELOAD =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_PRELOAD )
+					.asString().multivalued()
+					.withDefault( Collections.emptyList() )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> FILESYSTEM_ACCESS_MERGE_DIRECT_IO =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_MERGE_DIRECT_IO )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_MERGE_DIRECT_IO )
+					.build();
+
 	@Override
 	@SuppressWarnings("deprecation")
 	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
@@ -48,6 +64,8 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 		Path directoryRoot = ROOT.get( propertySource ).toAbsolutePath();
 		FileSystemAccessStrategyName accessStrategyName = FILESYSTEM_ACCESS_STRATEGY.get( propertySource );
 		FileSystemAccessStrategy accessStrategy = FileSystemAccessStrategy.get( accessStrategyName );
+		Set<String> preloadedExtensions = new HashSet<>( FILESYSTEM_ACCESS_PRELOAD.get( propertySource ) );
+		boolean mergeDirectIO = FILESYSTEM_ACCESS_MERGE_DIRECT_IO.get( propertySource );
 		Supplier<LockFactory> lockFactorySupplier = context.createConfiguredLockFactorySupplier()
 				.orElseGet( () -> FSLockFactory::getDefault );
 
@@ -58,7 +76,9 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 		}
 
 		return new LocalFileSystemDirectoryHolder(
-				directoryPath, accessStrategy, lockFactorySupplier, context.eventContext()
+				directoryPath, accessStrategy, lockFactorySupplier, preloadedExtensions,
+				mergeDirectIO, FILESYSTEM_ACCESS_MERGE_DIRECT_IO.resolveOrRaw( propertySource ),
+				context.eventContext()
 		);
 	}
 
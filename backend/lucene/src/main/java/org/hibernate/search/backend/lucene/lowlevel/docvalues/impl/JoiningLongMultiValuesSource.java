@@ -66,7 +66,7 @@ public boolean equals(Object o) {
 
 	@Override
 	public int hashCode() {
-		return nestedDocsProvider.hashCode();
+		return Objects.hashCode( nestedDocsProvider );
 	}
 
 	@Override
@@ -36,7 +36,7 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider) {
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
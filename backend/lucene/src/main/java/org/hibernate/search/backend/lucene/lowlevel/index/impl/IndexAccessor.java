@@ -49,6 +49,12 @@ public interface IndexAccessor {
 	 */
 	void refresh();
 
+	/**
+	 * Refreshes the underlying index readers,
+	 * or schedule a refresh in the background if configuration requires it.
+	 */
+	void refreshOrDelay();
+
 	/**
 	 * Merge segments files.
 	 */
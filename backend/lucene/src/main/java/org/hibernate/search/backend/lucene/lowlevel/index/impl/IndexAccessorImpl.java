@@ -142,13 +142,18 @@ public void commitOrDelay() {
 	@Override
 	public void refresh() {
 		try {
-			indexReaderProvider.clear();
+			indexReaderProvider.refresh();
 		}
 		catch (IOException e) {
 			throw log.unableToRefresh( e.getMessage(), eventContext, e );
 		}
 	}
 
+	@Override
+	public void refreshOrDelay() {
+		indexReaderProvider.refreshOrDelay();
+	}
+
 	@Override
 	public void mergeSegments() {
 		try {
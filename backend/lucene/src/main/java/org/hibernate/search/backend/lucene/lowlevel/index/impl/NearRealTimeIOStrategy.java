@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -31,12 +32,19 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> BACKGROUND_REFRESH =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_BACKGROUND_REFRESH )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_BACKGROUND_REFRESH )
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
 			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		boolean backgroundRefresh = BACKGROUND_REFRESH.get( propertySource );
 		return new NearRealTimeIOStrategy(
-				timingSource, commitInterval, refreshInterval,
+				timingSource, commitInterval, refreshInterval, backgroundRefresh,
 				threads, failureHandler
 		);
 	}
@@ -44,14 +52,17 @@ public static NearRealTimeIOStrategy create(ConfigurationPropertySource property
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final boolean backgroundRefresh;
 
 	private NearRealTimeIOStrategy(TimingSource timingSource, int commitInterval, int refreshInterval,
+			boolean backgroundRefresh,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		super( threads, failureHandler );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.backgroundRefresh = backgroundRefresh;
 	}
 
 	@Override
@@ -69,12 +80,17 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider) {
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		// Background refresh is pointless without a refresh interval:
+		// readers would have to be refreshed after every single write anyway.
+		SimpleScheduledExecutor backgroundRefreshExecutorOrNull =
+				backgroundRefresh && refreshInterval != 0 ? threads.getWriteExecutor() : null;
+		return new NearRealTimeIndexReaderProvider( eventContext, indexWriterProvider, timingSource, refreshInterval,
+				backgroundRefreshExecutorOrNull, failureHandler );
 	}
 
 }
@@ -11,7 +11,8 @@
 public interface IndexReaderProvider {
 
 	/**
-	 * Closes and drops any cached resources (index readers in particular).
+	 * Closes and drops any cached resources (index readers in particular)
+	 * and cancels pending background refreshes.
 	 * <p>
 	 * Should be used when stopping the index, to clean up upon error,
 	 * or simply to force the creation of a new reader (refresh) on the next call to {@link #getOrCreate()}.
@@ -26,6 +27,22 @@ public interface IndexReaderProvider {
 	 */
 	DirectoryReader getOrCreate() throws IOException;
 
+	/**
+	 * Makes sure that writes applied so far will be visible to index readers
+	 * returned by subsequent calls to {@link #getOrCreate()}.
+	 */
+	default void refresh() throws IOException {
+		clear();
+	}
+
+	/**
+	 * Notifies this provider that writes were applied,
+	 * so that it can refresh index readers in the background if relevant.
+	 */
+	default void refreshOrDelay() {
+		// Nothing to do by default: readers are refreshed on demand.
+	}
+
 	default DirectoryReader getCurrentForTests() throws IOException {
 		return getOrCreate();
 	}
@@ -5,9 +5,20 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -20,34 +31,86 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * Optionally, index readers can be refreshed in the background instead,
+ * at most once per refresh interval and only after the index was written to,
+ * so that search queries never have to wait for a refresh.
+ * In that case, forced refreshes only wait until writes applied so far are visible,
+ * similarly to Lucene's {@code ControlledRealTimeReopenThread#waitForGeneration}.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final SimpleScheduledExecutor backgroundRefreshExecutorOrNull;
+	private final FailureHandler failureHandler;
+
+	/**
+	 * Background refresh task, or null when refreshing on demand.
+	 * Replaced every time the provider is cleared.
+	 */
+	private volatile SingletonTask backgroundRefreshTask;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
-	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+	public NearRealTimeIndexReaderProvider(EventContext eventContext, IndexWriterProvider indexWriterProvider,
+			TimingSource timingSource, int refreshInterval,
+			SimpleScheduledExecutor backgroundRefreshExecutorOrNull, FailureHandler failureHandler) {
+		this.eventContext = eventContext;
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.backgroundRefreshExecutorOrNull = backgroundRefreshExecutorOrNull;
+		this.failureHandler = failureHandler;
+		this.backgroundRefreshTask = createBackgroundRefreshTaskOrNull();
 	}
 
 	@Override
 	public void clear() throws IOException {
-		if ( currentReaderEntry == null ) {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			SingletonTask previousBackgroundRefreshTask = backgroundRefreshTask;
+			if ( previousBackgroundRefreshTask != null ) {
+				// The provider may still be used after being cleared (merge, index drop, failure recovery),
+				// so subsequent writes need a new task.
+				backgroundRefreshTask = createBackgroundRefreshTaskOrNull();
+				closer.push( SingletonTask::stop, previousBackgroundRefreshTask );
+			}
+			if ( currentReaderEntry != null ) {
+				closer.push( provider -> provider.setCurrentReaderEntry( null ), this );
+			}
+		}
+	}
+
+	@Override
+	public void refresh() throws IOException {
+		if ( backgroundRefreshTask == null ) {
+			// Just force the creation of a new reader on the next call to getOrCreate().
+			clear();
+			return;
+		}
+		IndexWriterDelegatorImpl writer = indexWriterProvider.getOrNull();
+		if ( writer == null ) {
+			clear();
 			return;
 		}
+		refreshIfOpen( writer.getMaxCompletedSequenceNumber() );
+	}
 
-		setCurrentReaderEntry( null );
+	@Override
+	public void refreshOrDelay() {
+		SingletonTask task = backgroundRefreshTask;
+		if ( task != null ) {
+			task.ensureScheduled();
+		}
 	}
 
 	@Override
@@ -58,7 +121,8 @@ public DirectoryReader getOrCreate() throws IOException {
 		if ( entry != null && entry.reader.tryIncRef() ) {
 			// Do this *after* tryIncRef,
 			// otherwise the reader could get closed between the call to isFresh and the return
-			if ( entry.isFresh() ) {
+			if ( backgroundRefreshTask != null || entry.isFresh() ) {
+				// When refreshing in the background, the current reader is always deemed fresh enough.
 				return entry.reader;
 			}
 			else {
@@ -74,21 +138,54 @@ public synchronized DirectoryReader getCurrentForTests() throws IOException {
 		return currentReaderEntry == null ? null : currentReaderEntry.reader;
 	}
 
+	private SingletonTask createBackgroundRefreshTaskOrNull() {
+		if ( backgroundRefreshExecutorOrNull == null ) {
+			return null;
+		}
+		return new SingletonTask(
+				"Background refresh for " + eventContext.render(),
+				new BackgroundRefreshWorker(),
+				runnable -> backgroundRefreshExecutorOrNull.schedule( runnable, refreshInterval, TimeUnit.MILLISECONDS ),
+				failureHandler
+		);
+	}
+
+	/**
+	 * Refreshes the current reader, unless it already reflects the given write generation.
+	 * <p>
+	 * Does nothing if there is no current reader: the next reader will be opened on demand, and will be fresh.
+	 *
+	 * @param generation A sequence number returned by the index writer.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	private synchronized void refreshIfOpen(long generation) throws IOException {
+		IndexReaderEntry entry = currentReaderEntry;
+		if ( entry == null || entry.generation >= generation ) {
+			return;
+		}
+		getFreshIndexReader().reader.decRef();
+	}
+
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		IndexReaderEntry freshEntry;
+		IndexWriterDelegatorImpl writer = indexWriterProvider.getOrCreate();
+		// Retrieve the generation *before* opening the reader:
+		// the reader will reflect at least all writes completed up to this generation.
+		long generation = writer.getMaxCompletedSequenceNumber();
 		if ( oldEntry == null ) {
-			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
-			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
+			DirectoryReader newReader = writer.openReader();
+			freshEntry = new IndexReaderEntry( newReader, generation, timingSource, refreshInterval );
 		}
 		else {
-			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
+			DirectoryReader newReaderOrNull = writer.openReaderIfChanged( oldEntry.reader );
 			if ( newReaderOrNull == null ) {
 				// No change, keep the old reader
+				oldEntry.generation = generation;
 				freshEntry = oldEntry;
 			}
 			else {
-				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
+				freshEntry = new IndexReaderEntry( newReaderOrNull, generation, timingSource, refreshInterval );
 			}
 		}
 
@@ -112,13 +209,42 @@ private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throw
 		}
 	}
 
+	private class BackgroundRefreshWorker implements SingletonTask.Worker {
+		@Override
+		public CompletableFuture<?> work() {
+			IndexWriterDelegatorImpl writer = indexWriterProvider.getOrNull();
+			if ( writer == null ) {
+				// The index is being closed, or was never written to.
+				return CompletableFuture.completedFuture( null );
+			}
+			try {
+				// Does nothing if no reader was opened yet,
+				// or if there were no writes since the last refresh.
+				refreshIfOpen( writer.getMaxCompletedSequenceNumber() );
+			}
+			catch (IOException e) {
+				throw log.unableToRefresh( e.getMessage(), eventContext, e );
+			}
+			return CompletableFuture.completedFuture( null );
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do: refreshes will be scheduled again on the next write.
+		}
+	}
+
 	private static class IndexReaderEntry {
 		private final DirectoryReader reader;
 		private final TimingSource timingSource;
 		private final long expiration;
+		// Only written to while holding the lock on the provider
+		private volatile long generation;
 
-		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, int refreshInterval) {
+		private IndexReaderEntry(DirectoryReader reader, long generation,
+				TimingSource timingSource, int refreshInterval) {
 			this.reader = reader;
+			this.generation = generation;
 			this.timingSource = timingSource;
 			this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
 		}
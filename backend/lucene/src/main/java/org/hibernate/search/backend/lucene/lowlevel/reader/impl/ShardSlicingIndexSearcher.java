@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * An {@link IndexSearcher} that never mixes segments of different shards in the same slice,
+ * so that all shards targeted by a query are searched concurrently.
+ * <p>
+ * Results of each slice are then merged by the collector managers,
+ * e.g. through {@link org.apache.lucene.search.TopDocs#merge(int, int, org.apache.lucene.search.TopDocs[])}
+ * for top docs.
+ */
+public final class ShardSlicingIndexSearcher extends IndexSearcher {
+
+	// Same as the defaults in IndexSearcher, applied to each shard separately.
+	private static final int MAX_DOCS_PER_SLICE = 250_000;
+	private static final int MAX_SEGMENTS_PER_SLICE = 5;
+
+	public ShardSlicingIndexSearcher(HibernateSearchMultiReader reader, Executor executor) {
+		super( reader, executor );
+	}
+
+	@Override
+	protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+		// Careful: this may be called from the superclass constructor,
+		// so we must not rely on any instance field here.
+		// Each shard is a DirectoryReader, whose context is the parent of the shard's segments.
+		Map<IndexReaderContext, List<LeafReaderContext>> leavesByShard = new LinkedHashMap<>();
+		for ( LeafReaderContext leaf : leaves ) {
+			leavesByShard.computeIfAbsent( leaf.parent, ignored -> new ArrayList<>() ).add( leaf );
+		}
+		List<LeafSlice> slices = new ArrayList<>();
+		for ( List<LeafReaderContext> shardLeaves : leavesByShard.values() ) {
+			Collections.addAll( slices, slices( shardLeaves, MAX_DOCS_PER_SLICE, MAX_SEGMENTS_PER_SLICE ) );
+		}
+		return slices.toArray( new LeafSlice[0] );
+	}
+}
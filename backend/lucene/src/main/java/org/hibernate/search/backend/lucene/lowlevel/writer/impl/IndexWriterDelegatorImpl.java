@@ -136,6 +136,14 @@ public DirectoryReader openReaderIfChanged(DirectoryReader oldReader) throws IOE
 		return DirectoryReader.openIfChanged( oldReader, delegate );
 	}
 
+	/**
+	 * @return The sequence number of the last write operation that completed:
+	 * all write operations with a lower or equal sequence number will be visible to readers opened after this call.
+	 */
+	public long getMaxCompletedSequenceNumber() {
+		return delegate.getMaxCompletedSequenceNumber();
+	}
+
 	public IndexWriter getDelegateForTests() {
 		return delegate;
 	}
@@ -41,6 +41,9 @@ public CompletableFuture<?> endBatch() {
 			indexAccessor.cleanUpAfterFailure( e, "Commit after a batch of index works" );
 			// The exception was reported to the failure handler, no need to propagate it.
 		}
+		// Index readers may be refreshed in the background to pick up the changes;
+		// a failure there is reported to the failure handler directly.
+		indexAccessor.refreshOrDelay();
 		// Everything was already executed, so just return a completed future.
 		return CompletableFuture.completedFuture( null );
 	}
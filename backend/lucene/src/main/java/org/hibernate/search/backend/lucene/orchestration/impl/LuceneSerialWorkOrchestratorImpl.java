@@ -35,6 +35,18 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> QUEUE_LOCK_FREE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_LOCK_FREE )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_LOCK_FREE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BATCH_TARGET_LATENCY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_BATCH_TARGET_LATENCY )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_BATCH_TARGET_LATENCY )
+					.build();
+
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
@@ -71,6 +83,8 @@ public void forceRefreshInCurrentThread() {
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		boolean queueLockFree = QUEUE_LOCK_FREE.get( propertySource );
+		int batchTargetLatency = BATCH_TARGET_LATENCY.get( propertySource );
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
@@ -79,6 +93,8 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 					processor,
 					queueSize,
 					true,
+					queueLockFree,
+					batchTargetLatency,
 					failureHandler,
 					blockingRetryProducer
 			) );
@@ -9,12 +9,15 @@
 import java.util.Collection;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ShardSlicingIndexSearcher;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
@@ -36,13 +39,17 @@
 
 	private final Similarity similarity;
 	private final LuceneQueryCachingContext cachingContext;
+	private final BackendThreads threads;
+	private final boolean slicePerShard;
 
 	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity,
-			LuceneQueryCachingContext cachingContext) {
+			LuceneQueryCachingContext cachingContext, BackendThreads threads, boolean slicePerShard) {
 		super( name );
 		this.similarity = similarity;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 		this.cachingContext = cachingContext;
+		this.threads = threads;
+		this.slicePerShard = slicePerShard;
 	}
 
 	@Override
@@ -50,7 +57,8 @@ public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManage
 			Set<String> routingKeys, ReadWork<T> work,
 			HibernateSearchMultiReader indexReader) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext
+				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext,
+				threads.getSearchExecutor(), slicePerShard
 		);
 		Throwable throwable = null;
 		try {
@@ -106,6 +114,8 @@ protected void doStop() {
 		private final ReadWork<T> work;
 		private final boolean closeIndexReader;
 		private final LuceneQueryCachingContext cachingContext;
+		private final Executor searchExecutor;
+		private final boolean slicePerShard;
 
 		private T result;
 
@@ -113,7 +123,8 @@ protected void doStop() {
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
 				Set<String> routingKeys, ReadWork<T> work,
 				HibernateSearchMultiReader indexReader,
-				LuceneQueryCachingContext cachingContext) {
+				LuceneQueryCachingContext cachingContext,
+				Executor searchExecutor, boolean slicePerShard) {
 			this.similarity = similarity;
 			this.indexNames = indexNames;
 			this.work = work;
@@ -127,11 +138,17 @@ protected void doStop() {
 				this.closeIndexReader = false;
 			}
 			this.cachingContext = cachingContext;
+			this.searchExecutor = searchExecutor;
+			this.slicePerShard = slicePerShard;
 		}
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
+			// When an executor is available, Lucene will split the segments into slices
+			// and search them concurrently, using our CollectorManagers to reduce the results.
+			IndexSearcher searcher = slicePerShard && searchExecutor != null
+					? new ShardSlicingIndexSearcher( indexReader, searchExecutor )
+					: new IndexSearcher( indexReader, searchExecutor );
 			searcher.setSimilarity( similarity );
 
 			cachingContext.queryCache().ifPresent( searcher::setQueryCache );
@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.ExecutorService;
+
 import org.hibernate.search.backend.lucene.cfg.spi.LuceneBackendSpiSettings;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
@@ -29,6 +31,7 @@ public class BackendThreads {
 
 	private ThreadPoolProvider threadPoolProvider;
 	private SimpleScheduledExecutor writeExecutor;
+	private ExecutorService searchExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -45,28 +48,17 @@ public void onStart(ConfigurationPropertySource propertySource, BeanResolver bea
 
 		try ( BeanHolder<? extends LuceneWorkExecutorProvider> provider = BACKEND_WORK_EXECUTOR_PROVIDER.getAndTransform(
 				propertySource, beanResolver::resolve ) ) {
-			this.writeExecutor = provider.get().writeExecutor( new LuceneWorkExecutorProvider.Context() {
-				@Override
-				public ThreadPoolProvider threadPoolProvider() {
-					return threadPoolProvider;
-				}
-
-				@Override
-				public ConfigurationPropertySource propertySource() {
-					return propertySource;
-				}
-
-				@Override
-				public String recommendedThreadNamePrefix() {
-					return prefix + " - Worker thread";
-				}
-			} );
+			this.writeExecutor = provider.get().writeExecutor(
+					executorContext( propertySource, threadPoolProvider, prefix + " - Worker thread" ) );
+			this.searchExecutor = provider.get().searchExecutor(
+					executorContext( propertySource, threadPoolProvider, prefix + " - Search thread" ) );
 		}
 	}
 
 	public void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( SimpleScheduledExecutor::shutdownNow, writeExecutor );
+			closer.push( ExecutorService::shutdownNow, searchExecutor );
 		}
 	}
 
@@ -80,6 +72,35 @@ public SimpleScheduledExecutor getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use for searching index segments in parallel within a single query,
+	 * or {@code null} if searches should be executed in the calling thread.
+	 */
+	public ExecutorService getSearchExecutor() {
+		checkStarted();
+		return searchExecutor;
+	}
+
+	private static LuceneWorkExecutorProvider.Context executorContext(ConfigurationPropertySource propertySource,
+			ThreadPoolProvider threadPoolProvider, String threadNamePrefix) {
+		return new LuceneWorkExecutorProvider.Context() {
+			@Override
+			public ThreadPoolProvider threadPoolProvider() {
+				return threadPoolProvider;
+			}
+
+			@Override
+			public ConfigurationPropertySource propertySource() {
+				return propertySource;
+			}
+
+			@Override
+			public String recommendedThreadNamePrefix() {
+				return threadNamePrefix;
+			}
+		};
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
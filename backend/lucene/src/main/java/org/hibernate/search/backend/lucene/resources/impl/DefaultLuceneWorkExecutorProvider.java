@@ -4,6 +4,9 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
@@ -20,6 +23,18 @@ public class DefaultLuceneWorkExecutorProvider implements LuceneWorkExecutorProv
 					.asIntegerStrictlyPositive()
 					.build();
 
+	private static final ConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_THREAD_POOL_QUEUE_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_QUEUE_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_THREAD_POOL_QUEUE_SIZE )
+					.build();
+
 	@Override
 	public SimpleScheduledExecutor writeExecutor(Context context) {
 		int threadPoolSize = THREAD_POOL_SIZE.get( context.propertySource() )
@@ -35,4 +50,24 @@ public SimpleScheduledExecutor writeExecutor(Context context) {
 				context.threadPoolProvider().isScheduledExecutorBlocking()
 		);
 	}
+
+	@Override
+	public ExecutorService searchExecutor(Context context) {
+		int threadPoolSize = SEARCH_THREAD_POOL_SIZE.get( context.propertySource() );
+		if ( threadPoolSize == 0 ) {
+			return null;
+		}
+		int queueSize = SEARCH_THREAD_POOL_QUEUE_SIZE.get( context.propertySource() );
+
+		ThreadPoolExecutor executor = context.threadPoolProvider().newFixedThreadPool(
+				threadPoolSize,
+				context.recommendedThreadNamePrefix(),
+				queueSize
+		);
+		// When the queue is full, run segment searches in the searching thread:
+		// a burst of heavy queries degrades to sequential search
+		// instead of blocking, and never takes over the write threads.
+		executor.setRejectedExecutionHandler( new ThreadPoolExecutor.CallerRunsPolicy() );
+		return executor;
+	}
 }
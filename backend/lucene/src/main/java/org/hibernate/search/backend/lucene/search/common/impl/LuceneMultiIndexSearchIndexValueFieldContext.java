@@ -62,6 +62,17 @@ public boolean hasTermVectorsConfigured() {
 				"hasTermVectorsConfigured" );
 	}
 
+	@Override
+	public boolean decodableFromDocValues() {
+		// Not a compatibility requirement: if doc values cannot be used in one index, we just won't use them.
+		for ( LuceneSearchIndexValueFieldContext<F> indexField : nodeForEachIndex ) {
+			if ( !indexField.type().decodableFromDocValues() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public LuceneFieldCodec<F, ?> codec() {
 		return fromTypeIfCompatible( LuceneSearchIndexValueFieldTypeContext::codec, LuceneFieldCodec::isCompatibleWith,
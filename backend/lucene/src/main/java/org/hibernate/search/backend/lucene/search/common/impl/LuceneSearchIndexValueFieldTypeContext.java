@@ -18,4 +18,11 @@
 
 	boolean hasTermVectorsConfigured();
 
+	/**
+	 * @return {@code true} if values of this field can be decoded from doc values without any loss of information,
+	 * in every targeted index.
+	 * @see LuceneFieldCodec#isDecodableFromDocValues()
+	 */
+	boolean decodableFromDocValues();
+
 }
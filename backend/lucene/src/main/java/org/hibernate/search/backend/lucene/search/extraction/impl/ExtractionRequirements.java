@@ -7,11 +7,15 @@
 import java.io.IOException;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
@@ -52,7 +56,8 @@ private ExtractionRequirements(Builder builder) {
 
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query originalLuceneQuery, Sort sort,
 			IndexReaderMetadataResolver metadataResolver, int maxDocs, int offset, TimeoutManager timeoutManager,
-			int requestedTotalHitCountThreshold)
+			boolean partialResultsAllowed, int requestedTotalHitCountThreshold,
+			LuceneSearchResultCache resultCacheOrNull)
 			throws IOException {
 		// Necessary to unwrap boolean queries with a single clause, in particular:
 		// we have optimizations in place when there is a single query and this query is a MatchAllDocsQuery.
@@ -110,6 +115,15 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
 		HibernateSearchMultiCollectorManager collectorManager = collectorsForAllMatchingDocsBuilder.build();
 
+		LuceneSearchResultCache.Key resultCacheKeyOrNull = null;
+		if ( resultCacheOrNull != null && collectorManager != null ) {
+			Map<CollectorKey<?, ?>, Object> collectorDescriptors = createCollectorCacheDescriptorsOrNull();
+			if ( collectorDescriptors != null ) {
+				resultCacheKeyOrNull = resultCacheOrNull.createKeyOrNull( indexSearcher.getIndexReader(),
+						rewrittenLuceneQuery, sort, offset, maxDocs, totalHitCountThreshold, collectorDescriptors );
+			}
+		}
+
 		return new LuceneCollectors(
 				metadataResolver,
 				indexSearcher,
@@ -118,10 +132,26 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
 				collectorManager,
 				storedFieldsSourceFactoryOrNull,
-				timeoutManager
+				timeoutManager, partialResultsAllowed,
+				resultCacheOrNull, resultCacheKeyOrNull
 		);
 	}
 
+	private Map<CollectorKey<?, ?>, Object> createCollectorCacheDescriptorsOrNull() {
+		Map<CollectorKey<?, ?>, Object> descriptors = new LinkedHashMap<>();
+		// Top docs and total hit count collectors only depend on the other components of the cache key.
+		descriptors.put( LuceneCollectors.TOP_DOCS_KEY, LuceneCollectors.TOP_DOCS_KEY );
+		descriptors.put( LuceneCollectors.TOTAL_HIT_COUNT_KEY, LuceneCollectors.TOTAL_HIT_COUNT_KEY );
+		for ( CollectorFactory<?, ?, ?> collectorFactory : requiredCollectorForAllMatchingDocsFactories ) {
+			Object descriptor = collectorFactory.cacheDescriptorOrNull();
+			if ( descriptor == null ) {
+				return null;
+			}
+			descriptors.put( collectorFactory.getCollectorKey(), descriptor );
+		}
+		return descriptors;
+	}
+
 	private boolean isDescendingScoreSort(Sort sort) {
 		SortField[] fields = sort.getSort();
 		return fields.length == 1 && isDescendingScoreSort( fields[0] );
@@ -162,7 +192,6 @@ public <C extends Collector, T, CM extends CollectorManager<C, T>> void requireC
 
 		public void requireAllStoredFields() {
 			requireAllStoredFields = true;
-			requiredStoredFields.clear();
 		}
 
 		public void requireNestedObjects(Collection<String> paths) {
@@ -170,9 +199,8 @@ public void requireNestedObjects(Collection<String> paths) {
 		}
 
 		public void requireStoredField(String absoluteFieldPath, String nestedDocumentPath) {
-			if ( !requireAllStoredFields ) {
-				requiredStoredFields.add( absoluteFieldPath );
-			}
+			// Even if all stored fields are required, we need this to assign a slot to the field.
+			requiredStoredFields.add( absoluteFieldPath );
 			if ( nestedDocumentPath != null ) {
 				requiredNestedDocumentPathsForStoredFields.add( nestedDocumentPath );
 			}
@@ -183,16 +211,11 @@ public ExtractionRequirements build() {
 		}
 
 		private StoredFieldsValuesDelegate.Factory createStoredFieldsSourceFactoryOrNull() {
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor;
-			if ( requireAllStoredFields ) {
-				storedFieldVisitor = new ReusableDocumentStoredFieldVisitor();
-			}
-			else if ( !requiredStoredFields.isEmpty() ) {
-				storedFieldVisitor = new ReusableDocumentStoredFieldVisitor( requiredStoredFields );
-			}
-			else {
+			if ( !requireAllStoredFields && requiredStoredFields.isEmpty() ) {
 				return null;
 			}
+			StoredFieldSlotsVisitor storedFieldVisitor =
+					new StoredFieldSlotsVisitor( requireAllStoredFields, requiredStoredFields );
 
 			return new StoredFieldsValuesDelegate.Factory( storedFieldVisitor, requiredNestedDocumentPathsForStoredFields );
 		}
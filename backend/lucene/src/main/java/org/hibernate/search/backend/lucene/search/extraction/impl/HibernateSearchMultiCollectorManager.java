@@ -182,7 +182,8 @@ public static final class HibernateSearchQueryTimeout implements QueryTimeout {
 		private final long baseline;
 		private final long timeout;
 
-		private boolean reached = false;
+		// Set from any of the threads searching index slices concurrently.
+		private volatile boolean reached = false;
 
 		public HibernateSearchQueryTimeout(TimeoutManager timeoutManager, Deadline deadline) {
 			this.deadline = deadline;
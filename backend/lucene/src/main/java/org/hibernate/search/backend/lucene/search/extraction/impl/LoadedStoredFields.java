@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexableField;
+
+/**
+ * The stored fields loaded for a single document by a {@link StoredFieldSlotsVisitor}.
+ * <p>
+ * Values of each required stored field are available through a "slot",
+ * identified by an ordinal assigned once per query (see {@link StoredFieldSlotsVisitor#ordinal(String)}),
+ * so that retrieving the values of one field doesn't involve going through the values of all other fields.
+ * <p>
+ * When all stored fields are required, a Lucene {@link Document} with all stored fields is available as well.
+ */
+public final class LoadedStoredFields {
+
+	/**
+	 * For each slot: {@code null} if there is no value,
+	 * an {@link IndexableField} if there is a single value (the most common case),
+	 * or a {@link List} of {@link IndexableField} if there are multiple values.
+	 */
+	private final Object[] slots;
+	private final Document documentOrNull;
+
+	LoadedStoredFields(int slotCount, boolean withDocument) {
+		this.slots = new Object[slotCount];
+		this.documentOrNull = withDocument ? new Document() : null;
+	}
+
+	/**
+	 * @param ordinal The ordinal of a required stored field.
+	 * @return The number of values of that field in this document.
+	 */
+	@SuppressWarnings("unchecked")
+	public int valueCount(int ordinal) {
+		Object slot = slots[ordinal];
+		if ( slot == null ) {
+			return 0;
+		}
+		else if ( slot instanceof IndexableField ) {
+			return 1;
+		}
+		else {
+			return ( (List<IndexableField>) slot ).size();
+		}
+	}
+
+	/**
+	 * @param ordinal The ordinal of a required stored field.
+	 * @param index The index of the value, between {@code 0} (inclusive) and {@link #valueCount(int)} (exclusive).
+	 * @return The value of that field at the given index.
+	 */
+	@SuppressWarnings("unchecked")
+	public IndexableField value(int ordinal, int index) {
+		Object slot = slots[ordinal];
+		if ( slot instanceof IndexableField ) {
+			return (IndexableField) slot;
+		}
+		else {
+			return ( (List<IndexableField>) slot ).get( index );
+		}
+	}
+
+	/**
+	 * @return A Lucene document with all stored fields.
+	 * @throws AssertionFailure If not all stored fields were required.
+	 */
+	public Document document() {
+		if ( documentOrNull == null ) {
+			throw new AssertionFailure( "Requested a full document, but not all stored fields were loaded" );
+		}
+		return documentOrNull;
+	}
+
+	@SuppressWarnings("unchecked")
+	void add(int ordinal, IndexableField field) {
+		if ( documentOrNull != null ) {
+			documentOrNull.add( field );
+		}
+		if ( ordinal < 0 ) {
+			return;
+		}
+		Object slot = slots[ordinal];
+		if ( slot == null ) {
+			slots[ordinal] = field;
+		}
+		else if ( slot instanceof IndexableField ) {
+			List<IndexableField> list = new ArrayList<>( 4 );
+			list.add( (IndexableField) slot );
+			list.add( field );
+			slots[ordinal] = list;
+		}
+		else {
+			( (List<IndexableField>) slot ).add( field );
+		}
+	}
+}
@@ -10,6 +10,7 @@
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollector;
@@ -51,6 +52,12 @@ public class LuceneCollectors {
 	private final StoredFieldsValuesDelegate.Factory storedFieldsValuesDelegateOrNull;
 
 	private final TimeoutManager timeoutManager;
+	private final boolean partialResultsAllowed;
+
+	private final LuceneSearchResultCache resultCacheOrNull;
+	private final LuceneSearchResultCache.Key resultCacheKeyOrNull;
+
+	private IndexSearcher topDocsDataSearcher;
 
 	private SearchResultTotal resultTotal;
 	private TopDocs topDocs = null;
@@ -61,7 +68,8 @@ public class LuceneCollectors {
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
 			HibernateSearchMultiCollectorManager collectorsForAllMatchingDocs,
 			StoredFieldsValuesDelegate.Factory storedFieldsValuesDelegateOrNull,
-			TimeoutManager timeoutManager) {
+			TimeoutManager timeoutManager, boolean partialResultsAllowed,
+			LuceneSearchResultCache resultCacheOrNull, LuceneSearchResultCache.Key resultCacheKeyOrNull) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
 		this.rewrittenLuceneQuery = rewrittenLuceneQuery;
@@ -71,6 +79,9 @@ public class LuceneCollectors {
 		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
 		this.storedFieldsValuesDelegateOrNull = storedFieldsValuesDelegateOrNull;
 		this.timeoutManager = timeoutManager;
+		this.partialResultsAllowed = partialResultsAllowed;
+		this.resultCacheOrNull = resultCacheOrNull;
+		this.resultCacheKeyOrNull = resultCacheKeyOrNull;
 	}
 
 	/**
@@ -85,13 +96,26 @@ public void collectMatchingDocs() throws IOException {
 			// in case of timeout before the query execution, skip the query
 			return;
 		}
-		if ( collectorsForAllMatchingDocs != null ) {
+		MultiCollectedResults cachedResults = resultCacheKeyOrNull == null
+				? null
+				: resultCacheOrNull.get( resultCacheKeyOrNull );
+		if ( cachedResults != null ) {
+			results = cachedResults;
+		}
+		else if ( collectorsForAllMatchingDocs != null ) {
 			var timeout = collectorsForAllMatchingDocs.queryTimeout();
 			indexSearcher.setTimeout( timeout );
 			MultiCollectedResults collectedResults = indexSearcher.search( rewrittenLuceneQuery, collectorsForAllMatchingDocs );
-			if ( canSafelyCollectResults( timeout ) ) {
+			// When the request allows it (soft timeout, each shard searched separately),
+			// a timeout merely stops collection in each shard,
+			// and what was collected before the timeout can safely be merged into partial results.
+			if ( canSafelyCollectResults( timeout ) || partialResultsAllowed ) {
 				results = collectedResults;
 			}
+			if ( resultCacheKeyOrNull != null && !timeoutManager.isTimedOut() ) {
+				// Only cache complete results.
+				resultCacheOrNull.put( resultCacheKeyOrNull, collectedResults );
+			}
 		}
 
 		processCollectedMatchingDocs();
@@ -155,10 +179,11 @@ public <T> List<T> collectTopDocsData(TopDocsDataCollector.Factory<T> collectorF
 		List<T> extractedData = new ArrayList<>( endExclusive - startInclusive );
 		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
 		ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( scoreDocs, startInclusive, endExclusive );
-		HibernateSearchMultiCollectorManager collectorManager = buildTopDocsDataCollectors( collectorFactory );
+		IndexSearcher searcher = topDocsDataSearcher();
+		HibernateSearchMultiCollectorManager collectorManager = buildTopDocsDataCollectors( searcher, collectorFactory );
 		var timeout = collectorManager.queryTimeout();
-		indexSearcher.setTimeout( timeout );
-		MultiCollectedResults collectedResults = indexSearcher.search( topDocsQuery, collectorManager );
+		searcher.setTimeout( timeout );
+		MultiCollectedResults collectedResults = searcher.search( topDocsQuery, collectorManager );
 
 		// If we had a timeout set, and we've reached it while collecting the data
 		//   then the collector state will be unpredictable
@@ -195,11 +220,32 @@ private void handleRescoring() throws IOException {
 		}
 	}
 
-	private <T> HibernateSearchMultiCollectorManager buildTopDocsDataCollectors(
+	/**
+	 * @return A searcher that executes in the calling thread:
+	 * top docs data collectors share per-query state (stored field visitors, nested docs, ...)
+	 * and thus cannot be used concurrently, even if matching docs were collected concurrently.
+	 * Collecting data for top docs only touches a handful of documents anyway.
+	 */
+	private IndexSearcher topDocsDataSearcher() {
+		if ( topDocsDataSearcher == null ) {
+			if ( indexSearcher.getSlices().length <= 1 ) {
+				topDocsDataSearcher = indexSearcher;
+			}
+			else {
+				topDocsDataSearcher = new IndexSearcher( indexSearcher.getIndexReader() );
+				topDocsDataSearcher.setSimilarity( indexSearcher.getSimilarity() );
+				topDocsDataSearcher.setQueryCache( indexSearcher.getQueryCache() );
+				topDocsDataSearcher.setQueryCachingPolicy( indexSearcher.getQueryCachingPolicy() );
+			}
+		}
+		return topDocsDataSearcher;
+	}
+
+	private <T> HibernateSearchMultiCollectorManager buildTopDocsDataCollectors(IndexSearcher searcher,
 			TopDocsDataCollector.Factory<T> collectorManagerFactory)
 			throws IOException {
 		TopDocsDataCollectorExecutionContext executionContext = new TopDocsDataCollectorExecutionContext(
-				metadataResolver, indexSearcher,
+				metadataResolver, searcher,
 				rewrittenLuceneQuery,
 				originalLuceneQuery,
 				topDocs,
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.StoredFieldVisitor;
+
+/**
+ * Inspired by Lucene's DocumentStoredFieldVisitor, with the difference that we want
+ * to reuse the same FieldVisitor to load multiple documents,
+ * and that values of required fields are stored directly into "slots" of a {@link LoadedStoredFields},
+ * so that projections can retrieve them without going through all the stored fields of the document.
+ * <p>
+ * Each required field is assigned an ordinal upfront.
+ * The ordinal matching a given field is resolved with a hash lookup
+ * the first time the field is encountered in a segment,
+ * then cached by field number for the rest of the segment.
+ * <p>
+ * A Lucene {@link org.apache.lucene.document.Document} is only built when all stored fields are required,
+ * e.g. for document projections.
+ * <p>
+ * A StoredFieldSlotsVisitor is NOT threadsafe: in case you need one
+ * for multiple threads make a clone for each thread.
+ *
+ * @see org.apache.lucene.document.DocumentStoredFieldVisitor
+ */
+public final class StoredFieldSlotsVisitor extends StoredFieldVisitor {
+
+	private static final int UNKNOWN_ORDINAL = -2;
+	private static final int NO_ORDINAL = -1;
+
+	private final boolean loadAllFields;
+	private final Map<String, Integer> ordinalsByFieldName;
+
+	/*
+	 * Caches indexed by field number.
+	 * Field numbers are only meaningful within a given segment,
+	 * so these must be reset when moving to another segment.
+	 */
+	private int[] ordinalsByFieldNumber = new int[0];
+	private FieldType[] stringFieldTypesByFieldNumber = new FieldType[0];
+
+	//The stored fields which will be returned. Lazily initialized.
+	private LoadedStoredFields storedFields = null;
+
+	/**
+	 * @param loadAllFields Whether all stored fields should be loaded into a Lucene document,
+	 * in addition to the required ones being loaded into slots.
+	 * @param requiredFieldNames The names of fields whose values should be loaded into slots.
+	 */
+	public StoredFieldSlotsVisitor(boolean loadAllFields, Collection<String> requiredFieldNames) {
+		this.loadAllFields = loadAllFields;
+		this.ordinalsByFieldName = new HashMap<>();
+		for ( String fieldName : requiredFieldNames ) {
+			ordinalsByFieldName.putIfAbsent( fieldName, ordinalsByFieldName.size() );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "loadAllFields=" + loadAllFields
+				+ ", requiredFields=" + ordinalsByFieldName.keySet()
+				+ "]";
+	}
+
+	/**
+	 * @param fieldName The name of a field.
+	 * @return The ordinal of the slot holding values of that field in {@link LoadedStoredFields},
+	 * or {@code -1} if that field wasn't required.
+	 */
+	public int ordinal(String fieldName) {
+		Integer ordinal = ordinalsByFieldName.get( fieldName );
+		return ordinal == null ? NO_ORDINAL : ordinal;
+	}
+
+	/**
+	 * Resets caches that are specific to a segment.
+	 * <p>
+	 * Must be called before visiting documents of a new segment.
+	 */
+	public void resetForSegment() {
+		Arrays.fill( ordinalsByFieldNumber, UNKNOWN_ORDINAL );
+		Arrays.fill( stringFieldTypesByFieldNumber, null );
+	}
+
+	@Override
+	public void binaryField(FieldInfo fieldInfo, byte[] value) {
+		add( fieldInfo, new StoredField( fieldInfo.name, value ) );
+	}
+
+	@Override
+	public void stringField(FieldInfo fieldInfo, String value) {
+		if ( loadAllFields ) {
+			// Preserve the field's characteristics in the document exposed to users.
+			add( fieldInfo, new Field( fieldInfo.name, value, stringFieldType( fieldInfo ) ) );
+		}
+		else {
+			add( fieldInfo, new StoredField( fieldInfo.name, value ) );
+		}
+	}
+
+	@Override
+	public void intField(FieldInfo fieldInfo, int value) {
+		add( fieldInfo, new StoredField( fieldInfo.name, value ) );
+	}
+
+	@Override
+	public void longField(FieldInfo fieldInfo, long value) {
+		add( fieldInfo, new StoredField( fieldInfo.name, value ) );
+	}
+
+	@Override
+	public void floatField(FieldInfo fieldInfo, float value) {
+		add( fieldInfo, new StoredField( fieldInfo.name, value ) );
+	}
+
+	@Override
+	public void doubleField(FieldInfo fieldInfo, double value) {
+		add( fieldInfo, new StoredField( fieldInfo.name, value ) );
+	}
+
+	@Override
+	public Status needsField(FieldInfo fieldInfo) {
+		if ( loadAllFields || ordinal( fieldInfo ) >= 0 ) {
+			return Status.YES;
+		}
+		return Status.NO;
+	}
+
+	/**
+	 * Retrieve the visited stored fields, and resets the instance to be reused.
+	 *
+	 * @return The stored fields of the visited document.
+	 */
+	public LoadedStoredFields getStoredFieldsAndReset() {
+		final LoadedStoredFields localStoredFields = this.storedFields;
+		if ( localStoredFields == null ) {
+			return createStoredFields();
+		}
+		else {
+			this.storedFields = null;
+			return localStoredFields;
+		}
+	}
+
+	private void add(FieldInfo fieldInfo, IndexableField field) {
+		LoadedStoredFields localStoredFields = this.storedFields;
+		if ( localStoredFields == null ) {
+			localStoredFields = createStoredFields();
+			this.storedFields = localStoredFields;
+		}
+		localStoredFields.add( ordinal( fieldInfo ), field );
+	}
+
+	private LoadedStoredFields createStoredFields() {
+		return new LoadedStoredFields( ordinalsByFieldName.size(), loadAllFields );
+	}
+
+	private int ordinal(FieldInfo fieldInfo) {
+		int fieldNumber = fieldInfo.number;
+		if ( fieldNumber >= ordinalsByFieldNumber.length ) {
+			int oldLength = ordinalsByFieldNumber.length;
+			ordinalsByFieldNumber = Arrays.copyOf( ordinalsByFieldNumber, Math.max( fieldNumber + 1, oldLength * 2 ) );
+			Arrays.fill( ordinalsByFieldNumber, oldLength, ordinalsByFieldNumber.length, UNKNOWN_ORDINAL );
+		}
+		int ordinal = ordinalsByFieldNumber[fieldNumber];
+		if ( ordinal == UNKNOWN_ORDINAL ) {
+			ordinal = ordinal( fieldInfo.name );
+			ordinalsByFieldNumber[fieldNumber] = ordinal;
+		}
+		return ordinal;
+	}
+
+	private FieldType stringFieldType(FieldInfo fieldInfo) {
+		int fieldNumber = fieldInfo.number;
+		if ( fieldNumber >= stringFieldTypesByFieldNumber.length ) {
+			stringFieldTypesByFieldNumber = Arrays.copyOf( stringFieldTypesByFieldNumber,
+					Math.max( fieldNumber + 1, stringFieldTypesByFieldNumber.length * 2 ) );
+		}
+		FieldType fieldType = stringFieldTypesByFieldNumber[fieldNumber];
+		if ( fieldType == null ) {
+			fieldType = new FieldType( TextField.TYPE_STORED );
+			fieldType.setStoreTermVectors( fieldInfo.hasVectors() );
+			fieldType.setOmitNorms( fieldInfo.omitsNorms() );
+			fieldType.setIndexOptions( fieldInfo.getIndexOptions() );
+			// Shared by all values of this field in this segment.
+			fieldType.freeze();
+			stringFieldTypesByFieldNumber[fieldNumber] = fieldType;
+		}
+		return fieldType;
+	}
+
+}
@@ -16,6 +16,7 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.Values;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LoadedStoredFields;
 import org.hibernate.search.backend.lucene.search.projection.impl.ProjectionExtractContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.ProjectionRequestContext;
 import org.hibernate.search.engine.search.highlighter.dsl.HighlighterFragmenter;
@@ -24,7 +25,6 @@
 import org.hibernate.search.engine.search.projection.spi.ProjectionAccumulator;
 
 import org.apache.lucene.analysis.Analyzer;
-import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.highlight.Encoder;
 import org.apache.lucene.search.highlight.Fragmenter;
 import org.apache.lucene.search.highlight.Highlighter;
@@ -104,6 +104,7 @@ public void request(ProjectionRequestContext context, String absoluteFieldPath)
 
 	private final class PlainHighlighterValues<A, T> extends HighlighterValues<A, T> {
 		private final StoredFieldsValuesDelegate storedFieldsValuesDelegate;
+		private final int storedFieldOrdinal;
 		private final Highlighter highlighter;
 		private final Analyzer analyzer;
 		private final String field;
@@ -112,6 +113,7 @@ public void request(ProjectionRequestContext context, String absoluteFieldPath)
 				ProjectionExtractContext context, ProjectionAccumulator<String, ?, A, T> accumulator) {
 			super( parentDocumentPath, nestedDocumentPath, context.collectorExecutionContext(), accumulator );
 			this.storedFieldsValuesDelegate = context.collectorExecutionContext().storedFieldsValuesDelegate();
+			this.storedFieldOrdinal = storedFieldsValuesDelegate.storedFieldOrdinal( field );
 			this.field = field;
 			this.analyzer = analyzer;
 
@@ -147,11 +149,10 @@ public List<String> highlight(int doc) throws IOException {
 			try {
 				// we build a single result based on all field entries:
 				List<TextFragment> result = new ArrayList<>();
-				for ( IndexableField indexableField : storedFieldsValuesDelegate.get( doc ).getFields() ) {
-					if ( !indexableField.name().equals( field ) ) {
-						continue;
-					}
-					String text = indexableField.stringValue();
+				LoadedStoredFields storedFields = storedFieldsValuesDelegate.get( doc );
+				int valueCount = storedFields.valueCount( storedFieldOrdinal );
+				for ( int valueIndex = 0; valueIndex < valueCount; valueIndex++ ) {
+					String text = storedFields.value( storedFieldOrdinal, valueIndex ).stringValue();
 					// we cannot use other highlight methods as we need to not merge the fragments and that's
 					// the only method that would allow us to do so:
 					TextFragment[] bestFragments = highlighter.getBestTextFragments(
@@ -177,11 +178,8 @@ public List<String> highlight(int doc) throws IOException {
 					return converted;
 				}
 				else if ( LucenePlainSearchHighlighter.this.noMatchSize > 0 ) {
-					for ( IndexableField indexableField : storedFieldsValuesDelegate.get( doc ).getFields() ) {
-						if ( !indexableField.name().equals( field ) ) {
-							continue;
-						}
-						String text = indexableField.stringValue();
+					for ( int valueIndex = 0; valueIndex < valueCount; valueIndex++ ) {
+						String text = storedFields.value( storedFieldOrdinal, valueIndex ).stringValue();
 						if ( !text.isEmpty() ) {
 							return Collections.singletonList( text.substring(
 									0,
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.function.Function;
 
@@ -14,6 +15,8 @@
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LoadedStoredFields;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneDocValuesReader;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
@@ -24,8 +27,8 @@
 import org.hibernate.search.engine.search.projection.spi.ProjectionAccumulator;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
-import org.apache.lucene.document.Document;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.DocIdSetIterator;
 
@@ -43,11 +46,13 @@
 	private final String requiredContextAbsoluteFieldPath;
 
 	private final Function<IndexableField, T> decodeFunction;
+	private final DocValuesReaderFactory<T> docValuesReaderFactoryOrNull;
 	private final ProjectionConverter<T, ? extends V> converter;
 	private final ProjectionAccumulator.Provider<V, P> accumulatorProvider;
 
 	private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
-		this( builder.scope, builder.field, builder.decodeFunction, builder.converter, accumulatorProvider );
+		this( builder.scope, builder.field, builder.decodeFunction, builder.docValuesReaderFactoryOrNull,
+				builder.converter, accumulatorProvider );
 	}
 
 	LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
@@ -55,6 +60,15 @@ private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionAccumulator.Pr
 			Function<IndexableField, T> decodeFunction,
 			ProjectionConverter<T, ? extends V> converter,
 			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
+		this( scope, field, decodeFunction, null, converter, accumulatorProvider );
+	}
+
+	private LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
+			LuceneSearchIndexValueFieldContext<?> field,
+			Function<IndexableField, T> decodeFunction,
+			DocValuesReaderFactory<T> docValuesReaderFactoryOrNull,
+			ProjectionConverter<T, ? extends V> converter,
+			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
 		super( scope );
 		this.absoluteFieldPath = field.absolutePath();
 		this.nestedDocumentPath = field.nestedDocumentPath();
@@ -62,6 +76,7 @@ private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionAccumulator.Pr
 				? field.closestMultiValuedParentAbsolutePath()
 				: null;
 		this.decodeFunction = decodeFunction;
+		this.docValuesReaderFactoryOrNull = docValuesReaderFactoryOrNull;
 		this.converter = converter;
 		this.accumulatorProvider = accumulatorProvider;
 	}
@@ -70,6 +85,7 @@ private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionAccumulator.Pr
 	public String toString() {
 		return getClass().getSimpleName() + "["
 				+ "absoluteFieldPath=" + absoluteFieldPath
+				+ ", fromDocValues=" + ( docValuesReaderFactoryOrNull != null )
 				+ ", accumulatorProvider=" + accumulatorProvider
 				+ "]";
 	}
@@ -82,7 +98,10 @@ public ValueFieldExtractor<?> request(ProjectionRequestContext context) {
 			throw log.invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(
 					absoluteFieldPath, requiredContextAbsoluteFieldPath );
 		}
-		context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		if ( docValuesReaderFactoryOrNull == null ) {
+			context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		}
+		// Otherwise values are read from doc values: no need to load stored fields.
 		return new ValueFieldExtractor<>( context.absoluteCurrentNestedFieldPath(), accumulatorProvider.get() );
 	}
 
@@ -109,16 +128,46 @@ public String toString() {
 
 		@Override
 		public Values<A> values(ProjectionExtractContext context) {
+			if ( docValuesReaderFactoryOrNull != null ) {
+				return new DocValuesBasedValues( accumulator, context.collectorExecutionContext() );
+			}
 			return new StoredFieldValues( accumulator, context.collectorExecutionContext() );
 		}
 
+		private class DocValuesBasedValues extends AbstractNestingAwareAccumulatingValues<T, A> {
+			private LuceneDocValuesReader<T> currentLeafValues;
+
+			public DocValuesBasedValues(ProjectionAccumulator<T, V, A, P> accumulator,
+					TopDocsDataCollectorExecutionContext context) {
+				super( contextAbsoluteFieldPath, nestedDocumentPath, accumulator, context );
+			}
+
+			@Override
+			protected DocIdSetIterator doContext(LeafReaderContext context) throws IOException {
+				currentLeafValues = docValuesReaderFactoryOrNull.create( context.reader(), absoluteFieldPath );
+				return currentLeafValues.iterator();
+			}
+
+			@Override
+			protected A accumulate(A accumulated, int docId) throws IOException {
+				// Documents are collected in docId order within each leaf,
+				// so doc values are consumed sequentially.
+				if ( currentLeafValues.advanceExact( docId ) ) {
+					accumulated = accumulator.accumulate( accumulated, currentLeafValues.value() );
+				}
+				return accumulated;
+			}
+		}
+
 		private class StoredFieldValues extends AbstractNestingAwareAccumulatingValues<T, A> {
 			private final StoredFieldsValuesDelegate delegate;
+			private final int storedFieldOrdinal;
 
 			public StoredFieldValues(ProjectionAccumulator<T, V, A, P> accumulator,
 					TopDocsDataCollectorExecutionContext context) {
 				super( contextAbsoluteFieldPath, nestedDocumentPath, accumulator, context );
 				this.delegate = context.storedFieldsValuesDelegate();
+				this.storedFieldOrdinal = delegate.storedFieldOrdinal( absoluteFieldPath );
 			}
 
 			@Override
@@ -129,12 +178,11 @@ protected DocIdSetIterator doContext(LeafReaderContext context) {
 
 			@Override
 			protected A accumulate(A accumulated, int docId) {
-				Document document = delegate.get( docId );
-				for ( IndexableField field : document.getFields() ) {
-					if ( field.name().equals( absoluteFieldPath ) ) {
-						T decoded = decodeFunction.apply( field );
-						accumulated = accumulator.accumulate( accumulated, decoded );
-					}
+				LoadedStoredFields storedFields = delegate.get( docId );
+				int valueCount = storedFields.valueCount( storedFieldOrdinal );
+				for ( int i = 0; i < valueCount; i++ ) {
+					T decoded = decodeFunction.apply( storedFields.value( storedFieldOrdinal, i ) );
+					accumulated = accumulator.accumulate( accumulated, decoded );
 				}
 				return accumulated;
 			}
@@ -148,6 +196,11 @@ public P transform(LoadingResult<?> loadingResult, A extractedData, ProjectionTr
 		}
 	}
 
+	@FunctionalInterface
+	private interface DocValuesReaderFactory<T> {
+		LuceneDocValuesReader<T> create(LeafReader reader, String absoluteFieldPath) throws IOException;
+	}
+
 	public static class Factory<F, E>
 			extends
 			AbstractLuceneCodecAwareSearchQueryElementFactory<FieldProjectionBuilder.TypeSelector, F, LuceneFieldCodec<F, E>> {
@@ -178,9 +231,13 @@ private TypeSelector(LuceneFieldCodec<F, E> codec,
 		@SuppressWarnings("unchecked")
 		@Override
 		public <V> Builder<F, V, ?> type(Class<V> expectedType, ValueModel valueModel) {
+			boolean fromDocValues = canUseDocValues();
 			if ( ValueModel.RAW.equals( valueModel ) ) {
 				return new Builder<>( scope, field,
 						codec::raw,
+						fromDocValues
+								? (reader, path) -> codec.docValuesReader( reader, path, Function.identity() )
+								: null,
 						// unchecked cast to make eclipse-compiler happy
 						// we know that Lucene projection converters work with the encoded type
 						( (ProjectionConverter<E, ?>) field.type().rawProjectionConverter() )
@@ -190,10 +247,26 @@ private TypeSelector(LuceneFieldCodec<F, E> codec,
 			else {
 				return new Builder<>( scope, field,
 						codec::decode,
+						fromDocValues
+								? (reader, path) -> codec.docValuesReader( reader, path, codec::decode )
+								: null,
 						field.type().projectionConverter( valueModel ).withConvertedType( expectedType, field )
 				);
 			}
 		}
+
+		private boolean canUseDocValues() {
+			if ( !field.type().decodableFromDocValues() ) {
+				return false;
+			}
+			// Doc values are sorted and deduplicated,
+			// so we can only use them if there is at most one value per Lucene document:
+			// the field must be single-valued, and so must be its parents up to the closest nested document.
+			String closestMultiValuedParentAbsolutePath = field.closestMultiValuedParentAbsolutePath();
+			return !field.multiValued()
+					&& ( closestMultiValuedParentAbsolutePath == null
+							|| closestMultiValuedParentAbsolutePath.equals( field.nestedDocumentPath() ) );
+		}
 	}
 
 	private static class Builder<F, V, T> extends AbstractLuceneProjection.AbstractBuilder<V>
@@ -203,14 +276,18 @@ private TypeSelector(LuceneFieldCodec<F, E> codec,
 
 		private final Function<IndexableField, T> decodeFunction;
 
+		private final DocValuesReaderFactory<T> docValuesReaderFactoryOrNull;
+
 		private final LuceneSearchIndexValueFieldContext<F> field;
 
 		private final ProjectionConverter<T, ? extends V> converter;
 
 		private Builder(LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<F> field,
-				Function<IndexableField, T> decodeFunction, ProjectionConverter<T, ? extends V> converter) {
+				Function<IndexableField, T> decodeFunction, DocValuesReaderFactory<T> docValuesReaderFactoryOrNull,
+				ProjectionConverter<T, ? extends V> converter) {
 			super( scope );
 			this.decodeFunction = decodeFunction;
+			this.docValuesReaderFactoryOrNull = docValuesReaderFactoryOrNull;
 			this.field = field;
 			this.converter = converter;
 		}
@@ -64,6 +64,8 @@
 
 	private final SearchLoadingContextBuilder<?, ?> loadingContextBuilder;
 	private final LuceneSearchProjection<H> rootProjection;
+	private final boolean partialResultsOnSoftTimeout;
+	private final LuceneSearchResultCache resultCacheOrNull;
 
 	private LuceneSearchPredicate lucenePredicate;
 	private List<SortField> sortFields;
@@ -83,7 +85,9 @@ public LuceneSearchQueryBuilder(
 			LuceneSearchQueryIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?> loadingContextBuilder,
-			LuceneSearchProjection<H> rootProjection) {
+			LuceneSearchProjection<H> rootProjection,
+			boolean partialResultsOnSoftTimeout,
+			LuceneSearchResultCache resultCacheOrNull) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 
@@ -93,6 +97,8 @@ public LuceneSearchQueryBuilder(
 
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
+		this.partialResultsOnSoftTimeout = partialResultsOnSoftTimeout;
+		this.resultCacheOrNull = resultCacheOrNull;
 	}
 
 	@Override
@@ -288,7 +294,9 @@ public LuceneSearchQuery<H> build() {
 				rootExtractor,
 				aggregationExtractors,
 				extractionRequirements,
-				timeoutManager
+				timeoutManager,
+				partialResultsOnSoftTimeout,
+				resultCacheOrNull
 		);
 
 		return new LuceneSearchQueryImpl<>(
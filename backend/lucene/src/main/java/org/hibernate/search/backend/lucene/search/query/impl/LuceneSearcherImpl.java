@@ -8,6 +8,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TimeoutCountCollectorManager;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
@@ -40,6 +41,8 @@
 	private final LuceneSearchProjection.Extractor<?, H> rootExtractor;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation.Extractor<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
+	private final boolean partialResultsOnSoftTimeout;
+	private final LuceneSearchResultCache resultCacheOrNull;
 
 	private TimeoutManager timeoutManager;
 
@@ -47,12 +50,16 @@
 			LuceneSearchProjection.Extractor<?, H> rootExtractor,
 			Map<AggregationKey<?>, LuceneSearchAggregation.Extractor<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
-			TimeoutManager timeoutManager) {
+			TimeoutManager timeoutManager,
+			boolean partialResultsOnSoftTimeout,
+			LuceneSearchResultCache resultCacheOrNull) {
 		this.requestContext = requestContext;
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
 		this.timeoutManager = timeoutManager;
+		this.partialResultsOnSoftTimeout = partialResultsOnSoftTimeout;
+		this.resultCacheOrNull = resultCacheOrNull;
 	}
 
 	@Override
@@ -170,9 +177,12 @@ private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSear
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
 			int maxDocs, int offset, int totalHitCountThreshold)
 			throws IOException {
+		// A hard timeout must fail the query, so partial results are never relevant in that case.
+		boolean partialResultsAllowed = partialResultsOnSoftTimeout && !timeoutManager.hasHardTimeout();
 		return extractionRequirements.createCollectors(
 				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, offset, timeoutManager, totalHitCountThreshold
+				metadataResolver, maxDocs, offset, timeoutManager, partialResultsAllowed, totalHitCountThreshold,
+				resultCacheOrNull
 		);
 	}
 
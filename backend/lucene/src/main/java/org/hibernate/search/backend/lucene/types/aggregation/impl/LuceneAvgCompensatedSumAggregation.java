@@ -31,8 +31,7 @@ public static <F> Factory<F> factory(AbstractLuceneNumericFieldCodec<F, ?> codec
 	@Override
 	void fillCollectors(JoiningLongMultiValuesSource source, AggregationRequestContext context,
 			LuceneNumericDomain<E> numericDomain) {
-		CompensatedSumCollectorFactory sumCollectorFactory = new CompensatedSumCollectorFactory( source,
-				numericDomain::sortedDocValueToDouble );
+		CompensatedSumCollectorFactory sumCollectorFactory = new CompensatedSumCollectorFactory( source, numericDomain );
 		compensatedSumCollectorKey = sumCollectorFactory.getCollectorKey();
 		context.requireCollector( sumCollectorFactory );
 
@@ -30,8 +30,7 @@ public static <F> Factory<F> factory(AbstractLuceneNumericFieldCodec<F, ?> codec
 	@Override
 	void fillCollectors(JoiningLongMultiValuesSource source, AggregationRequestContext context,
 			LuceneNumericDomain<E> numericDomain) {
-		CompensatedSumCollectorFactory collectorFactory = new CompensatedSumCollectorFactory( source,
-				numericDomain::sortedDocValueToDouble );
+		CompensatedSumCollectorFactory collectorFactory = new CompensatedSumCollectorFactory( source, numericDomain );
 		compensatedSumCollectorKey = collectorFactory.getCollectorKey();
 		context.requireCollector( collectorFactory );
 	}
@@ -4,8 +4,14 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+import java.util.function.Function;
+
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedNumericDocValues;
+
 public abstract class AbstractLuceneNumericFieldCodec<F, E extends Number> implements LuceneFieldCodec<F, E> {
 
 	private final Indexing indexing;
@@ -59,8 +65,31 @@ public boolean isCompatibleWith(LuceneFieldCodec<?, ?> obj) {
 		return getClass() == obj.getClass();
 	}
 
+	@Override
+	public final boolean isDecodableFromDocValues() {
+		return DocValues.ENABLED == docValues && isEncodingLossless();
+	}
+
+	@Override
+	public final <T> LuceneDocValuesReader<T> docValuesReader(LeafReader reader, String absoluteFieldPath,
+			Function<? super E, T> decodeFunction)
+			throws IOException {
+		// Returns an empty instance if there are no doc values for this field in this segment.
+		SortedNumericDocValues docValues = org.apache.lucene.index.DocValues.getSortedNumeric( reader, absoluteFieldPath );
+		return LuceneDocValuesReader.numeric( docValues, getDomain(), decodeFunction );
+	}
+
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * @return {@code true} if {@code decode( encode( value ) )} always returns a value equal to {@code value},
+	 * i.e. if values can be decoded from doc values without any loss of information compared to stored values.
+	 * {@code false} otherwise.
+	 */
+	boolean isEncodingLossless() {
+		return false;
+	}
+
 	abstract void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
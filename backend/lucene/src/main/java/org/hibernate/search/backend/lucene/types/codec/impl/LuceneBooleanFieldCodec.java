@@ -44,6 +44,11 @@ public Boolean decode(Integer encoded) {
 		return encoded > 0;
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
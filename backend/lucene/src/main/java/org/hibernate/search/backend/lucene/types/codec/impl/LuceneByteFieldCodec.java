@@ -44,6 +44,11 @@ public Byte decode(Integer encoded) {
 		return encoded.byteValue();
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+
+/**
+ * Reads decoded values of a single-valued field from the doc values of a single segment.
+ * <p>
+ * Documents must be visited in increasing docId order.
+ *
+ * @param <T> The type of decoded values.
+ * @see LuceneFieldCodec#docValuesReader(org.apache.lucene.index.LeafReader, String, Function)
+ */
+public abstract class LuceneDocValuesReader<T> {
+
+	static <E extends Number, T> LuceneDocValuesReader<T> numeric(SortedNumericDocValues docValues,
+			LuceneNumericDomain<E> domain, Function<? super E, T> decodeFunction) {
+		return new LuceneDocValuesReader<T>() {
+			@Override
+			public DocIdSetIterator iterator() {
+				return docValues;
+			}
+
+			@Override
+			public boolean advanceExact(int docId) throws IOException {
+				return docValues.advanceExact( docId );
+			}
+
+			@Override
+			public T value() throws IOException {
+				return decodeFunction.apply( domain.sortedDocValueToTerm( docValues.nextValue() ) );
+			}
+		};
+	}
+
+	static <T> LuceneDocValuesReader<T> text(SortedSetDocValues docValues,
+			Function<? super String, T> decodeFunction) {
+		return new LuceneDocValuesReader<T>() {
+			@Override
+			public DocIdSetIterator iterator() {
+				return docValues;
+			}
+
+			@Override
+			public boolean advanceExact(int docId) throws IOException {
+				return docValues.advanceExact( docId );
+			}
+
+			@Override
+			public T value() throws IOException {
+				return decodeFunction.apply( docValues.lookupOrd( docValues.nextOrd() ).utf8ToString() );
+			}
+		};
+	}
+
+	/**
+	 * @return An iterator on documents that have a value in the current segment.
+	 */
+	public abstract DocIdSetIterator iterator();
+
+	/**
+	 * @param docId The ID of a document in the current segment.
+	 * @return {@code true} if the document has a value, in which case it can be retrieved through {@link #value()}.
+	 * {@code false} otherwise.
+	 * @throws IOException If the doc values cannot be read.
+	 */
+	public abstract boolean advanceExact(int docId) throws IOException;
+
+	/**
+	 * @return The value of the document passed to the last call to {@link #advanceExact(int)}.
+	 * @throws IOException If the doc values cannot be read.
+	 */
+	public abstract T value() throws IOException;
+
+}
@@ -4,7 +4,13 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 
 /**
  * Defines how a given value will be encoded in the Lucene document and how it will be decoded.
@@ -71,4 +77,37 @@
 	 * in doubt.
 	 */
 	boolean isCompatibleWith(LuceneFieldCodec<?, ?> other);
+
+	/**
+	 * Determine whether values can be read from doc values instead of stored fields
+	 * without any loss of information.
+	 * <p>
+	 * This is only the case when doc values are enabled
+	 * and the encoded value holds all the information of the stored value:
+	 * for example an {@code Instant} is stored with nanosecond precision, but encoded with millisecond precision.
+	 * <p>
+	 * NOTE: doc values of multi-valued fields are sorted and deduplicated,
+	 * so they should only be used for single-valued fields regardless of the value returned by this method.
+	 *
+	 * @return {@code true} if {@link #docValuesReader(LeafReader, String, Function)} can be used
+	 * to retrieve values. {@code false} otherwise.
+	 */
+	default boolean isDecodableFromDocValues() {
+		return false;
+	}
+
+	/**
+	 * @param reader The reader of a segment.
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param decodeFunction A function to apply to encoded values, e.g. {@code this::decode}.
+	 * @param <T> The type of decoded values.
+	 * @return A reader for values of the given field in the given segment, based on doc values.
+	 * @throws IOException If the doc values cannot be read.
+	 * @see #isDecodableFromDocValues()
+	 */
+	default <T> LuceneDocValuesReader<T> docValuesReader(LeafReader reader, String absoluteFieldPath,
+			Function<? super E, T> decodeFunction)
+			throws IOException {
+		throw new AssertionFailure( "Codec " + this + " cannot decode values from doc values" );
+	}
 }
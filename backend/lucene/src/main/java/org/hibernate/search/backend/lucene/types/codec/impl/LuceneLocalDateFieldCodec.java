@@ -64,6 +64,11 @@ public LocalDate decode(Long encoded) {
 		return LocalDate.ofEpochDay( encoded );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
@@ -70,6 +70,11 @@ public MonthDay decode(Integer encoded) {
 		return MonthDay.of( encoded / 100, encoded % 100 );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
@@ -4,6 +4,9 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+import java.util.function.Function;
+
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -11,6 +14,8 @@
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.util.BytesRef;
 
 public final class LuceneStringFieldCodec implements LuceneFieldCodec<String, String> {
@@ -76,6 +81,22 @@ public boolean isCompatibleWith(LuceneFieldCodec<?, ?> obj) {
 		return LuceneStringFieldCodec.class == obj.getClass();
 	}
 
+	@Override
+	public boolean isDecodableFromDocValues() {
+		// Doc values hold the normalized value: we can only use them if there is no normalization.
+		return DocValues.ENABLED.equals( docValues )
+				&& analyzerOrNormalizer == AnalyzerConstants.KEYWORD_ANALYZER;
+	}
+
+	@Override
+	public <T> LuceneDocValuesReader<T> docValuesReader(LeafReader reader, String absoluteFieldPath,
+			Function<? super String, T> decodeFunction)
+			throws IOException {
+		// Returns an empty instance if there are no doc values for this field in this segment.
+		SortedSetDocValues docValues = org.apache.lucene.index.DocValues.getSortedSet( reader, absoluteFieldPath );
+		return LuceneDocValuesReader.text( docValues, decodeFunction );
+	}
+
 	@Override
 	public String encode(String value) {
 		return value;
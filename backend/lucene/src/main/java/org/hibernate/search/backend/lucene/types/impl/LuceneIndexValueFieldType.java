@@ -58,6 +58,11 @@ public boolean hasTermVectorsConfigured() {
 		return hasTermVectorsConfigured;
 	}
 
+	@Override
+	public boolean decodableFromDocValues() {
+		return codec.isDecodableFromDocValues();
+	}
+
 	@Override
 	public DslConverter<?, ?> rawDslConverter() {
 		return rawDslConverter;
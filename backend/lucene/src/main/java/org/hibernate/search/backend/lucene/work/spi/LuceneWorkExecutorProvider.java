@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.backend.lucene.work.spi;
 
+import java.util.concurrent.ExecutorService;
+
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
@@ -14,6 +16,17 @@ public interface LuceneWorkExecutorProvider {
 
 	SimpleScheduledExecutor writeExecutor(Context context);
 
+	/**
+	 * @param context The instantiation context.
+	 * @return An executor used to search index segments in parallel within a single query,
+	 * or {@code null} to execute searches entirely in the thread that submitted them.
+	 * Tasks submitted to this executor must never block the submitting thread indefinitely:
+	 * when the executor is saturated, it should either run tasks in the submitting thread or reject them.
+	 */
+	default ExecutorService searchExecutor(Context context) {
+		return null;
+	}
+
 	interface Context {
 		/**
 		 * @return A provider of thread pools.
@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.search.extraction.impl.HibernateSearchMultiCollectorManager.MultiCollectedResults;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+
+class LuceneSearchResultCacheTest {
+
+	private ByteBuffersDirectory directory;
+	private IndexWriter writer;
+
+	@BeforeEach
+	void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		writer = new IndexWriter( directory, new IndexWriterConfig() );
+		addDocument( "1" );
+	}
+
+	@AfterEach
+	void cleanup() throws IOException {
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	void hitAndMiss() throws IOException {
+		LuceneSearchResultCache cache = new LuceneSearchResultCache( 10 );
+		try ( DirectoryReader reader = DirectoryReader.open( writer ) ) {
+			MultiReader multiReader = multiReader( reader );
+			LuceneSearchResultCache.Key key = key( cache, multiReader );
+			assertThat( cache.get( key ) ).isNull();
+
+			MultiCollectedResults results = new MultiCollectedResults( Collections.emptyMap() );
+			cache.put( key, results );
+			// Equal queries on the same reader share the same entry.
+			assertThat( cache.get( key( cache, multiReader ) ) ).isSameAs( results );
+			// A different query doesn't.
+			assertThat( cache.get( cache.createKeyOrNull( multiReader, new TermQuery( new Term( "id", "2" ) ),
+					null, 0, 10, 0, Collections.emptyMap() ) ) ).isNull();
+
+			assertThat( cache.hitCount() ).isEqualTo( 1 );
+			assertThat( cache.missCount() ).isEqualTo( 2 );
+			assertThat( cache.size() ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	void collectorDescriptors() throws IOException {
+		LuceneSearchResultCache cache = new LuceneSearchResultCache( 10 );
+		try ( DirectoryReader reader = DirectoryReader.open( writer ) ) {
+			MultiReader multiReader = multiReader( reader );
+			// Each search creates its own collector keys, e.g. for aggregations.
+			CollectorKey<Collector, Long> firstSearchKey = CollectorKey.create();
+			CollectorKey<Collector, Long> secondSearchKey = CollectorKey.create();
+			CollectorKey<Collector, Long> otherKey = CollectorKey.create();
+
+			cache.put( key( cache, multiReader, Map.<CollectorKey<?, ?>, Object>of( firstSearchKey, "sum(field)" ) ),
+					new MultiCollectedResults( Map.<CollectorKey<?, ?>, Object>of( firstSearchKey, 42L ) ) );
+
+			// Equal descriptors: hit, and results are available through the keys of the second search.
+			MultiCollectedResults results = cache.get( key( cache, multiReader,
+					Map.<CollectorKey<?, ?>, Object>of( secondSearchKey, "sum(field)" ) ) );
+			assertThat( results ).isNotNull();
+			assertThat( results.get( secondSearchKey ) ).isEqualTo( 42L );
+			assertThat( results.get( firstSearchKey ) ).isNull();
+
+			// Different descriptors: miss.
+			assertThat( cache.get( key( cache, multiReader,
+					Map.<CollectorKey<?, ?>, Object>of( otherKey, "sum(otherField)" ) ) ) ).isNull();
+			assertThat( cache.get( key( cache, multiReader,
+					Map.<CollectorKey<?, ?>, Object>of( secondSearchKey, "sum(field)", otherKey, "sum(otherField)" ) ) ) )
+					.isNull();
+
+			assertThat( cache.hitCount() ).isEqualTo( 1 );
+			assertThat( cache.missCount() ).isEqualTo( 2 );
+		}
+	}
+
+	@Test
+	void topDocsCopied() throws IOException {
+		LuceneSearchResultCache cache = new LuceneSearchResultCache( 10 );
+		CollectorKey<Collector, TopDocs> topDocsKey = CollectorKey.create();
+		try ( DirectoryReader reader = DirectoryReader.open( writer ) ) {
+			LuceneSearchResultCache.Key key = key( cache, multiReader( reader ),
+					Map.<CollectorKey<?, ?>, Object>of( topDocsKey, topDocsKey ) );
+			TopDocs topDocs = new TopDocs( new TotalHits( 1, TotalHits.Relation.EQUAL_TO ),
+					new ScoreDoc[] { new FieldDoc( 0, Float.NaN, new Object[] { "value" } ) } );
+			cache.put( key, new MultiCollectedResults( Map.<CollectorKey<?, ?>, Object>of( topDocsKey, topDocs ) ) );
+
+			// Mutating results after they were put in the cache, e.g. during rescoring...
+			topDocs.totalHits = new TotalHits( 2, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO );
+			topDocs.scoreDocs[0].score = 1.0f;
+			// ... or after they were retrieved from the cache...
+			TopDocs retrieved = cache.get( key ).get( topDocsKey );
+			assertThat( retrieved ).isNotSameAs( topDocs );
+			retrieved.totalHits = new TotalHits( 3, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO );
+			retrieved.scoreDocs[0].score = 2.0f;
+			( (FieldDoc) retrieved.scoreDocs[0] ).fields[0] = "otherValue";
+
+			// ... does not affect cached results.
+			TopDocs cached = cache.get( key ).get( topDocsKey );
+			assertThat( cached.totalHits ).isEqualTo( new TotalHits( 1, TotalHits.Relation.EQUAL_TO ) );
+			assertThat( cached.scoreDocs ).hasSize( 1 );
+			assertThat( cached.scoreDocs[0] ).isInstanceOf( FieldDoc.class );
+			assertThat( cached.scoreDocs[0].doc ).isZero();
+			assertThat( cached.scoreDocs[0].score ).isNaN();
+			assertThat( ( (FieldDoc) cached.scoreDocs[0] ).fields ).containsExactly( "value" );
+		}
+	}
+
+	@Test
+	void eviction() throws IOException {
+		LuceneSearchResultCache cache = new LuceneSearchResultCache( 2 );
+		try ( DirectoryReader reader = DirectoryReader.open( writer ) ) {
+			MultiReader multiReader = multiReader( reader );
+			for ( int i = 0; i < 3; i++ ) {
+				cache.put( cache.createKeyOrNull( multiReader, new MatchAllDocsQuery(), null, i, 10, 0,
+						Collections.emptyMap() ), MultiCollectedResults.EMPTY );
+			}
+			assertThat( cache.size() ).isEqualTo( 2 );
+			assertThat( cache.evictionCount() ).isEqualTo( 1 );
+			// The least recently used entry was evicted.
+			assertThat( cache.get( cache.createKeyOrNull( multiReader, new MatchAllDocsQuery(), null, 0, 10, 0,
+					Collections.emptyMap() ) ) ).isNull();
+		}
+	}
+
+	@Test
+	void invalidationOnReaderRefresh() throws IOException {
+		LuceneSearchResultCache cache = new LuceneSearchResultCache( 10 );
+		DirectoryReader reader = DirectoryReader.open( writer );
+		cache.put( key( cache, multiReader( reader ) ), MultiCollectedResults.EMPTY );
+		assertThat( cache.size() ).isEqualTo( 1 );
+
+		addDocument( "2" );
+		DirectoryReader refreshedReader = DirectoryReader.openIfChanged( reader );
+		try {
+			assertThat( refreshedReader ).isNotNull();
+			// The refreshed reader uses a different key.
+			assertThat( cache.get( key( cache, multiReader( refreshedReader ) ) ) ).isNull();
+
+			// Closing the previous reader invalidates entries relying on it.
+			reader.close();
+			assertThat( cache.size() ).isZero();
+			assertThat( cache.invalidationCount() ).isEqualTo( 1 );
+		}
+		finally {
+			refreshedReader.close();
+		}
+	}
+
+	private LuceneSearchResultCache.Key key(LuceneSearchResultCache cache, MultiReader reader) {
+		return key( cache, reader, Collections.emptyMap() );
+	}
+
+	private LuceneSearchResultCache.Key key(LuceneSearchResultCache cache, MultiReader reader,
+			Map<CollectorKey<?, ?>, Object> collectorDescriptors) {
+		return cache.createKeyOrNull( reader, new TermQuery( new Term( "id", "1" ) ), null, 0, 10, 0,
+				collectorDescriptors );
+	}
+
+	private static MultiReader multiReader(DirectoryReader reader) throws IOException {
+		// Do not increment the reference count of the directory reader, similarly to HibernateSearchMultiReader.
+		return new MultiReader( new IndexReader[] { reader }, true );
+	}
+
+	private void addDocument(String id) throws IOException {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.NO ) );
+		writer.addDocument( document );
+		writer.commit();
+	}
+}
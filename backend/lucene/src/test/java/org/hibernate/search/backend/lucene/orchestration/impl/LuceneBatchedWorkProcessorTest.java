@@ -65,8 +65,9 @@ void batch() throws IOException {
 
 		verify( indexAccessorMock, never() ).commitOrDelay();
 		processor.endBatch();
-		// Give a chance to the I/O strategy to schedule a delayed commit.
+		// Give a chance to the I/O strategy to schedule a delayed commit and refresh.
 		verify( indexAccessorMock ).commitOrDelay();
+		verify( indexAccessorMock ).refreshOrDelay();
 		verifyNoOtherIndexInteractionsAndClear();
 
 		processor.beginBatch();
@@ -77,8 +78,9 @@ void batch() throws IOException {
 
 		verify( indexAccessorMock, never() ).commitOrDelay();
 		processor.endBatch();
-		// Give a chance to the I/O strategy to schedule a delayed commit.
+		// Give a chance to the I/O strategy to schedule a delayed commit and refresh.
 		verify( indexAccessorMock ).commitOrDelay();
+		verify( indexAccessorMock ).refreshOrDelay();
 		verifyNoOtherIndexInteractionsAndClear();
 
 		checkCompleteWithNothingToCommit();
@@ -108,6 +110,7 @@ void error_workExecute() throws IOException {
 
 		processor.endBatch();
 		verify( indexAccessorMock ).commitOrDelay();
+		verify( indexAccessorMock ).refreshOrDelay();
 		verifyNoOtherIndexInteractionsAndClear();
 
 		checkCompleteWithNothingToCommit();
@@ -132,6 +135,7 @@ void error_forceCommit() {
 
 		processor.endBatch();
 		verify( indexAccessorMock ).commitOrDelay();
+		verify( indexAccessorMock ).refreshOrDelay();
 		verifyNoOtherIndexInteractionsAndClear();
 
 		checkCompleteWithNothingToCommit();
@@ -169,6 +173,7 @@ void error_batchCommit() throws IOException {
 		processor.endBatch();
 		verify( indexAccessorMock )
 				.cleanUpAfterFailure( commitException, "Commit after a batch of index works" );
+		verify( indexAccessorMock ).refreshOrDelay();
 		verifyNoOtherIndexInteractionsAndClear();
 
 		checkCompleteWithNothingToCommit();
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.store.ByteBuffersDirectory;
+
+class StoredFieldSlotsVisitorTest {
+
+	private ByteBuffersDirectory directory1;
+	private ByteBuffersDirectory directory2;
+	private MultiReader reader;
+
+	@BeforeEach
+	void setup() throws IOException {
+		directory1 = new ByteBuffersDirectory();
+		try ( IndexWriter writer = new IndexWriter( directory1, new IndexWriterConfig() ) ) {
+			Document document = new Document();
+			document.add( new StoredField( "a", "a1" ) );
+			document.add( new StoredField( "b", 42 ) );
+			document.add( new StoredField( "c", "c1" ) );
+			document.add( new StoredField( "c", "c2" ) );
+			writer.addDocument( document );
+		}
+		// Different field order => different field numbers in this segment.
+		directory2 = new ByteBuffersDirectory();
+		try ( IndexWriter writer = new IndexWriter( directory2, new IndexWriterConfig() ) ) {
+			Document document = new Document();
+			document.add( new StoredField( "c", "c3" ) );
+			document.add( new StoredField( "a", "a2" ) );
+			writer.addDocument( document );
+		}
+		reader = new MultiReader( DirectoryReader.open( directory1 ), DirectoryReader.open( directory2 ) );
+	}
+
+	@AfterEach
+	void cleanup() throws IOException {
+		reader.close();
+		directory1.close();
+		directory2.close();
+	}
+
+	@Test
+	void requiredFieldsOnly() throws IOException {
+		StoredFieldSlotsVisitor visitor = new StoredFieldSlotsVisitor( false, Arrays.asList( "a", "c" ) );
+		int a = visitor.ordinal( "a" );
+		int c = visitor.ordinal( "c" );
+		assertThat( visitor.ordinal( "b" ) ).isNegative();
+
+		List<LoadedStoredFields> loaded = loadFirstDocumentOfEachSegment( visitor );
+
+		assertThat( values( loaded.get( 0 ), a ) ).containsExactly( "a1" );
+		assertThat( values( loaded.get( 0 ), c ) ).containsExactly( "c1", "c2" );
+		assertThat( values( loaded.get( 1 ), a ) ).containsExactly( "a2" );
+		assertThat( values( loaded.get( 1 ), c ) ).containsExactly( "c3" );
+		assertThatThrownBy( () -> loaded.get( 0 ).document() )
+				.isInstanceOf( AssertionFailure.class );
+	}
+
+	@Test
+	void allFields() throws IOException {
+		StoredFieldSlotsVisitor visitor = new StoredFieldSlotsVisitor( true, Arrays.asList( "c" ) );
+		int c = visitor.ordinal( "c" );
+
+		List<LoadedStoredFields> loaded = loadFirstDocumentOfEachSegment( visitor );
+
+		assertThat( values( loaded.get( 0 ), c ) ).containsExactly( "c1", "c2" );
+		Document document = loaded.get( 0 ).document();
+		assertThat( document.get( "a" ) ).isEqualTo( "a1" );
+		assertThat( document.getField( "b" ).numericValue() ).isEqualTo( 42 );
+		assertThat( document.getValues( "c" ) ).containsExactly( "c1", "c2" );
+		assertThat( values( loaded.get( 1 ), c ) ).containsExactly( "c3" );
+		assertThat( loaded.get( 1 ).document().get( "a" ) ).isEqualTo( "a2" );
+	}
+
+	private List<LoadedStoredFields> loadFirstDocumentOfEachSegment(StoredFieldSlotsVisitor visitor)
+			throws IOException {
+		List<LoadedStoredFields> result = new ArrayList<>();
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			visitor.resetForSegment();
+			leaf.reader().storedFields().document( 0, visitor );
+			result.add( visitor.getStoredFieldsAndReset() );
+		}
+		return result;
+	}
+
+	private static List<String> values(LoadedStoredFields storedFields, int ordinal) {
+		List<String> values = new ArrayList<>();
+		for ( int i = 0; i < storedFields.valueCount( ordinal ); i++ ) {
+			values.add( storedFields.value( ordinal, i ).stringValue() );
+		}
+		return values;
+	}
+}
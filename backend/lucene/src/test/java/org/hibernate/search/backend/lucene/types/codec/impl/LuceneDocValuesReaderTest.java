@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.store.ByteBuffersDirectory;
+
+class LuceneDocValuesReaderTest {
+
+	private static final String FIELD = "field";
+
+	@Test
+	void decodableFromDocValues() {
+		assertThat( new LuceneLocalDateFieldCodec( Indexing.ENABLED, DocValues.ENABLED, Storage.ENABLED, null )
+				.isDecodableFromDocValues() )
+				.isTrue();
+		assertThat( new LuceneLocalDateFieldCodec( Indexing.ENABLED, DocValues.DISABLED, Storage.ENABLED, null )
+				.isDecodableFromDocValues() )
+				.isFalse();
+		// Doc values only have millisecond precision.
+		assertThat( new LuceneInstantFieldCodec( Indexing.ENABLED, DocValues.ENABLED, Storage.ENABLED, null )
+				.isDecodableFromDocValues() )
+				.isFalse();
+		assertThat( new LuceneStringFieldCodec( StringField.TYPE_STORED, DocValues.ENABLED, null,
+				AnalyzerConstants.KEYWORD_ANALYZER )
+				.isDecodableFromDocValues() )
+				.isTrue();
+		// Doc values hold the normalized value.
+		try ( Analyzer normalizer = new StandardAnalyzer() ) {
+			assertThat( new LuceneStringFieldCodec( StringField.TYPE_STORED, DocValues.ENABLED, null, normalizer )
+					.isDecodableFromDocValues() )
+					.isFalse();
+		}
+	}
+
+	@Test
+	void numeric() throws IOException {
+		LuceneLocalDateFieldCodec codec =
+				new LuceneLocalDateFieldCodec( Indexing.ENABLED, DocValues.ENABLED, Storage.ENABLED, null );
+		LocalDate value1 = LocalDate.of( 2024, 2, 29 );
+		LocalDate value2 = LocalDate.of( -300, 12, 31 );
+		assertThat( readAll( codec, codec::decode, value1, null, value2 ) )
+				.containsExactly( value1, null, value2 );
+		assertThat( readAll( codec, Function.identity(), value1, null, value2 ) )
+				.containsExactly( value1.toEpochDay(), null, value2.toEpochDay() );
+	}
+
+	@Test
+	void string() throws IOException {
+		LuceneStringFieldCodec codec = new LuceneStringFieldCodec( StringField.TYPE_STORED, DocValues.ENABLED, null,
+				AnalyzerConstants.KEYWORD_ANALYZER );
+		assertThat( readAll( codec, codec::decode, "Some Text", null, "été" ) )
+				.containsExactly( "Some Text", null, "été" );
+	}
+
+	@Test
+	void noValueInSegment() throws IOException {
+		LuceneLocalDateFieldCodec codec =
+				new LuceneLocalDateFieldCodec( Indexing.ENABLED, DocValues.ENABLED, Storage.ENABLED, null );
+		assertThat( readAll( codec, codec::decode, (LocalDate) null ) )
+				.containsExactly( (LocalDate) null );
+	}
+
+	@SafeVarargs
+	private static <F, E, T> List<T> readAll(LuceneFieldCodec<F, E> codec, Function<? super E, T> decodeFunction,
+			F... values)
+			throws IOException {
+		try ( ByteBuffersDirectory directory = new ByteBuffersDirectory() ) {
+			try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig() ) ) {
+				for ( F value : values ) {
+					Document document = new Document();
+					codec.addToDocument( new LuceneDocumentContent() {
+						@Override
+						public void addField(IndexableField field) {
+							document.add( field );
+						}
+
+						@Override
+						public void addFieldName(String absoluteFieldPath) {
+							// Not relevant here.
+						}
+					}, FIELD, value );
+					writer.addDocument( document );
+				}
+			}
+			try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				LeafReader leafReader = reader.leaves().get( 0 ).reader();
+				LuceneDocValuesReader<T> docValuesReader = codec.docValuesReader( leafReader, FIELD, decodeFunction );
+				List<T> result = new ArrayList<>();
+				for ( int docId = 0; docId < values.length; docId++ ) {
+					result.add( docValuesReader.advanceExact( docId ) ? docValuesReader.value() : null );
+				}
+				return result;
+			}
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.backend.orchestration.impl;
+
+/**
+ * Determines how many works a batching executor should take from its queue for each batch.
+ * <p>
+ * When a target latency is set, the batch size follows an additive-increase/multiplicative-decrease scheme:
+ * <ul>
+ *     <li>If a batch took longer than the target latency to process, the batch size is halved.</li>
+ *     <li>If a batch was processed within the target latency and was full (meaning more works were probably waiting),
+ *     the batch size is increased by a fraction of the upper bound.</li>
+ * </ul>
+ * This keeps batches as large as possible, so that commits and bulk requests are amortized over many works,
+ * while preventing a single slow batch (e.g. a slow commit or an overloaded cluster)
+ * from delaying a large number of works.
+ * <p>
+ * Not thread-safe: callers must not call {@link #onBatchProcessed(int, int, long)} concurrently,
+ * though {@link #maxBatchSize()} may be called from any thread.
+ */
+public final class AdaptiveBatchSizer {
+
+	private static final int INCREASE_STEP_DIVISOR = 16;
+
+	public static AdaptiveBatchSizer fixed(int maxBatchSize) {
+		return new AdaptiveBatchSizer( maxBatchSize, 0L );
+	}
+
+	public static AdaptiveBatchSizer adaptive(int upperBound, long targetLatencyNanos) {
+		return new AdaptiveBatchSizer( upperBound, targetLatencyNanos );
+	}
+
+	private final int upperBound;
+	private final int increaseStep;
+	private final long targetLatencyNanos;
+
+	private volatile int maxBatchSize;
+
+	private AdaptiveBatchSizer(int upperBound, long targetLatencyNanos) {
+		this.upperBound = upperBound;
+		this.increaseStep = Math.max( 1, upperBound / INCREASE_STEP_DIVISOR );
+		this.targetLatencyNanos = targetLatencyNanos;
+		this.maxBatchSize = upperBound;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxBatchSize=" + maxBatchSize
+				+ ", upperBound=" + upperBound
+				+ ", targetLatencyNanos=" + targetLatencyNanos
+				+ "]";
+	}
+
+	/**
+	 * @return The maximum number of works to include in the next batch.
+	 */
+	public int maxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * @return {@code true} if this sizer needs to be notified of processed batches
+	 * through {@link #onBatchProcessed(int, int, long)}.
+	 */
+	public boolean isAdaptive() {
+		return targetLatencyNanos > 0L;
+	}
+
+	/**
+	 * @param batchSize The number of works in the batch that was just processed.
+	 * @param maxBatchSize The value of {@link #maxBatchSize()} when the batch was created.
+	 * @param latencyNanos The time it took to process the batch, in nanoseconds.
+	 */
+	public void onBatchProcessed(int batchSize, int maxBatchSize, long latencyNanos) {
+		if ( !isAdaptive() ) {
+			return;
+		}
+		if ( latencyNanos > targetLatencyNanos ) {
+			this.maxBatchSize = Math.max( 1, maxBatchSize / 2 );
+		}
+		else if ( batchSize >= maxBatchSize ) {
+			this.maxBatchSize = Math.min( upperBound, maxBatchSize + increaseStep );
+		}
+	}
+}
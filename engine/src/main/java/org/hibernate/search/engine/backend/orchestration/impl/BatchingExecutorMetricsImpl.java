@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.backend.orchestration.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutorMetrics;
+
+public final class BatchingExecutorMetricsImpl implements BatchingExecutorMetrics {
+
+	// Batch sizes are ints, so 31 buckets are enough to cover all positive values.
+	private static final int HISTOGRAM_BUCKET_COUNT = Integer.SIZE - 1;
+
+	private final BlockingQueue<?> queue;
+	private final int queueCapacity;
+	private final AdaptiveBatchSizer batchSizer;
+
+	// Only updated from the processing thread, but read from any thread.
+	private final AtomicLongArray batchSizeHistogram = new AtomicLongArray( HISTOGRAM_BUCKET_COUNT );
+	private final LongAdder batchCount = new LongAdder();
+	private final LongAdder workCount = new LongAdder();
+	private final LongAdder batchProcessingTimeNanos = new LongAdder();
+	// Updated from submitting threads.
+	private final LongAdder submitterBlockedTimeNanos = new LongAdder();
+
+	public BatchingExecutorMetricsImpl(BlockingQueue<?> queue, int queueCapacity, AdaptiveBatchSizer batchSizer) {
+		this.queue = queue;
+		this.queueCapacity = queueCapacity;
+		this.batchSizer = batchSizer;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "queueSize=" + queueSize()
+				+ ", maxBatchSize=" + maxBatchSize()
+				+ ", batchCount=" + batchCount()
+				+ ", workCount=" + workCount()
+				+ ", batchSizeHistogram=" + Arrays.toString( batchSizeHistogram() )
+				+ ", batchProcessingTimeNanos=" + batchProcessingTimeNanos()
+				+ ", submitterBlockedTimeNanos=" + submitterBlockedTimeNanos()
+				+ "]";
+	}
+
+	@Override
+	public int queueSize() {
+		return queue.size();
+	}
+
+	@Override
+	public int queueCapacity() {
+		return queueCapacity;
+	}
+
+	@Override
+	public int maxBatchSize() {
+		return batchSizer.maxBatchSize();
+	}
+
+	@Override
+	public long batchCount() {
+		return batchCount.sum();
+	}
+
+	@Override
+	public long workCount() {
+		return workCount.sum();
+	}
+
+	@Override
+	public long[] batchSizeHistogram() {
+		long[] result = new long[HISTOGRAM_BUCKET_COUNT];
+		for ( int i = 0; i < result.length; i++ ) {
+			result[i] = batchSizeHistogram.get( i );
+		}
+		return result;
+	}
+
+	@Override
+	public long batchProcessingTimeNanos() {
+		return batchProcessingTimeNanos.sum();
+	}
+
+	@Override
+	public long submitterBlockedTimeNanos() {
+		return submitterBlockedTimeNanos.sum();
+	}
+
+	public void onBatchProcessed(int batchSize, long processingTimeNanos) {
+		// batchSize is strictly positive: empty batches are not processed.
+		int bucket = Integer.SIZE - 1 - Integer.numberOfLeadingZeros( batchSize );
+		batchSizeHistogram.incrementAndGet( bucket );
+		batchCount.increment();
+		workCount.add( batchSize );
+		batchProcessingTimeNanos.add( processingTimeNanos );
+	}
+
+	public void onSubmitterBlocked(long blockedTimeNanos) {
+		submitterBlockedTimeNanos.add( blockedTimeNanos );
+	}
+}
@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.backend.orchestration.impl;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded, FIFO {@link BlockingQueue} optimized for many producers and a single consumer.
+ * <p>
+ * Contrary to {@link java.util.concurrent.ArrayBlockingQueue},
+ * adding or removing elements never acquires a lock as long as the queue is neither full nor empty:
+ * elements are stored in a {@link ConcurrentLinkedQueue},
+ * and capacity is enforced by reserving slots with a CAS on an atomic counter.
+ * Locks are only involved when a thread actually needs to wait,
+ * i.e. producers calling {@link #put(Object)} on a full queue
+ * or consumers calling {@link #take()} on an empty queue.
+ * <p>
+ * Producers waiting for space are not guaranteed to be woken up in FIFO order.
+ *
+ * @param <E> The type of elements.
+ */
+public final class BoundedMpscBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+	private final ConcurrentLinkedQueue<E> delegate = new ConcurrentLinkedQueue<>();
+	private final int capacity;
+	/**
+	 * The number of reserved slots.
+	 * May temporarily be higher than the actual number of elements in the delegate,
+	 * while a producer is between reserving a slot and inserting its element.
+	 */
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final Object notFullMonitor = new Object();
+	private final AtomicInteger waitingProducers = new AtomicInteger();
+	private final Object notEmptyMonitor = new Object();
+	private final AtomicInteger waitingConsumers = new AtomicInteger();
+
+	public BoundedMpscBlockingQueue(int capacity) {
+		if ( capacity <= 0 ) {
+			throw new IllegalArgumentException( "Capacity must be strictly positive" );
+		}
+		this.capacity = capacity;
+	}
+
+	@Override
+	public boolean offer(E element) {
+		Objects.requireNonNull( element );
+		int currentSize;
+		do {
+			currentSize = size.get();
+			if ( currentSize >= capacity ) {
+				return false;
+			}
+		}
+		while ( !size.compareAndSet( currentSize, currentSize + 1 ) );
+		delegate.offer( element );
+		signalNotEmpty();
+		return true;
+	}
+
+	@Override
+	public void put(E element) throws InterruptedException {
+		if ( offer( element ) ) {
+			return;
+		}
+		// Register as waiting *before* checking again,
+		// so that consumers removing elements after our last check are guaranteed to notify us.
+		waitingProducers.incrementAndGet();
+		try {
+			synchronized ( notFullMonitor ) {
+				while ( !offer( element ) ) {
+					notFullMonitor.wait();
+				}
+			}
+		}
+		finally {
+			waitingProducers.decrementAndGet();
+		}
+	}
+
+	@Override
+	public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+		if ( offer( element ) ) {
+			return true;
+		}
+		long deadline = System.nanoTime() + unit.toNanos( timeout );
+		waitingProducers.incrementAndGet();
+		try {
+			synchronized ( notFullMonitor ) {
+				while ( !offer( element ) ) {
+					long remainingNanos = deadline - System.nanoTime();
+					if ( remainingNanos <= 0L ) {
+						return false;
+					}
+					TimeUnit.NANOSECONDS.timedWait( notFullMonitor, remainingNanos );
+				}
+				return true;
+			}
+		}
+		finally {
+			waitingProducers.decrementAndGet();
+		}
+	}
+
+	@Override
+	public E poll() {
+		E element = delegate.poll();
+		if ( element != null ) {
+			size.decrementAndGet();
+			signalNotFull();
+		}
+		return element;
+	}
+
+	@Override
+	public E take() throws InterruptedException {
+		E element = poll();
+		if ( element != null ) {
+			return element;
+		}
+		waitingConsumers.incrementAndGet();
+		try {
+			synchronized ( notEmptyMonitor ) {
+				while ( ( element = poll() ) == null ) {
+					notEmptyMonitor.wait();
+				}
+				return element;
+			}
+		}
+		finally {
+			waitingConsumers.decrementAndGet();
+		}
+	}
+
+	@Override
+	public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+		E element = poll();
+		if ( element != null ) {
+			return element;
+		}
+		long deadline = System.nanoTime() + unit.toNanos( timeout );
+		waitingConsumers.incrementAndGet();
+		try {
+			synchronized ( notEmptyMonitor ) {
+				while ( ( element = poll() ) == null ) {
+					long remainingNanos = deadline - System.nanoTime();
+					if ( remainingNanos <= 0L ) {
+						return null;
+					}
+					TimeUnit.NANOSECONDS.timedWait( notEmptyMonitor, remainingNanos );
+				}
+				return element;
+			}
+		}
+		finally {
+			waitingConsumers.decrementAndGet();
+		}
+	}
+
+	@Override
+	public E peek() {
+		return delegate.peek();
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection) {
+		return drainTo( collection, Integer.MAX_VALUE );
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection, int maxElements) {
+		Objects.requireNonNull( collection );
+		if ( collection == this ) {
+			throw new IllegalArgumentException( "Cannot drain a queue to itself" );
+		}
+		int drained = 0;
+		E element;
+		while ( drained < maxElements && ( element = delegate.poll() ) != null ) {
+			collection.add( element );
+			++drained;
+		}
+		if ( drained > 0 ) {
+			// Release all slots at once, and wake up producers only once.
+			size.addAndGet( -drained );
+			signalNotFull();
+		}
+		return drained;
+	}
+
+	@Override
+	public int size() {
+		return size.get();
+	}
+
+	@Override
+	public int remainingCapacity() {
+		return Math.max( 0, capacity - size.get() );
+	}
+
+	@Override
+	public void clear() {
+		while ( poll() != null ) {
+			// Just discard elements
+		}
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		Iterator<E> delegateIterator = delegate.iterator();
+		return new Iterator<E>() {
+			@Override
+			public boolean hasNext() {
+				return delegateIterator.hasNext();
+			}
+
+			@Override
+			public E next() {
+				return delegateIterator.next();
+			}
+
+			@Override
+			public void remove() {
+				delegateIterator.remove();
+				size.decrementAndGet();
+				signalNotFull();
+			}
+		};
+	}
+
+	private void signalNotFull() {
+		if ( waitingProducers.get() > 0 ) {
+			synchronized ( notFullMonitor ) {
+				notFullMonitor.notifyAll();
+			}
+		}
+	}
+
+	private void signalNotEmpty() {
+		if ( waitingConsumers.get() > 0 ) {
+			synchronized ( notEmptyMonitor ) {
+				notEmptyMonitor.notifyAll();
+			}
+		}
+	}
+}
@@ -11,9 +11,13 @@
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import org.hibernate.search.engine.backend.orchestration.impl.AdaptiveBatchSizer;
+import org.hibernate.search.engine.backend.orchestration.impl.BatchingExecutorMetricsImpl;
+import org.hibernate.search.engine.backend.orchestration.impl.BoundedMpscBlockingQueue;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.logging.impl.Log;
@@ -40,6 +44,7 @@
 	private final BlockingQueue<W> workQueue;
 	private final BatchWorker<P, ? super W> worker;
 	private final Consumer<? super W> blockingRetryProducer;
+	private final BatchingExecutorMetricsImpl metrics;
 
 	private SingletonTask processingTask;
 
@@ -57,11 +62,46 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler, Consumer<? super W> blockingRetryProducer) {
+		this( name, processor, maxTasksPerBatch, fair, false, 0,
+				failureHandler, blockingRetryProducer );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch,
+	 * which is also the capacity of the internal queue.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * Ignored if {@code lockFreeQueue} is {@code true}.
+	 * @param lockFreeQueue if {@code true}, use an internal queue that does not require locking
+	 * unless submitters need to wait for space in the queue,
+	 * which reduces contention when many threads submit works concurrently.
+	 * Submitters waiting for space in the queue may be unblocked in any order.
+	 * @param batchTargetLatencyMillis The target latency for processing a single batch, in milliseconds,
+	 * used to adapt the number of works processed in each batch
+	 * (but never going beyond {@code maxTasksPerBatch}).
+	 * {@code 0} to always process as many works as possible (up to {@code maxTasksPerBatch}) in each batch.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param blockingRetryProducer A retry work producer that would be called in case of offloading operation submitter and full queue.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair, boolean lockFreeQueue, int batchTargetLatencyMillis,
+			FailureHandler failureHandler, Consumer<? super W> blockingRetryProducer) {
 		this.name = name;
 		this.failureHandler = failureHandler;
 		this.blockingRetryProducer = blockingRetryProducer;
-		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
+		this.workQueue = lockFreeQueue
+				? new BoundedMpscBlockingQueue<>( maxTasksPerBatch )
+				: new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
+		AdaptiveBatchSizer batchSizer = batchTargetLatencyMillis > 0
+				? AdaptiveBatchSizer.adaptive( maxTasksPerBatch, TimeUnit.MILLISECONDS.toNanos( batchTargetLatencyMillis ) )
+				: AdaptiveBatchSizer.fixed( maxTasksPerBatch );
+		this.metrics = new BatchingExecutorMetricsImpl( workQueue, maxTasksPerBatch, batchSizer );
+		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch, batchSizer, metrics,
+				this::ensureProcessingScheduled );
 	}
 
 	@Override
@@ -70,6 +110,7 @@ public String toString() {
 				+ "name=" + name
 				+ ", queue size=" + workQueue.size()
 				+ ", processing=" + processingTask
+				+ ", metrics=" + metrics
 				+ "]";
 	}
 
@@ -127,10 +168,36 @@ public void submit(W work, OperationSubmitter operationSubmitter) throws Interru
 					"Attempt to submit a work to executor '" + name + "', which is stopped."
 			);
 		}
-		operationSubmitter.submitToQueue( workQueue, work, blockingRetryProducer, ASYNC_FAILURE_REPORTER );
+		if ( workQueue.remainingCapacity() > 0 ) {
+			operationSubmitter.submitToQueue( workQueue, work, blockingRetryProducer, ASYNC_FAILURE_REPORTER );
+		}
+		else {
+			// The queue is full: the submitter will probably have to wait.
+			long start = System.nanoTime();
+			try {
+				operationSubmitter.submitToQueue( workQueue, work, blockingRetryProducer, ASYNC_FAILURE_REPORTER );
+			}
+			finally {
+				metrics.onSubmitterBlocked( System.nanoTime() - start );
+			}
+		}
 		processingTask.ensureScheduled();
 	}
 
+	/**
+	 * @return Metrics about the activity of this executor.
+	 */
+	public BatchingExecutorMetrics metrics() {
+		return metrics;
+	}
+
+	private void ensureProcessingScheduled() {
+		SingletonTask task = processingTask;
+		if ( task != null ) {
+			task.ensureScheduled();
+		}
+	}
+
 	/**
 	 * @return A future that completes when all works submitted to the executor so far are completely executed.
 	 * Works submitted to the executor after entering this method may delay the wait.
@@ -153,34 +220,49 @@ public CompletableFuture<?> completion() {
 		private final String name;
 		private final P processor;
 		private final BlockingQueue<W> workQueue;
-		private final int maxTasksPerBatch;
+		private final AdaptiveBatchSizer batchSizer;
+		private final BatchingExecutorMetricsImpl metrics;
+		private final Runnable rescheduler;
 		private final List<W> workBuffer;
 
 		private BatchWorker(String name, P processor, BlockingQueue<W> workQueue,
-				int maxTasksPerBatch) {
+				int maxTasksPerBatch, AdaptiveBatchSizer batchSizer, BatchingExecutorMetricsImpl metrics,
+				Runnable rescheduler) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
-			this.maxTasksPerBatch = maxTasksPerBatch;
+			this.batchSizer = batchSizer;
+			this.metrics = metrics;
+			this.rescheduler = rescheduler;
 			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
 		}
 
 		@Override
 		public CompletableFuture<?> work() {
 			workBuffer.clear();
-			workQueue.drainTo( workBuffer, maxTasksPerBatch );
+			int maxBatchSize = batchSizer.maxBatchSize();
+			workQueue.drainTo( workBuffer, maxBatchSize );
 
 			if ( workBuffer.isEmpty() ) {
 				// Nothing to do
 				return completedFuture;
 			}
 
+			if ( !workQueue.isEmpty() ) {
+				// The batch size limit left works in the queue.
+				// Works submitted before this run started won't trigger another run by themselves:
+				// request one, so that they get processed in the next batch
+				// and completion isn't reported before they are.
+				rescheduler.run();
+			}
+
 			int workCount = workBuffer.size();
 			boolean traceEnabled = log.isTraceEnabled();
 			if ( traceEnabled ) {
 				log.tracef( "Processing %d works in executor '%s'", workCount, name );
 			}
 
+			long start = System.nanoTime();
 			processor.beginBatch();
 			for ( W work : workBuffer ) {
 				try {
@@ -193,13 +275,14 @@ public CompletableFuture<?> work() {
 
 			// Nothing more to do, end the batch and terminate
 			CompletableFuture<?> future = processor.endBatch();
-			if ( traceEnabled ) {
-				future.whenComplete( (result, throwable) -> {
+			return future.whenComplete( (result, throwable) -> {
+				long latency = System.nanoTime() - start;
+				metrics.onBatchProcessed( workCount, latency );
+				batchSizer.onBatchProcessed( workCount, maxBatchSize, latency );
+				if ( traceEnabled ) {
 					log.tracef( "Processed %d works in executor '%s'", workCount, name );
-				} );
-			}
-
-			return future;
+				}
+			} );
 		}
 
 		@Override
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+/**
+ * Metrics about the activity of a {@link BatchingExecutor}.
+ * <p>
+ * Values are updated continuously and are not consistent with each other:
+ * they are meant for monitoring, not for driving execution.
+ *
+ * @see BatchingExecutor#metrics()
+ */
+public interface BatchingExecutorMetrics {
+
+	/**
+	 * @return The number of works currently waiting in the queue.
+	 */
+	int queueSize();
+
+	/**
+	 * @return The maximum number of works that can wait in the queue.
+	 */
+	int queueCapacity();
+
+	/**
+	 * @return The maximum number of works the executor will currently process in a single batch.
+	 * Constant unless adaptive batch sizing is enabled.
+	 */
+	int maxBatchSize();
+
+	/**
+	 * @return The number of batches processed so far.
+	 */
+	long batchCount();
+
+	/**
+	 * @return The number of works processed so far.
+	 */
+	long workCount();
+
+	/**
+	 * @return A histogram of the size of batches processed so far:
+	 * the element at index {@code i} is the number of batches
+	 * whose size was in the range {@code [2^i, 2^(i+1))}.
+	 */
+	long[] batchSizeHistogram();
+
+	/**
+	 * @return The total time, in nanoseconds, spent processing batches,
+	 * from the start of a batch to the completion of the future returned by {@link BatchedWorkProcessor#endBatch()}.
+	 */
+	long batchProcessingTimeNanos();
+
+	/**
+	 * @return The total time, in nanoseconds, that threads submitting works spent waiting for space in the queue.
+	 */
+	long submitterBlockedTimeNanos();
+
+}
@@ -4,10 +4,13 @@
  */
 package org.hibernate.search.engine.backend.work.execution.spi;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Throwables;
 
 /**
@@ -39,6 +42,34 @@ public interface IndexIndexingPlan {
 	 */
 	void addOrUpdate(DocumentReferenceProvider documentReferenceProvider, DocumentContributor documentContributor);
 
+	/**
+	 * @return {@code true} if this plan supports {@link #updatePartially(DocumentReferenceProvider, Collection, DocumentContributor)},
+	 * {@code false} otherwise.
+	 */
+	default boolean supportsPartialUpdates() {
+		return false;
+	}
+
+	/**
+	 * Update some fields of a document in the index, assuming that the document is present in the index,
+	 * leaving other fields untouched.
+	 * <p>
+	 * Only value fields at the root of the document can be updated partially.
+	 * Fields listed in {@code fieldReferences} that do not receive any value from the contributor
+	 * will be cleared.
+	 * <p>
+	 * Must only be called if {@link #supportsPartialUpdates()} returns {@code true}.
+	 *
+	 * @param documentReferenceProvider A source of information about the identity of the document to update.
+	 * @param fieldReferences References to the fields to update.
+	 * @param documentContributor A contributor to the document, adding values to (some of) the fields to update.
+	 */
+	default void updatePartially(DocumentReferenceProvider documentReferenceProvider,
+			Collection<? extends IndexFieldReference<?>> fieldReferences,
+			DocumentContributor documentContributor) {
+		throw new AssertionFailure( "Partial updates are not supported by " + this );
+	}
+
 	/**
 	 * Delete a document from the index.
 	 *
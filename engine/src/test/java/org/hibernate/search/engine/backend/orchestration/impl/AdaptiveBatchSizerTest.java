@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.backend.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBatchSizerTest {
+
+	private static final long TARGET_LATENCY = TimeUnit.MILLISECONDS.toNanos( 100 );
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos( 10 );
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos( 1000 );
+
+	@Test
+	void fixed() {
+		AdaptiveBatchSizer sizer = AdaptiveBatchSizer.fixed( 100 );
+		assertThat( sizer.isAdaptive() ).isFalse();
+		assertThat( sizer.maxBatchSize() ).isEqualTo( 100 );
+
+		sizer.onBatchProcessed( 100, 100, SLOW );
+		assertThat( sizer.maxBatchSize() ).isEqualTo( 100 );
+	}
+
+	@Test
+	void decreaseOnSlowBatch() {
+		AdaptiveBatchSizer sizer = AdaptiveBatchSizer.adaptive( 100, TARGET_LATENCY );
+		assertThat( sizer.isAdaptive() ).isTrue();
+		// Start with the upper bound
+		assertThat( sizer.maxBatchSize() ).isEqualTo( 100 );
+
+		sizer.onBatchProcessed( 100, 100, SLOW );
+		assertThat( sizer.maxBatchSize() ).isEqualTo( 50 );
+		sizer.onBatchProcessed( 50, 50, SLOW );
+		assertThat( sizer.maxBatchSize() ).isEqualTo( 25 );
+
+		// Never go below 1
+		for ( int i = 0; i < 10; i++ ) {
+			sizer.onBatchProcessed( sizer.maxBatchSize(), sizer.maxBatchSize(), SLOW );
+		}
+		assertThat( sizer.maxBatchSize() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void increaseOnFastFullBatch() {
+		AdaptiveBatchSizer sizer = AdaptiveBatchSizer.adaptive( 160, TARGET_LATENCY );
+		sizer.onBatchProcessed( 160, 160, SLOW );
+		assertThat( sizer.maxBatchSize() ).isEqualTo( 80 );
+
+		// Fast, but not full: no more works were waiting, so no reason to grow
+		sizer.onBatchProcessed( 20, 80, FAST );
+		assertThat( sizer.maxBatchSize() ).isEqualTo( 80 );
+
+		// Fast and full: grow by a fraction of the upper bound
+		sizer.onBatchProcessed( 80, 80, FAST );
+		assertThat( sizer.maxBatchSize() ).isEqualTo( 90 );
+
+		// Never go above the upper bound
+		for ( int i = 0; i < 20; i++ ) {
+			sizer.onBatchProcessed( sizer.maxBatchSize(), sizer.maxBatchSize(), FAST );
+		}
+		assertThat( sizer.maxBatchSize() ).isEqualTo( 160 );
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.backend.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedMpscBlockingQueueTest {
+
+	@Test
+	void offer_capacity() {
+		BoundedMpscBlockingQueue<Integer> queue = new BoundedMpscBlockingQueue<>( 2 );
+		assertThat( queue.offer( 1 ) ).isTrue();
+		assertThat( queue.offer( 2 ) ).isTrue();
+		assertThat( queue.offer( 3 ) ).isFalse();
+		assertThat( queue.size() ).isEqualTo( 2 );
+		assertThat( queue.remainingCapacity() ).isZero();
+
+		assertThat( queue.poll() ).isEqualTo( 1 );
+		assertThat( queue.remainingCapacity() ).isEqualTo( 1 );
+		assertThat( queue.offer( 3 ) ).isTrue();
+		assertThat( queue ).containsExactly( 2, 3 );
+	}
+
+	@Test
+	void drainTo() {
+		BoundedMpscBlockingQueue<Integer> queue = new BoundedMpscBlockingQueue<>( 10 );
+		for ( int i = 0; i < 5; i++ ) {
+			queue.add( i );
+		}
+		List<Integer> drained = new ArrayList<>();
+		assertThat( queue.drainTo( drained, 3 ) ).isEqualTo( 3 );
+		assertThat( drained ).containsExactly( 0, 1, 2 );
+		assertThat( queue.size() ).isEqualTo( 2 );
+		assertThat( queue.drainTo( drained ) ).isEqualTo( 2 );
+		assertThat( drained ).containsExactly( 0, 1, 2, 3, 4 );
+		assertThat( queue ).isEmpty();
+	}
+
+	@Test
+	void put_blocksUntilSpaceAvailable() throws InterruptedException {
+		BoundedMpscBlockingQueue<Integer> queue = new BoundedMpscBlockingQueue<>( 1 );
+		queue.put( 1 );
+
+		CompletableFuture<?> putFuture = CompletableFuture.runAsync( () -> {
+			try {
+				queue.put( 2 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+		} );
+		assertThat( queue.offer( 3, 50, TimeUnit.MILLISECONDS ) ).isFalse();
+		assertThat( putFuture ).isNotDone();
+
+		assertThat( queue.take() ).isEqualTo( 1 );
+		putFuture.join();
+		assertThat( queue ).containsExactly( 2 );
+	}
+
+	@Test
+	void concurrentProducers() throws InterruptedException {
+		int producerCount = 8;
+		int elementsPerProducer = 10_000;
+		BoundedMpscBlockingQueue<Integer> queue = new BoundedMpscBlockingQueue<>( 16 );
+		ExecutorService producers = Executors.newFixedThreadPool( producerCount );
+		try {
+			for ( int p = 0; p < producerCount; p++ ) {
+				int offset = p * elementsPerProducer;
+				producers.submit( () -> {
+					for ( int i = 0; i < elementsPerProducer; i++ ) {
+						queue.put( offset + i );
+					}
+					return null;
+				} );
+			}
+
+			Set<Integer> consumed = new HashSet<>();
+			List<Integer> buffer = new ArrayList<>();
+			while ( consumed.size() < producerCount * elementsPerProducer ) {
+				buffer.clear();
+				if ( queue.drainTo( buffer, 10 ) == 0 ) {
+					Integer element = queue.poll( 10, TimeUnit.SECONDS );
+					assertThat( element ).as( "Producers are stuck" ).isNotNull();
+					buffer.add( element );
+				}
+				for ( Integer element : buffer ) {
+					assertThat( consumed.add( element ) ).as( "Duplicate element %s", element ).isTrue();
+				}
+			}
+			assertThat( queue ).isEmpty();
+		}
+		finally {
+			producers.shutdownNow();
+		}
+	}
+
+}
@@ -12,6 +12,7 @@
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
@@ -511,6 +512,139 @@ void simple_newTasksBlockedAndOffloadedCompletes(String name, OperationSubmitter
 		checkPostExecution( operationSubmitter );
 	}
 
+	@Test
+	void batchSizeSmallerThanQueuedWorks() throws InterruptedException {
+		// Any batch slower than 1ms will halve the batch size.
+		createAndStartExecutor( 4, true, 1, w -> fail( "Work shouldn't be offloaded." ) );
+		OperationSubmitter operationSubmitter = OperationSubmitter.blocking();
+
+		Runnable unblockExecutorSwitch = blockExecutor( operationSubmitter );
+
+		StubWork work1Mock = workMock( 1 );
+		StubWork work2Mock = workMock( 2 );
+		StubWork work3Mock = workMock( 3 );
+		StubWork work4Mock = workMock( 4 );
+		executor.submit( work1Mock, operationSubmitter );
+		executor.submit( work2Mock, operationSubmitter );
+		executor.submit( work3Mock, operationSubmitter );
+		executor.submit( work4Mock, operationSubmitter );
+		verifyAsynchronouslyAndReset( inOrder -> {
+			// No calls expected yet
+		} );
+
+		StubCompletionListener completionListenerAfterSubmit = addPendingCompletionListener();
+
+		// Make sure the blocking batch exceeds the target latency,
+		// so that the next batch only takes half of the queued works.
+		Thread.sleep( 50 );
+		when( processorMock.endBatch() ).thenReturn( CompletableFuture.completedFuture( null ) );
+		unblockExecutorSwitch.run();
+		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work1Mock ).submitTo( processorMock );
+			inOrder.verify( work2Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			// Works left in the queue should be processed without any further submission...
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work3Mock ).submitTo( processorMock );
+			inOrder.verify( work4Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			// ... and before works are considered complete.
+			inOrder.verify( processorMock ).complete();
+			inOrder.verify( completionListenerAfterSubmit ).onComplete();
+			// Depending on the latency of the second batch, works 3 and 4 may be processed in separate batches.
+			verify( processorMock, atLeast( 2 ) ).beginBatch();
+			verify( processorMock, atLeast( 2 ) ).endBatch();
+		} );
+
+		// Submitting other works should start the executor/processor again
+		checkPostExecution( operationSubmitter );
+	}
+
+	@Test
+	void metrics() throws InterruptedException {
+		createAndStartExecutor( 4, true );
+		OperationSubmitter operationSubmitter = OperationSubmitter.blocking();
+
+		BatchingExecutorMetrics metrics = executor.metrics();
+		assertThat( metrics.queueSize() ).isZero();
+		assertThat( metrics.queueCapacity() ).isEqualTo( 4 );
+		assertThat( metrics.maxBatchSize() ).isEqualTo( 4 );
+		assertThat( metrics.batchCount() ).isZero();
+		assertThat( metrics.workCount() ).isZero();
+		assertThat( metrics.batchSizeHistogram() ).containsOnly( 0L );
+		assertThat( metrics.batchProcessingTimeNanos() ).isZero();
+		assertThat( metrics.submitterBlockedTimeNanos() ).isZero();
+
+		Runnable unblockExecutorSwitch = blockExecutor( operationSubmitter );
+
+		StubWork work1Mock = workMock( 1 );
+		StubWork work2Mock = workMock( 2 );
+		StubWork work3Mock = workMock( 3 );
+		StubWork work4Mock = workMock( 4 );
+		StubWork work5Mock = workMock( 5 );
+		executor.submit( work1Mock, operationSubmitter );
+		executor.submit( work2Mock, operationSubmitter );
+		executor.submit( work3Mock, operationSubmitter );
+		executor.submit( work4Mock, operationSubmitter );
+
+		// The blocking batch is still in progress
+		assertThat( metrics.queueSize() ).isEqualTo( 4 );
+		assertThat( metrics.batchCount() ).isZero();
+		assertThat( metrics.workCount() ).isZero();
+
+		// The queue is full, so submitting work5 will block until the next batch starts
+		AtomicReference<Thread> work5SubmitThread = new AtomicReference<>();
+		CompletableFuture<Boolean> future = CompletableFuture.supplyAsync( () -> {
+			try {
+				work5SubmitThread.set( Thread.currentThread() );
+				executor.submit( work5Mock, operationSubmitter );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return true;
+		} );
+		Awaitility.await().untilAsserted( () -> assertThat( work5SubmitThread )
+				.hasValueSatisfying( thread -> assertThat( thread.getState() )
+						.isIn( Thread.State.BLOCKED, Thread.State.WAITING, Thread.State.TIMED_WAITING ) ) );
+
+		when( processorMock.endBatch() ).thenReturn( CompletableFuture.completedFuture( null ) );
+		doAnswer( invocation -> {
+			// Don't finish the batch until work5 has actually been submitted, see HSEARCH-4750.
+			Awaitility.await().until( future::isDone );
+			return null;
+		} ).when( work4Mock ).submitTo( any( StubWorkProcessor.class ) );
+
+		unblockExecutorSwitch.run();
+
+		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work1Mock ).submitTo( processorMock );
+			inOrder.verify( work2Mock ).submitTo( processorMock );
+			inOrder.verify( work3Mock ).submitTo( processorMock );
+			inOrder.verify( work4Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work5Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).complete();
+		} );
+
+		// Batches of 1 (blocking work), 4 (works 1 to 4) and 1 (work 5) works
+		await().untilAsserted( () -> {
+			assertThat( metrics.batchCount() ).isEqualTo( 3 );
+			assertThat( metrics.workCount() ).isEqualTo( 6 );
+		} );
+		long[] histogram = metrics.batchSizeHistogram();
+		assertThat( histogram[0] ).isEqualTo( 2 );
+		assertThat( histogram[1] ).isZero();
+		assertThat( histogram[2] ).isEqualTo( 1 );
+		assertThat( metrics.queueSize() ).isZero();
+		assertThat( metrics.batchProcessingTimeNanos() ).isPositive();
+		assertThat( metrics.submitterBlockedTimeNanos() ).isPositive();
+	}
+
 	private void verifyAsynchronouslyAndReset(Consumer<InOrder> verify) {
 		await().untilAsserted( () -> {
 			InOrder inOrder = inOrder( mocks.toArray() );
@@ -546,8 +680,14 @@ private void createAndStartExecutor(int maxTasksPerBatch, boolean fair) {
 
 	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair,
 			Consumer<? super BatchedWork<? super StubWorkProcessor>> blockingRetryProducer) {
+		createAndStartExecutor( maxTasksPerBatch, fair, 0, blockingRetryProducer );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, int batchTargetLatencyMillis,
+			Consumer<? super BatchedWork<? super StubWorkProcessor>> blockingRetryProducer) {
 		this.executor = new BatchingExecutor<>(
-				NAME, processorMock, maxTasksPerBatch, fair, failureHandlerMock, blockingRetryProducer
+				NAME, processorMock, maxTasksPerBatch, fair, false, batchTargetLatencyMillis,
+				failureHandlerMock, blockingRetryProducer
 		);
 
 		// Having multiple threads should not matter:
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Test that hits and aggregations streamed out of search responses
+ * match the content of the response body.
+ */
+class ElasticsearchSearchResultStreamingIT {
+
+	private static final int DOCUMENT_COUNT = 10;
+
+	private static final AggregationKey<Map<String, Long>> CATEGORY_AGGREGATION = AggregationKey.of( "category" );
+	private static final AggregationKey<Map<Range<Integer>, Long>> NUMBER_AGGREGATION = AggregationKey.of( "number" );
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider( String.valueOf( i ), document -> {
+					document.addValue( index.binding().number, i );
+					document.addValue( index.binding().category, "category" + ( i % 3 ) );
+				} ) )
+				.join();
+	}
+
+	@Test
+	void hitsAndAggregations() {
+		ElasticsearchSearchResult<List<?>> result = query().fetch( 5 );
+
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.hits() ).containsExactly(
+				List.of( "0", 0, "category0" ),
+				List.of( "1", 1, "category1" ),
+				List.of( "2", 2, "category2" ),
+				List.of( "3", 3, "category0" ),
+				List.of( "4", 4, "category1" )
+		);
+		assertThat( result.aggregation( CATEGORY_AGGREGATION ) ).containsOnly(
+				entry( "category0", 4L ),
+				entry( "category1", 3L ),
+				entry( "category2", 3L )
+		);
+		assertThat( result.aggregation( NUMBER_AGGREGATION ) ).containsOnly(
+				entry( Range.canonical( null, 5 ), 5L ),
+				entry( Range.canonical( 5, null ), 5L )
+		);
+
+		// The full body is still available on demand, and consistent with what was streamed.
+		JsonObject responseBody = result.responseBody();
+		assertThat( responseBody.getAsJsonObject( "hits" ).getAsJsonArray( "hits" ) ).hasSize( 5 );
+		assertThat( responseBody.getAsJsonObject( "aggregations" ).keySet() )
+				.containsExactlyInAnyOrder( CATEGORY_AGGREGATION.name(), NUMBER_AGGREGATION.name() );
+	}
+
+	@Test
+	void unrequestedAggregation_skipped() {
+		ElasticsearchSearchQuery<List<?>> query = index.createScope().query().extension( ElasticsearchExtension.get() )
+				.select( f -> f.composite( f.id(), f.field( "number", Integer.class ), f.field( "category", String.class ) ) )
+				.where( f -> f.matchAll() )
+				.aggregation( CATEGORY_AGGREGATION, f -> f.terms().field( "category", String.class ) )
+				.requestTransformer( context -> {
+					JsonObject terms = new JsonObject();
+					terms.addProperty( "field", "number" );
+					JsonObject unrequested = new JsonObject();
+					unrequested.add( "terms", terms );
+					context.body().getAsJsonObject( "aggregations" ).add( "unrequested", unrequested );
+				} )
+				.toQuery();
+
+		ElasticsearchSearchResult<List<?>> result = query.fetch( 5 );
+
+		assertThat( result.hits() ).hasSize( 5 );
+		assertThat( result.aggregation( CATEGORY_AGGREGATION ) ).containsOnly(
+				entry( "category0", 4L ),
+				entry( "category1", 3L ),
+				entry( "category2", 3L )
+		);
+		assertThat( result.responseBody().getAsJsonObject( "aggregations" ).keySet() )
+				.contains( "unrequested" );
+	}
+
+	@Test
+	void scroll() {
+		List<Object> ids = new ArrayList<>();
+		try ( SearchScroll<List<?>> scroll = query().scroll( 3 ) ) {
+			for ( SearchScrollResult<List<?>> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				assertThat( chunk.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+				for ( List<?> hit : chunk.hits() ) {
+					ids.add( hit.get( 0 ) );
+				}
+			}
+		}
+		assertThat( ids ).containsExactly( "0", "1", "2", "3", "4", "5", "6", "7", "8", "9" );
+	}
+
+	private ElasticsearchSearchQuery<List<?>> query() {
+		return index.createScope().query().extension( ElasticsearchExtension.get() )
+				.select( f -> f.composite( f.id(), f.field( "number", Integer.class ), f.field( "category", String.class ) ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ) )
+				.aggregation( CATEGORY_AGGREGATION, f -> f.terms().field( "category", String.class ) )
+				.aggregation( NUMBER_AGGREGATION, f -> f.range().field( "number", Integer.class )
+						.range( Range.canonical( null, 5 ) )
+						.range( Range.canonical( 5, null ) ) )
+				.toQuery();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", f -> f.asInteger()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+			category = root.field( "category", f -> f.asString()
+					.projectable( Projectable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -187,6 +187,12 @@ public boolean supportsExtremeScaledNumericValues() {
 		);
 	}
 
+	@Override
+	public boolean supportsNaNAndInfiniteFloatingPointValues() {
+		// Elasticsearch fails when parsing these.
+		return false;
+	}
+
 	@Override
 	public boolean supportsExtremeLongValues() {
 		// https://github.com/elastic/elasticsearch/issues/84601
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test partial updates of documents (see {@link ElasticsearchIndexSettings#INDEXING_PARTIAL_UPDATES})
+ * against an actual Elasticsearch cluster.
+ */
+class ElasticsearchPartialUpdateIT {
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start()
+				.withBackendProperty( ElasticsearchIndexSettings.INDEXING_PARTIAL_UPDATES, true )
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( documentProvider( "1", document -> {
+					document.addValue( index.binding().string1, "string1_1" );
+					document.addValue( index.binding().string2, "string2_1" );
+					document.addValue( index.binding().integer, 1 );
+					DocumentElement object = document.addObject( index.binding().object );
+					object.addValue( index.binding().objectString, "objectString_1" );
+				} ) )
+				.join();
+	}
+
+	@Test
+	void otherFieldsLeftIntact() {
+		IndexIndexingPlan plan = createIndexingPlan();
+		assertThat( plan.supportsPartialUpdates() ).isTrue();
+
+		plan.updatePartially( referenceProvider( "1" ), List.of( index.binding().string1 ),
+				document -> document.addValue( index.binding().string1, "string1_2" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		assertThat( fetchDocument() )
+				.containsExactly( "string1_2", "string2_1", 1, "objectString_1" );
+	}
+
+	@Test
+	void multipleFields() {
+		IndexIndexingPlan plan = createIndexingPlan();
+
+		plan.updatePartially( referenceProvider( "1" ), List.of( index.binding().string2, index.binding().integer ),
+				document -> {
+					document.addValue( index.binding().string2, "string2_2" );
+					document.addValue( index.binding().integer, 2 );
+				} );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		assertThat( fetchDocument() )
+				.containsExactly( "string1_1", "string2_2", 2, "objectString_1" );
+	}
+
+	@Test
+	void fieldWithoutValue_cleared() {
+		IndexIndexingPlan plan = createIndexingPlan();
+
+		plan.updatePartially( referenceProvider( "1" ), List.of( index.binding().string1, index.binding().integer ),
+				document -> document.addValue( index.binding().string1, "string1_2" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// "integer" was updated but did not receive a value: it must be cleared.
+		assertThat( fetchDocument() )
+				.containsExactly( "string1_2", "string2_1", null, "objectString_1" );
+	}
+
+	private IndexIndexingPlan createIndexingPlan() {
+		return index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE );
+	}
+
+	private List<?> fetchDocument() {
+		List<List<?>> hits = index.createScope().query()
+				.select( f -> f.composite(
+						f.field( "string1", String.class ),
+						f.field( "string2", String.class ),
+						f.field( "integer", Integer.class ),
+						f.field( "object.string", String.class )
+				) )
+				.where( f -> f.id().matching( "1" ) )
+				.fetchAllHits();
+		assertThat( hits ).hasSize( 1 );
+		return hits.get( 0 );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string1;
+		final IndexFieldReference<String> string2;
+		final IndexFieldReference<Integer> integer;
+		final IndexObjectFieldReference object;
+		final IndexFieldReference<String> objectString;
+
+		IndexBinding(IndexSchemaElement root) {
+			string1 = root.field( "string1", f -> f.asString().projectable( Projectable.YES ) ).toReference();
+			string2 = root.field( "string2", f -> f.asString().projectable( Projectable.YES ) ).toReference();
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ) ).toReference();
+			IndexSchemaObjectField objectField = root.objectField( "object" );
+			objectString = objectField.field( "string", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+			object = objectField.toReference();
+		}
+	}
+}
@@ -26,6 +26,7 @@
 import org.junit.jupiter.api.io.TempDir;
 
 import org.apache.logging.log4j.Level;
+import org.apache.lucene.misc.store.DirectIODirectory;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.MMapDirectory;
@@ -116,6 +117,42 @@ void filesystemAccessStrategy_invalid() {
 				);
 	}
 
+	@Test
+	void filesystemAccessPreload_mmap() {
+		logged.expectMessage( "Ignoring the configured preloading of index files" ).never();
+
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "mmap" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_PRELOAD, "tip,dvd" ) );
+
+		checkIndexingAndQuerying();
+	}
+
+	@Test
+	void filesystemAccessPreload_nio() {
+		logged.expectEvent( Level.WARN,
+				"Ignoring the configured preloading of index files", NIOFSDirectory.class.getName(),
+				"Context: index '" + index.name() + "'" );
+
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "nio" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_PRELOAD, "tip,dvd" ) );
+
+		checkIndexingAndQuerying();
+	}
+
+	@Test
+	void filesystemAccessMergeDirectIO() {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MERGE_DIRECT_IO, true ) );
+
+		checkIndexingAndQuerying();
+
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		assertThat( luceneIndexManager.getShardsForTests() )
+				.extracting( Shard::indexAccessorForTests )
+				.extracting( IndexAccessorImpl::getDirectoryForTests )
+				.isNotEmpty()
+				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( DirectIODirectory.class ) );
+	}
+
 	@Override
 	protected Object getDirectoryType() {
 		return "local-filesystem";
@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.cfg.spi.LuceneBackendSpiSettings;
+import org.hibernate.search.backend.lucene.resources.impl.DefaultLuceneWorkExecutorProvider;
+import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapping;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.awaitility.Awaitility;
+
+/**
+ * Test background refreshes of index readers (see {@link LuceneIndexSettings#IO_BACKGROUND_REFRESH}).
+ */
+class LuceneIndexReaderBackgroundRefreshIT {
+
+	// Different from the commit interval, so that we can tell refreshes from commits.
+	private static final int SHORT_REFRESH_INTERVAL = 200;
+	// Long enough that the refresh never happens during the test.
+	private static final int LONG_REFRESH_INTERVAL = 1_000_000;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final RecordingExecutorProvider executorProvider = new RecordingExecutorProvider();
+
+	@Test
+	void writeVisibleAfterBackgroundRefresh() {
+		setup( SHORT_REFRESH_INTERVAL );
+
+		SearchQuery<DocumentReference> query = query();
+		// Open a reader, so that there is something to refresh.
+		assertThatQuery( query ).hasNoHits();
+
+		write();
+
+		// The write schedules a background refresh at the end of the batch...
+		Awaitility.await().untilAsserted( () -> assertThat( executorProvider.refreshFutures ).hasSize( 1 ) );
+		// ... which eventually happens without any further write or search.
+		Awaitility.await().until( () -> executorProvider.refreshFutures.get( 0 ).isDone() );
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+	}
+
+	@Test
+	void writeVisibleAfterForcedRefresh() {
+		setup( LONG_REFRESH_INTERVAL );
+
+		SearchQuery<DocumentReference> query = query();
+		assertThatQuery( query ).hasNoHits();
+
+		write();
+		// The background refresh is pending: the write is not visible yet.
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( "2" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		assertThatQuery( query ).hasTotalHitCount( 2 );
+	}
+
+	@Test
+	void backgroundRefreshStoppedOnClose() {
+		StubMapping mapping = setup( LONG_REFRESH_INTERVAL );
+
+		assertThatQuery( query() ).hasNoHits();
+		write();
+
+		Awaitility.await().untilAsserted( () -> assertThat( executorProvider.refreshFutures ).hasSize( 1 ) );
+		Future<?> pendingRefresh = executorProvider.refreshFutures.get( 0 );
+		assertThat( pendingRefresh.isDone() ).isFalse();
+
+		mapping.close();
+
+		assertThat( pendingRefresh.isCancelled() ).isTrue();
+	}
+
+	private SearchQuery<DocumentReference> query() {
+		return index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+	}
+
+	private void write() {
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+	}
+
+	private StubMapping setup(int refreshInterval) {
+		executorProvider.refreshInterval = refreshInterval;
+		return setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, refreshInterval )
+				.withBackendProperty( LuceneIndexSettings.IO_BACKGROUND_REFRESH, true )
+				.withBackendProperty( LuceneBackendSpiSettings.Radicals.BACKEND_WORK_EXECUTOR_PROVIDER,
+						BeanReference.ofInstance( executorProvider ) )
+				.withIndex( index )
+				.setup();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> textField;
+
+		IndexBinding(IndexSchemaElement root) {
+			textField = root.field( "text", c -> c.asString() ).toReference();
+		}
+	}
+
+	private static class RecordingExecutorProvider implements LuceneWorkExecutorProvider {
+		private final LuceneWorkExecutorProvider delegate = new DefaultLuceneWorkExecutorProvider();
+		private final List<Future<?>> refreshFutures = new CopyOnWriteArrayList<>();
+		private volatile long refreshInterval;
+
+		@Override
+		public SimpleScheduledExecutor writeExecutor(Context context) {
+			return new RecordingScheduledExecutor( delegate.writeExecutor( context ) );
+		}
+
+		@Override
+		public ExecutorService searchExecutor(Context context) {
+			return delegate.searchExecutor( context );
+		}
+
+		private class RecordingScheduledExecutor implements SimpleScheduledExecutor {
+			private final SimpleScheduledExecutor delegate;
+
+			private RecordingScheduledExecutor(SimpleScheduledExecutor delegate) {
+				this.delegate = delegate;
+			}
+
+			@Override
+			public Future<?> submit(Runnable task) {
+				return delegate.submit( task );
+			}
+
+			@Override
+			public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+				ScheduledFuture<?> future = delegate.schedule( command, delay, unit );
+				if ( unit.toMillis( delay ) == refreshInterval ) {
+					refreshFutures.add( future );
+				}
+				return future;
+			}
+
+			@Override
+			public Future<?> offer(Runnable task) {
+				return delegate.offer( task );
+			}
+
+			@Override
+			public void shutdownNow() {
+				delegate.shutdownNow();
+			}
+
+			@Override
+			public boolean isBlocking() {
+				return delegate.isBlocking();
+			}
+		}
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.cfg.spi.LuceneBackendSpiSettings;
+import org.hibernate.search.backend.lucene.resources.impl.DefaultLuceneWorkExecutorProvider;
+import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapping;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test that searching index segments concurrently
+ * (see {@link LuceneBackendSettings#SEARCH_THREAD_POOL_SIZE})
+ * gives the same results as searching them sequentially.
+ */
+class LuceneConcurrentSearchIT {
+
+	// Lucene puts at most 5 segments in a slice: make sure we end up with multiple slices.
+	private static final int SEGMENT_COUNT = 12;
+	private static final int DOCUMENTS_PER_SEGMENT = 20;
+	private static final int CATEGORY_COUNT = 7;
+
+	private static final AggregationKey<Map<String, Long>> CATEGORY_AGGREGATION = AggregationKey.of( "category" );
+	private static final AggregationKey<Map<Range<Integer>, Long>> NUMBER_AGGREGATION = AggregationKey.of( "number" );
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> sequentialIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( "sequential" );
+	private final SimpleMappedIndex<IndexBinding> concurrentIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( "concurrent" );
+
+	private final CountingSearchExecutorProvider executorProvider = new CountingSearchExecutorProvider();
+
+	@Test
+	void sameResultsAsSequentialSearch() {
+		setup( sequentialIndex, 0 );
+		setup( concurrentIndex, 4 );
+		initData( sequentialIndex );
+		initData( concurrentIndex );
+
+		SearchResult<List<?>> sequentialResult = search( sequentialIndex );
+		SearchResult<List<?>> concurrentResult = search( concurrentIndex );
+
+		assertThat( executorProvider.executedTasks.get() )
+				.as( "Number of tasks submitted to the search executor" )
+				.isPositive();
+
+		assertThat( concurrentResult.total().hitCount() )
+				.isEqualTo( sequentialResult.total().hitCount() )
+				.isPositive();
+		assertThat( concurrentResult.hits() )
+				.isNotEmpty()
+				.containsExactlyElementsOf( sequentialResult.hits() );
+		assertThat( concurrentResult.aggregation( CATEGORY_AGGREGATION ) )
+				.hasSize( CATEGORY_COUNT )
+				.containsExactlyEntriesOf( sequentialResult.aggregation( CATEGORY_AGGREGATION ) );
+		assertThat( concurrentResult.aggregation( NUMBER_AGGREGATION ) )
+				.containsExactlyEntriesOf( sequentialResult.aggregation( NUMBER_AGGREGATION ) );
+	}
+
+	@Test
+	void executorShutDownWithBackend() {
+		StubMapping mapping = setup( concurrentIndex, 4 );
+		initData( concurrentIndex );
+		search( concurrentIndex );
+
+		ExecutorService searchExecutor = executorProvider.searchExecutor;
+		assertThat( searchExecutor ).isNotNull();
+		assertThat( searchExecutor.isShutdown() ).isFalse();
+
+		mapping.close();
+
+		assertThat( searchExecutor.isShutdown() ).isTrue();
+	}
+
+	private SearchResult<List<?>> search(SimpleMappedIndex<IndexBinding> index) {
+		return index.query()
+				.select( f -> f.composite( f.id(), f.field( "number" ), f.field( "category" ) ) )
+				.where( f -> f.range().field( "number" ).atLeast( 10 ) )
+				.sort( f -> f.field( "number" ).desc() )
+				.aggregation( CATEGORY_AGGREGATION, f -> f.terms().field( "category", String.class ) )
+				.aggregation( NUMBER_AGGREGATION, f -> f.range().field( "number", Integer.class )
+						.range( Range.canonical( null, 50 ) )
+						.range( Range.canonical( 50, 150 ) )
+						.range( Range.canonical( 150, null ) ) )
+				.fetch( 30 );
+	}
+
+	private StubMapping setup(SimpleMappedIndex<IndexBinding> index, int searchThreadPoolSize) {
+		return setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, searchThreadPoolSize )
+				.withBackendProperty( LuceneBackendSpiSettings.Radicals.BACKEND_WORK_EXECUTOR_PROVIDER,
+						BeanReference.ofInstance( executorProvider ) )
+				// Prevent merges, so that we keep one segment per batch of documents.
+				.withBackendProperty( LuceneIndexSettings.IO_MERGE_FACTOR, 1000 )
+				.withIndex( index )
+				.setup();
+	}
+
+	private void initData(SimpleMappedIndex<IndexBinding> index) {
+		for ( int segment = 0; segment < SEGMENT_COUNT; segment++ ) {
+			int offset = segment * DOCUMENTS_PER_SEGMENT;
+			// Each call to join() triggers a refresh, hence creates a new segment.
+			index.bulkIndexer()
+					.add( DOCUMENTS_PER_SEGMENT, i -> {
+						int number = offset + i;
+						return documentProvider( String.valueOf( number ), document -> {
+							document.addValue( index.binding().number, number );
+							document.addValue( index.binding().category, "category" + ( number % CATEGORY_COUNT ) );
+						} );
+					} )
+					.join();
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", f -> f.asInteger()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+			category = root.field( "category", f -> f.asString()
+					.projectable( Projectable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+
+	private static class CountingSearchExecutorProvider implements LuceneWorkExecutorProvider {
+		private final LuceneWorkExecutorProvider delegate = new DefaultLuceneWorkExecutorProvider();
+		private final AtomicInteger executedTasks = new AtomicInteger();
+		private volatile ExecutorService searchExecutor;
+
+		@Override
+		public SimpleScheduledExecutor writeExecutor(Context context) {
+			return delegate.writeExecutor( context );
+		}
+
+		@Override
+		public ExecutorService searchExecutor(Context context) {
+			ExecutorService executor = delegate.searchExecutor( context );
+			if ( executor == null ) {
+				return null;
+			}
+			searchExecutor = executor;
+			return new CountingExecutorService( executor, executedTasks );
+		}
+	}
+
+	private static class CountingExecutorService extends AbstractExecutorService {
+		private final ExecutorService delegate;
+		private final AtomicInteger executedTasks;
+
+		private CountingExecutorService(ExecutorService delegate, AtomicInteger executedTasks) {
+			this.delegate = delegate;
+			this.executedTasks = executedTasks;
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			executedTasks.incrementAndGet();
+			delegate.execute( command );
+		}
+
+		@Override
+		public void shutdown() {
+			delegate.shutdown();
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			return delegate.shutdownNow();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return delegate.isShutdown();
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return delegate.isTerminated();
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+			return delegate.awaitTermination( timeout, unit );
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cache.SearchResultCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test the search result cache (see {@link LuceneBackendSettings#QUERY_RESULT_CACHE_MAX_ENTRIES})
+ * with actual searches.
+ */
+class LuceneSearchResultCacheIT {
+
+	private static final int DOCUMENT_COUNT = 20;
+
+	private static final AggregationKey<Map<String, Long>> CATEGORY_AGGREGATION = AggregationKey.of( "category" );
+	private static final AggregationKey<Integer> SUM_AGGREGATION = AggregationKey.of( "sum" );
+	private static final AggregationKey<Integer> AVG_AGGREGATION = AggregationKey.of( "avg" );
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private SearchResultCacheStatistics statistics;
+
+	@BeforeEach
+	void setup() {
+		SearchIntegration integration = setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_ENTRIES, 100 )
+				.withIndex( index )
+				.setup().integration();
+		statistics = integration.backend().unwrap( LuceneBackend.class ).searchResultCacheStatistics().orElseThrow();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider( String.valueOf( i ), document -> {
+					document.addValue( index.binding().number, i );
+					document.addValue( index.binding().category, "category" + ( i % 3 ) );
+				} ) )
+				.join();
+	}
+
+	@Test
+	void aggregations_hit() {
+		SearchResult<List<?>> first = aggregationQuery().fetch( 5 );
+		assertThat( statistics.missCount() ).isEqualTo( 1 );
+		assertThat( statistics.hitCount() ).isZero();
+
+		// A new query object has new aggregation collectors, but should still hit the cache.
+		SearchResult<List<?>> second = aggregationQuery().fetch( 5 );
+		assertThat( statistics.missCount() ).isEqualTo( 1 );
+		assertThat( statistics.hitCount() ).isEqualTo( 1 );
+
+		assertThat( second.total().hitCount() ).isEqualTo( first.total().hitCount() );
+		assertThat( second.hits() ).containsExactlyElementsOf( first.hits() );
+		assertThat( second.aggregation( CATEGORY_AGGREGATION ) )
+				.isNotEmpty()
+				.containsExactlyEntriesOf( first.aggregation( CATEGORY_AGGREGATION ) );
+		assertThat( second.aggregation( SUM_AGGREGATION ) )
+				.isEqualTo( first.aggregation( SUM_AGGREGATION ) )
+				.isEqualTo( DOCUMENT_COUNT * ( DOCUMENT_COUNT - 1 ) / 2 );
+		assertThat( second.aggregation( AVG_AGGREGATION ) )
+				.isEqualTo( first.aggregation( AVG_AGGREGATION ) );
+	}
+
+	@Test
+	void differentQuery_miss() {
+		aggregationQuery().fetch( 5 );
+		index.query()
+				.select( f -> f.id() )
+				.where( f -> f.range().field( "number" ).atLeast( 10 ) )
+				.fetch( 5 );
+
+		assertThat( statistics.missCount() ).isEqualTo( 2 );
+		assertThat( statistics.hitCount() ).isZero();
+	}
+
+	@Test
+	void cachedResultsNotAlteredByRescoring() {
+		// Sorting by field and projecting on the score requires rescoring top docs after collection,
+		// which must not alter cached results.
+		SearchQuery<List<?>> query = index.query()
+				.select( f -> f.composite( f.id(), f.score() ) )
+				.where( f -> f.match().field( "category" ).matching( "category1" ) )
+				.sort( f -> f.field( "number" ).desc() )
+				.toQuery();
+
+		SearchResult<List<?>> first = query.fetch( 5 );
+		SearchResult<List<?>> second = query.fetch( 5 );
+		SearchResult<List<?>> third = query.fetch( 5 );
+
+		assertThat( statistics.hitCount() ).isEqualTo( 2 );
+		assertThat( first.hits() ).isNotEmpty();
+		assertThat( second.hits() ).containsExactlyElementsOf( first.hits() );
+		assertThat( third.hits() ).containsExactlyElementsOf( first.hits() );
+		assertThat( third.total().hitCount() ).isEqualTo( first.total().hitCount() );
+	}
+
+	@Test
+	void invalidation() {
+		SearchResult<List<?>> before = aggregationQuery().fetch( 5 );
+
+		index.bulkIndexer()
+				.add( String.valueOf( DOCUMENT_COUNT ), document -> {
+					document.addValue( index.binding().number, DOCUMENT_COUNT );
+					document.addValue( index.binding().category, "category0" );
+				} )
+				.join();
+
+		SearchResult<List<?>> after = aggregationQuery().fetch( 5 );
+		assertThat( statistics.hitCount() ).isZero();
+		assertThat( statistics.missCount() ).isEqualTo( 2 );
+		assertThat( after.total().hitCount() ).isEqualTo( before.total().hitCount() + 1 );
+		assertThat( after.aggregation( SUM_AGGREGATION ) )
+				.isEqualTo( before.aggregation( SUM_AGGREGATION ) + DOCUMENT_COUNT );
+	}
+
+	private SearchQuery<List<?>> aggregationQuery() {
+		return index.query()
+				.select( f -> f.composite( f.id(), f.field( "number" ) ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.aggregation( CATEGORY_AGGREGATION, f -> f.terms().field( "category", String.class ) )
+				.aggregation( SUM_AGGREGATION, f -> f.sum().field( "number", Integer.class ) )
+				.aggregation( AVG_AGGREGATION, f -> f.avg().field( "number", Integer.class ) )
+				.toQuery();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", f -> f.asInteger()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+			category = root.field( "category", f -> f.asString()
+					.projectable( Projectable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.impl.integrationtest.backend.lucene.query.SlowQuery;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test that partial results are only returned on timeout
+ * when the request allows it, i.e. with a soft timeout ({@code truncateAfter})
+ * and shards searched separately (see {@link LuceneBackendSettings#SEARCH_SLICE_PER_SHARD}).
+ */
+class LuceneShardSlicingSearchTimeoutIT {
+
+	private static final int SHARD_COUNT = 3;
+	private static final int DOCUMENT_COUNT = 600;
+	// SlowQuery takes 1ms per document, and Lucene checks the timeout every 100 documents or so:
+	// searching each shard fully takes about 200ms, so each shard will only be partially searched.
+	private static final long TIMEOUT_MS = 50;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	void slicePerShard_softTimeout_partialResults() {
+		setup( true );
+
+		SearchResult<DocumentReference> result = startSlowQuery()
+				.truncateAfter( TIMEOUT_MS, TimeUnit.MILLISECONDS )
+				.fetch( DOCUMENT_COUNT );
+
+		assertThat( result.timedOut() ).isTrue();
+		assertThat( result.total().isHitCountExact() ).isFalse();
+		assertThat( result.total().hitCountLowerBound() )
+				.isPositive()
+				.isLessThan( DOCUMENT_COUNT );
+		assertThat( result.hits() )
+				.isNotEmpty()
+				.hasSizeLessThan( DOCUMENT_COUNT );
+	}
+
+	@Test
+	void slicePerShard_hardTimeout_failure() {
+		setup( true );
+
+		assertThatThrownBy( () -> startSlowQuery()
+				.failAfter( TIMEOUT_MS, TimeUnit.MILLISECONDS )
+				.fetch( DOCUMENT_COUNT ) )
+				.isInstanceOf( SearchTimeoutException.class );
+	}
+
+	@Test
+	void noSlicePerShard_softTimeout_noPartialResults() {
+		setup( false );
+
+		SearchResult<DocumentReference> result = startSlowQuery()
+				.truncateAfter( TIMEOUT_MS, TimeUnit.MILLISECONDS )
+				.fetch( DOCUMENT_COUNT );
+
+		assertThat( result.timedOut() ).isTrue();
+		assertThat( result.total().isHitCountExact() ).isFalse();
+		assertThat( result.total().hitCountLowerBound() ).isZero();
+		assertThat( result.hits() ).isEmpty();
+	}
+
+	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> startSlowQuery() {
+		return index.createScope().query()
+				.where( f -> f.extension( LuceneExtension.get() ).fromLuceneQuery( new SlowQuery( 1 ) ) );
+	}
+
+	private void setup(boolean slicePerShard) {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, SHARD_COUNT )
+				.withBackendProperty( LuceneBackendSettings.SEARCH_SLICE_PER_SHARD, slicePerShard )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider( String.valueOf( i ),
+						document -> document.addValue( index.binding().number, i ) ) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", f -> f.asInteger() ).toReference();
+		}
+	}
+}
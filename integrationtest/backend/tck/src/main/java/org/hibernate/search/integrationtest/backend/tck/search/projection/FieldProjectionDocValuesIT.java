@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.projection;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.types.dsl.SearchableProjectableIndexFieldTypeOptionsStep;
+import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeOptionsStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.model.singlefield.SingleFieldIndexBinding;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.types.FieldTypeDescriptor;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckConfiguration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TestedFieldStructure;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests that projections on single-valued fields return exactly the same values
+ * whether the fields have doc values (because they are sortable) or not.
+ * <p>
+ * Some backends read such projections from doc values instead of stored fields when it's lossless:
+ * this checks that the values are indeed the same, including edge cases
+ * (negative zero, subnormal numbers, NaN, empty strings, nested documents, ...)
+ * and when only some of the targeted indexes have doc values.
+ */
+class FieldProjectionDocValuesIT<F> {
+
+	private static final List<
+			FieldTypeDescriptor<?, ? extends SearchableProjectableIndexFieldTypeOptionsStep<?, ?>>> supportedFieldTypes =
+					FieldTypeDescriptor.getAll().stream()
+							.filter( FieldTypeDescriptor::isFieldSortSupported )
+							.collect( Collectors.toList() );
+	private static final List<DataSet<?>> dataSets = new ArrayList<>();
+	private static final List<Arguments> parameters = new ArrayList<>();
+
+	static {
+		for ( FieldTypeDescriptor<?, ?> fieldType : supportedFieldTypes ) {
+			for ( TestedFieldStructure fieldStructure : TestedFieldStructure.all() ) {
+				if ( fieldStructure.isMultiValued() ) {
+					continue;
+				}
+				DataSet<?> dataSet = new DataSet<>( fieldStructure, fieldType );
+				dataSets.add( dataSet );
+				parameters.add( Arguments.of( fieldStructure, fieldType, dataSet ) );
+			}
+		}
+	}
+
+	public static List<? extends Arguments> params() {
+		return parameters;
+	}
+
+	@RegisterExtension
+	public static SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<SingleFieldIndexBinding> storedIndex =
+			SimpleMappedIndex.of( root -> SingleFieldIndexBinding.createWithSingleValuedNestedFields(
+					root, supportedFieldTypes, c -> c.projectable( Projectable.YES ) ) )
+					.name( "stored" );
+	private static final SimpleMappedIndex<SingleFieldIndexBinding> docValuesIndex =
+			SimpleMappedIndex.of( root -> SingleFieldIndexBinding.createWithSingleValuedNestedFields(
+					root, supportedFieldTypes, FieldProjectionDocValuesIT::projectableAndSortable ) )
+					.name( "docValues" );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start().withIndexes( storedIndex, docValuesIndex ).setup();
+
+		BulkIndexer storedIndexer = storedIndex.bulkIndexer();
+		BulkIndexer docValuesIndexer = docValuesIndex.bulkIndexer();
+		for ( DataSet<?> dataSet : dataSets ) {
+			dataSet.contribute( storedIndex, storedIndexer );
+			dataSet.contribute( docValuesIndex, docValuesIndexer );
+		}
+		storedIndexer.join( docValuesIndexer );
+	}
+
+	@ParameterizedTest(name = "{0} - {1}")
+	@MethodSource("params")
+	void withoutDocValues(TestedFieldStructure fieldStructure,
+			FieldTypeDescriptor<F, ?> fieldType, DataSet<F> dataSet) {
+		assertProjectedValues( storedIndex.createScope(), fieldStructure, fieldType, dataSet, 1 );
+	}
+
+	@ParameterizedTest(name = "{0} - {1}")
+	@MethodSource("params")
+	void withDocValues(TestedFieldStructure fieldStructure,
+			FieldTypeDescriptor<F, ?> fieldType, DataSet<F> dataSet) {
+		assertProjectedValues( docValuesIndex.createScope(), fieldStructure, fieldType, dataSet, 1 );
+	}
+
+	@ParameterizedTest(name = "{0} - {1}")
+	@MethodSource("params")
+	void multiIndex_docValuesInSomeIndexesOnly(TestedFieldStructure fieldStructure,
+			FieldTypeDescriptor<F, ?> fieldType, DataSet<F> dataSet) {
+		assertProjectedValues( storedIndex.createScope( docValuesIndex ), fieldStructure, fieldType, dataSet, 2 );
+	}
+
+	private void assertProjectedValues(StubMappingScope scope, TestedFieldStructure fieldStructure,
+			FieldTypeDescriptor<F, ?> fieldType, DataSet<F> dataSet, int indexCount) {
+		String fieldPath = storedIndex.binding().getFieldPath( fieldStructure, fieldType );
+
+		List<List<?>> expected = new ArrayList<>();
+		for ( int i = 0; i < indexCount; i++ ) {
+			for ( int docNumber = 0; docNumber < dataSet.values.size(); docNumber++ ) {
+				expected.add( Arrays.asList( dataSet.docId( docNumber ), dataSet.values.get( docNumber ) ) );
+			}
+			expected.add( Arrays.asList( dataSet.emptyDocId(), null ) );
+		}
+
+		// Values are compared with equals(), which tells apart 0.0 and -0.0, and considers NaN equal to itself.
+		assertThatQuery( scope.query()
+				.select( f -> f.composite(
+						f.id( String.class ),
+						f.field( fieldPath, fieldType.getJavaType() )
+				) )
+				.where( f -> f.matchAll() )
+				.routing( dataSet.routingKey )
+				.toQuery() )
+				.hits()
+				.asIs()
+				.containsExactlyInAnyOrderElementsOf( expected );
+	}
+
+	private static void projectableAndSortable(SearchableProjectableIndexFieldTypeOptionsStep<?, ?> c) {
+		c.projectable( Projectable.YES );
+		if ( c instanceof StandardIndexFieldTypeOptionsStep ) {
+			( (StandardIndexFieldTypeOptionsStep<?, ?>) c ).sortable( Sortable.YES );
+		}
+	}
+
+	private static class DataSet<F> {
+		private final TestedFieldStructure fieldStructure;
+		private final FieldTypeDescriptor<F, ?> fieldType;
+		private final String routingKey;
+		private final List<F> values;
+
+		private DataSet(TestedFieldStructure fieldStructure, FieldTypeDescriptor<F, ?> fieldType) {
+			this.fieldStructure = fieldStructure;
+			this.fieldType = fieldType;
+			this.routingKey = fieldType.getUniqueName() + "_" + fieldStructure.getUniqueName();
+			this.values = new ArrayList<>( fieldType.getIndexableValues().getSingle() );
+			this.values.addAll( edgeCaseValues( fieldType ) );
+		}
+
+		private String docId(int docNumber) {
+			return routingKey + "_doc_" + docNumber;
+		}
+
+		private String emptyDocId() {
+			return routingKey + "_emptyDoc";
+		}
+
+		private void contribute(SimpleMappedIndex<SingleFieldIndexBinding> index, BulkIndexer indexer) {
+			contribute( index, indexer, emptyDocId(), null );
+			for ( int docNumber = 0; docNumber < values.size(); docNumber++ ) {
+				contribute( index, indexer, docId( docNumber ), values.get( docNumber ) );
+			}
+		}
+
+		private void contribute(SimpleMappedIndex<SingleFieldIndexBinding> index, BulkIndexer indexer,
+				String docId, F value) {
+			indexer.add( documentProvider( docId, routingKey,
+					document -> index.binding().initSingleValued( fieldType, fieldStructure.location,
+							document, value ) ) );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <F> List<F> edgeCaseValues(FieldTypeDescriptor<F, ?> fieldType) {
+		boolean nanAndInfinity = TckConfiguration.get().getBackendFeatures()
+				.supportsNaNAndInfiniteFloatingPointValues();
+		Class<F> javaType = fieldType.getJavaType();
+		if ( Float.class.equals( javaType ) ) {
+			List<Float> values = new ArrayList<>( Arrays.asList(
+					-0.0f, Float.MIN_VALUE, -Float.MIN_VALUE, Float.MIN_NORMAL / 2, Float.MIN_NORMAL ) );
+			if ( nanAndInfinity ) {
+				values.addAll( Arrays.asList( Float.NaN, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY ) );
+			}
+			return (List<F>) values;
+		}
+		else if ( Double.class.equals( javaType ) ) {
+			List<Double> values = new ArrayList<>( Arrays.asList(
+					-0.0, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MIN_NORMAL / 2, Double.MIN_NORMAL ) );
+			if ( nanAndInfinity ) {
+				values.addAll( Arrays.asList( Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY ) );
+			}
+			return (List<F>) values;
+		}
+		else if ( String.class.equals( javaType ) ) {
+			return (List<F>) Collections.singletonList( "" );
+		}
+		return Collections.emptyList();
+	}
+}
@@ -13,10 +13,13 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
 import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.backend.types.dsl.SearchableProjectableIndexFieldTypeOptionsStep;
+import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeOptionsStep;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.model.singlefield.AbstractObjectBinding;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.model.singlefield.SingleFieldIndexBinding;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.types.FieldTypeDescriptor;
@@ -79,15 +82,34 @@ public static List<? extends Arguments> params() {
 
 	private static final SimpleMappedIndex<SingleFieldIndexBinding> index = SimpleMappedIndex.of( bindingFactory );
 
+	private static final SimpleMappedIndex<SingleFieldIndexBinding> sortableIndex = SimpleMappedIndex.of(
+			root -> SingleFieldIndexBinding.createWithSingleValuedNestedFields(
+					root,
+					supportedFieldTypes.stream().filter( FieldTypeDescriptor::isFieldSortSupported )
+							.collect( Collectors.toList() ),
+					c -> {
+						c.projectable( Projectable.YES );
+						if ( c instanceof StandardIndexFieldTypeOptionsStep ) {
+							( (StandardIndexFieldTypeOptionsStep<?, ?>) c ).sortable( Sortable.YES );
+						}
+					}
+			)
+	)
+			.name( "sortable" );
+
 	@BeforeAll
 	static void setup() {
-		setupHelper.start().withIndex( index ).setup();
+		setupHelper.start().withIndexes( index, sortableIndex ).setup();
 
 		BulkIndexer indexer = index.bulkIndexer();
+		BulkIndexer sortableIndexer = sortableIndex.bulkIndexer();
 		for ( DataSet<?> dataSet : dataSets ) {
-			dataSet.contribute( indexer );
+			dataSet.contribute( index, indexer );
+			if ( dataSet.fieldType.isFieldSortSupported() ) {
+				dataSet.contribute( sortableIndex, sortableIndexer );
+			}
 		}
-		indexer.join();
+		indexer.join( sortableIndexer );
 	}
 
 	@ParameterizedTest(name = "{0} - {1}")
@@ -132,6 +154,46 @@ void noClass(TestedFieldStructure fieldStructure,
 				);
 	}
 
+	/**
+	 * Test projecting on fields that are both projectable and sortable.
+	 * <p>
+	 * Some backends read values of such fields from doc values,
+	 * without loading stored fields at all when no other projection needs them:
+	 * the projected values must be the same as with stored fields.
+	 */
+	@ParameterizedTest(name = "{0} - {1}")
+	@MethodSource("params")
+	void sortable(TestedFieldStructure fieldStructure,
+			FieldTypeDescriptor<F, ?> fieldType, DataSet<F> dataSet) {
+		assumeTrue( fieldType.isFieldSortSupported(), "This test is only relevant for sortable fields" );
+
+		StubMappingScope scope = sortableIndex.createScope();
+
+		String fieldPath = getFieldPath( fieldStructure, fieldType );
+
+		assertThatQuery( scope.query()
+				.select( f -> f.composite(
+						f.field( fieldPath, fieldType.getJavaType() ),
+						f.field( fieldPath, fieldType.getJavaType() ).multi()
+				) )
+				.where( f -> f.matchAll() )
+				.routing( dataSet.routingKey )
+				.toQuery() )
+				.hits()
+				.asIs()
+				.usingRecursiveFieldByFieldElementComparator()
+				.containsOnly(
+						Arrays.asList( dataSet.getFieldValue( 1 ), Collections.singletonList( dataSet.getFieldValue( 1 ) ) ),
+						Arrays.asList( dataSet.getFieldValue( 2 ), Collections.singletonList( dataSet.getFieldValue( 2 ) ) ),
+						Arrays.asList( dataSet.getFieldValue( 3 ), Collections.singletonList( dataSet.getFieldValue( 3 ) ) ),
+						// Empty document
+						Arrays.asList( null,
+								TckConfiguration.get().getBackendFeatures().projectionPreservesNulls()
+										? Collections.singletonList( null )
+										: Collections.emptyList() )
+				);
+	}
+
 	/**
 	 * Test requesting a multi-valued projection on a single-valued field.
 	 */
@@ -244,7 +306,7 @@ private String emptyDocId(int docNumber) {
 			return routingKey + "_emptyDoc_" + docNumber;
 		}
 
-		private void contribute(BulkIndexer indexer) {
+		private void contribute(SimpleMappedIndex<SingleFieldIndexBinding> index, BulkIndexer indexer) {
 			indexer.add( documentProvider( emptyDocId( 1 ), routingKey,
 					document -> index.binding().initSingleValued( fieldType, fieldStructure.location,
 							document, null ) ) );
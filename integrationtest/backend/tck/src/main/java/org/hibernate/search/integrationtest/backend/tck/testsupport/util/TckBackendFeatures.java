@@ -90,6 +90,10 @@ public boolean supportsExtremeScaledNumericValues() {
 		return true;
 	}
 
+	public boolean supportsNaNAndInfiniteFloatingPointValues() {
+		return true;
+	}
+
 	public boolean supportsHighlightableWithoutProjectable() {
 		return true;
 	}
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.orm.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.integrationtest.mapper.orm.outboxpolling.testsupport.util.OutboxEventFilter;
+import org.hibernate.search.integrationtest.mapper.orm.outboxpolling.testsupport.util.TestingOutboxPollingInternalConfigurer;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.impl.HibernateOrmMapperOutboxPollingImplSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Tests coalescing of outbox events related to the same entity.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OutboxPollingAutomaticIndexingCoalescingIT {
+
+	private static final OutboxEventFilter eventFilter = new OutboxEventFilter();
+
+	@RegisterExtension
+	public static BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public static OrmSetupHelper ormSetupHelper =
+			OrmSetupHelper.withCoordinationStrategy( CoordinationStrategyExpectations.outboxPolling() )
+					.withBackendMock( backendMock );
+	private SessionFactory sessionFactory;
+
+	@BeforeAll
+	void setup() {
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b
+				.field( "text", String.class ) );
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty(
+						HibernateOrmMapperOutboxPollingImplSettings.COORDINATION_INTERNAL_CONFIGURER,
+						new TestingOutboxPollingInternalConfigurer().outboxEventFilter( eventFilter )
+				)
+				.withProperty( HibernateOrmMapperOutboxPollingSettings.COORDINATION_EVENT_PROCESSOR_COALESCING, true )
+				.withAnnotatedTypes( IndexedEntity.class )
+				.setup();
+	}
+
+	@BeforeEach
+	void resetFilter() {
+		eventFilter.reset();
+		eventFilter.hideAllEvents();
+	}
+
+	@Test
+	void sameTransaction_multipleSends() {
+		with( sessionFactory ).runInTransaction( session -> {
+			IndexedEntity entity = new IndexedEntity( 1, "initialValue" );
+			session.persist( entity );
+			session.flush();
+			// Send the events for the entity before the transaction is committed
+			Search.session( session ).indexingPlan().execute();
+
+			entity.setText( "updatedValue" );
+		} );
+
+		// The second event was merged into the first one
+		assertThat( with( sessionFactory ).applyInTransaction( eventFilter::countOutboxEventsNoFilter ) )
+				.isEqualTo( 1L );
+
+		backendMock.expectWorks( IndexedEntity.NAME )
+				.add( "1", b -> b
+						.field( "text", "updatedValue" ) );
+		eventFilter.showAllEventsUpToNow( sessionFactory );
+		eventFilter.awaitUntilNoMoreVisibleEvents( sessionFactory );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void multipleTransactions() {
+		backendMock.expectWorks( IndexedEntity.NAME )
+				.add( "2", b -> b
+						.field( "text", "initialValue" ) );
+		with( sessionFactory ).runInTransaction( session -> session.persist( new IndexedEntity( 2, "initialValue" ) ) );
+		eventFilter.showAllEventsUpToNow( sessionFactory );
+		eventFilter.awaitUntilNoMoreVisibleEvents( sessionFactory );
+		backendMock.verifyExpectationsMet();
+
+		eventFilter.hideAllEvents();
+		for ( int i = 0; i < 3; i++ ) {
+			String text = "updatedValue" + i;
+			with( sessionFactory ).runInTransaction( session -> session.find( IndexedEntity.class, 2 ).setText( text ) );
+		}
+		List<UUID> eventIds = with( sessionFactory ).applyInTransaction( eventFilter::findOutboxEventIdsNoFilter );
+		assertThat( eventIds ).hasSize( 3 );
+
+		// Only make the first event visible:
+		// the other events for the same entity should be processed along with it.
+		backendMock.expectWorks( IndexedEntity.NAME )
+				.addOrUpdate( "2", b -> b
+						.field( "text", "updatedValue2" ) );
+		eventFilter.showOnlyEvents( Collections.singletonList( eventIds.get( 0 ) ) );
+		eventFilter.awaitUntilNoMoreVisibleEvents( sessionFactory );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( with( sessionFactory ).applyInTransaction( eventFilter::countOutboxEventsNoFilter ) )
+				.isZero();
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed
+	public static class IndexedEntity {
+		static final String NAME = "Indexed";
+
+		@Id
+		private Integer id;
+		@KeywordField
+		private String text;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.orm.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.time.Duration;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.analysis.AnalyzerNames;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Tests that event processors get woken up by the "local" notifier
+ * instead of waiting for the (very long) polling interval.
+ */
+class OutboxPollingAutomaticIndexingNotifierIT {
+
+	private static final int POLLING_INTERVAL = 5_000;
+
+	@RegisterExtension
+	public BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public OrmSetupHelper ormSetupHelper =
+			OrmSetupHelper.withCoordinationStrategy( CoordinationStrategyExpectations.outboxPolling() )
+					.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@BeforeEach
+	void setup() {
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b
+				.field( "text", String.class, f -> f.analyzerName( AnalyzerNames.DEFAULT ) ) );
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperOutboxPollingSettings.COORDINATION_EVENT_PROCESSOR_NOTIFIER, "local" )
+				.withProperty( HibernateOrmMapperOutboxPollingSettings.COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL,
+						POLLING_INTERVAL )
+				.withProperty( HibernateOrmMapperOutboxPollingSettings.COORDINATION_EVENT_PROCESSOR_PULSE_INTERVAL,
+						POLLING_INTERVAL )
+				.withProperty( HibernateOrmMapperOutboxPollingSettings.COORDINATION_EVENT_PROCESSOR_PULSE_EXPIRATION,
+						POLLING_INTERVAL * 3 )
+				.setup( IndexedEntity.class );
+
+		backendMock.verifyExpectationsMet();
+
+		// Wait for the event processor to join the cluster and start processing events,
+		// which requires a few pulses regardless of notifications.
+		with( sessionFactory ).runInTransaction( session -> {
+			session.persist( new IndexedEntity( 0, "initial" ) );
+			backendMock.expectWorks( IndexedEntity.NAME )
+					.add( "0", b -> b.field( "text", "initial" ) );
+		} );
+		backendMock.indexingWorkExpectations().awaitIndexingAssertions( Duration.ofSeconds( 60 ),
+				() -> assertThat( backendMock.remainingExpectedIndexingCount() ).isZero() );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void wakeUp() {
+		for ( int i = 1; i <= 3; i++ ) {
+			int id = i;
+			with( sessionFactory ).runInTransaction( session -> {
+				session.persist( new IndexedEntity( id, "text" + id ) );
+				backendMock.expectWorks( IndexedEntity.NAME )
+						.add( String.valueOf( id ), b -> b.field( "text", "text" + id ) );
+			} );
+			// Without notifications, we would have to wait up to the polling interval.
+			backendMock.indexingWorkExpectations().awaitIndexingAssertions( Duration.ofMillis( POLLING_INTERVAL / 2 ),
+					() -> assertThat( backendMock.remainingExpectedIndexingCount() ).isZero() );
+			backendMock.verifyExpectationsMet();
+		}
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed
+	public static class IndexedEntity {
+
+		static final String NAME = "IndexedEntity";
+
+		@Id
+		private Integer id;
+		@FullTextField
+		private String text;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+}
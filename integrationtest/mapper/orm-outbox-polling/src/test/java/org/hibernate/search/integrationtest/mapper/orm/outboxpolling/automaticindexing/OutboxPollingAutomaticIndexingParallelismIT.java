@@ -0,0 +1,256 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.orm.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.analysis.AnalyzerNames;
+import org.hibernate.search.integrationtest.mapper.orm.outboxpolling.testsupport.util.OutboxEventFilter;
+import org.hibernate.search.integrationtest.mapper.orm.outboxpolling.testsupport.util.TestFailureHandler;
+import org.hibernate.search.integrationtest.mapper.orm.outboxpolling.testsupport.util.TestingOutboxPollingInternalConfigurer;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.impl.HibernateOrmMapperOutboxPollingImplSettings;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.bridge.mapping.annotation.ValueBridgeRef;
+import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeToIndexedValueContext;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Tests processing of outbox events in parallel partitions within a single event processor.
+ */
+class OutboxPollingAutomaticIndexingParallelismIT {
+
+	private static final int PARALLELISM = 4;
+	private static final int ENTITY_COUNT = 200;
+
+	@RegisterExtension
+	public BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public OrmSetupHelper ormSetupHelper =
+			OrmSetupHelper.withCoordinationStrategy( CoordinationStrategyExpectations.outboxPolling() )
+					.withBackendMock( backendMock );
+
+	private final OutboxEventFilter eventFilter = new OutboxEventFilter();
+
+	private final TestFailureHandler failureHandler = new TestFailureHandler();
+
+	private SessionFactory sessionFactory;
+
+	@BeforeEach
+	void setup() {
+		// Disable the filter by default: only some of the tests actually need it.
+		eventFilter.showAllEvents();
+
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b
+				.field( "text", String.class, f -> f.analyzerName( AnalyzerNames.DEFAULT ) ) );
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperOutboxPollingSettings.COORDINATION_EVENT_PROCESSOR_PARALLELISM,
+						PARALLELISM )
+				.withProperty( "hibernate.search.background_failure_handler", failureHandler )
+				.withProperty(
+						HibernateOrmMapperOutboxPollingImplSettings.COORDINATION_INTERNAL_CONFIGURER,
+						new TestingOutboxPollingInternalConfigurer().outboxEventFilter( eventFilter )
+				)
+				.setup( IndexedEntity.class );
+
+		backendMock.verifyExpectationsMet();
+		ThreadRecordingBridge.threads.clear();
+	}
+
+	@AfterEach
+	void cleanup() {
+		ThreadRecordingBridge.latch = null;
+	}
+
+	@Test
+	void processing() {
+		with( sessionFactory ).runInTransaction( session -> {
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				session.persist( new IndexedEntity( i, "initial" ) );
+				backendMock.expectWorks( IndexedEntity.NAME )
+						.add( String.valueOf( i ), b -> b.field( "text", "initial" ) );
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+
+		with( sessionFactory ).runInTransaction( session -> {
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				session.find( IndexedEntity.class, i ).setText( "updated" );
+				backendMock.expectWorks( IndexedEntity.NAME )
+						.addOrUpdate( String.valueOf( i ), b -> b.field( "text", "updated" ) );
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+
+		with( sessionFactory ).runInTransaction( session -> {
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				session.remove( session.find( IndexedEntity.class, i ) );
+				backendMock.expectWorks( IndexedEntity.NAME )
+						.delete( String.valueOf( i ) );
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( failureHandler.genericFailures ).isEmpty();
+		assertThat( failureHandler.entityFailures ).isEmpty();
+	}
+
+	@Test
+	void sameEntityMultipleEventsSameBatch() {
+		// Events are only processed once all of them were sent,
+		// so that they end up in the same batch, spread across partitions.
+		eventFilter.hideAllEvents();
+
+		int entityCount = 10;
+		with( sessionFactory ).runInTransaction( session -> {
+			for ( int i = 0; i < entityCount; i++ ) {
+				session.persist( new IndexedEntity( i, "initial" ) );
+			}
+		} );
+		with( sessionFactory ).runInTransaction( session -> {
+			for ( int i = 0; i < entityCount; i++ ) {
+				session.find( IndexedEntity.class, i ).setText( "updated" );
+			}
+		} );
+		with( sessionFactory ).runInTransaction( session -> {
+			for ( int i = 0; i < entityCount; i += 2 ) {
+				session.remove( session.find( IndexedEntity.class, i ) );
+			}
+		} );
+		assertThat( with( sessionFactory ).applyInTransaction( eventFilter::countOutboxEventsNoFilter ) )
+				.isEqualTo( entityCount * 2L + entityCount / 2 );
+
+		// All events for a given entity are processed in the same partition,
+		// so the index reflects the latest state of each entity:
+		// deleted entities are deleted, others hold the updated value.
+		BackendMock.DocumentWorkCallListContext works = backendMock.expectWorks( IndexedEntity.NAME );
+		for ( int i = 0; i < entityCount; i++ ) {
+			if ( i % 2 == 0 ) {
+				works.delete( String.valueOf( i ) );
+			}
+			else {
+				works.addOrUpdate( String.valueOf( i ), b -> b.field( "text", "updated" ) );
+			}
+		}
+		eventFilter.showAllEventsUpToNow( sessionFactory );
+		eventFilter.awaitUntilNoMoreVisibleEvents( sessionFactory );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( with( sessionFactory ).applyInTransaction( eventFilter::countOutboxEventsNoFilter ) )
+				.isZero();
+		assertThat( failureHandler.genericFailures ).isEmpty();
+		assertThat( failureHandler.entityFailures ).isEmpty();
+	}
+
+	@Test
+	void partitionsProcessedConcurrently() {
+		eventFilter.hideAllEvents();
+
+		with( sessionFactory ).runInTransaction( session -> {
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				session.persist( new IndexedEntity( i, "initial" ) );
+				backendMock.expectWorks( IndexedEntity.NAME )
+						.add( String.valueOf( i ), b -> b.field( "text", "initial" ) );
+			}
+		} );
+
+		// Building a document blocks until another partition builds a document too:
+		// this can only succeed if partitions are processed concurrently.
+		CountDownLatch latch = new CountDownLatch( 2 );
+		ThreadRecordingBridge.latch = latch;
+		eventFilter.showAllEventsUpToNow( sessionFactory );
+		eventFilter.awaitUntilNoMoreVisibleEvents( sessionFactory );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( latch.getCount() ).isZero();
+		assertThat( ThreadRecordingBridge.threads )
+				.doesNotContain( Thread.currentThread() )
+				.hasSizeGreaterThan( 1 );
+		assertThat( failureHandler.genericFailures ).isEmpty();
+		assertThat( failureHandler.entityFailures ).isEmpty();
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed
+	public static class IndexedEntity {
+
+		static final String NAME = "IndexedEntity";
+
+		@Id
+		private Integer id;
+		@FullTextField(valueBridge = @ValueBridgeRef(type = ThreadRecordingBridge.class))
+		private String text;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+	/**
+	 * Records the threads in which documents are built,
+	 * optionally waiting for documents to be built in other threads.
+	 */
+	public static class ThreadRecordingBridge implements ValueBridge<String, String> {
+		static final Collection<Thread> threads = new ConcurrentLinkedQueue<>();
+		static volatile CountDownLatch latch;
+
+		@Override
+		public String toIndexedValue(String value, ValueBridgeToIndexedValueContext context) {
+			Thread thread = Thread.currentThread();
+			if ( !threads.contains( thread ) ) {
+				threads.add( thread );
+				CountDownLatch currentLatch = latch;
+				if ( currentLatch != null ) {
+					currentLatch.countDown();
+					try {
+						currentLatch.await( 10, TimeUnit.SECONDS );
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			}
+			return value;
+		}
+	}
+
+}
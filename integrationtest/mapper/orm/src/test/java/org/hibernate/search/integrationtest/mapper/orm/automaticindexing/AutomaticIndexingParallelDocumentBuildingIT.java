@@ -0,0 +1,312 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.bridge.mapping.annotation.ValueBridgeRef;
+import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeToIndexedValueContext;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexingDependency;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test automatic indexing when documents are built in parallel,
+ * in particular that background threads never load lazy associations through the session.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AutomaticIndexingParallelDocumentBuildingIT {
+
+	private static final int ENTITY_COUNT = 3;
+
+	@RegisterExtension
+	public static BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public static OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+	private SessionFactory sessionFactory;
+
+	@BeforeAll
+	void setup() {
+		backendMock.expectSchema( FieldAccessEntity.NAME, b -> b
+				.field( "text", String.class )
+				.objectField( "contained", b2 -> b2
+						.field( "text", String.class )
+				)
+		);
+		backendMock.expectSchema( PropertyAccessEntity.NAME, b -> b
+				.field( "text", String.class )
+				.objectField( "contained", b2 -> b2
+						.field( "text", String.class )
+				)
+		);
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.INDEXING_PLAN_DOCUMENT_BUILDING_THREAD_POOL_SIZE, 4 )
+				.withAnnotatedTypes( FieldAccessEntity.class, PropertyAccessEntity.class, ContainedEntity.class )
+				.dataClearing( config -> config.clearOrder( FieldAccessEntity.class, PropertyAccessEntity.class,
+						ContainedEntity.class ) )
+				.setup();
+	}
+
+	@BeforeEach
+	void initData() {
+		with( sessionFactory ).runInTransaction( session -> {
+			ContainedEntity contained = new ContainedEntity( 0, "containedValue" );
+			session.persist( contained );
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				session.persist( new FieldAccessEntity( i, "initialValue", contained ) );
+				session.persist( new PropertyAccessEntity( i, "initialValue", contained ) );
+			}
+
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				backendMock.expectWorks( FieldAccessEntity.NAME )
+						.add( String.valueOf( i ), b -> b
+								.field( "text", "initialValue" )
+								.objectField( "contained", b2 -> b2
+										.field( "text", "containedValue" )
+								)
+						);
+				backendMock.expectWorks( PropertyAccessEntity.NAME )
+						.add( String.valueOf( i ), b -> b
+								.field( "text", "initialValue" )
+								.objectField( "contained", b2 -> b2
+										.field( "text", "containedValue" )
+								)
+						);
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+		ThreadRecordingBridge.threads.clear();
+	}
+
+	@Test
+	void fieldAccess_lazyAssociation_initialized() {
+		with( sessionFactory ).runInTransaction( session -> {
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				FieldAccessEntity entity = session.get( FieldAccessEntity.class, i );
+				Hibernate.initialize( entity.getContained() );
+				entity.setText( "updatedValue" );
+				expectUpdate( FieldAccessEntity.NAME, i );
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// Everything was already loaded: documents were built in background threads.
+		assertThat( ThreadRecordingBridge.threads )
+				.hasSize( ENTITY_COUNT )
+				.doesNotContain( Thread.currentThread() );
+	}
+
+	@Test
+	void fieldAccess_lazyAssociation_uninitialized() {
+		with( sessionFactory ).runInTransaction( session -> {
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				FieldAccessEntity entity = session.get( FieldAccessEntity.class, i );
+				// The association must not be loaded, otherwise the test doesn't make sense
+				assertThat( Hibernate.isInitialized( entity.getContained() ) ).isFalse();
+				entity.setText( "updatedValue" );
+				expectUpdate( FieldAccessEntity.NAME, i );
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// Background threads stopped at the uninitialized proxy without loading it:
+		// documents were built again in the application thread, which loaded the association.
+		assertThat( ThreadRecordingBridge.threads )
+				.hasSize( ENTITY_COUNT )
+				.containsOnly( Thread.currentThread() );
+	}
+
+	@Test
+	void propertyAccess_lazyAssociation_uninitialized() {
+		with( sessionFactory ).runInTransaction( session -> {
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				PropertyAccessEntity entity = session.get( PropertyAccessEntity.class, i );
+				// The association must not be loaded, otherwise the test doesn't make sense
+				assertThat( Hibernate.isInitialized( entity.getContained() ) ).isFalse();
+				entity.setText( "updatedValue" );
+				expectUpdate( PropertyAccessEntity.NAME, i );
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// Getters may load data through the session: documents were only built in the application thread.
+		assertThat( ThreadRecordingBridge.threads )
+				.hasSize( 2 * ENTITY_COUNT )
+				.containsOnly( Thread.currentThread() );
+	}
+
+	private void expectUpdate(String indexName, int id) {
+		backendMock.expectWorks( indexName )
+				.addOrUpdate( String.valueOf( id ), b -> b
+						.field( "text", "updatedValue" )
+						.objectField( "contained", b2 -> b2
+								.field( "text", "containedValue" )
+						)
+				);
+	}
+
+	@Entity(name = FieldAccessEntity.NAME)
+	@Indexed(index = FieldAccessEntity.NAME)
+	@Access(AccessType.FIELD)
+	public static class FieldAccessEntity {
+		public static final String NAME = "FieldAccessEntity";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String text;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		@IndexedEmbedded
+		@IndexingDependency(reindexOnUpdate = ReindexOnUpdate.SHALLOW)
+		private ContainedEntity contained;
+
+		protected FieldAccessEntity() {
+			// For ORM
+		}
+
+		public FieldAccessEntity(int id, String text, ContainedEntity contained) {
+			this.id = id;
+			this.text = text;
+			this.contained = contained;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+
+		public ContainedEntity getContained() {
+			return contained;
+		}
+	}
+
+	@Entity(name = PropertyAccessEntity.NAME)
+	@Indexed(index = PropertyAccessEntity.NAME)
+	@Access(AccessType.PROPERTY)
+	public static class PropertyAccessEntity {
+		public static final String NAME = "PropertyAccessEntity";
+
+		private Integer id;
+		private String text;
+		private ContainedEntity contained;
+
+		protected PropertyAccessEntity() {
+			// For ORM
+		}
+
+		public PropertyAccessEntity(int id, String text, ContainedEntity contained) {
+			this.id = id;
+			this.text = text;
+			this.contained = contained;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@GenericField(valueBridge = @ValueBridgeRef(type = ThreadRecordingBridge.class))
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		@IndexedEmbedded
+		@IndexingDependency(reindexOnUpdate = ReindexOnUpdate.SHALLOW)
+		public ContainedEntity getContained() {
+			return contained;
+		}
+
+		public void setContained(ContainedEntity contained) {
+			this.contained = contained;
+		}
+	}
+
+	@Entity(name = ContainedEntity.NAME)
+	@Access(AccessType.FIELD)
+	public static class ContainedEntity {
+		public static final String NAME = "ContainedEntity";
+
+		@Id
+		private Integer id;
+
+		@GenericField(valueBridge = @ValueBridgeRef(type = ThreadRecordingBridge.class))
+		private String text;
+
+		protected ContainedEntity() {
+			// For ORM
+		}
+
+		public ContainedEntity(int id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+
+	/**
+	 * Records the threads in which documents are built.
+	 */
+	public static class ThreadRecordingBridge implements ValueBridge<String, String> {
+		static final Collection<Thread> threads = new ConcurrentLinkedQueue<>();
+
+		@Override
+		public String toIndexedValue(String value, ValueBridgeToIndexedValueContext context) {
+			threads.add( Thread.currentThread() );
+			return value;
+		}
+	}
+}
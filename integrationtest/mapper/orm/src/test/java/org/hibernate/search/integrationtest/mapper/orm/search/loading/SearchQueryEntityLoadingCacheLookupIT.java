@@ -10,6 +10,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.persistence.SharedCacheMode;
 
@@ -222,6 +223,66 @@ void overriddenStrategy_2LC_fullCacheHits() {
 		);
 	}
 
+	@Test
+	void overriddenStrategy_2LC_notFound() {
+		assumeTrue(
+				mapping.isCacheLookupSupported(),
+				"This test only makes sense if cache lookups are supported"
+		);
+
+		persistThatManyEntities( 3 );
+		// Entity 1 is missing from the second level cache and must be loaded from the database.
+		sessionFactory.getCache().evict( model.getIndexedClass(), 1 );
+
+		testLoading(
+				session -> {}, // No particular session setup
+				f -> f.cacheLookupStrategy( EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT_THEN_SECOND_LEVEL_CACHE ),
+				c -> c
+						.doc( model.getIndexName(), mapping.getDocumentIdForEntityId( 0 ) )
+						.doc( model.getIndexName(), mapping.getDocumentIdForEntityId( 1 ) )
+						.doc( model.getIndexName(), mapping.getDocumentIdForEntityId( 2 ) )
+						// Entity 3 does not exist, neither in the cache nor in the database.
+						.doc( model.getIndexName(), mapping.getDocumentIdForEntityId( 3 ) ),
+				c -> c
+						.entity( model.getIndexedClass(), 0 )
+						.entity( model.getIndexedClass(), 1 )
+						.entity( model.getIndexedClass(), 2 ),
+				c -> {
+					c.assertEntityLoadCount().isEqualTo( 1 );
+					c.assertSecondLevelCacheHitCount().isEqualTo( 2 );
+					// Cache misses, including entities that do not exist, are loaded in a single statement
+					c.assertStatementExecutionCount().isEqualTo( 1 );
+				}
+		);
+	}
+
+	@Test
+	void overriddenStrategy_2LC_withTimeout() {
+		assumeTrue(
+				mapping.isCacheLookupSupported(),
+				"This test only makes sense if cache lookups are supported"
+		);
+
+		persistThatManyEntities( 10 );
+		// Remove some entities from the second level cache
+		for ( int i = 2; i < 10; i++ ) {
+			sessionFactory.getCache().evict( model.getIndexedClass(), i );
+		}
+
+		testLoadingThatManyEntities(
+				session -> {}, // No particular session setup
+				f -> f.cacheLookupStrategy( EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT_THEN_SECOND_LEVEL_CACHE ),
+				10,
+				c -> {
+					c.assertEntityLoadCount().isEqualTo( 8 );
+					c.assertSecondLevelCacheHitCount().isEqualTo( 2 );
+					// Cache misses are loaded with the query, which honors the timeout
+					c.assertStatementExecutionCount().isEqualTo( 1 );
+				},
+				1, TimeUnit.HOURS
+		);
+	}
+
 	private void testLoadingCacheLookupExpectingSkipCacheLookup(
 			EntityLoadingCacheLookupStrategy overriddenLookupStrategy) {
 		testLoadingCacheLookup(
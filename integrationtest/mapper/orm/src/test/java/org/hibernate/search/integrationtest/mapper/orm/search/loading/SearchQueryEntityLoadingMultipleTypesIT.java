@@ -522,6 +522,38 @@ void typeChanged_secondLevelCacheLookup() {
 		);
 	}
 
+	/**
+	 * Same as {@link #typeChanged_secondLevelCacheLookup()},
+	 * but with the entity that changed its type missing from the second level cache,
+	 * so that it gets loaded from the database along with other cache misses.
+	 */
+	@Test
+	void typeChanged_secondLevelCacheLookup_cacheMiss() {
+		sessionFactory.getCache().evictEntityData( Hierarchy8_A_D_Cacheable.class, 4 );
+
+		testLoading(
+				session -> {}, // No particular session setup needed
+				Arrays.asList( Hierarchy8_A_B_Cacheable.class ),
+				Arrays.asList( Hierarchy8_A_B_Cacheable.NAME ),
+				loadingOptions -> loadingOptions.cacheLookupStrategy(
+						EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT_THEN_SECOND_LEVEL_CACHE
+				),
+				c -> c
+						// See typeChanged for a detailed explanation.
+						.doc( Hierarchy8_A_B_Cacheable.NAME, "2" )
+						.doc( Hierarchy8_A_B_Cacheable.NAME, "4" ),
+				c -> c
+						.entity( Hierarchy8_A_B_Cacheable.class, 2 ),
+				c -> {
+					c.assertSecondLevelCacheHitCount()
+							.isEqualTo( 1 );
+					// The cache miss is loaded by its root entity type, then ignored because of its type.
+					c.assertStatementExecutionCount()
+							.isEqualTo( 1 );
+				}
+		);
+	}
+
 	protected <T> void testLoading(List<? extends Class<? extends T>> targetClasses,
 			List<String> targetIndexes,
 			Consumer<DocumentReferenceCollector> hitDocumentReferencesContributor,
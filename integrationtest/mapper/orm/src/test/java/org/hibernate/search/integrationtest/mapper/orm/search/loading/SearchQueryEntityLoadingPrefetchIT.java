@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search.loading;
+
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.ManagedAssert.assertThatManaged;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SharedCacheMode;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
+import org.hibernate.search.mapper.orm.search.loading.dsl.SearchLoadingOptionsStep;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSoftAssertions;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test that single-valued associations that indexing relies on
+ * are fetched along with entities loaded as search hits.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SearchQueryEntityLoadingPrefetchIT extends AbstractSearchQueryEntityLoadingIT {
+
+	@RegisterExtension
+	public static BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public static OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+	private SessionFactory sessionFactory;
+
+	@Override
+	protected BackendMock backendMock() {
+		return backendMock;
+	}
+
+	@Override
+	protected SessionFactory sessionFactory() {
+		return sessionFactory;
+	}
+
+	@BeforeAll
+	void setup() {
+		backendMock.expectAnySchema( IndexedEntity.NAME );
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE.name() )
+				.withAnnotatedTypes( IndexedEntity.class, ContainedEntity.class )
+				.dataClearing( config -> config.clearOrder( IndexedEntity.class, ContainedEntity.class ) )
+				.setup();
+	}
+
+	@BeforeEach
+	void initData() {
+		// We don't care about what is indexed exactly, so use the lenient mode
+		backendMock.inLenientMode( () -> with( sessionFactory ).runInTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				ContainedEntity contained = new ContainedEntity( 2 * i, "text" + i );
+				ContainedEntity other = new ContainedEntity( 2 * i + 1, "other" + i );
+				session.persist( contained );
+				session.persist( other );
+				session.persist( new IndexedEntity( i, contained, other ) );
+			}
+		} ) );
+	}
+
+	@Test
+	void defaults() {
+		testLoadingWithPrefetch(
+				o -> {}, // No particular loading option
+				// The association used for indexing is fetched, but not the other one
+				true
+		);
+	}
+
+	@Test
+	void explicitGraph() {
+		testLoadingWithPrefetch(
+				// An explicit graph replaces the prefetch
+				o -> o.graph( IndexedEntity.GRAPH_LAZY, GraphSemantic.FETCH ),
+				false
+		);
+	}
+
+	@Test
+	void secondLevelCacheLookup_cacheMisses() {
+		sessionFactory.getCache().evictEntityData( IndexedEntity.class );
+
+		testLoadingWithPrefetch(
+				o -> o.cacheLookupStrategy( EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT_THEN_SECOND_LEVEL_CACHE ),
+				// Cache misses are loaded in bulk, fetching the association used for indexing
+				true
+		);
+	}
+
+	private void testLoadingWithPrefetch(Consumer<SearchLoadingOptionsStep> loadingOptionsContributor,
+			boolean expectIndexedEmbeddedAssociationLoaded) {
+		testLoading(
+				session -> {}, // No particular session setup
+				Collections.singletonList( IndexedEntity.class ),
+				Collections.singletonList( IndexedEntity.NAME ),
+				loadingOptionsContributor,
+				c -> c
+						.doc( IndexedEntity.NAME, "0" )
+						.doc( IndexedEntity.NAME, "1" )
+						.doc( IndexedEntity.NAME, "2" ),
+				c -> c
+						.entity( IndexedEntity.class, 0 )
+						.entity( IndexedEntity.class, 1 )
+						.entity( IndexedEntity.class, 2 ),
+				(OrmSoftAssertions assertions, List<IndexedEntity> loadedList) -> {
+					assertions.assertThat( loadedList )
+							.hasSize( 3 )
+							.allSatisfy( loaded -> assertThatManaged( loaded.getContained() )
+									.as( "Contained for " + loaded )
+									.isInitialized( expectIndexedEmbeddedAssociationLoaded ) )
+							.allSatisfy( loaded -> assertThatManaged( loaded.getOther() )
+									.as( "Other for " + loaded )
+									.isInitialized( false ) );
+					// Entities and the association used for indexing are loaded in a single statement
+					assertions.assertStatementExecutionCount().isEqualTo( 1 );
+				},
+				null, null
+		);
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed(index = IndexedEntity.NAME)
+	@Cacheable
+	@NamedEntityGraph(name = IndexedEntity.GRAPH_LAZY)
+	public static class IndexedEntity {
+		public static final String NAME = "indexed";
+		public static final String GRAPH_LAZY = "graph-lazy";
+
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		@IndexedEmbedded
+		private ContainedEntity contained;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private ContainedEntity other;
+
+		protected IndexedEntity() {
+			// For ORM
+		}
+
+		public IndexedEntity(int id, ContainedEntity contained, ContainedEntity other) {
+			this.id = id;
+			this.contained = contained;
+			this.other = other;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[" + id + "]";
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public ContainedEntity getContained() {
+			return contained;
+		}
+
+		public ContainedEntity getOther() {
+			return other;
+		}
+	}
+
+	@Entity(name = ContainedEntity.NAME)
+	public static class ContainedEntity {
+		public static final String NAME = "contained";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String text;
+
+		protected ContainedEntity() {
+			// For ORM
+		}
+
+		public ContainedEntity(int id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[" + id + "]";
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+}
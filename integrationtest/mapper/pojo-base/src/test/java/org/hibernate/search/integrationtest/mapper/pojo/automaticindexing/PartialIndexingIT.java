@@ -0,0 +1,414 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.automaticindexing;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.mapper.pojo.bridge.RoutingBridge;
+import org.hibernate.search.mapper.pojo.bridge.mapping.programmatic.TypeBinder;
+import org.hibernate.search.mapper.pojo.bridge.runtime.RoutingBridgeRouteContext;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.AssociationInverseSide;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.ObjectPath;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.PropertyValue;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.SearchEntity;
+import org.hibernate.search.mapper.pojo.route.DocumentRoutes;
+import org.hibernate.search.mapper.pojo.standalone.mapping.SearchMapping;
+import org.hibernate.search.mapper.pojo.standalone.session.SearchSession;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.StubDocumentNode;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.pojo.standalone.StandalonePojoMappingSetupHelper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test that updates of entities only affecting value fields at the root of their document
+ * are sent to backends as partial updates when supported,
+ * see {@link IndexIndexingPlan#updatePartially}.
+ */
+class PartialIndexingIT {
+
+	@RegisterExtension
+	public BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public StandalonePojoMappingSetupHelper setupHelper =
+			StandalonePojoMappingSetupHelper.withBackendMock( MethodHandles.lookup(), backendMock );
+
+	private IndexedEntity indexed;
+	private ContainedEntity contained;
+	private TypeBridgedEntity typeBridged;
+	private RoutedEntity routed;
+
+	@BeforeEach
+	void initData() {
+		indexed = new IndexedEntity( 1 );
+		indexed.text = "text1";
+		indexed.number = 1;
+		indexed.embedded = new Embedded( "embedded1" );
+		contained = new ContainedEntity( 2 );
+		contained.value = "contained1";
+		indexed.contained = contained;
+		contained.containing = indexed;
+
+		typeBridged = new TypeBridgedEntity( 3 );
+		typeBridged.text = "text1";
+		typeBridged.bridged = "bridged1";
+
+		routed = new RoutedEntity( 4 );
+		routed.text = "text1";
+	}
+
+	@Test
+	void valueField() {
+		SearchMapping mapping = setup( true );
+
+		try ( SearchSession session = mapping.createSession() ) {
+			indexed.text = "text2";
+			session.indexingPlan().addOrUpdate( indexed, "text" );
+
+			// Only the field that may have changed is sent.
+			backendMock.expectWorks( IndexedEntity.NAME )
+					.updatePartially( "1", b -> b.field( "text", "text2" ) );
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void multipleValueFields() {
+		SearchMapping mapping = setup( true );
+
+		try ( SearchSession session = mapping.createSession() ) {
+			indexed.text = "text2";
+			indexed.number = 2;
+			session.indexingPlan().addOrUpdate( indexed, "text", "number" );
+
+			backendMock.expectWorks( IndexedEntity.NAME )
+					.updatePartially( "1", b -> b
+							.field( "text", "text2" )
+							.field( "number", 2 ) );
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void valueField_lostValue() {
+		SearchMapping mapping = setup( true );
+
+		try ( SearchSession session = mapping.createSession() ) {
+			indexed.text = null;
+			session.indexingPlan().addOrUpdate( indexed, "text" );
+
+			// The field no longer has a value: it must be cleared explicitly.
+			backendMock.expectWorks( IndexedEntity.NAME )
+					.updatePartially( "1", b -> b.field( "text", null ) );
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void unindexedProperty() {
+		SearchMapping mapping = setup( true );
+
+		try ( SearchSession session = mapping.createSession() ) {
+			indexed.unindexed = "unindexed2";
+			session.indexingPlan().addOrUpdate( indexed, "unindexed" );
+
+			// No work expected.
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void indexedEmbedded_fullUpdate() {
+		SearchMapping mapping = setup( true );
+
+		try ( SearchSession session = mapping.createSession() ) {
+			indexed.embedded = new Embedded( "embedded2" );
+			session.indexingPlan().addOrUpdate( indexed, "embedded" );
+
+			// Object fields cannot be updated partially.
+			expectFullUpdate();
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void indexedEmbeddedAndValueField_fullUpdate() {
+		SearchMapping mapping = setup( true );
+
+		try ( SearchSession session = mapping.createSession() ) {
+			indexed.text = "text2";
+			indexed.embedded = new Embedded( "embedded2" );
+			session.indexingPlan().addOrUpdate( indexed, "text", "embedded" );
+
+			expectFullUpdate();
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void containedEntity_fullUpdate() {
+		SearchMapping mapping = setup( true );
+
+		try ( SearchSession session = mapping.createSession() ) {
+			contained.value = "contained2";
+			session.indexingPlan().addOrUpdate( contained, "value" );
+
+			// Changes in contained entities are not tracked precisely enough for partial updates.
+			expectFullUpdate();
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void unknownDirtyPaths_fullUpdate() {
+		SearchMapping mapping = setup( true );
+
+		try ( SearchSession session = mapping.createSession() ) {
+			indexed.text = "text2";
+			session.indexingPlan().addOrUpdate( indexed );
+
+			expectFullUpdate();
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void notSupported_fullUpdate() {
+		SearchMapping mapping = setup( false );
+
+		try ( SearchSession session = mapping.createSession() ) {
+			indexed.text = "text2";
+			session.indexingPlan().addOrUpdate( indexed, "text" );
+
+			expectFullUpdate();
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void typeBridge() {
+		SearchMapping mapping = setup( true );
+
+		try ( SearchSession session = mapping.createSession() ) {
+			typeBridged.bridged = "bridged2";
+			session.indexingPlan().addOrUpdate( typeBridged, "bridged" );
+
+			// Type bridges may add values to any field: the document must be updated as a whole.
+			backendMock.expectWorks( TypeBridgedEntity.NAME )
+					.addOrUpdate( "3", b -> b
+							.field( "text", typeBridged.text )
+							.field( "fromBridge", "bridged2" ) );
+		}
+		backendMock.verifyExpectationsMet();
+
+		try ( SearchSession session = mapping.createSession() ) {
+			typeBridged.text = "text2";
+			typeBridged.bridged = "bridged3";
+			session.indexingPlan().addOrUpdate( typeBridged, "text", "bridged" );
+
+			backendMock.expectWorks( TypeBridgedEntity.NAME )
+					.addOrUpdate( "3", b -> b
+							.field( "text", "text2" )
+							.field( "fromBridge", "bridged3" ) );
+		}
+		backendMock.verifyExpectationsMet();
+
+		try ( SearchSession session = mapping.createSession() ) {
+			typeBridged.text = "text3";
+			session.indexingPlan().addOrUpdate( typeBridged, "text" );
+
+			// Properties the type bridge does not depend on can still be updated partially.
+			backendMock.expectWorks( TypeBridgedEntity.NAME )
+					.updatePartially( "3", b -> b.field( "text", "text3" ) );
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void routingBridge_fullUpdate() {
+		SearchMapping mapping = setup( true );
+
+		try ( SearchSession session = mapping.createSession() ) {
+			routed.text = "text2";
+			session.indexingPlan().addOrUpdate( routed, "text" );
+
+			// Routing bridges may move documents: the document must be updated as a whole.
+			backendMock.expectWorks( RoutedEntity.NAME )
+					.addOrUpdate( b -> b.identifier( "4" ).routingKey( RoutedEntity.ROUTING_KEY )
+							.document( StubDocumentNode.document().field( "text", "text2" ).build() ) );
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void expectFullUpdate() {
+		backendMock.expectWorks( IndexedEntity.NAME )
+				.addOrUpdate( "1", b -> b
+						.field( "text", indexed.text )
+						.field( "number", indexed.number )
+						.objectField( "embedded", b2 -> b2
+								.field( "value", indexed.embedded.value ) )
+						.objectField( "contained", b2 -> b2
+								.field( "value", contained.value ) ) );
+	}
+
+	private SearchMapping setup(boolean partialUpdates) {
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b
+				.field( "text", String.class )
+				.field( "number", Integer.class )
+				.objectField( "embedded", b2 -> b2
+						.field( "value", String.class ) )
+				.objectField( "contained", b2 -> b2
+						.field( "value", String.class ) )
+		);
+		backendMock.expectSchema( TypeBridgedEntity.NAME, b -> b
+				.field( "text", String.class )
+				.field( "fromBridge", String.class )
+		);
+		backendMock.expectSchema( RoutedEntity.NAME, b -> b
+				.field( "text", String.class )
+		);
+
+		SearchMapping mapping = setupHelper.start()
+				.withBackendProperty( StubIndexManager.PARTIAL_UPDATES, partialUpdates )
+				.withAnnotatedTypes( IndexedEntity.class, ContainedEntity.class,
+						TypeBridgedEntity.class, RoutedEntity.class )
+				.withConfiguration( b -> {
+					b.programmaticMapping().type( TypeBridgedEntity.class )
+							.binder( (TypeBinder) context -> {
+								context.dependencies().use( "bridged" );
+								IndexFieldReference<String> fieldReference =
+										context.indexSchemaElement().field( "fromBridge", f -> f.asString() )
+												.toReference();
+								context.bridge( TypeBridgedEntity.class, (target, bridgedElement, context1) -> {
+									target.addValue( fieldReference, bridgedElement.bridged );
+								} );
+							} );
+					b.programmaticMapping().type( RoutedEntity.class ).indexed()
+							.routingBinder( context -> {
+								context.dependencies().useRootOnly();
+								context.bridge( RoutedEntity.class, new RoutedEntity.Bridge() );
+							} );
+				} )
+				.setup();
+
+		backendMock.verifyExpectationsMet();
+
+		return mapping;
+	}
+
+	@SearchEntity(name = IndexedEntity.NAME)
+	@Indexed
+	public static class IndexedEntity {
+		static final String NAME = "IndexedEntity";
+
+		@DocumentId
+		Integer id;
+
+		@GenericField
+		String text;
+
+		@GenericField
+		Integer number;
+
+		@IndexedEmbedded
+		Embedded embedded;
+
+		@IndexedEmbedded
+		@AssociationInverseSide(inversePath = @ObjectPath(@PropertyValue(propertyName = "containing")))
+		ContainedEntity contained;
+
+		String unindexed;
+
+		IndexedEntity(Integer id) {
+			this.id = id;
+		}
+	}
+
+	public static class Embedded {
+		@GenericField
+		String value;
+
+		Embedded(String value) {
+			this.value = value;
+		}
+	}
+
+	@SearchEntity(name = ContainedEntity.NAME)
+	public static class ContainedEntity {
+		static final String NAME = "ContainedEntity";
+
+		@DocumentId
+		Integer id;
+
+		@GenericField
+		String value;
+
+		IndexedEntity containing;
+
+		ContainedEntity(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@SearchEntity(name = TypeBridgedEntity.NAME)
+	@Indexed
+	public static class TypeBridgedEntity {
+		static final String NAME = "TypeBridgedEntity";
+
+		@DocumentId
+		Integer id;
+
+		@GenericField
+		String text;
+
+		String bridged;
+
+		TypeBridgedEntity(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@SearchEntity(name = RoutedEntity.NAME)
+	@Indexed
+	public static class RoutedEntity {
+		static final String NAME = "RoutedEntity";
+		static final String ROUTING_KEY = "someRoutingKey";
+
+		@DocumentId
+		Integer id;
+
+		@GenericField
+		String text;
+
+		RoutedEntity(Integer id) {
+			this.id = id;
+		}
+
+		static class Bridge implements RoutingBridge<RoutedEntity> {
+			@Override
+			public void route(DocumentRoutes routes, Object entityIdentifier, RoutedEntity indexedEntity,
+					RoutingBridgeRouteContext context) {
+				routes.addRoute().routingKey( ROUTING_KEY );
+			}
+
+			@Override
+			public void previousRoutes(DocumentRoutes routes, Object entityIdentifier, RoutedEntity indexedEntity,
+					RoutingBridgeRouteContext context) {
+				// The route never changes.
+				routes.addRoute().routingKey( ROUTING_KEY );
+			}
+		}
+	}
+}
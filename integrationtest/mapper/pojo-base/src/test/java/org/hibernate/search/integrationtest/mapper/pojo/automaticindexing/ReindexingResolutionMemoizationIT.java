@@ -0,0 +1,208 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.AssociationInverseSide;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.ObjectPath;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.PropertyValue;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.SearchEntity;
+import org.hibernate.search.mapper.pojo.standalone.mapping.SearchMapping;
+import org.hibernate.search.mapper.pojo.standalone.session.SearchSession;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.pojo.standalone.StandalonePojoMappingSetupHelper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test that reindexing resolution does not traverse the same containing entity multiple times
+ * when multiple dirty entities in the same indexing plan lead to it,
+ * while still resolving the same entities to reindex.
+ */
+class ReindexingResolutionMemoizationIT {
+
+	private static final int CHILD_COUNT = 5;
+
+	@RegisterExtension
+	public BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public StandalonePojoMappingSetupHelper setupHelper =
+			StandalonePojoMappingSetupHelper.withBackendMock( MethodHandles.lookup(), backendMock );
+
+	private SearchMapping mapping;
+
+	private Grandparent grandparent;
+	private Parent parent;
+	private final List<Child> children = new ArrayList<>();
+
+	@BeforeEach
+	void setup() {
+		backendMock.expectSchema( Grandparent.NAME, b -> b
+				.objectField( "parents", b2 -> b2
+						.multiValued( true )
+						.objectField( "children", b3 -> b3
+								.multiValued( true )
+								.field( "value", String.class )
+						)
+				)
+		);
+
+		mapping = setupHelper.start()
+				.withAnnotatedTypes( Grandparent.class, Parent.class, Child.class )
+				.setup();
+
+		backendMock.verifyExpectationsMet();
+
+		grandparent = new Grandparent( 1 );
+		parent = new Parent( 2 );
+		grandparent.parents.add( parent );
+		parent.grandparent = grandparent;
+		for ( int i = 0; i < CHILD_COUNT; i++ ) {
+			Child child = new Child( 100 + i, "value" + i );
+			parent.children.add( child );
+			child.parent = parent;
+			children.add( child );
+		}
+	}
+
+	@Test
+	void sameParent_traversedOnce() {
+		try ( SearchSession session = mapping.createSession() ) {
+			for ( Child child : children ) {
+				session.indexingPlan().addOrUpdate( child, "value" );
+			}
+
+			expectGrandparentReindexed();
+		}
+		backendMock.verifyExpectationsMet();
+
+		// Without memoization, the parent would be traversed once per child.
+		assertThat( parent.grandparentReads ).isEqualTo( 1 );
+	}
+
+	@Test
+	void sameResultAsSeparatePlans() {
+		// Without multiple dirty entities in the same plan, memoization doesn't skip anything.
+		for ( Child child : children ) {
+			try ( SearchSession session = mapping.createSession() ) {
+				session.indexingPlan().addOrUpdate( child, "value" );
+
+				expectGrandparentReindexed();
+			}
+			backendMock.verifyExpectationsMet();
+		}
+		assertThat( parent.grandparentReads ).isEqualTo( CHILD_COUNT );
+	}
+
+	@Test
+	void differentDirtiness_notSkipped() {
+		try ( SearchSession session = mapping.createSession() ) {
+			// This change doesn't require reindexing the grandparent...
+			session.indexingPlan().addOrUpdate( children.get( 0 ), "unindexed" );
+			// ... but this one does, even though the parent was already reached from the first child.
+			session.indexingPlan().addOrUpdate( children.get( 1 ), "value" );
+
+			expectGrandparentReindexed();
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void irrelevantDirtiness_noReindexing() {
+		try ( SearchSession session = mapping.createSession() ) {
+			for ( Child child : children ) {
+				session.indexingPlan().addOrUpdate( child, "unindexed" );
+			}
+			// No work expected.
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void expectGrandparentReindexed() {
+		backendMock.expectWorks( Grandparent.NAME )
+				.addOrUpdate( "1", b -> b
+						.objectField( "parents", b2 -> {
+							for ( Child child : children ) {
+								b2.objectField( "children", b3 -> b3
+										.field( "value", child.value ) );
+							}
+						} )
+				);
+	}
+
+	@SearchEntity(name = Grandparent.NAME)
+	@Indexed
+	public static class Grandparent {
+		static final String NAME = "Grandparent";
+
+		@DocumentId
+		Integer id;
+
+		@IndexedEmbedded
+		@AssociationInverseSide(inversePath = @ObjectPath(@PropertyValue(propertyName = "grandparent")))
+		List<Parent> parents = new ArrayList<>();
+
+		Grandparent(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@SearchEntity(name = Parent.NAME)
+	public static class Parent {
+		static final String NAME = "Parent";
+
+		@DocumentId
+		Integer id;
+
+		Grandparent grandparent;
+
+		@IndexedEmbedded
+		@AssociationInverseSide(inversePath = @ObjectPath(@PropertyValue(propertyName = "parent")))
+		List<Child> children = new ArrayList<>();
+
+		int grandparentReads = 0;
+
+		Parent(Integer id) {
+			this.id = id;
+		}
+
+		public Grandparent getGrandparent() {
+			++grandparentReads;
+			return grandparent;
+		}
+	}
+
+	@SearchEntity(name = Child.NAME)
+	public static class Child {
+		static final String NAME = "Child";
+
+		@DocumentId
+		Integer id;
+
+		@GenericField
+		String value;
+
+		String unindexed;
+
+		Parent parent;
+
+		Child(Integer id, String value) {
+			this.id = id;
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.loading.PersistenceTypeKey;
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.loading.StubEntityLoadingBinder;
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.loading.StubLoadingContext;
+import org.hibernate.search.mapper.pojo.loading.mapping.annotation.EntityLoadingBinderRef;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.SearchEntity;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
+import org.hibernate.search.mapper.pojo.standalone.mapping.SearchMapping;
+import org.hibernate.search.mapper.pojo.standalone.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.standalone.session.SearchSession;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.pojo.standalone.StandalonePojoMappingSetupHelper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test loading entities in virtual threads during mass indexing,
+ * see {@link MassIndexer#loadObjectsInVirtualThreads(int)}.
+ */
+class MassIndexingVirtualThreadsIT {
+
+	private static final int ENTITY_COUNT = 5;
+
+	@RegisterExtension
+	public final BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public final StandalonePojoMappingSetupHelper setupHelper =
+			StandalonePojoMappingSetupHelper.withBackendMock( MethodHandles.lookup(), backendMock );
+
+	private SearchMapping mapping;
+
+	private final StubLoadingContext loadingContext = new StubLoadingContext();
+
+	@BeforeEach
+	void setup() {
+		backendMock.expectAnySchema( Entity.NAME );
+
+		mapping = setupHelper.start()
+				.expectCustomBeans()
+				.setup( Entity.class );
+
+		backendMock.verifyExpectationsMet();
+
+		for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+			loadingContext.persistenceMap( Entity.PERSISTENCE_KEY ).put( i, new Entity( i ) );
+		}
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void success() {
+		Collection<Thread> entityLoadingThreads = new ConcurrentLinkedQueue<>();
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer()
+					.context( StubLoadingContext.class, loadingContext )
+					// One batch per entity, so that we get multiple batches.
+					.batchSizeToLoadObjects( 1 )
+					.loadObjectsInVirtualThreads( 2 )
+					.environment( new MassIndexingEnvironment() {
+						@Override
+						public void beforeExecution(Context context) {
+							if ( context instanceof EntityLoadingContext ) {
+								entityLoadingThreads.add( Thread.currentThread() );
+							}
+						}
+
+						@Override
+						public void afterExecution(Context context) {
+						}
+					} );
+
+			backendMock.expectWorks(
+					Entity.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> {} )
+					.add( "2", b -> {} )
+					.add( "3", b -> {} )
+					.add( "4", b -> {} )
+					.add( "5", b -> {} );
+
+			backendMock.expectIndexScaleWorks( Entity.NAME, searchSession.tenantIdentifierValue() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			Futures.unwrappedExceptionGet( indexer.start().toCompletableFuture() );
+		}
+
+		backendMock.verifyExpectationsMet();
+
+		// Each batch is loaded in its own virtual thread.
+		assertThat( entityLoadingThreads )
+				.hasSize( ENTITY_COUNT )
+				.doesNotHaveDuplicates()
+				.allSatisfy( thread -> {
+					assertThat( isVirtual( thread ) ).isTrue();
+					assertThat( thread.getName() ).contains( "Entity - Entity loading - " );
+				} );
+	}
+
+	@Test
+	@EnabledForJreRange(max = JRE.JAVA_20)
+	void virtualThreadsNotAvailable() {
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer();
+			assertThatThrownBy( () -> indexer.loadObjectsInVirtualThreads( 2 ) )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll(
+							"Unable to load entities in virtual threads",
+							"Virtual threads require Java 21 or later"
+					);
+		}
+	}
+
+	@Test
+	void invalidMaxConcurrentBatches() {
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer();
+			assertThatThrownBy( () -> indexer.loadObjectsInVirtualThreads( 0 ) )
+					.isInstanceOf( IllegalArgumentException.class )
+					.hasMessageContaining( "maxConcurrentBatches must be at least 1" );
+		}
+	}
+
+	// Thread#isVirtual() only exists in Java 21+, while tests are compiled for an older version of Java.
+	private static boolean isVirtual(Thread thread) throws ReflectiveOperationException {
+		return (boolean) Thread.class.getMethod( "isVirtual" ).invoke( thread );
+	}
+
+	@SearchEntity(name = Entity.NAME,
+			loadingBinder = @EntityLoadingBinderRef(type = StubEntityLoadingBinder.class))
+	@Indexed
+	public static class Entity {
+
+		public static final String NAME = "Entity";
+		public static final PersistenceTypeKey<Entity, Integer> PERSISTENCE_KEY =
+				new PersistenceTypeKey<>( Entity.class, Integer.class );
+
+		@DocumentId
+		private Integer id;
+
+		public Entity() {
+		}
+
+		public Entity(int id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.performance.backend.elasticsearch.testsupport;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.AuxCounters.Type;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reports the size of the last encoded bulk request body, in bytes,
+ * along with the results of {@link ElasticsearchBulkBodyEncodingBenchmarks}.
+ */
+@State(Scope.Thread)
+@AuxCounters(Type.EVENTS)
+public class BulkBodyCounters {
+
+	public long bytesWritten;
+
+}
@@ -0,0 +1,205 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.performance.backend.elasticsearch.testsupport;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ByteBufferPool;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.impl.StubIOControl;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for the encoding of bulk request bodies by the Elasticsearch client,
+ * isolated from any actual network I/O.
+ * <p>
+ * Each invocation encodes one bulk request of {@value #DOCUMENTS_PER_BULK} documents,
+ * and operations are counted per document.
+ * Run with {@code -prof gc} and look at {@code gc.alloc.rate.norm}
+ * to get the number of bytes allocated per document.
+ * <p>
+ * The {@link #compression} parameter allows comparing the CPU cost of compressing request bodies;
+ * the size of the resulting (possibly compressed) body is reported through {@link BulkBodyCounters}
+ * to compare the savings in network bandwidth.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ElasticsearchBulkBodyEncodingBenchmarks {
+
+	static final int DOCUMENTS_PER_BULK = 5_000;
+
+	private static final String[] WORDS = {
+			"hibernate", "search", "elasticsearch", "lucene", "index", "document", "bulk", "request",
+			"great", "expectations", "pip", "estella", "marshes", "convict", "london", "gentleman"
+	};
+
+	/**
+	 * How pages holding encoded content are allocated:
+	 * {@code UNPOOLED_HEAP} allocates a new heap buffer for each page (the legacy behavior),
+	 * {@code POOLED_DIRECT} reuses direct buffers from a pool (the behavior of the Elasticsearch client).
+	 */
+	@Param({ "UNPOOLED_HEAP", "POOLED_DIRECT" })
+	private String pages;
+
+	/**
+	 * How request bodies are compressed:
+	 * {@code NONE} doesn't compress them (the default behavior of the Elasticsearch client),
+	 * {@code GZIP} compresses them with gzip as they are encoded.
+	 */
+	@Param({ "NONE", "GZIP" })
+	private String compression;
+
+	/**
+	 * The approximate size of the text content of each document, in characters.
+	 */
+	@Param({ "1000" })
+	private int documentTextSize;
+
+	private Gson gson;
+	private ByteBufferPool pagePool;
+	private int compressionThreshold;
+	private ElasticsearchRequest request;
+	private final DiscardingContentEncoder encoder = new DiscardingContentEncoder();
+
+	@Setup(Level.Trial)
+	public void setupTrial() {
+		gson = GsonProvider.create( GsonBuilder::new, false ).getGson();
+		switch ( pages ) {
+			case "UNPOOLED_HEAP":
+				pagePool = ByteBufferPool.unpooledHeap( 1024 );
+				break;
+			case "POOLED_DIRECT":
+				pagePool = ByteBufferPool.pooledDirect( 8 * 1024, 512 );
+				break;
+			default:
+				throw new IllegalArgumentException( "Unknown page allocation: " + pages );
+		}
+		switch ( compression ) {
+			case "NONE":
+				compressionThreshold = -1;
+				break;
+			case "GZIP":
+				compressionThreshold = 0;
+				break;
+			default:
+				throw new IllegalArgumentException( "Unknown compression: " + compression );
+		}
+
+		// Fixed seed: we want the same documents from one run to another.
+		Random random = new Random( 3210140441369L );
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post();
+		for ( int i = 0; i < DOCUMENTS_PER_BULK; i++ ) {
+			JsonObject metadata = new JsonObject();
+			JsonObject index = new JsonObject();
+			index.addProperty( "_index", "bookentity-write" );
+			index.addProperty( "_id", String.valueOf( i ) );
+			metadata.add( "index", index );
+			builder.body( metadata );
+			builder.body( createDocument( random, i ) );
+		}
+		request = builder.build();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(DOCUMENTS_PER_BULK)
+	public long encodeBulk(BulkBodyCounters counters) throws IOException {
+		HttpEntity entity = ElasticsearchClientUtils.toEntity( gson, request, pagePool, compressionThreshold );
+		HttpAsyncContentProducer producer = (HttpAsyncContentProducer) entity;
+		encoder.reset();
+		try {
+			while ( !encoder.isCompleted() ) {
+				producer.produceContent( encoder, StubIOControl.INSTANCE );
+			}
+		}
+		finally {
+			producer.close();
+		}
+		counters.bytesWritten = encoder.bytesWritten;
+		return encoder.bytesWritten;
+	}
+
+	private JsonObject createDocument(Random random, int id) {
+		JsonObject document = new JsonObject();
+		document.addProperty( "id", id );
+		document.addProperty( "title", randomText( random, 50 ) );
+		document.addProperty( "content", randomText( random, documentTextSize ) );
+		document.addProperty( "publicationYear", 1800 + random.nextInt( 200 ) );
+		JsonArray tags = new JsonArray();
+		for ( int j = 0; j < 3; j++ ) {
+			tags.add( WORDS[random.nextInt( WORDS.length )] );
+		}
+		document.add( "tags", tags );
+		return document;
+	}
+
+	private static String randomText(Random random, int approximateLength) {
+		StringBuilder builder = new StringBuilder( approximateLength + 20 );
+		while ( builder.length() < approximateLength ) {
+			if ( builder.length() > 0 ) {
+				builder.append( ' ' );
+			}
+			builder.append( WORDS[random.nextInt( WORDS.length )] );
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * An encoder that accepts everything and throws it away, like a fast network would.
+	 */
+	private static final class DiscardingContentEncoder implements ContentEncoder {
+		private long bytesWritten;
+		private boolean completed;
+
+		void reset() {
+			bytesWritten = 0;
+			completed = false;
+		}
+
+		@Override
+		public int write(ByteBuffer src) {
+			int written = src.remaining();
+			src.position( src.limit() );
+			bytesWritten += written;
+			return written;
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.performance.orm;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.AuxCounters.Type;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Counters reported as throughput, in addition to the benchmark's own throughput.
+ * <p>
+ * Since both counters are measured over the same period of time,
+ * the number of database round-trips per document is {@code statements / documents}.
+ */
+@State(Scope.Thread)
+@AuxCounters(Type.OPERATIONS)
+public class MassIndexingCounters {
+
+	/**
+	 * The number of documents (or identifiers, for identifier loading) processed.
+	 */
+	public long documents;
+
+	/**
+	 * The number of JDBC statements prepared, i.e. the number of database round-trips
+	 * (not counting additional fetches when scrolling through large results).
+	 */
+	public long statements;
+
+	@Setup(Level.Iteration)
+	public void reset() {
+		documents = 0L;
+		statements = 0L;
+	}
+
+}
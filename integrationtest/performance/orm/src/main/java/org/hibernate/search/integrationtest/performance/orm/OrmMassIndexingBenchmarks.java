@@ -0,0 +1,240 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.performance.orm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.CacheMode;
+import org.hibernate.LockOptions;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.integrationtest.performance.orm.testsupport.BookDataset;
+import org.hibernate.search.integrationtest.performance.orm.testsupport.SessionFactoryHolder;
+import org.hibernate.search.integrationtest.performance.orm.testsupport.model.Book;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.hibernate.search.mapper.pojo.work.IndexingPlanSynchronizationStrategy;
+import org.hibernate.search.mapper.pojo.work.SearchIndexingPlanExecutionReport;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.stat.Statistics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for mass indexing with the Hibernate ORM mapper,
+ * against an embedded H2 database and a Lucene backend.
+ * <p>
+ * {@link #massIndexer(SessionFactoryHolder, MassIndexingCounters)} runs the full mass indexing pipeline.
+ * The other benchmarks execute each stage of that pipeline on its own, from a single thread,
+ * mimicking what the mass indexer does internally,
+ * so that a regression in the full pipeline can be attributed to one of the stages:
+ * <ul>
+ *     <li>{@link #identifierLoading(SessionFactoryHolder, MassIndexingCounters, Blackhole) identifier loading},
+ *     i.e. scrolling through identifiers and grouping them in batches;</li>
+ *     <li>{@link #entityLoading(SessionFactoryHolder, MassIndexingCounters, Blackhole) entity loading},
+ *     i.e. loading each batch of entities along with every association required to index them;</li>
+ *     <li>{@link #indexing(LoadedBooks, MassIndexingCounters) indexing},
+ *     i.e. building documents from already loaded entities and indexing them.</li>
+ * </ul>
+ * Each benchmark invocation processes the whole dataset: see {@link MassIndexingCounters}
+ * for the number of documents and database round-trips per second.
+ */
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class OrmMassIndexingBenchmarks {
+
+	/**
+	 * Similar to what the mass indexer does:
+	 * wait for indexing works to be executed, but do not commit or refresh.
+	 */
+	private static final IndexingPlanSynchronizationStrategy WAIT_WITHOUT_COMMIT = context -> {
+		context.documentCommitStrategy( DocumentCommitStrategy.NONE );
+		context.documentRefreshStrategy( DocumentRefreshStrategy.NONE );
+		context.indexingFutureHandler( future -> {
+			SearchIndexingPlanExecutionReport report = Futures.unwrappedExceptionJoin( future );
+			report.throwable().ifPresent( throwable -> {
+				throw new IllegalStateException( "Indexing failed: " + throwable.getMessage(), throwable );
+			} );
+		} );
+	};
+
+	@Param({ "6" })
+	private int threadsToLoadObjects;
+
+	/**
+	 * Equivalent to the MassIndexer's "batchSizeToLoadObjects".
+	 */
+	@Param({ "10" })
+	private int batchSize;
+
+	/**
+	 * Equivalent to the MassIndexer's "idFetchSize".
+	 */
+	@Param({ "100" })
+	private int idFetchSize;
+
+	/**
+	 * Batches of identifiers, as the mass indexer would produce them.
+	 */
+	private final List<List<Long>> identifierBatches = new ArrayList<>();
+
+	@Setup(Level.Trial)
+	public void loadIdentifierBatches(SessionFactoryHolder holder) {
+		List<Long> ids;
+		try ( StatelessSession session = holder.getSessionFactory().openStatelessSession() ) {
+			ids = session.createSelectionQuery( "select b.id from Book b order by b.id", Long.class )
+					.getResultList();
+		}
+		for ( int i = 0; i < ids.size(); i += batchSize ) {
+			identifierBatches.add( ids.subList( i, Math.min( i + batchSize, ids.size() ) ) );
+		}
+	}
+
+	@Benchmark
+	public void massIndexer(SessionFactoryHolder holder, MassIndexingCounters counters) throws InterruptedException {
+		Statistics statistics = holder.getStatistics();
+		long statementsBefore = statistics.getPrepareStatementCount();
+
+		Search.mapping( holder.getSessionFactory() ).scope( Book.class ).massIndexer()
+				.threadsToLoadObjects( threadsToLoadObjects )
+				.batchSizeToLoadObjects( batchSize )
+				.idFetchSize( idFetchSize )
+				.mergeSegmentsOnFinish( false )
+				.startAndWait();
+
+		counters.documents += holder.getBookCount();
+		counters.statements += statistics.getPrepareStatementCount() - statementsBefore;
+	}
+
+	@Benchmark
+	public void identifierLoading(SessionFactoryHolder holder, MassIndexingCounters counters, Blackhole blackhole) {
+		Statistics statistics = holder.getStatistics();
+		long statementsBefore = statistics.getPrepareStatementCount();
+
+		long count = 0L;
+		try ( StatelessSession session = holder.getSessionFactory().openStatelessSession() ) {
+			session.getTransaction().begin();
+			// The mass indexer counts entities before loading identifiers, for monitoring purposes.
+			blackhole.consume( session.createSelectionQuery( "select count(b) from Book b", Long.class )
+					.getSingleResult() );
+			try ( ScrollableResults<Long> scroll = session.createSelectionQuery( "select b.id from Book b", Long.class )
+					.setFetchSize( idFetchSize )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				List<Long> batch = new ArrayList<>( batchSize );
+				while ( scroll.next() ) {
+					batch.add( scroll.get() );
+					++count;
+					if ( batch.size() == batchSize ) {
+						blackhole.consume( batch );
+						batch = new ArrayList<>( batchSize );
+					}
+				}
+				blackhole.consume( batch );
+			}
+			session.getTransaction().commit();
+		}
+
+		counters.documents += count;
+		counters.statements += statistics.getPrepareStatementCount() - statementsBefore;
+	}
+
+	@Benchmark
+	public void entityLoading(SessionFactoryHolder holder, MassIndexingCounters counters, Blackhole blackhole) {
+		Statistics statistics = holder.getStatistics();
+		long statementsBefore = statistics.getPrepareStatementCount();
+
+		long count = 0L;
+		try ( Session session = holder.getSessionFactory().openSession() ) {
+			for ( List<Long> batch : identifierBatches ) {
+				session.getTransaction().begin();
+				List<Book> books = session.byMultipleIds( Book.class )
+						.with( CacheMode.IGNORE )
+						.with( LockOptions.NONE )
+						.multiLoad( batch );
+				for ( Book book : books ) {
+					BookDataset.initializeIndexedGraph( book );
+				}
+				blackhole.consume( books );
+				count += books.size();
+				session.clear();
+				session.getTransaction().commit();
+			}
+		}
+
+		counters.documents += count;
+		counters.statements += statistics.getPrepareStatementCount() - statementsBefore;
+	}
+
+	@Benchmark
+	public void indexing(LoadedBooks loadedBooks, MassIndexingCounters counters) {
+		SearchIndexingPlan indexingPlan = loadedBooks.searchSession.indexingPlan();
+		List<Book> books = loadedBooks.books;
+		for ( int i = 0; i < books.size(); i++ ) {
+			indexingPlan.addOrUpdate( books.get( i ) );
+			if ( ( i + 1 ) % batchSize == 0 ) {
+				indexingPlan.execute();
+			}
+		}
+		indexingPlan.execute();
+
+		counters.documents += books.size();
+	}
+
+	/**
+	 * All books, loaded in a single session along with every association required to index them,
+	 * so that indexing can be measured without any database access.
+	 */
+	@State(Scope.Thread)
+	public static class LoadedBooks {
+
+		private Session session;
+		private SearchSession searchSession;
+		private List<Book> books;
+
+		@Setup(Level.Iteration)
+		public void loadBooks(SessionFactoryHolder holder) {
+			session = holder.getSessionFactory().openSession();
+			books = session.createSelectionQuery( "select b from Book b order by b.id", Book.class )
+					.getResultList();
+			for ( Book book : books ) {
+				BookDataset.initializeIndexedGraph( book );
+			}
+			searchSession = Search.session( session );
+			searchSession.indexingPlanSynchronizationStrategy( WAIT_WITHOUT_COMMIT );
+		}
+
+		@TearDown(Level.Iteration)
+		public void closeSession() {
+			if ( session != null ) {
+				session.close();
+			}
+		}
+	}
+
+}
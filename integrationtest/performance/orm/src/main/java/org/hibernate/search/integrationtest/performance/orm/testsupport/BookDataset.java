@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.performance.orm.testsupport;
+
+import java.util.Random;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.integrationtest.performance.orm.testsupport.model.Address;
+import org.hibernate.search.integrationtest.performance.orm.testsupport.model.Author;
+import org.hibernate.search.integrationtest.performance.orm.testsupport.model.Book;
+import org.hibernate.search.integrationtest.performance.orm.testsupport.model.Chapter;
+import org.hibernate.search.integrationtest.performance.orm.testsupport.model.Publisher;
+
+/**
+ * A dataset of books, each with its own chapters, tags, and a (shared) author and publisher.
+ * <p>
+ * Indexing a book requires data from every entity in the model,
+ * through {@code @IndexedEmbedded} up to three levels deep ({@code author.publisher.headquarters})
+ * and through several collections
+ * ({@code tags}, {@code chapters}, {@code chapters.keywords}, {@code author.pseudonyms}),
+ * so loading a book for indexing involves as many database round-trips as it would in a typical application.
+ */
+public final class BookDataset {
+
+	public static final int BOOKS_PER_AUTHOR = 10;
+	public static final int PUBLISHER_COUNT = 20;
+	public static final int CHAPTERS_PER_BOOK = 5;
+
+	private static final int FLUSH_INTERVAL = 500;
+
+	private static final String[] WORDS = {
+			"search", "index", "document", "entity", "query", "mapping", "field", "projection", "aggregation",
+			"predicate", "sort", "analysis", "token", "filter", "shard", "segment", "merge", "commit", "refresh",
+			"session", "transaction", "batch", "loading", "identifier", "collection", "association", "embedded",
+			"database", "schema", "bridge", "binder", "container", "extractor", "highlight", "score", "vector"
+	};
+	private static final String[] CITIES = { "Paris", "London", "Berlin", "Madrid", "Rome", "Vienna", "Prague" };
+	private static final String[] COUNTRIES = { "France", "United Kingdom", "Germany", "Spain", "Italy", "Austria" };
+
+	private BookDataset() {
+	}
+
+	public static void populate(SessionFactory sessionFactory, int bookCount) {
+		// Constant seed: we want the same data for every trial
+		Random random = new Random( 42L );
+		int authorCount = Math.max( 1, bookCount / BOOKS_PER_AUTHOR );
+		sessionFactory.inTransaction( session -> {
+			for ( long i = 0; i < PUBLISHER_COUNT; i++ ) {
+				session.persist( new Publisher( i, words( random, 2 ),
+						new Address( words( random, 3 ), pick( random, CITIES ), pick( random, COUNTRIES ) ) ) );
+			}
+			for ( long i = 0; i < authorCount; i++ ) {
+				Author author = new Author( i, words( random, 2 ),
+						session.getReference( Publisher.class, i % PUBLISHER_COUNT ) );
+				for ( int j = 0; j < 2; j++ ) {
+					author.getPseudonyms().add( words( random, 2 ) );
+				}
+				session.persist( author );
+				flushAndClearPeriodically( session, i );
+			}
+			session.flush();
+			session.clear();
+			for ( long i = 0; i < bookCount; i++ ) {
+				Book book = new Book( i, words( random, 4 ), words( random, 60 ), 1950 + random.nextInt( 75 ),
+						session.getReference( Author.class, i % authorCount ) );
+				for ( int j = 0; j < 3; j++ ) {
+					book.getTags().add( pick( random, WORDS ) );
+				}
+				session.persist( book );
+				for ( int j = 0; j < CHAPTERS_PER_BOOK; j++ ) {
+					Chapter chapter = new Chapter( i * CHAPTERS_PER_BOOK + j, words( random, 5 ), book );
+					for ( int k = 0; k < 3; k++ ) {
+						chapter.getKeywords().add( pick( random, WORDS ) );
+					}
+					book.getChapters().add( chapter );
+					session.persist( chapter );
+				}
+				flushAndClearPeriodically( session, i );
+			}
+		} );
+	}
+
+	/**
+	 * Initializes every association and collection of the given book that is used when indexing it.
+	 * <p>
+	 * This is what document building does implicitly, through lazy loading.
+	 *
+	 * @param book A book attached to an open session.
+	 */
+	public static void initializeIndexedGraph(Book book) {
+		Hibernate.initialize( book.getTags() );
+		for ( Chapter chapter : book.getChapters() ) {
+			Hibernate.initialize( chapter.getKeywords() );
+		}
+		Author author = book.getAuthor();
+		Hibernate.initialize( author );
+		Hibernate.initialize( author.getPseudonyms() );
+		Hibernate.initialize( author.getPublisher() );
+	}
+
+	private static void flushAndClearPeriodically(Session session, long index) {
+		if ( ( index + 1 ) % FLUSH_INTERVAL == 0 ) {
+			session.flush();
+			session.clear();
+		}
+	}
+
+	private static String words(Random random, int count) {
+		StringBuilder builder = new StringBuilder();
+		for ( int i = 0; i < count; i++ ) {
+			if ( i > 0 ) {
+				builder.append( ' ' );
+			}
+			builder.append( pick( random, WORDS ) );
+		}
+		return builder.toString();
+	}
+
+	private static String pick(Random random, String[] values) {
+		return values[random.nextInt( values.length )];
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.performance.orm.testsupport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.integrationtest.performance.orm.testsupport.model.Address;
+import org.hibernate.search.integrationtest.performance.orm.testsupport.model.Author;
+import org.hibernate.search.integrationtest.performance.orm.testsupport.model.Book;
+import org.hibernate.search.integrationtest.performance.orm.testsupport.model.Chapter;
+import org.hibernate.search.integrationtest.performance.orm.testsupport.model.Publisher;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.impl.test.file.FileUtils;
+import org.hibernate.stat.Statistics;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Starts Hibernate ORM and Hibernate Search with an embedded H2 database and a Lucene backend,
+ * and populates the database with {@link BookDataset the book dataset}.
+ */
+@State(Scope.Benchmark)
+public class SessionFactoryHolder {
+
+	/**
+	 * The number of books (and thus of documents) in the database.
+	 * <p>
+	 * Each book has its own chapters; authors are shared by 10 books, and publishers by many authors.
+	 */
+	@Param({ "10000" })
+	private int bookCount;
+
+	/**
+	 * A list of configuration properties to apply to Hibernate ORM and Hibernate Search.
+	 * <p>
+	 * Format: {@code <key>=<value>&<key2>=<value2>} (etc.).
+	 * Multiple configurations can be tested by providing multiple values for this parameter,
+	 * e.g. {@code foo=1&bar=2,foo=2&bar=1} for two configurations setting {@code foo} and {@code bar} to different values.
+	 * <p>
+	 * Keys must be complete, e.g. {@code hibernate.default_batch_fetch_size}
+	 * or {@code hibernate.search.backend.io.merge.factor}.
+	 */
+	@Param({ "", "hibernate.default_batch_fetch_size=20" })
+	private String configuration;
+
+	private Path indexesDirectory;
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void startHibernate() throws IOException {
+		indexesDirectory = Files.createTempDirectory( "hsearch-perf-orm-indexes" );
+
+		Map<String, Object> settings = new LinkedHashMap<>();
+		settings.put( AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:perf;DB_CLOSE_DELAY=-1" );
+		settings.put( AvailableSettings.JAKARTA_JDBC_USER, "sa" );
+		settings.put( AvailableSettings.JAKARTA_JDBC_PASSWORD, "sa" );
+		settings.put( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, 50 );
+		// Used to count database round-trips
+		settings.put( AvailableSettings.GENERATE_STATISTICS, true );
+		// Benchmarks index explicitly, through the mass indexer or indexing plans
+		settings.put( HibernateOrmMapperSettings.INDEXING_LISTENERS_ENABLED, false );
+		settings.put( EngineSettings.BACKEND + "." + LuceneIndexSettings.DIRECTORY_ROOT,
+				indexesDirectory.toAbsolutePath().toString() );
+		settings.putAll( stringToMap( configuration ) );
+
+		StandardServiceRegistry registry = new StandardServiceRegistryBuilder().applySettings( settings ).build();
+		try {
+			sessionFactory = new MetadataSources( registry )
+					.addAnnotatedClass( Book.class )
+					.addAnnotatedClass( Chapter.class )
+					.addAnnotatedClass( Author.class )
+					.addAnnotatedClass( Publisher.class )
+					.addAnnotatedClass( Address.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e ).push( StandardServiceRegistryBuilder::destroy, registry );
+			throw e;
+		}
+
+		BookDataset.populate( sessionFactory, bookCount );
+	}
+
+	@TearDown(Level.Trial)
+	public void stopHibernate() throws IOException {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+		if ( indexesDirectory != null ) {
+			FileUtils.deleteRecursively( indexesDirectory );
+		}
+	}
+
+	public SessionFactory getSessionFactory() {
+		return sessionFactory;
+	}
+
+	public Statistics getStatistics() {
+		return sessionFactory.getStatistics();
+	}
+
+	public int getBookCount() {
+		return bookCount;
+	}
+
+	private static Map<String, String> stringToMap(String settings) {
+		String[] settingsSplit = settings.split( "&" );
+		Map<String, String> map = new LinkedHashMap<>();
+		for ( String keyValue : settingsSplit ) {
+			if ( keyValue.isEmpty() ) {
+				continue;
+			}
+			String[] keyValueSplit = keyValue.split( "=" );
+			map.put( keyValueSplit[0], keyValueSplit[1] );
+		}
+		return map;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.performance.orm.testsupport.model;
+
+import jakarta.persistence.Embeddable;
+
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+
+@Embeddable
+public class Address {
+
+	@FullTextField
+	private String street;
+
+	@KeywordField
+	private String city;
+
+	@KeywordField
+	private String country;
+
+	protected Address() {
+	}
+
+	public Address(String street, String city, String country) {
+		this.street = street;
+		this.city = city;
+		this.country = country;
+	}
+
+	public String getStreet() {
+		return street;
+	}
+
+	public String getCity() {
+		return city;
+	}
+
+	public String getCountry() {
+		return country;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.performance.orm.testsupport.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+
+@Entity
+public class Author {
+
+	@Id
+	private Long id;
+
+	@FullTextField
+	private String name;
+
+	@ElementCollection
+	@FullTextField
+	private Set<String> pseudonyms = new LinkedHashSet<>();
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@IndexedEmbedded
+	private Publisher publisher;
+
+	@OneToMany(mappedBy = "author")
+	private List<Book> books = new ArrayList<>();
+
+	protected Author() {
+	}
+
+	public Author(Long id, String name, Publisher publisher) {
+		this.id = id;
+		this.name = name;
+		this.publisher = publisher;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Set<String> getPseudonyms() {
+		return pseudonyms;
+	}
+
+	public Publisher getPublisher() {
+		return publisher;
+	}
+
+	public List<Book> getBooks() {
+		return books;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.performance.orm.testsupport.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+
+@Entity
+@Indexed
+public class Book {
+
+	@Id
+	private Long id;
+
+	@FullTextField
+	private String title;
+
+	@Column(length = 2000)
+	@FullTextField
+	private String summary;
+
+	@GenericField
+	private int publicationYear;
+
+	@ElementCollection
+	@KeywordField
+	private Set<String> tags = new LinkedHashSet<>();
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@IndexedEmbedded
+	private Author author;
+
+	@OneToMany(mappedBy = "book")
+	@IndexedEmbedded
+	private List<Chapter> chapters = new ArrayList<>();
+
+	protected Book() {
+	}
+
+	public Book(Long id, String title, String summary, int publicationYear, Author author) {
+		this.id = id;
+		this.title = title;
+		this.summary = summary;
+		this.publicationYear = publicationYear;
+		this.author = author;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public String getSummary() {
+		return summary;
+	}
+
+	public int getPublicationYear() {
+		return publicationYear;
+	}
+
+	public Set<String> getTags() {
+		return tags;
+	}
+
+	public Author getAuthor() {
+		return author;
+	}
+
+	public List<Chapter> getChapters() {
+		return chapters;
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.performance.orm.testsupport.model;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+
+@Entity
+public class Chapter {
+
+	@Id
+	private Long id;
+
+	@FullTextField
+	private String title;
+
+	@ElementCollection
+	@KeywordField
+	private Set<String> keywords = new LinkedHashSet<>();
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Book book;
+
+	protected Chapter() {
+	}
+
+	public Chapter(Long id, String title, Book book) {
+		this.id = id;
+		this.title = title;
+		this.book = book;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public Set<String> getKeywords() {
+		return keywords;
+	}
+
+	public Book getBook() {
+		return book;
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.performance.orm.testsupport.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+
+@Entity
+public class Publisher {
+
+	@Id
+	private Long id;
+
+	@FullTextField
+	private String name;
+
+	@Embedded
+	@IndexedEmbedded
+	private Address headquarters;
+
+	@OneToMany(mappedBy = "publisher")
+	private List<Author> authors = new ArrayList<>();
+
+	protected Publisher() {
+	}
+
+	public Publisher(Long id, String name, Address headquarters) {
+		this.id = id;
+		this.name = name;
+		this.headquarters = headquarters;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Address getHeadquarters() {
+		return headquarters;
+	}
+
+	public List<Author> getAuthors() {
+		return authors;
+	}
+}
@@ -0,0 +1,315 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.avro.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
+import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.DirtinessDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A compact, hand-written binary format for outbox event payloads.
+ * <p>
+ * Compared to the Avro format:
+ * <ul>
+ *     <li>Boolean flags and the presence of routes are packed into a single leading byte,
+ *     so that empty route descriptors take no space at all.</li>
+ *     <li>Dirty paths are sorted and front-coded:
+ *     each path only stores the length of the prefix it shares with the previous one, and the rest of the path.</li>
+ *     <li>Payloads above a given size are compressed.</li>
+ * </ul>
+ * <p>
+ * Payloads in this format start with an odd header byte,
+ * whereas Avro payloads always start with an even byte (the zigzag-encoded index of the current route's union type),
+ * which allows telling the formats apart when reading.
+ */
+final class CompactEventPayloadSerializationUtils {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	static final byte HEADER = 0x01;
+	static final byte HEADER_DEFLATED = 0x03;
+
+	private static final int FORCE_SELF_DIRTY = 1;
+	private static final int FORCE_CONTAINING_DIRTY = 1 << 1;
+	private static final int UPDATED_BECAUSE_OF_CONTAINED = 1 << 2;
+	private static final int HAS_CURRENT_ROUTE = 1 << 3;
+	private static final int HAS_PREVIOUS_ROUTES = 1 << 4;
+	private static final int HAS_DIRTY_PATHS = 1 << 5;
+
+	private CompactEventPayloadSerializationUtils() {
+	}
+
+	static boolean isCompact(byte[] payloadData) {
+		return payloadData.length > 0 && ( payloadData[0] & 1 ) == 1;
+	}
+
+	static byte[] serialize(PojoIndexingQueueEventPayload payload, int compressionThreshold) {
+		Output body = new Output();
+		writeBody( body, payload );
+		byte[] bodyBytes = body.toByteArray();
+
+		if ( bodyBytes.length >= compressionThreshold ) {
+			byte[] deflated = deflate( bodyBytes );
+			if ( deflated != null ) {
+				Output out = new Output();
+				out.write( HEADER_DEFLATED );
+				out.writeVarInt( bodyBytes.length );
+				out.write( deflated, 0, deflated.length );
+				return out.toByteArray();
+			}
+		}
+
+		byte[] result = new byte[bodyBytes.length + 1];
+		result[0] = HEADER;
+		System.arraycopy( bodyBytes, 0, result, 1, bodyBytes.length );
+		return result;
+	}
+
+	static PojoIndexingQueueEventPayload deserialize(byte[] payloadData) {
+		byte header = payloadData[0];
+		if ( header != HEADER && header != HEADER_DEFLATED ) {
+			// Most likely a payload written by a more recent version of Hibernate Search.
+			throw log.unsupportedOutboxEventPayloadFormat( header );
+		}
+		try {
+			Input in = new Input( payloadData, 1 );
+			if ( header == HEADER_DEFLATED ) {
+				int length = in.readVarInt();
+				in = new Input( inflate( payloadData, in.position, length ), 0 );
+			}
+			return readBody( in );
+		}
+		catch (DataFormatException | RuntimeException e) {
+			throw log.unableToDeserializeOutboxEventPayload( e.getMessage(), e );
+		}
+	}
+
+	private static void writeBody(Output out, PojoIndexingQueueEventPayload payload) {
+		DocumentRoutesDescriptor routes = payload.routes;
+		DirtinessDescriptor dirtiness = payload.dirtiness;
+		DocumentRouteDescriptor currentRoute = routes.currentRoute();
+		Collection<DocumentRouteDescriptor> previousRoutes = routes.previousRoutes();
+		Set<String> dirtyPaths = dirtiness.dirtyPaths();
+
+		int flags = 0;
+		if ( dirtiness.forceSelfDirty() ) {
+			flags |= FORCE_SELF_DIRTY;
+		}
+		if ( dirtiness.forceContainingDirty() ) {
+			flags |= FORCE_CONTAINING_DIRTY;
+		}
+		if ( dirtiness.updatedBecauseOfContained() ) {
+			flags |= UPDATED_BECAUSE_OF_CONTAINED;
+		}
+		if ( currentRoute != null ) {
+			flags |= HAS_CURRENT_ROUTE;
+		}
+		if ( !previousRoutes.isEmpty() ) {
+			flags |= HAS_PREVIOUS_ROUTES;
+		}
+		if ( !dirtyPaths.isEmpty() ) {
+			flags |= HAS_DIRTY_PATHS;
+		}
+		out.write( flags );
+
+		if ( currentRoute != null ) {
+			out.writeNullableString( currentRoute.routingKey() );
+		}
+		if ( !previousRoutes.isEmpty() ) {
+			out.writeVarInt( previousRoutes.size() );
+			for ( DocumentRouteDescriptor previousRoute : previousRoutes ) {
+				out.writeNullableString( previousRoute.routingKey() );
+			}
+		}
+		if ( !dirtyPaths.isEmpty() ) {
+			List<String> sortedPaths = new ArrayList<>( dirtyPaths );
+			Collections.sort( sortedPaths );
+			out.writeVarInt( sortedPaths.size() );
+			String previousPath = "";
+			for ( String path : sortedPaths ) {
+				int prefixLength = commonPrefixLength( previousPath, path );
+				out.writeVarInt( prefixLength );
+				out.writeString( path.substring( prefixLength ) );
+				previousPath = path;
+			}
+		}
+	}
+
+	private static PojoIndexingQueueEventPayload readBody(Input in) {
+		int flags = in.read();
+
+		DocumentRouteDescriptor currentRoute = null;
+		if ( ( flags & HAS_CURRENT_ROUTE ) != 0 ) {
+			currentRoute = DocumentRouteDescriptor.of( in.readNullableString() );
+		}
+		Collection<DocumentRouteDescriptor> previousRoutes = new LinkedHashSet<>();
+		if ( ( flags & HAS_PREVIOUS_ROUTES ) != 0 ) {
+			int count = in.readVarInt();
+			for ( int i = 0; i < count; i++ ) {
+				previousRoutes.add( DocumentRouteDescriptor.of( in.readNullableString() ) );
+			}
+		}
+		Set<String> dirtyPaths = new HashSet<>();
+		if ( ( flags & HAS_DIRTY_PATHS ) != 0 ) {
+			int count = in.readVarInt();
+			String previousPath = "";
+			for ( int i = 0; i < count; i++ ) {
+				int prefixLength = in.readVarInt();
+				String path = previousPath.substring( 0, prefixLength ) + in.readString();
+				dirtyPaths.add( path );
+				previousPath = path;
+			}
+		}
+
+		return new PojoIndexingQueueEventPayload(
+				new DocumentRoutesDescriptor( currentRoute, previousRoutes ),
+				new DirtinessDescriptor( ( flags & FORCE_SELF_DIRTY ) != 0, ( flags & FORCE_CONTAINING_DIRTY ) != 0,
+						dirtyPaths, ( flags & UPDATED_BECAUSE_OF_CONTAINED ) != 0 )
+		);
+	}
+
+	private static int commonPrefixLength(String first, String second) {
+		int max = Math.min( first.length(), second.length() );
+		int length = 0;
+		while ( length < max && first.charAt( length ) == second.charAt( length ) ) {
+			++length;
+		}
+		// Never split a surrogate pair, since the suffix is encoded separately.
+		if ( length > 0 && Character.isHighSurrogate( first.charAt( length - 1 ) ) ) {
+			--length;
+		}
+		return length;
+	}
+
+	/**
+	 * @return The deflated bytes, or {@code null} if compression does not reduce the size.
+	 */
+	private static byte[] deflate(byte[] bytes) {
+		Deflater deflater = new Deflater( Deflater.BEST_SPEED );
+		try {
+			deflater.setInput( bytes );
+			deflater.finish();
+			// Compressed data is only useful if it is smaller than the original data.
+			byte[] buffer = new byte[bytes.length];
+			int length = deflater.deflate( buffer );
+			if ( !deflater.finished() ) {
+				return null;
+			}
+			byte[] result = new byte[length];
+			System.arraycopy( buffer, 0, result, 0, length );
+			return result;
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(byte[] bytes, int offset, int inflatedLength) throws DataFormatException {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput( bytes, offset, bytes.length - offset );
+			byte[] result = new byte[inflatedLength];
+			int length = inflater.inflate( result );
+			if ( length != inflatedLength || !inflater.finished() ) {
+				throw new DataFormatException( "Unexpected length for inflated data: " + length
+						+ " (expected " + inflatedLength + ")" );
+			}
+			return result;
+		}
+		finally {
+			inflater.end();
+		}
+	}
+
+	private static final class Output extends ByteArrayOutputStream {
+		void writeVarInt(int value) {
+			while ( ( value & ~0x7F ) != 0 ) {
+				write( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			write( value );
+		}
+
+		void writeString(String value) {
+			byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+			writeVarInt( bytes.length );
+			write( bytes, 0, bytes.length );
+		}
+
+		void writeNullableString(String value) {
+			if ( value == null ) {
+				writeVarInt( 0 );
+				return;
+			}
+			byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+			writeVarInt( bytes.length + 1 );
+			write( bytes, 0, bytes.length );
+		}
+	}
+
+	private static final class Input {
+		private final byte[] bytes;
+		private int position;
+
+		Input(byte[] bytes, int position) {
+			this.bytes = bytes;
+			this.position = position;
+		}
+
+		int read() {
+			if ( position >= bytes.length ) {
+				throw new IllegalStateException( "Unexpected end of payload" );
+			}
+			return bytes[position++] & 0xFF;
+		}
+
+		int readVarInt() {
+			int value = 0;
+			for ( int shift = 0; shift < 32; shift += 7 ) {
+				int b = read();
+				value |= ( b & 0x7F ) << shift;
+				if ( ( b & 0x80 ) == 0 ) {
+					return value;
+				}
+			}
+			throw new IllegalStateException( "Malformed variable-length integer in payload" );
+		}
+
+		String readString() {
+			return readString( readVarInt() );
+		}
+
+		String readNullableString() {
+			int lengthPlusOne = readVarInt();
+			return lengthPlusOne == 0 ? null : readString( lengthPlusOne - 1 );
+		}
+
+		private String readString(int length) {
+			if ( length > bytes.length - position ) {
+				throw new IllegalStateException( "Unexpected end of payload" );
+			}
+			String result = new String( bytes, position, length, StandardCharsets.UTF_8 );
+			position += length;
+			return result;
+		}
+	}
+}
@@ -46,7 +46,16 @@ public static byte[] serialize(PojoIndexingQueueEventPayload payload) {
 		return out.toByteArray();
 	}
 
+	/**
+	 * @param payloadData A payload in any of the supported formats:
+	 * the format is detected automatically, so that payloads written by older versions can always be read.
+	 * @return The deserialized payload.
+	 */
 	public static PojoIndexingQueueEventPayload deserialize(byte[] payloadData) {
+		if ( CompactEventPayloadSerializationUtils.isCompact( payloadData ) ) {
+			return CompactEventPayloadSerializationUtils.deserialize( payloadData );
+		}
+
 		SpecificDatumReader<PojoIndexingQueueEventPayloadDto> reader = new SpecificDatumReader<>(
 				PojoIndexingQueueEventPayloadDto.class );
 
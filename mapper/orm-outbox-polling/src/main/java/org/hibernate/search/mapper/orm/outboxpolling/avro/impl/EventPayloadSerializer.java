@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.avro.impl;
+
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.OutboxEventPayloadFormat;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
+
+/**
+ * Serializes outbox event payloads in the configured format.
+ * <p>
+ * Deserialization does not depend on configuration: see {@link EventPayloadSerializationUtils#deserialize(byte[])}.
+ */
+public final class EventPayloadSerializer {
+
+	public static final EventPayloadSerializer AVRO = new EventPayloadSerializer( OutboxEventPayloadFormat.AVRO, 0 );
+
+	public static EventPayloadSerializer create(OutboxEventPayloadFormat format, int compressionThreshold) {
+		return new EventPayloadSerializer( format, compressionThreshold );
+	}
+
+	private final OutboxEventPayloadFormat format;
+	private final int compressionThreshold;
+
+	private EventPayloadSerializer(OutboxEventPayloadFormat format, int compressionThreshold) {
+		this.format = format;
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	public byte[] serialize(PojoIndexingQueueEventPayload payload) {
+		switch ( format ) {
+			case COMPACT:
+				return CompactEventPayloadSerializationUtils.serialize( payload, compressionThreshold );
+			case AVRO:
+			default:
+				return EventPayloadSerializationUtils.serialize( payload );
+		}
+	}
+}
@@ -236,6 +236,74 @@ private HibernateOrmMapperOutboxPollingSettings() {
 	public static final String COORDINATION_EVENT_PROCESSOR_BATCH_SIZE =
 			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_BATCH_SIZE;
 
+	/**
+	 * In the event processor, how many partitions of each batch of outbox events are processed in parallel.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * When greater than {@code 1}, each batch of events is split into partitions by entity,
+	 * and each partition is processed in its own thread, session and transaction.
+	 * All events related to a given entity end up in the same partition,
+	 * and are processed in the same order as without parallelism.
+	 * <p>
+	 * Each event processor will then use up to this number of database connections, plus one,
+	 * so the connection pool should be sized accordingly.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_EVENT_PROCESSOR_PARALLELISM}.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_PARALLELISM =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_PARALLELISM;
+
+	/**
+	 * Whether the event processor, when processing events for a given entity,
+	 * should also process all other pending events for the same entity at the same time,
+	 * even those that would not have been part of the current batch.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * When enabled, an entity that gets updated many times in a short period
+	 * only gets reindexed once instead of once per batch containing an event for that entity,
+	 * at the cost of an additional query per batch.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_EVENT_PROCESSOR_COALESCING}.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_COALESCING =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_COALESCING;
+
+	/**
+	 * How event processors get notified that new outbox events were committed,
+	 * so that they can process them without waiting for the next polling.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * Expects a String, such as "local" or "postgresql",
+	 * or a reference to a bean of type
+	 * {@link org.hibernate.search.mapper.orm.outboxpolling.notification.spi.OutboxEventNotifier}.
+	 * <ul>
+	 * <li>{@code local}: event processors are notified of events sent from the same application instance only.</li>
+	 * <li>{@code postgresql}: event processors are notified of events sent from any application instance,
+	 * using PostgreSQL's {@code LISTEN}/{@code NOTIFY} mechanism.
+	 * Only works with PostgreSQL and its JDBC driver.</li>
+	 * </ul>
+	 * <p>
+	 * Regardless of this setting, event processors still poll the database periodically,
+	 * so the {@link #COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL polling interval}
+	 * can safely be increased when a notifier is configured.
+	 * <p>
+	 * Defaults to no value, meaning event processors rely on polling only.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_NOTIFIER =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_NOTIFIER;
+
 	/**
 	 * In the event processor, the timeout for transactions processing outbox events.
 	 * <p>
@@ -269,6 +337,39 @@ private HibernateOrmMapperOutboxPollingSettings() {
 	public static final String COORDINATION_EVENT_PROCESSOR_RETRY_DELAY =
 			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_RETRY_DELAY;
 
+	/**
+	 * The format of outbox event payloads, i.e. of the data describing which entity changed and how.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * This only affects how payloads are written: payloads in any supported format can always be read.
+	 * Application instances running older versions of Hibernate Search may not be able to read the newer formats,
+	 * so when upgrading, the default format should be kept until all application instances have been upgraded.
+	 * <p>
+	 * Expects one of the "external representation" strings defined in {@link OutboxEventPayloadFormat}.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT}.
+	 */
+	public static final String COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT =
+			PREFIX + Radicals.COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT;
+
+	/**
+	 * The size, in bytes, above which outbox event payloads get compressed.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME},
+	 * and only effective when {@link #COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT} is
+	 * {@link OutboxEventPayloadFormat#COMPACT compact}.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 256},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD}.
+	 */
+	public static final String COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD =
+			PREFIX + Radicals.COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD;
+
 	/**
 	 * In the mass indexer, how long to wait for another query to the agent table
 	 * when actively waiting for event processors to suspend themselves, in milliseconds.
@@ -512,10 +613,20 @@ private Radicals() {
 				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_ORDER;
 		public static final String COORDINATION_EVENT_PROCESSOR_BATCH_SIZE =
 				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_BATCH_SIZE;
+		public static final String COORDINATION_EVENT_PROCESSOR_PARALLELISM =
+				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_PARALLELISM;
+		public static final String COORDINATION_EVENT_PROCESSOR_COALESCING =
+				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_COALESCING;
+		public static final String COORDINATION_EVENT_PROCESSOR_NOTIFIER =
+				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_NOTIFIER;
 		public static final String COORDINATION_EVENT_PROCESSOR_TRANSACTION_TIMEOUT =
 				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_TRANSACTION_TIMEOUT;
 		public static final String COORDINATION_EVENT_PROCESSOR_RETRY_DELAY =
 				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_RETRY_DELAY;
+		public static final String COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT =
+				COORDINATION_PREFIX + CoordinationRadicals.OUTBOX_EVENT_PAYLOAD_FORMAT;
+		public static final String COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD =
+				COORDINATION_PREFIX + CoordinationRadicals.OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD;
 		public static final String COORDINATION_MASS_INDEXER_POLLING_INTERVAL =
 				COORDINATION_PREFIX + CoordinationRadicals.MASS_INDEXER_POLLING_INTERVAL;
 		public static final String COORDINATION_MASS_INDEXER_PULSE_INTERVAL =
@@ -562,8 +673,15 @@ private CoordinationRadicals() {
 		public static final String EVENT_PROCESSOR_PULSE_EXPIRATION = EVENT_PROCESSOR_PREFIX + "pulse_expiration";
 		public static final String EVENT_PROCESSOR_ORDER = EVENT_PROCESSOR_PREFIX + "order";
 		public static final String EVENT_PROCESSOR_BATCH_SIZE = EVENT_PROCESSOR_PREFIX + "batch_size";
+		public static final String EVENT_PROCESSOR_PARALLELISM = EVENT_PROCESSOR_PREFIX + "parallelism";
+		public static final String EVENT_PROCESSOR_COALESCING = EVENT_PROCESSOR_PREFIX + "coalescing";
+		public static final String EVENT_PROCESSOR_NOTIFIER = EVENT_PROCESSOR_PREFIX + "notifier";
 		public static final String EVENT_PROCESSOR_TRANSACTION_TIMEOUT = EVENT_PROCESSOR_PREFIX + "transaction_timeout";
 		public static final String EVENT_PROCESSOR_RETRY_DELAY = EVENT_PROCESSOR_PREFIX + "retry_delay";
+		public static final String OUTBOX_EVENT_PREFIX = "outbox_event.";
+		public static final String OUTBOX_EVENT_PAYLOAD_FORMAT = OUTBOX_EVENT_PREFIX + "payload_format";
+		public static final String OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD =
+				OUTBOX_EVENT_PREFIX + "payload_compression_threshold";
 		public static final String MASS_INDEXER_PREFIX = "mass_indexer.";
 		public static final String MASS_INDEXER_POLLING_INTERVAL = MASS_INDEXER_PREFIX + "polling_interval";
 		public static final String MASS_INDEXER_PULSE_INTERVAL = MASS_INDEXER_PREFIX + "pulse_interval";
@@ -599,7 +717,12 @@ private Defaults() {
 		public static final int COORDINATION_EVENT_PROCESSOR_PULSE_EXPIRATION = 30000;
 		public static final OutboxEventProcessingOrder COORDINATION_EVENT_PROCESSOR_ORDER = OutboxEventProcessingOrder.AUTO;
 		public static final int COORDINATION_EVENT_PROCESSOR_BATCH_SIZE = 50;
+		public static final int COORDINATION_EVENT_PROCESSOR_PARALLELISM = 1;
+		public static final boolean COORDINATION_EVENT_PROCESSOR_COALESCING = false;
 		public static final int COORDINATION_EVENT_PROCESSOR_RETRY_DELAY = 30;
+		public static final OutboxEventPayloadFormat COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT =
+				OutboxEventPayloadFormat.AVRO;
+		public static final int COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD = 256;
 		public static final int COORDINATION_MASS_INDEXER_POLLING_INTERVAL = 100;
 		public static final int COORDINATION_MASS_INDEXER_PULSE_INTERVAL = 2000;
 		public static final int COORDINATION_MASS_INDEXER_PULSE_EXPIRATION = 30000;
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.Log;
+import org.hibernate.search.util.common.annotation.Incubating;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+@Incubating
+public enum OutboxEventPayloadFormat {
+
+	/**
+	 * Serialize outbox event payloads with Apache Avro.
+	 * <p>
+	 * This format can be read by all versions of Hibernate Search.
+	 */
+	AVRO( "avro" ),
+	/**
+	 * Serialize outbox event payloads in a compact binary format,
+	 * compressing payloads above a configurable size
+	 * (see {@link HibernateOrmMapperOutboxPollingSettings#COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD}).
+	 * <p>
+	 * This format leads to smaller outbox event payloads,
+	 * but can only be read by versions of Hibernate Search that support it:
+	 * when upgrading, only switch to this format once all application instances are upgraded.
+	 */
+	COMPACT( "compact" );
+
+	private final String externalRepresentation;
+
+	OutboxEventPayloadFormat(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static OutboxEventPayloadFormat of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				OutboxEventPayloadFormat.values(),
+				OutboxEventPayloadFormat::externalRepresentation,
+				log::invalidOutboxEventPayloadFormatName,
+				value
+		);
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.event.impl;
+
+import static org.hibernate.search.mapper.orm.outboxpolling.event.impl.OutboxPollingOutboxEventAdditionalJaxbMappingProducer.ENTITY_NAME;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+
+/**
+ * Adds to a batch of events all other pending events targeting the same entities,
+ * so that they are processed (and deleted) along with the batch
+ * instead of triggering another reindexing of the same entities in a later batch.
+ * <p>
+ * Events targeting the same entity always have the same hash, and thus are always assigned to the same shard:
+ * the additional events are necessarily assigned to the processor handling the batch.
+ */
+final class OutboxEventCoalescer {
+
+	// Some databases limit the number of parameters in a single statement
+	private static final int MAX_IDS_PER_QUERY = 500;
+
+	private static final String QUERY_STRING = "select e from " + ENTITY_NAME + " e"
+			+ " where e.status = :status and e.processAfter < :now"
+			+ " and e.entityName = :entityName and e.entityId in (:entityIds)";
+
+	private final int maxAdditionalEvents;
+
+	OutboxEventCoalescer(int maxAdditionalEvents) {
+		this.maxAdditionalEvents = maxAdditionalEvents;
+	}
+
+	List<OutboxEvent> coalesce(Session session, List<OutboxEvent> events) {
+		Set<UUID> eventIds = new HashSet<>();
+		Map<String, Set<String>> entityIdsByEntityName = new LinkedHashMap<>();
+		for ( OutboxEvent event : events ) {
+			eventIds.add( event.getId() );
+			entityIdsByEntityName.computeIfAbsent( event.getEntityName(), ignored -> new HashSet<>() )
+					.add( event.getEntityId() );
+		}
+
+		Instant now = Instant.now();
+		List<OutboxEvent> additionalEvents = new ArrayList<>();
+		for ( Map.Entry<String, Set<String>> entry : entityIdsByEntityName.entrySet() ) {
+			List<String> entityIds = new ArrayList<>( entry.getValue() );
+			for ( int start = 0; start < entityIds.size(); start += MAX_IDS_PER_QUERY ) {
+				int remaining = maxAdditionalEvents - additionalEvents.size();
+				if ( remaining <= 0 ) {
+					break;
+				}
+				Query<OutboxEvent> query = session.createQuery( QUERY_STRING, OutboxEvent.class );
+				query.setParameter( "status", OutboxEvent.Status.PENDING );
+				query.setParameter( "now", now );
+				query.setParameter( "entityName", entry.getKey() );
+				query.setParameter( "entityIds",
+						entityIds.subList( start, Math.min( start + MAX_IDS_PER_QUERY, entityIds.size() ) ) );
+				// The events of the batch will be returned as well, so we need to account for them.
+				query.setMaxResults( remaining + events.size() );
+				for ( OutboxEvent event : query.getResultList() ) {
+					if ( !eventIds.contains( event.getId() ) && additionalEvents.size() < maxAdditionalEvents ) {
+						additionalEvents.add( event );
+					}
+				}
+			}
+		}
+
+		if ( additionalEvents.isEmpty() ) {
+			return events;
+		}
+
+		List<OutboxEvent> result = new ArrayList<>( events.size() + additionalEvents.size() );
+		result.addAll( events );
+		result.addAll( additionalEvents );
+		// Events are appended to the processing plan in that order,
+		// so the routes of the most recent event for a given entity must come last.
+		// The sort is stable, so this preserves the original order of the batch for events with the same date.
+		result.sort( Comparator.comparing( OutboxEvent::getProcessAfter ) );
+		return result;
+	}
+}
@@ -53,6 +53,28 @@ void processEvents(List<OutboxEvent> events) {
 		}
 	}
 
+	/**
+	 * Merges the result of processing a partition of events, in another session, into this plan.
+	 *
+	 * @param partition A plan that processed a partition of events.
+	 */
+	void addProcessedPartition(OutboxEventProcessingPlan partition) {
+		events.addAll( partition.events );
+		failedEvents.addAll( partition.failedEvents );
+	}
+
+	/**
+	 * Merges a partition of events whose processing failed before it could be handled by a plan,
+	 * e.g. because a session could not be opened or a transaction could not be committed.
+	 *
+	 * @param partitionEvents The events in the partition.
+	 * @param throwable The failure.
+	 */
+	void addFailedPartition(List<OutboxEvent> partitionEvents, Throwable throwable) {
+		events.addAll( partitionEvents );
+		reportAllEventsFailure( partitionEvents, throwable );
+	}
+
 	List<OutboxEvent> getEvents() {
 		return events;
 	}
@@ -86,7 +108,7 @@ private void reportMapperFailure(Throwable throwable) {
 		try {
 			// Something failed, but we don't know what.
 			// Assume all events failed.
-			reportAllEventsFailure( throwable );
+			reportAllEventsFailure( events, throwable );
 		}
 		catch (Throwable t) {
 			throwable.addSuppressed( t );
@@ -126,13 +148,13 @@ private String extractReferenceOrSuppress(EntityReference entityReference, Throw
 		}
 	}
 
-	private void reportAllEventsFailure(Throwable throwable) {
-		failedEvents.addAll( events );
+	private void reportAllEventsFailure(List<OutboxEvent> failingEvents, Throwable throwable) {
+		failedEvents.addAll( failingEvents );
 		EntityIndexingFailureContext.Builder builder = EntityIndexingFailureContext.builder();
 		builder.throwable( throwable );
 		builder.failingOperation( "Processing an outbox event." );
 
-		for ( OutboxEvent event : events ) {
+		for ( OutboxEvent event : failingEvents ) {
 			builder.failingEntityReference( entityReference( event.getEntityName(), event.getEntityId(), throwable ) );
 		}
 		failureHandler.handle( builder.build() );
@@ -4,15 +4,20 @@
  */
 package org.hibernate.search.mapper.orm.outboxpolling.event.impl;
 
+import static org.hibernate.search.mapper.orm.outboxpolling.event.impl.OutboxPollingOutboxEventAdditionalJaxbMappingProducer.ENTITY_NAME;
+
 import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.MutationQuery;
 import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.Log;
@@ -24,6 +29,16 @@ public class OutboxEventUpdater {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private static final int MAX_RETRIES = 3;
 
+	// Some databases limit the number of elements in an IN predicate (e.g. 1000 for Oracle),
+	// so we need to split bulk statements.
+	private static final int MAX_IDS_PER_STATEMENT = 500;
+
+	private static final String DELETE_EVENTS_WITH_IDS = "delete " + ENTITY_NAME + " e where e.id in (:ids)";
+	private static final String RETRY_EVENTS_WITH_IDS = "update " + ENTITY_NAME + " e"
+			+ " set e.retries = e.retries + 1, e.processAfter = :processAfter where e.id in (:ids)";
+	private static final String ABORT_EVENTS_WITH_IDS = "update " + ENTITY_NAME + " e"
+			+ " set e.status = :status where e.id in (:ids)";
+
 	private final FailureHandler failureHandler;
 	private final OutboxEventLoader loader;
 	private final OutboxEventProcessingPlan processingPlan;
@@ -53,7 +68,10 @@ public boolean thereAreStillEventsToProcess() {
 
 	public void process() {
 		List<OutboxEvent> lockedEvents = loader.loadLocking( session, eventsIds, processorName );
-		List<OutboxEvent> eventToDelete = new ArrayList<>( lockedEvents );
+		List<UUID> idsToDelete = new ArrayList<>();
+		List<UUID> idsToRetry = new ArrayList<>();
+		List<UUID> idsToAbort = new ArrayList<>();
+		Instant processAfter = ( retryAfter > 0 ) ? Instant.now().plusSeconds( retryAfter ) : Instant.now();
 
 		for ( OutboxEvent event : lockedEvents ) {
 			UUID id = event.getId();
@@ -62,27 +80,22 @@ public void process() {
 
 			if ( !failedEventIds.contains( id ) ) {
 				// The event was processed successfully; we will simply delete it.
+				idsToDelete.add( id );
 				continue;
 			}
 
-			// We won't delete this event.
-			eventToDelete.remove( event );
-
 			// Failed events have to be processed differently:
 			// we try to update their retry count instead of deleting them,
 			// so that the process will try to process them again.
 			int attempts = event.getRetries() + 1;
 			if ( attempts >= MAX_RETRIES ) {
 				notifyMaxRetriesReached( event );
-				event.setStatus( OutboxEvent.Status.ABORTED );
+				idsToAbort.add( id );
 			}
 			else {
 				// We will simply increment the retry count of this event,
 				// and the event processor will process it once more in the next batch
-				event.setRetries( attempts );
-
-				Instant processAfter = ( retryAfter > 0 ) ? Instant.now().plusSeconds( retryAfter ) : Instant.now();
-				event.setProcessAfter( processAfter );
+				idsToRetry.add( id );
 
 				log.backgroundIndexingRetry(
 						event.getId(), event.getEntityName(), event.getEntityId(), attempts, processAfter
@@ -90,8 +103,24 @@ public void process() {
 			}
 		}
 
-		for ( OutboxEvent event : eventToDelete ) {
-			session.remove( event );
+		// We rely on set-based statements rather than on updating/removing each entity through the session,
+		// to reduce the number of round-trips and thus how long we hold locks on the outbox table.
+		// Note this leaves loaded events untouched in the session,
+		// but the session is never used to load these events again.
+		executeInChunks( DELETE_EVENTS_WITH_IDS, idsToDelete, query -> { } );
+		executeInChunks( RETRY_EVENTS_WITH_IDS, idsToRetry,
+				query -> query.setParameter( "processAfter", processAfter ) );
+		executeInChunks( ABORT_EVENTS_WITH_IDS, idsToAbort,
+				query -> query.setParameter( "status", OutboxEvent.Status.ABORTED ) );
+	}
+
+	private void executeInChunks(String queryString, List<UUID> ids, Consumer<MutationQuery> parameterSetter) {
+		for ( int start = 0; start < ids.size(); start += MAX_IDS_PER_STATEMENT ) {
+			Collection<UUID> chunk = ids.subList( start, Math.min( start + MAX_IDS_PER_STATEMENT, ids.size() ) );
+			MutationQuery query = session.createMutationQuery( queryString );
+			query.setParameter( "ids", chunk );
+			parameterSetter.accept( query );
+			query.executeUpdate();
 		}
 	}
 
@@ -7,10 +7,13 @@
 import java.lang.invoke.MethodHandles;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -32,6 +35,7 @@
 import org.hibernate.search.mapper.orm.outboxpolling.cluster.impl.ShardAssignmentDescriptor;
 import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.Log;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.spi.ToStringTreeAppendable;
 import org.hibernate.search.util.common.spi.ToStringTreeAppender;
@@ -78,6 +82,20 @@ public static String namePrefix(String tenantId) {
 					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_BATCH_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Integer> PARALLELISM =
+			ConfigurationProperty
+					.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_PARALLELISM )
+					.asIntegerStrictlyPositive()
+					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_PARALLELISM )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> COALESCING =
+			ConfigurationProperty
+					.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_COALESCING )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_COALESCING )
+					.build();
+
 	private static final OptionalConfigurationProperty<Integer> TRANSACTION_TIMEOUT =
 			ConfigurationProperty
 					.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_TRANSACTION_TIMEOUT )
@@ -102,12 +120,14 @@ public static Factory factory(AutomaticIndexingMappingContext mapping, Clock clo
 				v -> OutboxConfigUtils.checkPulseExpiration( Duration.ofMillis( v ), pulseInterval ) );
 
 		int batchSize = BATCH_SIZE.get( configurationSource );
+		int parallelism = PARALLELISM.get( configurationSource );
+		boolean coalescing = COALESCING.get( configurationSource );
 		int retryDelay = RETRY_DELAY.get( configurationSource );
 		Integer transactionTimeout = TRANSACTION_TIMEOUT.get( configurationSource )
 				.orElse( null );
 
 		return new Factory( mapping, clock, tenantId, loader, pollingInterval, pulseInterval, pulseExpiration,
-				batchSize, retryDelay, transactionTimeout );
+				batchSize, parallelism, coalescing, retryDelay, transactionTimeout );
 	}
 
 	public static class Factory {
@@ -119,12 +139,14 @@ public static class Factory {
 		private final Duration pulseInterval;
 		private final Duration pulseExpiration;
 		private final int batchSize;
+		private final int parallelism;
+		private final boolean coalescing;
 		private final int retryDelay;
 		private final Integer transactionTimeout;
 
 		private Factory(AutomaticIndexingMappingContext mapping, Clock clock, String tenantId,
 				OutboxEventLoader loader, Duration pollingInterval, Duration pulseInterval, Duration pulseExpiration,
-				int batchSize, int retryDelay, Integer transactionTimeout) {
+				int batchSize, int parallelism, boolean coalescing, int retryDelay, Integer transactionTimeout) {
 			this.mapping = mapping;
 			this.clock = clock;
 			this.tenantId = tenantId;
@@ -133,11 +155,24 @@ private Factory(AutomaticIndexingMappingContext mapping, Clock clock, String ten
 			this.pulseInterval = pulseInterval;
 			this.pulseExpiration = pulseExpiration;
 			this.batchSize = batchSize;
+			this.parallelism = parallelism;
+			this.coalescing = coalescing;
 			this.retryDelay = retryDelay;
 			this.transactionTimeout = transactionTimeout;
 		}
 
+		/**
+		 * @return The number of partitions processed in parallel by each event processor.
+		 * When greater than 1, an executor with that many threads per event processor
+		 * must be passed to {@link #create(ScheduledExecutorService, ExecutorService, OutboxEventFinderProvider,
+		 * AgentRepositoryProvider, ShardAssignmentDescriptor)}.
+		 */
+		public int parallelism() {
+			return parallelism;
+		}
+
 		public OutboxPollingEventProcessor create(ScheduledExecutorService scheduledExecutor,
+				ExecutorService partitionExecutorOrNull,
 				OutboxEventFinderProvider finderProvider, AgentRepositoryProvider agentRepositoryProvider,
 				ShardAssignmentDescriptor shardAssignmentOrNull) {
 			String agentName = namePrefix( tenantId )
@@ -147,7 +182,7 @@ public OutboxPollingEventProcessor create(ScheduledExecutorService scheduledExec
 					new ShardAssignment.Provider( finderProvider ), pollingInterval, pulseInterval, pulseExpiration,
 					shardAssignmentOrNull );
 
-			return new OutboxPollingEventProcessor( agentName, this, scheduledExecutor,
+			return new OutboxPollingEventProcessor( agentName, this, scheduledExecutor, partitionExecutorOrNull,
 					agentRepositoryProvider, clusterLink );
 		}
 	}
@@ -162,7 +197,10 @@ private enum Status {
 	private final OutboxEventLoader loader;
 	private final long pollingInterval;
 	private final int batchSize;
+	private final int parallelism;
+	private final OutboxEventCoalescer coalescerOrNull;
 	private final int retryDelay;
+	private final ExecutorService partitionExecutor;
 
 	private final AtomicReference<Status> status = new AtomicReference<>( Status.STOPPED );
 	private final OutboxPollingEventProcessorClusterLink clusterLink;
@@ -171,10 +209,11 @@ private enum Status {
 	private final AgentClusterLinkContextProvider clusterLinkContextProvider;
 	private final FailureHandler failureHandler;
 	private final Worker worker;
+	private final Scheduler scheduler;
 	private final SingletonTask processingTask;
 
 	public OutboxPollingEventProcessor(String name, Factory factory,
-			ScheduledExecutorService executor,
+			ScheduledExecutorService executor, ExecutorService partitionExecutorOrNull,
 			AgentRepositoryProvider agentRepositoryProvider,
 			OutboxPollingEventProcessorClusterLink clusterLink) {
 		this.name = name;
@@ -183,7 +222,13 @@ public OutboxPollingEventProcessor(String name, Factory factory,
 		this.loader = factory.loader;
 		this.pollingInterval = factory.pollingInterval.toMillis();
 		this.batchSize = factory.batchSize;
+		// Without an executor, we can only process events serially.
+		this.parallelism = partitionExecutorOrNull == null ? 1 : factory.parallelism;
+		// Never fold in more events than the batch size, so that a very frequently updated entity
+		// doesn't make the batch grow indefinitely.
+		this.coalescerOrNull = factory.coalescing ? new OutboxEventCoalescer( batchSize ) : null;
 		this.retryDelay = factory.retryDelay;
+		this.partitionExecutor = partitionExecutorOrNull;
 		this.clusterLink = clusterLink;
 
 		transactionHelper = new TransactionHelper( mapping.sessionFactory(), factory.transactionTimeout );
@@ -193,10 +238,11 @@ public OutboxPollingEventProcessor(String name, Factory factory,
 
 		failureHandler = mapping.failureHandler();
 		this.worker = new Worker();
+		this.scheduler = new Scheduler( executor );
 		processingTask = new SingletonTask(
 				name,
 				worker,
-				new Scheduler( executor ),
+				scheduler,
 				failureHandler
 		);
 	}
@@ -212,6 +258,8 @@ public void appendTo(ToStringTreeAppender appender) {
 				.attribute( "loader", loader )
 				.attribute( "pollingInterval", pollingInterval )
 				.attribute( "batchSize", batchSize )
+				.attribute( "parallelism", parallelism )
+				.attribute( "coalescing", coalescerOrNull != null )
 				.attribute( "retryDelay", retryDelay )
 				.attribute( "clusterLink", clusterLink );
 	}
@@ -222,6 +270,24 @@ public void start() {
 		processingTask.ensureScheduled();
 	}
 
+	/**
+	 * Signals that new events were committed,
+	 * so that the processor looks for events to process right away
+	 * instead of waiting for the polling interval to elapse.
+	 * <p>
+	 * Has no effect if the processor is not currently waiting for the next polling,
+	 * e.g. if it is already processing events or is suspended.
+	 */
+	public void wakeUp() {
+		if ( status.get() != Status.STARTED ) {
+			return;
+		}
+		// If the worker is currently running, make sure it will run again immediately
+		// instead of waiting for the polling interval.
+		worker.wokenUp = true;
+		scheduler.expeditePolling();
+	}
+
 	public CompletableFuture<?> completion() {
 		return processingTask.completion();
 	}
@@ -235,6 +301,7 @@ public void stop() {
 		log.stoppingOutboxEventProcessor( name );
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( SingletonTask::stop, processingTask );
+			closer.push( Scheduler::stop, scheduler );
 			closer.push( OutboxPollingEventProcessor::leaveCluster, this );
 		}
 	}
@@ -247,10 +314,12 @@ private class Worker implements SingletonTask.Worker {
 
 		private volatile OutboxPollingEventProcessingInstructions instructions;
 		private volatile boolean lastExecutionProcessedEvents;
+		private volatile boolean wokenUp;
 
 		@Override
 		public CompletableFuture<?> work() {
 			lastExecutionProcessedEvents = false;
+			wokenUp = false;
 
 			if ( instructions == null || !instructions.isStillValid() ) {
 				// Never perform event processing in the same transaction as a pulse,
@@ -284,6 +353,11 @@ public CompletableFuture<?> work() {
 							// Nothing to do, try again later (complete() will be called, re-scheduling the polling for later)
 							return;
 						}
+						if ( coalescerOrNull != null ) {
+							// Other pending events for the same entities would only trigger redundant reindexing later:
+							// process them now, along with the batch.
+							events = coalescerOrNull.coalesce( session, events );
+						}
 					}
 					catch (PessimisticLockException | OptimisticLockException lockException) {
 						// Note OptimisticLockException is sometimes (always?) thrown to indicate a *pessimistic* lock failure.
@@ -305,7 +379,12 @@ public CompletableFuture<?> work() {
 					log.tracef( "Processing %d outbox events for '%s': '%s'", events.size(), name, events );
 
 					// Process the events
-					eventProcessing.processEvents( events );
+					if ( parallelism > 1 ) {
+						processEventsInParallel( eventProcessing, events );
+					}
+					else {
+						eventProcessing.processEvents( events );
+					}
 				} );
 
 				// Updating events involves database locks on a table that
@@ -329,6 +408,50 @@ public CompletableFuture<?> work() {
 			}
 		}
 
+		private void processEventsInParallel(OutboxEventProcessingPlan eventProcessing, List<OutboxEvent> events) {
+			List<List<OutboxEvent>> partitions = partition( events );
+			List<CompletableFuture<OutboxEventProcessingPlan>> futures = new ArrayList<>( partitions.size() );
+			for ( List<OutboxEvent> partition : partitions ) {
+				futures.add( CompletableFuture.supplyAsync( () -> processPartition( partition ), partitionExecutor ) );
+			}
+			for ( int i = 0; i < partitions.size(); i++ ) {
+				try {
+					eventProcessing.addProcessedPartition( Futures.unwrappedExceptionJoin( futures.get( i ) ) );
+				}
+				catch (RuntimeException | Error e) {
+					eventProcessing.addFailedPartition( partitions.get( i ), e );
+				}
+			}
+		}
+
+		private OutboxEventProcessingPlan processPartition(List<OutboxEvent> partition) {
+			// Sessions are not thread-safe: each partition needs its own.
+			try ( SessionImplementor session = sessionHelper.openSession() ) {
+				OutboxEventProcessingPlan partitionProcessing = new OutboxEventProcessingPlan( mapping, session );
+				transactionHelper.inTransaction( session, () -> partitionProcessing.processEvents( partition ) );
+				return partitionProcessing;
+			}
+		}
+
+		/**
+		 * Splits events into partitions, making sure all events related to the same entity end up in the same partition,
+		 * in the same relative order.
+		 * <p>
+		 * Partitions are independent in the same way shards are,
+		 * so processing them concurrently does not provide weaker guarantees than sharding.
+		 */
+		private List<List<OutboxEvent>> partition(List<OutboxEvent> events) {
+			List<List<OutboxEvent>> partitions = new ArrayList<>( parallelism );
+			for ( int i = 0; i < parallelism; i++ ) {
+				partitions.add( new ArrayList<>() );
+			}
+			for ( OutboxEvent event : events ) {
+				partitions.get( Math.floorMod( event.getReference().hashCode(), parallelism ) ).add( event );
+			}
+			partitions.removeIf( List::isEmpty );
+			return partitions;
+		}
+
 		@Override
 		public void complete() {
 			// Make sure we poll again in a few seconds.
@@ -351,12 +474,18 @@ private void ensureScheduled() {
 	private class Scheduler implements SingletonTask.Scheduler {
 		private final ScheduledExecutorService delegate;
 
+		// Guarded by "this"
+		private Runnable pollingRunnable;
+		private Future<?> pollingFuture;
+
 		private Scheduler(ScheduledExecutorService delegate) {
 			this.delegate = delegate;
 		}
 
 		@Override
-		public Future<?> schedule(Runnable runnable) {
+		public synchronized Future<?> schedule(Runnable runnable) {
+			pollingRunnable = null;
+			pollingFuture = null;
 			OutboxPollingEventProcessingInstructions instructions = worker.instructions;
 			if ( instructions == null ) {
 				// Before the first pulse (i.e. on startup),
@@ -367,15 +496,18 @@ public Future<?> schedule(Runnable runnable) {
 				return delegate.schedule( runnable, pollingInterval, TimeUnit.MILLISECONDS );
 			}
 			else if ( instructions.eventFinder.isPresent() ) {
-				if ( worker.lastExecutionProcessedEvents ) {
+				if ( worker.lastExecutionProcessedEvents || worker.wokenUp ) {
 					// When running and there might be  more events to process,
 					// re-execute the worker immediately.
 					return delegate.submit( runnable );
 				}
 				else {
 					// When running and there are no more events to process,
-					// re-execute the worker after the polling interval.
-					return delegate.schedule( runnable, pollingInterval, TimeUnit.MILLISECONDS );
+					// re-execute the worker after the polling interval,
+					// unless we get woken up earlier.
+					pollingRunnable = runnable;
+					pollingFuture = delegate.schedule( runnable, pollingInterval, TimeUnit.MILLISECONDS );
+					return pollingFuture;
 				}
 			}
 			else {
@@ -388,5 +520,30 @@ else if ( instructions.eventFinder.isPresent() ) {
 				return delegate.schedule( runnable, instructions.timeInMillisecondsToExpiration(), TimeUnit.MILLISECONDS );
 			}
 		}
+
+		/**
+		 * Re-schedules the pending polling, if any, for immediate execution.
+		 */
+		synchronized void expeditePolling() {
+			if ( pollingFuture == null || !pollingFuture.cancel( false ) ) {
+				// Not waiting for polling: either running, or waiting for instructions to expire.
+				return;
+			}
+			try {
+				pollingFuture = delegate.submit( pollingRunnable );
+			}
+			catch (RejectedExecutionException e) {
+				// We're shutting down: the polling doesn't matter anymore.
+				pollingFuture = null;
+			}
+		}
+
+		synchronized void stop() {
+			// The future held by the processing task may be outdated if the polling was expedited.
+			if ( pollingFuture != null ) {
+				pollingFuture.cancel( false );
+				pollingFuture = null;
+			}
+		}
 	}
 }
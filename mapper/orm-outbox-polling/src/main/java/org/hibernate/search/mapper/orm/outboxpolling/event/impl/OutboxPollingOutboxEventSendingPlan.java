@@ -5,18 +5,27 @@
 package org.hibernate.search.mapper.orm.outboxpolling.event.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingQueueEventSendingPlan;
-import org.hibernate.search.mapper.orm.outboxpolling.avro.impl.EventPayloadSerializationUtils;
+import org.hibernate.search.mapper.orm.outboxpolling.avro.impl.EventPayloadSerializer;
 import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.Log;
+import org.hibernate.search.mapper.orm.outboxpolling.notification.spi.OutboxEventNotifier;
+import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
+import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.DirtinessDescriptor;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
 import org.hibernate.search.util.common.data.impl.RangeCompatibleHashFunction;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -31,22 +40,33 @@ public final class OutboxPollingOutboxEventSendingPlan implements AutomaticIndex
 
 	private final EntityReferenceFactory entityReferenceFactory;
 	private final Session session;
-	private final List<OutboxEvent> events = new ArrayList<>();
+	private final EventPayloadSerializer payloadSerializer;
+	private final OutboxEventNotifier notifierOrNull;
+	// Events that were appended but not sent yet
+	private final Map<OutboxEventReference, PendingEvent> events = new LinkedHashMap<>();
+	// Events that were already persisted in the current transaction,
+	// and that we can still update instead of persisting new, redundant events
+	private final Map<OutboxEventReference, PersistedEvent> persistedEvents = new HashMap<>();
 
 	public OutboxPollingOutboxEventSendingPlan(EntityReferenceFactory entityReferenceFactory,
-			Session session) {
+			Session session, EventPayloadSerializer payloadSerializer, OutboxEventNotifier notifierOrNull) {
 		this.entityReferenceFactory = entityReferenceFactory;
 		this.session = session;
+		this.payloadSerializer = payloadSerializer;
+		this.notifierOrNull = notifierOrNull;
 	}
 
 	@Override
 	public void append(String entityName, Object identifier, String serializedId,
 			PojoIndexingQueueEventPayload payload) {
-		events.add( new OutboxEvent( entityName, serializedId,
-				HASH_FUNCTION.hash( serializedId ),
-				EventPayloadSerializationUtils.serialize( payload ),
-				identifier
-		) );
+		OutboxEventReference reference = new OutboxEventReference( entityName, serializedId );
+		PendingEvent previous = events.get( reference );
+		if ( previous == null ) {
+			events.put( reference, new PendingEvent( identifier, payload ) );
+		}
+		else {
+			previous.payload = merge( previous.payload, payload );
+		}
 	}
 
 	@Override
@@ -81,22 +101,131 @@ private CompletableFuture<MultiEntityOperationExecutionReport> sendAndReportOnSe
 			Session currentSession, EntityReferenceFactory entityReferenceFactory) {
 		try {
 			MultiEntityOperationExecutionReport.Builder builder = MultiEntityOperationExecutionReport.builder();
-			for ( OutboxEvent event : events ) {
+			if ( !isTransactionInProgress( currentSession ) ) {
+				// Events persisted outside a transaction may already be committed, and thus processed:
+				// we must not update them.
+				persistedEvents.clear();
+			}
+			int persistedCount = 0;
+			for ( Map.Entry<OutboxEventReference, PendingEvent> entry : events.entrySet() ) {
+				OutboxEventReference reference = entry.getKey();
+				PendingEvent pending = entry.getValue();
+				PersistedEvent persisted = persistedEvents.get( reference );
 				try {
-					currentSession.persist( event );
+					if ( persisted != null && currentSession.contains( persisted.event ) ) {
+						// An event was already persisted for this entity in the current transaction:
+						// just update its payload instead of persisting another event.
+						persisted.payload = merge( persisted.payload, pending.payload );
+						persisted.event.setPayload( payloadSerializer.serialize( persisted.payload ) );
+					}
+					else {
+						OutboxEvent event = new OutboxEvent( reference.getEntityName(), reference.getEntityId(),
+								HASH_FUNCTION.hash( reference.getEntityId() ),
+								payloadSerializer.serialize( pending.payload ),
+								pending.identifier
+						);
+						currentSession.persist( event );
+						persistedEvents.put( reference, new PersistedEvent( event, pending.payload ) );
+						++persistedCount;
+					}
 				}
 				catch (RuntimeException e) {
 					builder.throwable( e );
 					builder.failingEntityReference(
-							entityReferenceFactory, event.getEntityName(), event.getOriginalEntityId() );
+							entityReferenceFactory, reference.getEntityName(), pending.identifier );
 				}
 			}
 			currentSession.flush();
-			log.tracef( "Persisted %d outbox events: '%s'", events.size(), events );
+			log.tracef( "Persisted %d outbox events, updated %d outbox events: '%s'",
+					persistedCount, events.size() - persistedCount, events.keySet() );
+			if ( notifierOrNull != null && !events.isEmpty() ) {
+				notifierOrNull.eventsSent( currentSession );
+			}
 			return CompletableFuture.completedFuture( builder.build() );
 		}
 		finally {
 			events.clear();
 		}
 	}
+
+	private static boolean isTransactionInProgress(Session session) {
+		return session.unwrap( SessionImplementor.class ).isTransactionInProgress();
+	}
+
+	/**
+	 * Merges two payloads for the same entity into a single one,
+	 * equivalent to processing both payloads in order.
+	 */
+	static PojoIndexingQueueEventPayload merge(PojoIndexingQueueEventPayload older,
+			PojoIndexingQueueEventPayload newer) {
+		return new PojoIndexingQueueEventPayload( merge( older.routes, newer.routes ),
+				merge( older.dirtiness, newer.dirtiness ) );
+	}
+
+	private static DocumentRoutesDescriptor merge(DocumentRoutesDescriptor older, DocumentRoutesDescriptor newer) {
+		if ( older == null ) {
+			return newer;
+		}
+		if ( newer == null ) {
+			return older;
+		}
+		DocumentRouteDescriptor currentRoute = newer.currentRoute();
+		// The document may have been indexed with any of the routes mentioned in the older payload,
+		// so all of them become previous routes.
+		Set<DocumentRouteDescriptor> previousRoutes = new LinkedHashSet<>( older.previousRoutes() );
+		if ( older.currentRoute() != null ) {
+			previousRoutes.add( older.currentRoute() );
+		}
+		previousRoutes.addAll( newer.previousRoutes() );
+		if ( currentRoute != null ) {
+			previousRoutes.remove( currentRoute );
+		}
+		return DocumentRoutesDescriptor.of( currentRoute, previousRoutes );
+	}
+
+	private static DirtinessDescriptor merge(DirtinessDescriptor older, DirtinessDescriptor newer) {
+		if ( older == null ) {
+			return newer;
+		}
+		if ( newer == null ) {
+			return older;
+		}
+		Set<String> dirtyPaths;
+		if ( older.dirtyPaths().isEmpty() ) {
+			dirtyPaths = newer.dirtyPaths();
+		}
+		else if ( newer.dirtyPaths().isEmpty() || Objects.equals( older.dirtyPaths(), newer.dirtyPaths() ) ) {
+			dirtyPaths = older.dirtyPaths();
+		}
+		else {
+			dirtyPaths = new LinkedHashSet<>( older.dirtyPaths() );
+			dirtyPaths.addAll( newer.dirtyPaths() );
+		}
+		return new DirtinessDescriptor(
+				older.forceSelfDirty() || newer.forceSelfDirty(),
+				older.forceContainingDirty() || newer.forceContainingDirty(),
+				dirtyPaths,
+				older.updatedBecauseOfContained() || newer.updatedBecauseOfContained()
+		);
+	}
+
+	private static final class PendingEvent {
+		private final Object identifier;
+		private PojoIndexingQueueEventPayload payload;
+
+		private PendingEvent(Object identifier, PojoIndexingQueueEventPayload payload) {
+			this.identifier = identifier;
+			this.payload = payload;
+		}
+	}
+
+	private static final class PersistedEvent {
+		private final OutboxEvent event;
+		private PojoIndexingQueueEventPayload payload;
+
+		private PersistedEvent(OutboxEvent event, PojoIndexingQueueEventPayload payload) {
+			this.event = event;
+			this.payload = payload;
+		}
+	}
 }
@@ -4,11 +4,16 @@
  */
 package org.hibernate.search.mapper.orm.outboxpolling.impl;
 
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurationContext;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategy;
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
+import org.hibernate.search.mapper.orm.outboxpolling.notification.impl.DatabaseOutboxEventNotifier;
+import org.hibernate.search.mapper.orm.outboxpolling.notification.impl.LocalOutboxEventNotifier;
+import org.hibernate.search.mapper.orm.outboxpolling.notification.impl.PostgreSqlNotificationChannel;
+import org.hibernate.search.mapper.orm.outboxpolling.notification.spi.OutboxEventNotifier;
 
 public class OutboxPollingBeanConfigurer implements BeanConfigurer {
 
@@ -19,5 +24,15 @@ public void configure(BeanConfigurationContext context) {
 				HibernateOrmMapperOutboxPollingSettings.COORDINATION_STRATEGY_NAME,
 				BeanReference.ofInstance( new OutboxPollingCoordinationStrategy() )
 		);
+		context.define(
+				OutboxEventNotifier.class,
+				LocalOutboxEventNotifier.NAME,
+				beanResolver -> BeanHolder.of( new LocalOutboxEventNotifier() )
+		);
+		context.define(
+				OutboxEventNotifier.class,
+				PostgreSqlNotificationChannel.NAME,
+				beanResolver -> BeanHolder.of( new DatabaseOutboxEventNotifier( new PostgreSqlNotificationChannel() ) )
+		);
 	}
 }
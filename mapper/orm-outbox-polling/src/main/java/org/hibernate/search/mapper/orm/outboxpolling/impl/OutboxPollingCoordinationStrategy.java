@@ -11,20 +11,26 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationConfigurationContext;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategy;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategyPreStopContext;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategyStartContext;
+import org.hibernate.search.mapper.orm.outboxpolling.avro.impl.EventPayloadSerializer;
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.OutboxEventPayloadFormat;
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.OutboxEventProcessingOrder;
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.UuidGenerationStrategy;
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.impl.HibernateOrmMapperOutboxPollingImplSettings;
@@ -41,6 +47,8 @@
 import org.hibernate.search.mapper.orm.outboxpolling.event.impl.OutboxPollingOutboxEventSendingPlan;
 import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.Log;
 import org.hibernate.search.mapper.orm.outboxpolling.mapping.impl.OutboxPollingSearchMappingImpl;
+import org.hibernate.search.mapper.orm.outboxpolling.notification.spi.OutboxEventNotifier;
+import org.hibernate.search.mapper.orm.outboxpolling.notification.spi.OutboxEventNotifierStartContext;
 import org.hibernate.search.mapper.orm.tenancy.spi.TenancyConfiguration;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexerAgent;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexerAgentCreateContext;
@@ -76,6 +84,25 @@ public class OutboxPollingCoordinationStrategy implements CoordinationStrategy {
 					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_ORDER )
 					.build();
 
+	private static final OptionalConfigurationProperty<BeanReference<? extends OutboxEventNotifier>> EVENT_PROCESSOR_NOTIFIER =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_NOTIFIER )
+					.asBeanReference( OutboxEventNotifier.class )
+					.build();
+
+	private static final ConfigurationProperty<OutboxEventPayloadFormat> OUTBOX_EVENT_PAYLOAD_FORMAT =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.OUTBOX_EVENT_PAYLOAD_FORMAT )
+					.as( OutboxEventPayloadFormat.class, OutboxEventPayloadFormat::of )
+					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT )
+					.build();
+
+	private static final ConfigurationProperty<Integer> OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD =
+			ConfigurationProperty
+					.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD )
+					.asIntegerStrictlyPositive()
+					.withDefault(
+							HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD )
+					.build();
+
 	private static final ConfigurationProperty<BeanReference<? extends OutboxPollingInternalConfigurer>> INTERNAL_CONFIGURER =
 			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingImplSettings.CoordinationRadicals.INTERNAL_CONFIGURER )
 					.asBeanReference( OutboxPollingInternalConfigurer.class )
@@ -88,19 +115,29 @@ public class OutboxPollingCoordinationStrategy implements CoordinationStrategy {
 	private TenancyConfiguration tenancyConfiguration;
 	private final Map<String, TenantDelegate> tenantDelegates = new LinkedHashMap<>();
 	private OutboxPollingSearchMappingImpl outboxPollingSearchMapping;
+	private BeanHolder<? extends OutboxEventNotifier> notifierHolder;
+	// Accessed from sending plans, which may be created from any thread.
+	private volatile OutboxEventNotifier notifier;
+	// Accessed from sending plans, which may be created from any thread.
+	private volatile EventPayloadSerializer payloadSerializer = EventPayloadSerializer.AVRO;
 
 	@Override
 	public void configure(CoordinationConfigurationContext context) {
 		context.mappingProducer( new OutboxPollingOutboxEventAdditionalJaxbMappingProducer() );
 		context.mappingProducer( new OutboxPollingAgentAdditionalJaxbMappingProducer() );
 		context.sendIndexingEventsTo(
-				ctx -> new OutboxPollingOutboxEventSendingPlan( ctx.entityReferenceFactory(), ctx.session() ), true );
+				ctx -> new OutboxPollingOutboxEventSendingPlan( ctx.entityReferenceFactory(), ctx.session(),
+						payloadSerializer, notifier ),
+				true );
 	}
 
 	@Override
 	public CompletableFuture<?> start(CoordinationStrategyStartContext context) {
 		ConfigurationPropertySource configurationSource = context.configurationPropertySource();
 
+		payloadSerializer = EventPayloadSerializer.create( OUTBOX_EVENT_PAYLOAD_FORMAT.get( configurationSource ),
+				OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD.get( configurationSource ) );
+
 		OutboxEventOrder processingOrder = OutboxEventOrder.of(
 				EVENT_PROCESSOR_ORDER.get( configurationSource ),
 				OutboxPollingOutboxEventAdditionalJaxbMappingProducer.ENTITY_MAPPING_OUTBOXEVENT_UUID_GEN_STRATEGY
@@ -139,6 +176,15 @@ public CompletableFuture<?> start(CoordinationStrategyStartContext context) {
 			}
 		}
 
+		Optional<BeanHolder<? extends OutboxEventNotifier>> notifierHolderOptional =
+				EVENT_PROCESSOR_NOTIFIER.getAndMap( configurationSource, context.beanResolver()::resolve );
+		if ( notifierHolderOptional.isPresent() ) {
+			notifierHolder = notifierHolderOptional.get();
+			OutboxEventNotifier notifierToStart = notifierHolder.get();
+			notifierToStart.start( new NotifierStartContext( context ) );
+			notifier = notifierToStart;
+		}
+
 		outboxPollingSearchMapping = new OutboxPollingSearchMappingImpl( context, tenancyConfiguration );
 		return CompletableFuture.completedFuture( null );
 	}
@@ -188,9 +234,14 @@ public CompletableFuture<?> preStop(CoordinationStrategyPreStopContext context)
 	@Override
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( OutboxEventNotifier::stop, notifier );
+			notifier = null;
+			closer.push( BeanHolder::close, notifierHolder );
+			notifierHolder = null;
 			for ( TenantDelegate tenantDelegate : tenantDelegates.values() ) {
 				closer.pushAll( OutboxPollingEventProcessor::stop, tenantDelegate.eventProcessors );
 				closer.push( ScheduledExecutorService::shutdownNow, tenantDelegate.eventProcessorExecutor );
+				closer.push( ExecutorService::shutdownNow, tenantDelegate.eventProcessorPartitionExecutor );
 			}
 		}
 	}
@@ -199,10 +250,45 @@ public OutboxPollingSearchMappingImpl outboxPollingSearchMapping() {
 		return outboxPollingSearchMapping;
 	}
 
+	private void wakeUpEventProcessors() {
+		for ( TenantDelegate tenantDelegate : tenantDelegates.values() ) {
+			if ( tenantDelegate.eventProcessors == null ) {
+				continue;
+			}
+			for ( OutboxPollingEventProcessor eventProcessor : tenantDelegate.eventProcessors ) {
+				eventProcessor.wakeUp();
+			}
+		}
+	}
+
+	private class NotifierStartContext implements OutboxEventNotifierStartContext {
+		private final CoordinationStrategyStartContext delegate;
+
+		private NotifierStartContext(CoordinationStrategyStartContext delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public SessionFactoryImplementor sessionFactory() {
+			return delegate.mapping().sessionFactory();
+		}
+
+		@Override
+		public ThreadPoolProvider threadPoolProvider() {
+			return delegate.threadPoolProvider();
+		}
+
+		@Override
+		public void wakeUpEventProcessors() {
+			OutboxPollingCoordinationStrategy.this.wakeUpEventProcessors();
+		}
+	}
+
 	private class TenantDelegate {
 		private final String tenantId;
 
 		private ScheduledExecutorService eventProcessorExecutor;
+		private ExecutorService eventProcessorPartitionExecutor;
 		private List<OutboxPollingEventProcessor> eventProcessors;
 		private OutboxPollingMassIndexerAgent.Factory massIndexerAgentFactory;
 
@@ -251,10 +337,16 @@ private void initializeEventProcessors(CoordinationStrategyStartContext context,
 			eventProcessorExecutor = context.threadPoolProvider()
 					.newScheduledExecutor( shardAssignmentOrNulls.size(),
 							OutboxPollingEventProcessor.namePrefix( tenantId ) );
+			if ( factory.parallelism() > 1 ) {
+				// Each processor waits for its partitions, so it never uses more threads than its parallelism.
+				eventProcessorPartitionExecutor = context.threadPoolProvider()
+						.newFixedThreadPool( shardAssignmentOrNulls.size() * factory.parallelism(),
+								OutboxPollingEventProcessor.namePrefix( tenantId ) + " - Partition" );
+			}
 			eventProcessors = new ArrayList<>();
 			for ( ShardAssignmentDescriptor shardAssignmentOrNull : shardAssignmentOrNulls ) {
-				eventProcessors.add( factory.create( eventProcessorExecutor, finderProvider,
-						agentRepositoryProvider, shardAssignmentOrNull ) );
+				eventProcessors.add( factory.create( eventProcessorExecutor, eventProcessorPartitionExecutor,
+						finderProvider, agentRepositoryProvider, shardAssignmentOrNull ) );
 			}
 			for ( OutboxPollingEventProcessor eventProcessor : eventProcessors ) {
 				eventProcessor.start();
@@ -217,4 +217,26 @@ void startingOutboxMassIndexerAgent(String name,
 			value = "Configuration property '%1$s' is configured with a deprecated value '%2$s'. "
 					+ "Use '%3$s' instead.")
 	void usingDeprecatedPropertyValue(String property, String value, String correctValue);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 38,
+			value = "Outbox event notifier '%1$s' failed to listen to notifications: %3$s"
+					+ " Will try again in %2$d ms. Until then, event processors will only rely on polling.")
+	void outboxEventNotifierListeningFailed(Object notifier, long retryDelayMillis, String causeMessage,
+			@Cause Throwable cause);
+
+	@Message(id = ID_OFFSET + 39,
+			value = "Unable to use notification channel '%1$s' for outbox events: %2$s")
+	SearchException unableToUseNotificationChannel(String name, String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET + 40, value = "Invalid name for the outbox event payload format: '%1$s'."
+			+ " Valid names are: %2$s.")
+	SearchException invalidOutboxEventPayloadFormatName(String name, List<String> values);
+
+	@Message(id = ID_OFFSET + 41, value = "Unable to deserialize OutboxEvent payload: %1$s")
+	SearchException unableToDeserializeOutboxEventPayload(String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET + 42, value = "Unsupported format for OutboxEvent payload: header '%1$d'."
+			+ " This payload was probably sent by an application instance using a more recent version of Hibernate Search.")
+	SearchException unsupportedOutboxEventPayloadFormat(byte header);
 }
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.notification.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * A database-specific notification mechanism, used by {@link DatabaseOutboxEventNotifier}.
+ */
+public interface DatabaseNotificationChannel {
+
+	/**
+	 * Checks that this channel can be used with the given session factory, and prepares it for use.
+	 *
+	 * @param sessionFactory The session factory.
+	 */
+	void initialize(SessionFactoryImplementor sessionFactory);
+
+	/**
+	 * Sends a notification as part of the current transaction on the given connection.
+	 * <p>
+	 * The notification must only be delivered to listeners if and when that transaction is committed.
+	 *
+	 * @param connection A connection whose current transaction persisted outbox events.
+	 * @throws SQLException If sending fails.
+	 */
+	void send(Connection connection) throws SQLException;
+
+	/**
+	 * Starts listening to notifications on the given connection.
+	 *
+	 * @param connection A connection dedicated to listening, in auto-commit mode.
+	 * @throws SQLException If listening fails.
+	 */
+	void listen(Connection connection) throws SQLException;
+
+	/**
+	 * Waits for notifications on a connection previously passed to {@link #listen(Connection)}.
+	 *
+	 * @param connection The listening connection.
+	 * @param timeoutMillis The maximum time to wait, in milliseconds.
+	 * @return {@code true} if at least one notification was received, {@code false} on timeout.
+	 * @throws SQLException If waiting fails.
+	 * @throws InterruptedException If the thread was interrupted while waiting.
+	 */
+	boolean await(Connection connection, int timeoutMillis) throws SQLException, InterruptedException;
+
+	/**
+	 * Stops listening to notifications on the given connection.
+	 *
+	 * @param connection The listening connection.
+	 * @throws SQLException If unlistening fails.
+	 */
+	void unlisten(Connection connection) throws SQLException;
+
+}
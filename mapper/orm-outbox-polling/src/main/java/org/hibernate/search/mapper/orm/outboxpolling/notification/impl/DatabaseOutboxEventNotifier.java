@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.notification.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.Session;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.Log;
+import org.hibernate.search.mapper.orm.outboxpolling.notification.spi.OutboxEventNotifier;
+import org.hibernate.search.mapper.orm.outboxpolling.notification.spi.OutboxEventNotifierStartContext;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A notifier that relies on a database notification mechanism,
+ * so that event processors running in any application instance get notified.
+ * <p>
+ * Notifications are sent in the transaction that persisted outbox events,
+ * and are expected to be delivered by the database on commit only.
+ * Notifications are received by a dedicated thread holding a connection of its own.
+ */
+public final class DatabaseOutboxEventNotifier implements OutboxEventNotifier {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// Upper bound to the time it takes for the listening thread to notice it must stop.
+	private static final int AWAIT_TIMEOUT_MILLIS = 1000;
+	private static final long RETRY_DELAY_MILLIS = 5000;
+
+	private final DatabaseNotificationChannel channel;
+	private final long retryDelayMillis;
+
+	private OutboxEventNotifierStartContext context;
+	private JdbcConnectionAccess connectionAccess;
+	private ExecutorService listeningExecutor;
+	private volatile boolean stopped;
+
+	public DatabaseOutboxEventNotifier(DatabaseNotificationChannel channel) {
+		this( channel, RETRY_DELAY_MILLIS );
+	}
+
+	DatabaseOutboxEventNotifier(DatabaseNotificationChannel channel, long retryDelayMillis) {
+		this.channel = channel;
+		this.retryDelayMillis = retryDelayMillis;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "channel=" + channel
+				+ "]";
+	}
+
+	@Override
+	public void start(OutboxEventNotifierStartContext context) {
+		this.context = context;
+		channel.initialize( context.sessionFactory() );
+		connectionAccess = context.sessionFactory().getJdbcServices().getBootstrapJdbcConnectionAccess();
+		listeningExecutor = context.threadPoolProvider().newFixedThreadPool( 1, "Outbox event notifier" );
+		listeningExecutor.submit( this::listenUntilStopped );
+	}
+
+	@Override
+	public void eventsSent(Session session) {
+		session.doWork( channel::send );
+	}
+
+	@Override
+	public void stop() {
+		stopped = true;
+		if ( listeningExecutor != null ) {
+			listeningExecutor.shutdownNow();
+		}
+	}
+
+	private void listenUntilStopped() {
+		while ( !stopped ) {
+			try {
+				listen();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (SQLException | RuntimeException e) {
+				if ( stopped ) {
+					// Most likely the connection pool was shut down: ignore.
+					return;
+				}
+				log.outboxEventNotifierListeningFailed( this, retryDelayMillis, e.getMessage(), e );
+				try {
+					Thread.sleep( retryDelayMillis );
+				}
+				catch (InterruptedException e2) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	private void listen() throws SQLException, InterruptedException {
+		Connection connection = connectionAccess.obtainConnection();
+		try {
+			// Most databases only start listening after a commit.
+			connection.setAutoCommit( true );
+			channel.listen( connection );
+			// We may have missed notifications before we started listening
+			// (on startup, or after a failure): make sure event processors check for events.
+			context.wakeUpEventProcessors();
+			while ( !stopped ) {
+				if ( channel.await( connection, AWAIT_TIMEOUT_MILLIS ) ) {
+					context.wakeUpEventProcessors();
+				}
+			}
+			channel.unlisten( connection );
+		}
+		finally {
+			connectionAccess.releaseConnection( connection );
+		}
+	}
+}
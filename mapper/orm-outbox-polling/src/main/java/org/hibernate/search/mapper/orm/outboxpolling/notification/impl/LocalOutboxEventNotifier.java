@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.notification.impl;
+
+import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.outboxpolling.notification.spi.OutboxEventNotifier;
+import org.hibernate.search.mapper.orm.outboxpolling.notification.spi.OutboxEventNotifierStartContext;
+
+/**
+ * A notifier that wakes up event processors running in the same application instance
+ * after the transaction that persisted outbox events is committed.
+ * <p>
+ * Event processors running in other application instances will only pick up events on the next polling.
+ */
+public final class LocalOutboxEventNotifier implements OutboxEventNotifier {
+
+	public static final String NAME = "local";
+
+	private volatile OutboxEventNotifierStartContext context;
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[]";
+	}
+
+	@Override
+	public void start(OutboxEventNotifierStartContext context) {
+		this.context = context;
+	}
+
+	@Override
+	public void eventsSent(Session session) {
+		session.unwrap( SessionImplementor.class ).getActionQueue()
+				.registerProcess( (AfterTransactionCompletionProcess) (success, ignored) -> {
+					if ( success ) {
+						context.wakeUpEventProcessors();
+					}
+				} );
+	}
+
+	@Override
+	public void stop() {
+		// Nothing to do
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.notification.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A notification channel relying on PostgreSQL's {@code LISTEN}/{@code NOTIFY}.
+ * <p>
+ * {@code NOTIFY} is transactional: notifications are only delivered on commit,
+ * and notifications sent multiple times in the same transaction are only delivered once.
+ * <p>
+ * We don't want a compile-time dependency on the PostgreSQL JDBC driver,
+ * so notifications are retrieved through reflection.
+ */
+public final class PostgreSqlNotificationChannel implements DatabaseNotificationChannel {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final String NAME = "postgresql";
+
+	private static final String PG_CONNECTION_CLASS_NAME = "org.postgresql.PGConnection";
+	private static final String CHANNEL_NAME = "hsearch_outbox_event";
+
+	private Class<?> pgConnectionClass;
+	private Method getNotificationsMethod;
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "channelName=" + CHANNEL_NAME
+				+ "]";
+	}
+
+	@Override
+	public void initialize(SessionFactoryImplementor sessionFactory) {
+		if ( !( sessionFactory.getJdbcServices().getDialect() instanceof PostgreSQLDialect ) ) {
+			throw log.unableToUseNotificationChannel( NAME,
+					"The database dialect is not a PostgreSQL dialect: " + sessionFactory.getJdbcServices().getDialect(),
+					null );
+		}
+		try {
+			pgConnectionClass = sessionFactory.getServiceRegistry().getService( ClassLoaderService.class )
+					.classForName( PG_CONNECTION_CLASS_NAME );
+			getNotificationsMethod = pgConnectionClass.getMethod( "getNotifications", int.class );
+		}
+		catch (RuntimeException | NoSuchMethodException e) {
+			throw log.unableToUseNotificationChannel( NAME, e.getMessage(), e );
+		}
+	}
+
+	@Override
+	public void send(Connection connection) throws SQLException {
+		execute( connection, "NOTIFY " + CHANNEL_NAME );
+	}
+
+	@Override
+	public void listen(Connection connection) throws SQLException {
+		execute( connection, "LISTEN " + CHANNEL_NAME );
+	}
+
+	@Override
+	public boolean await(Connection connection, int timeoutMillis) throws SQLException {
+		Object pgConnection = connection.unwrap( pgConnectionClass );
+		Object notifications;
+		try {
+			notifications = getNotificationsMethod.invoke( pgConnection, timeoutMillis );
+		}
+		catch (IllegalAccessException e) {
+			throw log.unableToUseNotificationChannel( NAME, e.getMessage(), e );
+		}
+		catch (InvocationTargetException e) {
+			Throwable cause = e.getCause();
+			if ( cause instanceof SQLException ) {
+				throw (SQLException) cause;
+			}
+			throw log.unableToUseNotificationChannel( NAME, cause.getMessage(), cause );
+		}
+		return notifications != null && Array.getLength( notifications ) > 0;
+	}
+
+	@Override
+	public void unlisten(Connection connection) throws SQLException {
+		execute( connection, "UNLISTEN " + CHANNEL_NAME );
+	}
+
+	private static void execute(Connection connection, String sql) throws SQLException {
+		try ( Statement statement = connection.createStatement() ) {
+			statement.execute( sql );
+		}
+	}
+}
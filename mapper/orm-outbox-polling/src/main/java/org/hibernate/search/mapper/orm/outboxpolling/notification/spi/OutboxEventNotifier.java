@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.notification.spi;
+
+import org.hibernate.Session;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A way to notify outbox event processors that new outbox events were committed,
+ * so that they can process these events without waiting for the next polling.
+ * <p>
+ * Notifications are only a hint: event processors still poll the database periodically,
+ * so a lost notification will only result in events being processed later.
+ */
+@Incubating
+public interface OutboxEventNotifier {
+
+	/**
+	 * Starts the notifier.
+	 * <p>
+	 * Called once on startup, before any call to {@link #eventsSent(Session)}.
+	 *
+	 * @param context The start context,
+	 * in particular providing a way to {@link OutboxEventNotifierStartContext#wakeUpEventProcessors() wake up}
+	 * local event processors.
+	 */
+	void start(OutboxEventNotifierStartContext context);
+
+	/**
+	 * Signals that outbox events were just persisted and flushed in the current transaction of the given session.
+	 * <p>
+	 * Implementations must make sure event processors are only notified
+	 * after the transaction is successfully committed,
+	 * since event processors will not see these events before that.
+	 *
+	 * @param session The session in which events were persisted.
+	 */
+	void eventsSent(Session session);
+
+	/**
+	 * Stops the notifier, releasing any resource.
+	 */
+	void stop();
+
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.notification.spi;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+@Incubating
+public interface OutboxEventNotifierStartContext {
+
+	/**
+	 * @return The session factory.
+	 */
+	SessionFactoryImplementor sessionFactory();
+
+	/**
+	 * @return A provider of thread pools, to use when spawning background processes.
+	 */
+	ThreadPoolProvider threadPoolProvider();
+
+	/**
+	 * Wakes up all event processors running in this application instance,
+	 * so that they look for outbox events to process as soon as possible.
+	 * <p>
+	 * Event processors that are not currently waiting for the next polling will ignore this call.
+	 */
+	void wakeUpEventProcessors();
+
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.avro.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.OutboxEventPayloadFormat;
+import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
+import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.DirtinessDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.Test;
+
+class CompactEventPayloadSerializationUtilsTest {
+
+	private static final EventPayloadSerializer COMPACT =
+			EventPayloadSerializer.create( OutboxEventPayloadFormat.COMPACT, 256 );
+
+	@Test
+	void roundTrip_empty() {
+		PojoIndexingQueueEventPayload payload = new PojoIndexingQueueEventPayload(
+				DocumentRoutesDescriptor.of( null ),
+				new DirtinessDescriptor( false, false, Collections.emptySet(), false )
+		);
+
+		byte[] serialized = COMPACT.serialize( payload );
+		// Header + flags only
+		assertThat( serialized ).hasSize( 2 );
+		assertRoundTrip( payload, serialized );
+	}
+
+	@Test
+	void roundTrip_routesAndDirtyPaths() {
+		PojoIndexingQueueEventPayload payload = new PojoIndexingQueueEventPayload(
+				DocumentRoutesDescriptor.of( DocumentRouteDescriptor.of( "key1" ),
+						List.of( DocumentRouteDescriptor.of( "key2" ), DocumentRouteDescriptor.of( null ) ) ),
+				new DirtinessDescriptor( true, false,
+						Set.of( "contained.text", "contained.number", "contained", "text", "😀a", "😁b" ),
+						true )
+		);
+
+		byte[] serialized = COMPACT.serialize( payload );
+		assertThat( serialized ).hasSizeLessThan( EventPayloadSerializer.AVRO.serialize( payload ).length );
+		assertRoundTrip( payload, serialized );
+	}
+
+	@Test
+	void roundTrip_compressed() {
+		Set<String> dirtyPaths = new HashSet<>();
+		for ( int i = 0; i < 100; i++ ) {
+			dirtyPaths.add( "someAssociation.someProperty" + i + ".someOtherProperty" );
+		}
+		PojoIndexingQueueEventPayload payload = new PojoIndexingQueueEventPayload(
+				DocumentRoutesDescriptor.of( DocumentRouteDescriptor.of( "key1" ) ),
+				new DirtinessDescriptor( false, true, dirtyPaths, false )
+		);
+
+		byte[] serialized = COMPACT.serialize( payload );
+		assertThat( serialized[0] ).isEqualTo( CompactEventPayloadSerializationUtils.HEADER_DEFLATED );
+		assertRoundTrip( payload, serialized );
+	}
+
+	@Test
+	void avroStillSupported() {
+		PojoIndexingQueueEventPayload payload = new PojoIndexingQueueEventPayload(
+				DocumentRoutesDescriptor.of( DocumentRouteDescriptor.of( "key1" ) ),
+				new DirtinessDescriptor( true, true, Set.of( "a", "b" ), false )
+		);
+
+		byte[] serialized = EventPayloadSerializer.AVRO.serialize( payload );
+		assertThat( CompactEventPayloadSerializationUtils.isCompact( serialized ) ).isFalse();
+		assertRoundTrip( payload, serialized );
+	}
+
+	@Test
+	void unsupportedFormat() {
+		assertThatThrownBy( () -> EventPayloadSerializationUtils.deserialize( new byte[] { 0x05, 0x00 } ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unsupported format for OutboxEvent payload: header '5'" );
+	}
+
+	@Test
+	void truncated() {
+		assertThatThrownBy( () -> EventPayloadSerializationUtils.deserialize(
+				new byte[] { CompactEventPayloadSerializationUtils.HEADER } ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to deserialize OutboxEvent payload" );
+	}
+
+	private static void assertRoundTrip(PojoIndexingQueueEventPayload expected, byte[] serialized) {
+		PojoIndexingQueueEventPayload deserialized = EventPayloadSerializationUtils.deserialize( serialized );
+		assertThat( deserialized.routes.currentRoute() ).isEqualTo( expected.routes.currentRoute() );
+		assertThat( deserialized.routes.previousRoutes() )
+				.containsExactlyElementsOf( expected.routes.previousRoutes() );
+		assertThat( deserialized.dirtiness.forceSelfDirty() ).isEqualTo( expected.dirtiness.forceSelfDirty() );
+		assertThat( deserialized.dirtiness.forceContainingDirty() )
+				.isEqualTo( expected.dirtiness.forceContainingDirty() );
+		assertThat( deserialized.dirtiness.updatedBecauseOfContained() )
+				.isEqualTo( expected.dirtiness.updatedBecauseOfContained() );
+		assertThat( deserialized.dirtiness.dirtyPaths() )
+				.containsExactlyInAnyOrderElementsOf( expected.dirtiness.dirtyPaths() );
+	}
+}
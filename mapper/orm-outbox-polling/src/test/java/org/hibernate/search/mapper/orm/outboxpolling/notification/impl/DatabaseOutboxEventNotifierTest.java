@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.notification.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Session;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jdbc.Work;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.mapper.orm.outboxpolling.notification.spi.OutboxEventNotifierStartContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class DatabaseOutboxEventNotifierTest {
+
+	private static final long VERIFY_TIMEOUT_MILLIS = 5_000;
+
+	@Mock
+	private OutboxEventNotifierStartContext contextMock;
+	@Mock
+	private SessionFactoryImplementor sessionFactoryMock;
+	@Mock
+	private JdbcServices jdbcServicesMock;
+	@Mock
+	private JdbcConnectionAccess connectionAccessMock;
+	@Mock
+	private ThreadPoolProvider threadPoolProviderMock;
+	@Mock
+	private Connection listeningConnectionMock;
+	@Mock
+	private Connection sendingConnectionMock;
+	@Mock
+	private Session sessionMock;
+
+	private final StubNotificationChannel channel = new StubNotificationChannel();
+	private final ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool( 1 );
+
+	private DatabaseOutboxEventNotifier notifier;
+
+	@BeforeEach
+	void setup() throws SQLException {
+		when( contextMock.sessionFactory() ).thenReturn( sessionFactoryMock );
+		when( contextMock.threadPoolProvider() ).thenReturn( threadPoolProviderMock );
+		when( sessionFactoryMock.getJdbcServices() ).thenReturn( jdbcServicesMock );
+		when( jdbcServicesMock.getBootstrapJdbcConnectionAccess() ).thenReturn( connectionAccessMock );
+		when( threadPoolProviderMock.newFixedThreadPool( eq( 1 ), anyString() ) ).thenReturn( executor );
+		when( connectionAccessMock.obtainConnection() ).thenReturn( listeningConnectionMock );
+
+		notifier = new DatabaseOutboxEventNotifier( channel, 10 );
+	}
+
+	@AfterEach
+	void cleanup() throws InterruptedException {
+		notifier.stop();
+		executor.awaitTermination( VERIFY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS );
+	}
+
+	@Test
+	void startup() throws SQLException {
+		notifier.start( contextMock );
+
+		// Notifications may have been missed before listening started.
+		verify( contextMock, timeout( VERIFY_TIMEOUT_MILLIS ) ).wakeUpEventProcessors();
+		verify( listeningConnectionMock ).setAutoCommit( true );
+	}
+
+	@Test
+	void eventsSent_wakeUpOnCommitOnly() throws SQLException {
+		doAnswer( invocation -> {
+			invocation.<Work>getArgument( 0 ).execute( sendingConnectionMock );
+			return null;
+		} ).when( sessionMock ).doWork( any() );
+
+		notifier.start( contextMock );
+		verify( contextMock, timeout( VERIFY_TIMEOUT_MILLIS ) ).wakeUpEventProcessors();
+
+		notifier.eventsSent( sessionMock );
+		verify( contextMock, after( 200 ).times( 1 ) ).wakeUpEventProcessors();
+
+		channel.commit();
+		verify( contextMock, timeout( VERIFY_TIMEOUT_MILLIS ).times( 2 ) ).wakeUpEventProcessors();
+	}
+
+	@Test
+	void listeningFailure_retry() throws SQLException {
+		channel.listenFailures.set( 2 );
+
+		notifier.start( contextMock );
+
+		verify( contextMock, timeout( VERIFY_TIMEOUT_MILLIS ) ).wakeUpEventProcessors();
+		// Each attempt uses a fresh connection, and failed ones are released.
+		verify( connectionAccessMock, times( 3 ) ).obtainConnection();
+		verify( connectionAccessMock, times( 2 ) ).releaseConnection( listeningConnectionMock );
+	}
+
+	@Test
+	void stop() throws SQLException {
+		notifier.start( contextMock );
+		verify( contextMock, timeout( VERIFY_TIMEOUT_MILLIS ) ).wakeUpEventProcessors();
+		verify( connectionAccessMock, never() ).releaseConnection( any() );
+
+		notifier.stop();
+
+		verify( connectionAccessMock, timeout( VERIFY_TIMEOUT_MILLIS ) ).releaseConnection( listeningConnectionMock );
+	}
+
+	/**
+	 * A stand-in for a database notification mechanism,
+	 * delivering notifications only when the sending transaction is committed.
+	 */
+	private static class StubNotificationChannel implements DatabaseNotificationChannel {
+		private final AtomicInteger listenFailures = new AtomicInteger();
+		private final AtomicInteger uncommitted = new AtomicInteger();
+		private final BlockingQueue<Object> delivered = new LinkedBlockingQueue<>();
+
+		@Override
+		public void initialize(SessionFactoryImplementor sessionFactory) {
+			// Nothing to do
+		}
+
+		@Override
+		public void send(Connection connection) {
+			uncommitted.incrementAndGet();
+		}
+
+		void commit() {
+			if ( uncommitted.getAndSet( 0 ) > 0 ) {
+				delivered.add( new Object() );
+			}
+		}
+
+		@Override
+		public void listen(Connection connection) throws SQLException {
+			if ( listenFailures.getAndUpdate( count -> Math.max( 0, count - 1 ) ) > 0 ) {
+				throw new SQLException( "Simulated listening failure" );
+			}
+		}
+
+		@Override
+		public boolean await(Connection connection, int timeoutMillis) throws InterruptedException {
+			return delivered.poll( timeoutMillis, TimeUnit.MILLISECONDS ) != null;
+		}
+
+		@Override
+		public void unlisten(Connection connection) {
+			// Nothing to do
+		}
+	}
+}
@@ -48,9 +48,8 @@ private HibernateOrmIntegrationBooterImpl(BuilderImpl builder) {
 		ServiceRegistry serviceRegistry = builder.bootstrapContext.getServiceRegistry();
 		this.jandexIndex = builder.bootstrapContext.getJandexView();
 		this.reflectionManager = builder.bootstrapContext.getReflectionManager();
-		this.valueHandleFactory = builder.valueHandleFactory != null
-				? builder.valueHandleFactory
-				: ValueHandleFactory.usingMethodHandle( MethodHandles.publicLookup() );
+		// May be null, in which case the factory will be selected according to configuration properties.
+		this.valueHandleFactory = builder.valueHandleFactory;
 		this.preIntegrationService =
 				HibernateOrmUtils.getServiceOrFail( serviceRegistry, HibernateSearchPreIntegrationService.class );
 
@@ -69,6 +69,12 @@ public abstract class HibernateSearchPreIntegrationService implements Service, A
 					.withDefault( HibernateOrmMapperSpiSettings.Defaults.JBOSS_LOG_VERSIONS )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> MAPPING_GENERATE_PROPERTY_ACCESSORS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_GENERATE_PROPERTY_ACCESSORS )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.MAPPING_GENERATE_PROPERTY_ACCESSORS )
+					.build();
+
 	public static class Contributor implements ServiceContributor {
 		@Override
 		public void contribute(StandardServiceRegistryBuilder serviceRegistryBuilder) {
@@ -226,6 +232,10 @@ ConfigurationPropertyChecker propertyChecker() {
 
 	abstract BeanResolver beanResolver();
 
+	/**
+	 * @param valueHandleFactory The value handle factory set by integrators,
+	 * or {@code null} to select the factory according to configuration properties.
+	 */
 	abstract HibernateOrmIntegrationPartialBuildState doBootFirstPhase(Metadata metadata,
 			IndexView jandexIndex, ReflectionManager reflectionManager,
 			ValueHandleFactory valueHandleFactory);
@@ -269,9 +279,16 @@ HibernateOrmIntegrationPartialBuildState doBootFirstPhase(Metadata metadata,
 			try {
 				SearchIntegration.Builder builder = SearchIntegration.builder( environment );
 
+				ValueHandleFactory actualValueHandleFactory = valueHandleFactory;
+				if ( actualValueHandleFactory == null ) {
+					actualValueHandleFactory = MAPPING_GENERATE_PROPERTY_ACCESSORS.get( environment.propertySource() )
+							? ValueHandleFactory.usingHiddenClasses( MethodHandles.publicLookup() )
+							: ValueHandleFactory.usingMethodHandle( MethodHandles.publicLookup() );
+				}
+
 				HibernateOrmMappingKey mappingKey = new HibernateOrmMappingKey();
 				mappingInitiator = HibernateOrmMappingInitiator.create( metadata, jandexIndex, reflectionManager,
-						valueHandleFactory, serviceRegistry );
+						actualValueHandleFactory, serviceRegistry );
 				builder.addMappingInitiator( mappingKey, mappingInitiator );
 
 				searchIntegrationPartialBuildState = builder.prepareBuild();
@@ -194,6 +194,20 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String MAPPING_CONFIGURER = PREFIX + Radicals.MAPPING_CONFIGURER;
 
+	/**
+	 * Whether Hibernate Search should generate a dedicated class for each property accessed during indexing,
+	 * so that the JIT compiler can inline property access.
+	 * <p>
+	 * When disabled, or when classes cannot be generated in the current environment,
+	 * property values are accessed through a generic {@link java.lang.invoke.MethodHandle} instead.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#MAPPING_GENERATE_PROPERTY_ACCESSORS}.
+	 */
+	public static final String MAPPING_GENERATE_PROPERTY_ACCESSORS = PREFIX + Radicals.MAPPING_GENERATE_PROPERTY_ACCESSORS;
+
 	/**
 	 * How indexes and their schema are created, updated, validated or dropped on startup and shutdown.
 	 * <p>
@@ -264,6 +278,31 @@ private HibernateOrmMapperSettings() {
 	public static final String INDEXING_PLAN_SYNCHRONIZATION_STRATEGY =
 			PREFIX + Radicals.INDEXING_PLAN_SYNCHRONIZATION_STRATEGY;
 
+	/**
+	 * The number of threads used to build the documents of a single indexing plan in parallel.
+	 * <p>
+	 * When set to a strictly positive value, documents are built in background threads
+	 * while the indexing plan is processed, which can speed up large transactions affecting many entities.
+	 * <p>
+	 * Only documents of entity types whose mapping cannot access the Hibernate ORM session are built in parallel:
+	 * all indexed properties must be accessed through fields (not getters),
+	 * entity classes must not be enhanced by bytecode enhancement,
+	 * and the mapping must not involve any type bridge or property bridge.
+	 * Documents of other entity types are built in the application thread.
+	 * Documents whose building requires loading data (uninitialized proxies or collections)
+	 * are built again in the application thread.
+	 * <p>
+	 * <strong>WARNING:</strong> Custom value bridges and container extractors must not access the Hibernate ORM session
+	 * when this is enabled.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 4}, or a String that can be parsed into such Integer value.
+	 * {@code 0} disables parallel document building.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_PLAN_DOCUMENT_BUILDING_THREAD_POOL_SIZE}.
+	 */
+	public static final String INDEXING_PLAN_DOCUMENT_BUILDING_THREAD_POOL_SIZE =
+			PREFIX + Radicals.INDEXING_PLAN_DOCUMENT_BUILDING_THREAD_POOL_SIZE;
+
 	/**
 	 * Whether Hibernate ORM listeners that detect entity changes and automatically trigger indexing operations are enabled.
 	 * <p>
@@ -330,6 +369,7 @@ private Radicals() {
 		public static final String MAPPING_DISCOVER_ANNOTATED_TYPES_FROM_ROOT_MAPPING_ANNOTATIONS =
 				MAPPING_PREFIX + "discover_annotated_types_from_root_mapping_annotations";
 		public static final String MAPPING_CONFIGURER = MAPPING_PREFIX + "configurer";
+		public static final String MAPPING_GENERATE_PROPERTY_ACCESSORS = MAPPING_PREFIX + "generate_property_accessors";
 		public static final String SCHEMA_MANAGEMENT_STRATEGY = "schema_management.strategy";
 		public static final String COORDINATION = "coordination";
 		public static final String COORDINATION_PREFIX = COORDINATION + ".";
@@ -342,6 +382,8 @@ private Radicals() {
 		public static final String INDEXING_PREFIX = "indexing.";
 		public static final String INDEXING_PLAN_SYNCHRONIZATION_STRATEGY =
 				INDEXING_PREFIX + IndexingRadicals.PLAN_SYNCHRONIZATION_STRATEGY;
+		public static final String INDEXING_PLAN_DOCUMENT_BUILDING_THREAD_POOL_SIZE =
+				INDEXING_PREFIX + IndexingRadicals.PLAN_DOCUMENT_BUILDING_THREAD_POOL_SIZE;
 		public static final String INDEXING_LISTENERS_ENABLED = INDEXING_PREFIX + IndexingRadicals.LISTENERS_ENABLED;
 		public static final String INDEXING_MASS_DEFAULT_CLEAN_OPERATION =
 				INDEXING_PREFIX + IndexingRadicals.MASS_DEFAULT_CLEAN_OPERATION;
@@ -390,6 +432,8 @@ private IndexingRadicals() {
 
 		public static final String PLAN_PREFIX = "plan.";
 		public static final String PLAN_SYNCHRONIZATION_STRATEGY = PLAN_PREFIX + "synchronization.strategy";
+		public static final String PLAN_DOCUMENT_BUILDING_THREAD_POOL_SIZE =
+				PLAN_PREFIX + "document_building.thread_pool.size";
 		public static final String LISTENERS_PREFIX = "listeners.";
 		public static final String LISTENERS_ENABLED = LISTENERS_PREFIX + "enabled";
 		public static final String MASS_PREFIX = "mass.";
@@ -459,12 +503,14 @@ private Defaults() {
 		public static final boolean MAPPING_PROCESS_ANNOTATIONS = true;
 		public static final boolean MAPPING_BUILD_MISSING_DISCOVERED_JANDEX_INDEXES = true;
 		public static final boolean MAPPING_DISCOVER_ANNOTATED_TYPES_FROM_ROOT_MAPPING_ANNOTATIONS = true;
+		public static final boolean MAPPING_GENERATE_PROPERTY_ACCESSORS = false;
 		public static final SchemaManagementStrategyName SCHEMA_MANAGEMENT_STRATEGY =
 				SchemaManagementStrategyName.CREATE_OR_VALIDATE;
 		public static final BeanReference<CoordinationStrategy> COORDINATION_STRATEGY =
 				BeanReference.of( CoordinationStrategy.class, NoCoordinationStrategy.NAME );
 		public static final BeanReference<IndexingPlanSynchronizationStrategy> INDEXING_PLAN_SYNCHRONIZATION_STRATEGY =
 				BeanReference.of( IndexingPlanSynchronizationStrategy.class, "write-sync" );
+		public static final int INDEXING_PLAN_DOCUMENT_BUILDING_THREAD_POOL_SIZE = 0;
 		public static final boolean INDEXING_LISTENERS_ENABLED = true;
 		public static final BeanReference<TenantIdentifierConverter> MULTI_TENANCY_TENANT_IDENTIFIER_CONVERTER =
 				BeanReference.of( TenantIdentifierConverter.class, StringTenantIdentifierConverter.NAME );
@@ -21,13 +21,16 @@
 	protected static final String IDS_PARAMETER_NAME = "ids";
 
 	protected final EntityMappingType entityMappingType;
+	protected final EntityMappingType targetEntityMappingType;
 	protected final HibernateOrmLoadingSessionContext sessionContext;
 	protected final MutableEntityLoadingOptions loadingOptions;
 	protected final TypeQueryFactory<E, ?> queryFactory;
 
-	public AbstractHibernateOrmSelectionEntityLoader(EntityMappingType entityMappingType, TypeQueryFactory<E, ?> queryFactory,
+	public AbstractHibernateOrmSelectionEntityLoader(EntityMappingType entityMappingType,
+			EntityMappingType targetEntityMappingType, TypeQueryFactory<E, ?> queryFactory,
 			HibernateOrmLoadingSessionContext sessionContext, MutableEntityLoadingOptions loadingOptions) {
 		this.entityMappingType = entityMappingType;
+		this.targetEntityMappingType = targetEntityMappingType;
 		this.sessionContext = sessionContext;
 		this.loadingOptions = loadingOptions;
 		this.queryFactory = queryFactory;
@@ -59,7 +62,8 @@ final Query<E> createQuery(int fetchSize, Long timeout) {
 			query.setHint( HibernateOrmSearchQueryHints.JAVAX_TIMEOUT, Math.toIntExact( timeout ) );
 		}
 
-		EntityGraphHint<?> entityGraphHint = loadingOptions.entityGraphHintOrNullForType( entityMappingType );
+		EntityGraphHint<?> entityGraphHint = loadingOptions.entityGraphHintOrPrefetchForType( entityMappingType,
+				targetEntityMappingType, sessionContext.session() );
 		if ( entityGraphHint != null ) {
 			query.applyGraph( entityGraphHint.graph, entityGraphHint.semantic );
 		}
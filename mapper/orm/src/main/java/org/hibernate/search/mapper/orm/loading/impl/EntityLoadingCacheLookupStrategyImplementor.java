@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.mapper.orm.loading.impl;
 
+import java.util.List;
+
 import org.hibernate.engine.spi.EntityKey;
 
 interface EntityLoadingCacheLookupStrategyImplementor {
@@ -14,4 +16,43 @@ interface EntityLoadingCacheLookupStrategyImplementor {
 	 */
 	Object lookup(EntityKey entityKey);
 
+	/**
+	 * Looks up multiple entities at once.
+	 *
+	 * @param entityKeys The keys of entities. May contain {@code null} elements, which will be ignored.
+	 * Elements for which an entity is found will be set to {@code null}.
+	 * @param results A list with the same size as {@code entityKeys}.
+	 * Entities found in the cache will be set at the same index as their key.
+	 */
+	default void lookupAll(EntityKey[] entityKeys, List<Object> results) {
+		for ( int i = 0; i < entityKeys.length; i++ ) {
+			EntityKey key = entityKeys[i];
+			if ( key == null ) {
+				continue;
+			}
+			Object cacheHit = lookup( key );
+			if ( cacheHit != null ) {
+				results.set( i, cacheHit );
+				entityKeys[i] = null;
+			}
+		}
+	}
+
+	/**
+	 * Looks up multiple entities at once,
+	 * possibly loading entities missing from caches along the way.
+	 * <p>
+	 * Unlike {@link #lookupAll(EntityKey[], List)}, this may hit the database,
+	 * and thus must not be used when a timeout applies to loading.
+	 *
+	 * @param entityKeys The keys of entities. May contain {@code null} elements, which will be ignored.
+	 * Elements that were handled, i.e. whose entity was either found or determined to not exist,
+	 * will be set to {@code null}.
+	 * @param results A list with the same size as {@code entityKeys}.
+	 * Entities found will be set at the same index as their key.
+	 */
+	default void loadAll(EntityKey[] entityKeys, List<Object> results) {
+		lookupAll( entityKeys, results );
+	}
+
 }
@@ -132,7 +132,8 @@ private PojoSelectionEntityLoader<?> doCreate(EntityMappingType entityMappingTyp
 				// to avoid a WrongClassException when the type of an entity changes,
 				// because that exception cannot be recovered from.
 				cacheLookupStrategyImplementor =
-						PersistenceContextThenSecondLevelCacheLookupStrategy.create( rootEntityMappingType, session );
+						PersistenceContextThenSecondLevelCacheLookupStrategy.create( rootEntityMappingType,
+								entityMappingType, session, loadingOptions );
 				break;
 			default:
 				throw new AssertionFailure( "Unexpected cache lookup strategy: " + cacheLookupStrategy );
@@ -141,7 +142,7 @@ private PojoSelectionEntityLoader<?> doCreate(EntityMappingType entityMappingTyp
 		// We must pass rootEntityMappingType here, to avoid getting a WrongClassException when loading from the cache,
 		// even if we know we actually want instances from the most specific entity type,
 		// because that exception cannot be recovered from.
-		return new HibernateOrmSelectionEntityByIdLoader<>( rootEntityMappingType,
+		return new HibernateOrmSelectionEntityByIdLoader<>( rootEntityMappingType, entityMappingType,
 				createFactory( entityMappingType ),
 				sessionContext,
 				persistenceContextLookup, cacheLookupStrategyImplementor, loadingOptions );
@@ -25,11 +25,11 @@
 	private final EntityLoadingCacheLookupStrategyImplementor cacheLookupStrategyImplementor;
 
 	HibernateOrmSelectionEntityByIdLoader(EntityMappingType rootEntityMappingType,
-			TypeQueryFactory<E, ?> queryFactory, HibernateOrmLoadingSessionContext sessionContext,
+			EntityMappingType targetEntityMappingType, TypeQueryFactory<E, ?> queryFactory, HibernateOrmLoadingSessionContext sessionContext,
 			PersistenceContextLookupStrategy persistenceContextLookup,
 			EntityLoadingCacheLookupStrategyImplementor cacheLookupStrategyImplementor,
 			MutableEntityLoadingOptions loadingOptions) {
-		super( rootEntityMappingType, queryFactory, sessionContext, loadingOptions );
+		super( rootEntityMappingType, targetEntityMappingType, queryFactory, sessionContext, loadingOptions );
 		this.persistenceContextLookup = persistenceContextLookup;
 		this.cacheLookupStrategyImplementor = cacheLookupStrategyImplementor;
 	}
@@ -40,23 +40,36 @@ protected List<E> doLoadEntities(List<?> allIds, Long timeout) {
 		EntityKey[] keys = toEntityKeys( allIds );
 		List<E> loadedEntities = createListContainingNulls( allIds.size() );
 
+		if ( cacheLookupStrategyImplementor != null ) {
+			// Keys of entities that were handled are set to null, so that we won't include them in the query.
+			if ( timeout == null ) {
+				// Look up all entities at once, so that cache hits and misses can be loaded in bulk.
+				cacheLookupStrategyImplementor.loadAll( keys, (List<Object>) loadedEntities );
+			}
+			else {
+				// Loading cache misses in bulk would not honor the timeout:
+				// only look up caches, and leave cache misses to the query below.
+				cacheLookupStrategyImplementor.lookupAll( keys, (List<Object>) loadedEntities );
+			}
+		}
+
 		int fetchSize = loadingOptions.fetchSize();
-		Query<E> query = createQuery( fetchSize, timeout );
+		// Only create the query if necessary: all entities may have been found in caches.
+		Query<E> query = null;
 
 		List<Object> ids = new ArrayList<>( fetchSize );
 		for ( int i = 0; i < keys.length; i++ ) {
 			EntityKey key = keys[i];
-			if ( cacheLookupStrategyImplementor != null ) {
-				E cacheHit = (E) cacheLookupStrategyImplementor.lookup( key );
-				if ( cacheHit != null ) {
-					loadedEntities.set( i, cacheHit );
-					keys[i] = null; // Make sure we won't include this key in the query.
-					continue;
-				}
+			if ( key == null ) {
+				// Already handled through a cache; skip.
+				continue;
 			}
 
 			ids.add( key.getIdentifier() );
 			if ( ids.size() >= fetchSize ) {
+				if ( query == null ) {
+					query = createQuery( fetchSize, timeout );
+				}
 				query.setParameterList( IDS_PARAMETER_NAME, ids );
 				// The result is worthless, as entities are not in the right order.
 				// However, this will load entities into the persistence context... see further down.
@@ -65,6 +78,9 @@ protected List<E> doLoadEntities(List<?> allIds, Long timeout) {
 			}
 		}
 		if ( !ids.isEmpty() ) {
+			if ( query == null ) {
+				query = createQuery( fetchSize, timeout );
+			}
 			query.setParameterList( IDS_PARAMETER_NAME, ids );
 			// Same as above: the result is worthless.
 			query.getResultList();
@@ -74,7 +90,7 @@ protected List<E> doLoadEntities(List<?> allIds, Long timeout) {
 		for ( int i = 0; i < keys.length; i++ ) {
 			EntityKey key = keys[i];
 			if ( key == null ) {
-				// Already loaded through a cache; skip.
+				// Already handled through a cache; skip.
 				continue;
 			}
 			E loaded = (E) persistenceContextLookup.lookup( key );
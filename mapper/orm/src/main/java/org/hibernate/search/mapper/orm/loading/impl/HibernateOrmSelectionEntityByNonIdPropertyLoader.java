@@ -41,7 +41,7 @@
 			ValueReadHandle<?> documentIdSourceHandle,
 			HibernateOrmLoadingSessionContext sessionContext,
 			MutableEntityLoadingOptions loadingOptions) {
-		super( entityMappingType, queryFactory, sessionContext, loadingOptions );
+		super( entityMappingType, entityMappingType, queryFactory, sessionContext, loadingOptions );
 		this.targetEntityTypeContext = targetEntityTypeContext;
 		this.documentIdSourcePropertyName = documentIdSourcePropertyName;
 		this.documentIdSourceHandle = documentIdSourceHandle;
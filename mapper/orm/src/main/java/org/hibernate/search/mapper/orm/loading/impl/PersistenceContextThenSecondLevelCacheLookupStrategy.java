@@ -5,13 +5,20 @@
 package org.hibernate.search.mapper.orm.loading.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.hibernate.MultiIdentifierLoadAccess;
 import org.hibernate.ObjectNotFoundException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.graph.RootGraph;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.search.mapper.orm.loading.spi.EntityGraphHint;
+import org.hibernate.search.mapper.orm.loading.spi.MutableEntityLoadingOptions;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.util.common.annotation.impl.SuppressForbiddenApis;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -31,7 +38,8 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	static EntityLoadingCacheLookupStrategyImplementor create(EntityMappingType entityMappingType,
-			SessionImplementor session) {
+			EntityMappingType targetEntityMappingType, SessionImplementor session,
+			MutableEntityLoadingOptions loadingOptions) {
 		EntityLoadingCacheLookupStrategyImplementor persistenceContextLookupStrategy =
 				PersistenceContextLookupStrategy.create( session );
 		EntityPersister entityPersister = entityMappingType.getEntityPersister();
@@ -44,26 +52,38 @@ static EntityLoadingCacheLookupStrategyImplementor create(EntityMappingType enti
 		}
 		return new PersistenceContextThenSecondLevelCacheLookupStrategy(
 				persistenceContextLookupStrategy,
+				entityMappingType,
+				targetEntityMappingType,
 				entityPersister,
 				cacheAccess,
-				session
+				session,
+				loadingOptions
 		);
 	}
 
 	private final EntityLoadingCacheLookupStrategyImplementor persistenceContextLookupStrategy;
+	private final EntityMappingType entityMappingType;
+	private final EntityMappingType targetEntityMappingType;
 	private final EntityPersister persister;
 	private final EntityDataAccess cacheAccess;
 	private final SessionImplementor session;
+	private final MutableEntityLoadingOptions loadingOptions;
 
 	private PersistenceContextThenSecondLevelCacheLookupStrategy(
 			EntityLoadingCacheLookupStrategyImplementor persistenceContextLookupStrategy,
+			EntityMappingType entityMappingType,
+			EntityMappingType targetEntityMappingType,
 			EntityPersister persister,
 			EntityDataAccess cacheAccess,
-			SessionImplementor session) {
+			SessionImplementor session,
+			MutableEntityLoadingOptions loadingOptions) {
 		this.persistenceContextLookupStrategy = persistenceContextLookupStrategy;
+		this.entityMappingType = entityMappingType;
+		this.targetEntityMappingType = targetEntityMappingType;
 		this.persister = persister;
 		this.cacheAccess = cacheAccess;
 		this.session = session;
+		this.loadingOptions = loadingOptions;
 	}
 
 	@Override
@@ -97,4 +117,65 @@ public Object lookup(EntityKey entityKey) {
 			return null;
 		}
 	}
+
+	@Override
+	public void loadAll(EntityKey[] entityKeys, List<Object> results) {
+		// Try the persistence context first, because it's faster
+		persistenceContextLookupStrategy.lookupAll( entityKeys, results );
+
+		List<Integer> remainingIndexes = new ArrayList<>();
+		List<Object> remainingIds = new ArrayList<>();
+		for ( int i = 0; i < entityKeys.length; i++ ) {
+			EntityKey entityKey = entityKeys[i];
+			if ( entityKey != null ) {
+				remainingIndexes.add( i );
+				remainingIds.add( entityKey.getIdentifier() );
+			}
+		}
+		if ( remainingIds.isEmpty() ) {
+			return;
+		}
+
+		// Hibernate ORM will check the second level cache once for each entity,
+		// then load all cache misses from the database in as few queries as possible,
+		// or not query the database at all if every entity is in the cache.
+		// Missing entities will be returned as null.
+		MultiIdentifierLoadAccess<?> multiLoadAccess = session.byMultipleIds( persister.getEntityName() )
+				.enableSessionCheck( true )
+				.enableOrderedReturn( true )
+				.withBatchSize( loadingOptions.fetchSize() );
+		EntityGraphHint<?> entityGraphHint = loadingOptions.entityGraphHintOrPrefetchForType( entityMappingType,
+				targetEntityMappingType, session );
+		if ( entityGraphHint != null ) {
+			applyGraph( multiLoadAccess, entityGraphHint );
+		}
+		List<?> loaded = multiLoadAccess.multiLoad( remainingIds );
+		for ( int j = 0; j < remainingIndexes.size(); j++ ) {
+			int index = remainingIndexes.get( j );
+			Object entity = loaded.get( j );
+			// We load by root entity name, so the database may return entities
+			// that the type-restricted query of the loader would not have returned:
+			// treat those as not found.
+			results.set( index, entity == null || isTargetType( entity ) ? entity : null );
+			entityKeys[index] = null;
+		}
+	}
+
+	private boolean isTargetType(Object entity) {
+		if ( entityMappingType == targetEntityMappingType ) {
+			// Every entity in the hierarchy is expected.
+			return true;
+		}
+		Object unproxied = entity instanceof HibernateProxy
+				? ( (HibernateProxy) entity ).getHibernateLazyInitializer().getImplementation()
+				: entity;
+		String entityName = session.bestGuessEntityName( unproxied );
+		return entityName != null && targetEntityMappingType.getSubclassEntityNames().contains( entityName );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> void applyGraph(MultiIdentifierLoadAccess<T> multiLoadAccess, EntityGraphHint<?> entityGraphHint) {
+		// This cast is fine because the graph applies to the loaded type or one of its supertypes
+		multiLoadAccess.with( (RootGraph<T>) entityGraphHint.graph, entityGraphHint.semantic );
+	}
 }
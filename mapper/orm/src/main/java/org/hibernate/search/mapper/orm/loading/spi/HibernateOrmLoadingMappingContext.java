@@ -19,4 +19,10 @@ public interface HibernateOrmLoadingMappingContext {
 
 	HibernateOrmLoadingSessionContext sessionContext(EntityManager entityManager);
 
+	/**
+	 * @param hibernateOrmEntityName The name of an entity type in the Hibernate ORM metamodel.
+	 * @return The loading context of that entity type, or {@code null} if it is neither indexed nor contained.
+	 */
+	HibernateOrmLoadingTypeContext<?> loadingTypeContextOrNull(String hibernateOrmEntityName);
+
 }
@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.mapper.orm.loading.spi;
 
+import java.util.List;
+
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoLoadingTypeContext;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
@@ -26,4 +28,11 @@
 
 	HibernateOrmEntityLoadingStrategy<? super E, ?> loadingStrategy();
 
+	/**
+	 * @return The names of single-valued associations of this entity type that indexing relies on,
+	 * and that should be fetched along with entities loaded as search hits
+	 * when no entity graph is set explicitly.
+	 */
+	List<String> prefetchedAssociationNames();
+
 }
@@ -5,18 +5,27 @@
 package org.hibernate.search.mapper.orm.loading.spi;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.model.domain.EntityDomainType;
 import org.hibernate.search.util.common.impl.Contracts;
 
 public final class MutableEntityLoadingOptions {
+	private final HibernateOrmLoadingMappingContext mappingContext;
+
 	private int fetchSize;
 
 	private List<EntityGraphHint<?>> entityGraphHints;
+	private Map<String, EntityGraphHint<?>> prefetchGraphHints;
 
 	public MutableEntityLoadingOptions(HibernateOrmLoadingMappingContext mappingContext) {
+		this.mappingContext = mappingContext;
 		this.fetchSize = mappingContext.fetchSize();
 	}
 
@@ -47,6 +56,29 @@ public EntityGraphHint<?> entityGraphHintOrNullForType(EntityMappingType entityM
 		return null;
 	}
 
+	/**
+	 * @param graphedEntityMappingType The entity type the graph will be applied to.
+	 * @param loadedEntityMappingType The type of loaded entities:
+	 * {@code graphedEntityMappingType} or one of its subtypes.
+	 * @param session The session used for loading.
+	 * @return The entity graph hint set explicitly for {@code graphedEntityMappingType} or one of its supertypes if any,
+	 * otherwise a hint to fetch the single-valued associations of {@code loadedEntityMappingType}
+	 * that indexing relies on, or {@code null} if there are none.
+	 * @see HibernateOrmLoadingTypeContext#prefetchedAssociationNames()
+	 */
+	public EntityGraphHint<?> entityGraphHintOrPrefetchForType(EntityMappingType graphedEntityMappingType,
+			EntityMappingType loadedEntityMappingType, SessionImplementor session) {
+		EntityGraphHint<?> entityGraphHint = entityGraphHintOrNullForType( graphedEntityMappingType );
+		if ( entityGraphHint != null ) {
+			return entityGraphHint;
+		}
+		if ( prefetchGraphHints == null ) {
+			prefetchGraphHints = new HashMap<>();
+		}
+		return prefetchGraphHints.computeIfAbsent( loadedEntityMappingType.getEntityName(),
+				ignored -> createPrefetchGraphHintOrNull( loadedEntityMappingType, session ) );
+	}
+
 	public void entityGraphHint(EntityGraphHint<?> entityGraphHint, boolean replaceExisting) {
 		if ( entityGraphHints == null ) {
 			entityGraphHints = new ArrayList<>();
@@ -59,4 +91,20 @@ else if ( replaceExisting ) {
 		}
 		this.entityGraphHints.add( entityGraphHint );
 	}
+
+	private EntityGraphHint<?> createPrefetchGraphHintOrNull(EntityMappingType entityMappingType,
+			SessionImplementor session) {
+		HibernateOrmLoadingTypeContext<?> typeContext =
+				mappingContext.loadingTypeContextOrNull( entityMappingType.getEntityName() );
+		if ( typeContext == null || typeContext.prefetchedAssociationNames().isEmpty() ) {
+			return null;
+		}
+		// Loaders may load the whole entity hierarchy, so the graph must apply to the root entity type.
+		EntityMappingType rootEntityMappingType = entityMappingType.getRootEntityDescriptor();
+		RootGraph<?> graph = session.createEntityGraph( rootEntityMappingType.getJavaType().getJavaTypeClass() );
+		for ( String associationName : typeContext.prefetchedAssociationNames() ) {
+			graph.addAttributeNodes( associationName );
+		}
+		return new EntityGraphHint<>( graph, GraphSemantic.LOAD );
+	}
 }
@@ -4,8 +4,16 @@
  */
 package org.hibernate.search.mapper.orm.mapping.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.ToOne;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.search.mapper.orm.event.impl.HibernateOrmListenerTypeContext;
@@ -34,6 +42,7 @@
 	private final HibernateOrmEntityLoadingStrategy<? super E, ?> loadingStrategy;
 	private final PojoPathFilter dirtyFilter;
 	private final PojoPathFilter dirtyContainingAssociationFilter;
+	private final List<String> prefetchedAssociationNames;
 
 	AbstractHibernateOrmTypeContext(Builder<E> builder, PojoLoadingTypeContext<E> delegate,
 			SessionFactoryImplementor sessionFactory) {
@@ -47,6 +56,7 @@
 		this.loadingStrategy = builder.loadingStrategy;
 		this.dirtyFilter = builder.dirtyFilter;
 		this.dirtyContainingAssociationFilter = builder.dirtyContainingAssociationFilter;
+		this.prefetchedAssociationNames = builder.prefetchedAssociationNames();
 	}
 
 	@Override
@@ -83,6 +93,11 @@ public EntityMappingType entityMappingType() {
 		return loadingStrategy;
 	}
 
+	@Override
+	public List<String> prefetchedAssociationNames() {
+		return prefetchedAssociationNames;
+	}
+
 	@Override
 	public Object toIndexingPlanProvidedId(Object entityId) {
 		if ( documentIdIsEntityId ) {
@@ -148,6 +163,33 @@ public void applyLoadingBinder(Object binder, PojoEntityLoadingBindingContext co
 				context.massLoadingStrategy( typeIdentifier.javaClass(), this.loadingStrategy );
 			}
 		}
+
+		private List<String> prefetchedAssociationNames() {
+			if ( typeIdentifier.isNamed() ) {
+				// Entity graphs can only be created for entity types with a Java class.
+				return Collections.emptyList();
+			}
+			if ( dirtyFilter == null ) {
+				// Indexing does not rely on any property of this type.
+				return Collections.emptyList();
+			}
+			// Graphs get applied to the root entity type, so they can only include attributes declared there.
+			Set<String> rootPropertyNames = new HashSet<>();
+			for ( Property property : persistentClass.getRootClass().getPropertyClosure() ) {
+				rootPropertyNames.add( property.getName() );
+			}
+			List<String> result = new ArrayList<>();
+			for ( Property property : persistentClass.getPropertyClosure() ) {
+				String name = property.getName();
+				// Only single-valued associations: fetching collections as well
+				// could multiply rows or fail with a MultipleBagFetchException.
+				if ( property.getValue() instanceof ToOne && rootPropertyNames.contains( name )
+						&& dirtyFilter.filter( name ) != null ) {
+					result.add( name );
+				}
+			}
+			return Collections.unmodifiableList( result );
+		}
 	}
 
 }
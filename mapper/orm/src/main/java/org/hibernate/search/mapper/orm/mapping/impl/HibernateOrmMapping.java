@@ -35,6 +35,7 @@
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategy;
 import org.hibernate.search.mapper.orm.entity.SearchIndexedEntity;
 import org.hibernate.search.mapper.orm.event.impl.HibernateOrmListenerContextProvider;
+import org.hibernate.search.mapper.orm.loading.spi.HibernateOrmLoadingTypeContext;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.SearchMapping;
 import org.hibernate.search.mapper.orm.mapping.context.HibernateOrmMappingContext;
@@ -339,6 +340,11 @@ public HibernateOrmScopeSessionContext sessionContext(EntityManager entityManage
 		return HibernateOrmSearchSession.get( this, HibernateOrmUtils.toSessionImplementor( entityManager ) );
 	}
 
+	@Override
+	public HibernateOrmLoadingTypeContext<?> loadingTypeContextOrNull(String hibernateOrmEntityName) {
+		return typeContextContainer.byHibernateOrmEntityName().getOrNull( hibernateOrmEntityName );
+	}
+
 	@Override
 	public boolean listenerEnabled() {
 		return listenerEnabled;
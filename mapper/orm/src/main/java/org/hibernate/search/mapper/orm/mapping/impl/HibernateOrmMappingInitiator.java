@@ -65,6 +65,12 @@ public class HibernateOrmMappingInitiator extends AbstractPojoMappingInitiator<H
 							HibernateOrmMapperSettings.Defaults.MAPPING_DISCOVER_ANNOTATED_TYPES_FROM_ROOT_MAPPING_ANNOTATIONS )
 					.build();
 
+	private static final ConfigurationProperty<Integer> INDEXING_PLAN_DOCUMENT_BUILDING_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.INDEXING_PLAN_DOCUMENT_BUILDING_THREAD_POOL_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( HibernateOrmMapperSettings.Defaults.INDEXING_PLAN_DOCUMENT_BUILDING_THREAD_POOL_SIZE )
+					.build();
+
 	private static final OptionalConfigurationProperty<
 			List<BeanReference<? extends HibernateOrmSearchMappingConfigurer>>> MAPPING_CONFIGURER =
 					ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_CONFIGURER )
@@ -141,6 +147,8 @@ public void configure(MappingBuildContext buildContext,
 		// and thus contained entities need to have an identity mapping.
 		containedEntityIdentityMappingRequired( configuredAutomaticIndexingStrategy.usesAsyncProcessing() );
 
+		documentBuildingThreads( INDEXING_PLAN_DOCUMENT_BUILDING_THREAD_POOL_SIZE.get( propertySource ) );
+
 		// Enable annotation mapping if necessary
 		boolean processAnnotations = MAPPING_PROCESS_ANNOTATIONS.get( propertySource );
 		if ( processAnnotations ) {
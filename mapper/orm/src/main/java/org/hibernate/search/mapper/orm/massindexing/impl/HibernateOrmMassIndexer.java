@@ -55,6 +55,12 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer loadObjectsInVirtualThreads(int maxConcurrentBatches) {
+		delegate.loadObjectsInVirtualThreads( maxConcurrentBatches );
+		return this;
+	}
+
 	@Override
 	public HibernateOrmMassIndexer batchSizeToLoadObjects(int batchSize) {
 		context.objectLoadingBatchSize( batchSize );
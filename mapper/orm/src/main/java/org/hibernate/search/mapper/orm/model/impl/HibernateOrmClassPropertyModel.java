@@ -8,6 +8,7 @@
 import java.util.List;
 
 import org.hibernate.annotations.common.reflection.XProperty;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.search.mapper.pojo.model.hcann.spi.AbstractPojoHCAnnPropertyModel;
 import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
 
@@ -25,6 +26,15 @@
 		this.ormPropertyMetadata = ormPropertyMetadata;
 	}
 
+	@Override
+	public boolean handleReadsFieldDirectly() {
+		// Fields of enhanced classes are read through methods that may trigger lazy loading:
+		// see HibernateOrmBootstrapIntrospector#createValueReadHandle.
+		Class<?> holderClass = holderTypeModel.typeIdentifier().javaClass();
+		return super.handleReadsFieldDirectly()
+				&& !PersistentAttributeInterceptable.class.isAssignableFrom( holderClass );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // By construction, we know the member returns values of type T
 	protected ValueReadHandle<T> createHandle(Member member) throws IllegalAccessException {
@@ -5,6 +5,7 @@
 package org.hibernate.search.mapper.orm.model.impl;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.Hibernate;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.proxy.HibernateProxy;
@@ -50,6 +51,11 @@ public Object unproxy(Object value) {
 		if ( value instanceof HibernateProxy ) {
 			final HibernateProxy proxy = (HibernateProxy) value;
 			final LazyInitializer lazyInitializer = proxy.getHibernateLazyInitializer();
+			if ( isInitializedInThisSession( lazyInitializer ) ) {
+				// The proxy already holds the entity from our persistence context:
+				// no need to look it up, which would access the session.
+				return lazyInitializer.getImplementation();
+			}
 			Object initialized = lazyInitializer.getImplementation( sessionImplementor );
 			if ( initialized != null ) {
 				return initialized;
@@ -64,6 +70,15 @@ public Object unproxy(Object value) {
 		return value;
 	}
 
+	@Override
+	public boolean isInitialized(Object value) {
+		if ( value instanceof HibernateProxy ) {
+			// Proxies from another session require accessing the session to be unproxied, see unproxy().
+			return isInitializedInThisSession( ( (HibernateProxy) value ).getHibernateLazyInitializer() );
+		}
+		return Hibernate.isInitialized( value );
+	}
+
 	@Override
 	public boolean isIgnorableDataAccessThrowable(Throwable throwable) {
 		// Ideally we would only need to ignore LazyInitializationException,
@@ -76,4 +91,8 @@ public boolean isIgnorableDataAccessThrowable(Throwable throwable) {
 				// See https://hibernate.atlassian.net/browse/HHH-14811
 				|| throwable instanceof AssertionFailure;
 	}
+
+	private boolean isInitializedInThisSession(LazyInitializer lazyInitializer) {
+		return !lazyInitializer.isUninitialized() && lazyInitializer.getSession() == sessionImplementor;
+	}
 }
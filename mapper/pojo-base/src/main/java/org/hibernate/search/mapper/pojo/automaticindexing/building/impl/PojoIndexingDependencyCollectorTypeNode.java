@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
@@ -49,6 +50,8 @@
 
 	private final ReindexOnUpdate reindexOnUpdate;
 
+	private Set<PojoModelPathValueNode> selfDependencyRecorder;
+
 	PojoIndexingDependencyCollectorTypeNode(PojoRawTypeModel<T> typeModel,
 			PojoImplicitReindexingResolverBuildingHelper buildingHelper) {
 		this( null, BoundPojoModelPath.root( typeModel ), buildingHelper );
@@ -120,6 +123,31 @@ ReindexOnUpdate reindexOnUpdate() {
 		return reindexOnUpdate;
 	}
 
+	/**
+	 * Executes the given action,
+	 * recording the dependencies to values of the indexed entity itself that get collected during that action.
+	 * <p>
+	 * Must only be called on the root node.
+	 *
+	 * @param recorder The set to which dependencies (paths from the indexed entity type) will be added.
+	 * @param action The action collecting dependencies.
+	 * @param <R> The type of the action's result.
+	 * @return The result of the action.
+	 */
+	public <R> R recordSelfDependencies(Set<PojoModelPathValueNode> recorder, Supplier<R> action) {
+		if ( parentNode != null ) {
+			throw new AssertionFailure( "recordSelfDependencies() called on a non-root node" );
+		}
+		Set<PojoModelPathValueNode> previousRecorder = selfDependencyRecorder;
+		selfDependencyRecorder = recorder;
+		try {
+			return action.get();
+		}
+		finally {
+			selfDependencyRecorder = previousRecorder;
+		}
+	}
+
 	void collectDependency(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityType) {
 		if ( lastEntityNode != this ) {
 			if ( parentNode == null ) {
@@ -151,6 +179,9 @@ void collectDependency(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityT
 			 * (i.e. the entity subtype that are also indexed, which may not be all of then).
 			 */
 			builder.addDirtyPathTriggeringSelfReindexing( dirtyPathFromEntityType );
+			if ( selfDependencyRecorder != null ) {
+				selfDependencyRecorder.add( dirtyPathFromEntityType.toUnboundPath() );
+			}
 		}
 		else {
 			/*
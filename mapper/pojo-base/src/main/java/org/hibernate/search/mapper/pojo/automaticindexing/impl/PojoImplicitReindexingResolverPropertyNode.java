@@ -60,6 +60,11 @@ public void appendTo(ToStringTreeAppender appender) {
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			T dirty, PojoImplicitReindexingResolverRootContext context) {
+		if ( !context.isFirstVisit( this, dirty ) ) {
+			// Already processed, e.g. because another dirty entity has the same parent:
+			// processing again would not resolve any additional entity to reindex.
+			return;
+		}
 		P propertyValue;
 		try {
 			try {
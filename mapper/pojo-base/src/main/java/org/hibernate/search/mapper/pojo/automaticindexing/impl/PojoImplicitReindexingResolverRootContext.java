@@ -32,6 +32,20 @@ public interface PojoImplicitReindexingResolverRootContext extends ContainerExtr
 
 	PojoRawTypeIdentifier<?> detectContainingEntityType(Object containingEntity);
 
+	/**
+	 * Records that the given node is about to process the given value.
+	 * <p>
+	 * Used to avoid processing the same value multiple times when many dirty entities lead to the same value,
+	 * e.g. many dirty children of the same parent.
+	 *
+	 * @param node A node of the reindexing resolver.
+	 * @param value The value the node is about to process.
+	 * @return {@code true} if the node should process the value,
+	 * {@code false} if that node already processed that value for a root with the same type and dirtiness,
+	 * in which case processing it again would not resolve any additional entity to reindex.
+	 */
+	boolean isFirstVisit(PojoImplicitReindexingResolverNode<?> node, Object value);
+
 	/**
 	 * Propagates (rethrows) a {@link RuntimeException} thrown while accessing a property (getter or field access),
 	 * or ignores it so that the property is skipped.
@@ -1028,4 +1028,9 @@ SearchException usingNonDefaultValueConvertAndValueModelNotAllowed(String model,
 	@Message(id = ID_OFFSET + 163,
 			value = "Mass indexer running in a fail fast mode encountered a problem. Stopping the process.")
 	MassIndexingOperationHandledFailureException massIndexerFailFast();
+
+	@Message(id = ID_OFFSET + 164,
+			value = "Unable to load entities in virtual threads: virtual threads are not available in this JVM."
+					+ " Virtual threads require Java 21 or later. Nested exception: %1$s")
+	SearchException virtualThreadsNotAvailable(String causeMessage, @Cause Exception cause);
 }
@@ -75,6 +75,7 @@
 	private final IdentityMappingMode containedEntityIdentityMappingMode;
 	private final TenancyMode tenancyMode;
 	private final ReindexOnUpdate defaultReindexOnUpdate;
+	private final int documentBuildingThreads;
 
 	private final FailureHandler failureHandler;
 	private final ThreadPoolProvider threadPoolProvider;
@@ -101,12 +102,14 @@ public PojoMapper(MappingBuildContext buildContext,
 			BeanReference<? extends IdentifierBridge<Object>> providedIdentifierBridge,
 			IdentityMappingMode containedEntityIdentityMappingMode,
 			TenancyMode tenancyMode, ReindexOnUpdate defaultReindexOnUpdate,
+			int documentBuildingThreads,
 			PojoMapperDelegate<MPBS> delegate) {
 		this.failureCollector = buildContext.failureCollector();
 		this.contributorProvider = contributorProvider;
 		this.containedEntityIdentityMappingMode = containedEntityIdentityMappingMode;
 		this.tenancyMode = tenancyMode;
 		this.defaultReindexOnUpdate = defaultReindexOnUpdate;
+		this.documentBuildingThreads = documentBuildingThreads;
 
 		this.failureHandler = buildContext.failureHandler();
 		this.threadPoolProvider = buildContext.threadPoolProvider();
@@ -337,6 +340,7 @@ public MPBS prepareBuild() throws MappingAbortedException {
 
 			mappingDelegate = new PojoMappingDelegateImpl(
 					threadPoolProvider, failureHandler, tenancyMode,
+					documentBuildingThreads,
 					typeManagerContainer,
 					searchQueryElementRegistry
 			);
@@ -392,6 +396,7 @@ private <E> void preBuildIndexed(PojoIndexedTypeManager.Builder<E> builder,
 			PojoImplicitReindexingResolverBuildingHelper helper) {
 		builder.preBuildIdentifierMapping( IdentityMappingMode.REQUIRED );
 		builder.reindexingResolver( helper.build( builder.typeModel ) );
+		builder.preBuildPartialIndexingProcessor( helper.runtimePathsBuildingHelper( builder.typeModel ) );
 		preBuildOtherMetadata( builder, helper );
 		builder.preBuildIndexManager();
 	}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
+import java.util.BitSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -32,10 +33,13 @@
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexedTypeExtendedMappingCollector;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeExtendedMappingCollector;
 import org.hibernate.search.mapper.pojo.massindexing.impl.PojoMassIndexingIndexedTypeContext;
+import org.hibernate.search.mapper.pojo.model.path.impl.PojoRuntimePathsBuildingHelper;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.processing.building.impl.PojoIndexingProcessorOriginalTypeNodeBuilder;
+import org.hibernate.search.mapper.pojo.processing.building.impl.PojoPartialIndexingProcessorBuilder;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoPartialIndexingProcessor;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
 import org.hibernate.search.mapper.pojo.scope.impl.PojoScopeIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.work.impl.PojoDocumentContributor;
@@ -54,6 +58,8 @@
 		PojoMassIndexingIndexedTypeContext<E>, ProjectionMappedTypeContext {
 	private final DocumentRouter<? super E> documentRouter;
 	private final PojoIndexingProcessor<E> processor;
+	private final PojoPartialIndexingProcessor<E> partialProcessor;
+	private final boolean supportsParallelDocumentBuilding;
 	private final MappedIndexManager indexManager;
 
 	public PojoIndexedTypeManager(Builder<E> builder, IdentifierMappingImplementor<I, E> identifierMapping) {
@@ -62,6 +68,8 @@ public PojoIndexedTypeManager(Builder<E> builder, IdentifierMappingImplementor<I
 				? new RoutingBridgeDocumentRouter<>( builder.routingBridge.getBridgeHolder() )
 				: NoOpDocumentRouter.INSTANCE;
 		this.processor = builder.indexingProcessor;
+		this.partialProcessor = builder.partialIndexingProcessor;
+		this.supportsParallelDocumentBuilding = processor.supportsParallelDocumentBuilding();
 		this.indexManager = builder.indexManager;
 	}
 
@@ -101,11 +109,29 @@ public PojoDocumentContributor<E> toDocumentContributor(PojoWorkSessionContext s
 				identifier, entitySupplier );
 	}
 
+	@Override
+	public PojoPartialIndexingProcessor.Selection<E> selectPartialProcessor(BitSet dirtyPaths) {
+		return partialProcessor == null ? null : partialProcessor.select( dirtyPaths );
+	}
+
+	@Override
+	public PojoDocumentContributor<E> toPartialDocumentContributor(PojoWorkSessionContext sessionContext,
+			PojoIndexingProcessorRootContext processorContext,
+			I identifier, Supplier<E> entitySupplier, PojoPartialIndexingProcessor.Selection<E> selection) {
+		return new PojoDocumentContributor<>( typeIdentifier, entityName, selection.processor(), sessionContext,
+				processorContext, identifier, entitySupplier );
+	}
+
 	@Override
 	public PojoPathFilter dirtySelfFilter() {
 		return reindexingResolver.dirtySelfFilter();
 	}
 
+	@Override
+	public boolean supportsParallelDocumentBuilding() {
+		return supportsParallelDocumentBuilding;
+	}
+
 	@Override
 	public IndexSchemaManager schemaManager() {
 		return indexManager.schemaManager();
@@ -146,6 +172,8 @@ public void addTo(MappedIndexScopeBuilder<?, ?> builder) {
 
 		private PojoIndexingProcessorOriginalTypeNodeBuilder<E> indexingProcessorBuilder;
 		private PojoIndexingProcessor<E> indexingProcessor;
+		private PojoPartialIndexingProcessorBuilder<E> partialIndexingProcessorBuilder;
+		private PojoPartialIndexingProcessor<E> partialIndexingProcessor;
 
 		private MappedIndexManagerBuilder indexManagerBuilder;
 		private MappedIndexManager indexManager;
@@ -181,11 +209,25 @@ public void preBuildIndexingProcessor(PojoIndexingDependencyCollectorTypeNode<E>
 			if ( indexingProcessor != null ) {
 				throw new AssertionFailure( "Internal error - preBuildIndexingProcessor should be called only once" );
 			}
-			this.indexingProcessor = this.indexingProcessorBuilder.build( dependencyCollector )
+			if ( routingBridge == null ) {
+				// Routing bridges may change the route of documents depending on any property:
+				// we only attempt partial updates without routing bridges.
+				this.partialIndexingProcessorBuilder = new PojoPartialIndexingProcessorBuilder<>();
+			}
+			this.indexingProcessor = this.indexingProcessorBuilder
+					.build( dependencyCollector, partialIndexingProcessorBuilder )
 					.orElseGet( PojoIndexingProcessor::noOp );
 			this.indexingProcessorBuilder = null;
 		}
 
+		public void preBuildPartialIndexingProcessor(PojoRuntimePathsBuildingHelper pathsBuildingHelper) {
+			if ( partialIndexingProcessorBuilder == null ) {
+				return;
+			}
+			this.partialIndexingProcessor = partialIndexingProcessorBuilder.build( pathsBuildingHelper ).orElse( null );
+			this.partialIndexingProcessorBuilder = null;
+		}
+
 		public void preBuildIndexManager() {
 			if ( this.indexManager != null ) {
 				throw new AssertionFailure( "Internal error - preBuildIndexManager should be called only once" );
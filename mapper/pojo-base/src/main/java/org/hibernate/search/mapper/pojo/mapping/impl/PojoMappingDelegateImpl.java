@@ -8,6 +8,7 @@
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -42,6 +43,7 @@
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventProcessingPlan;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventSendingPlan;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
+import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class PojoMappingDelegateImpl implements PojoMappingDelegate {
@@ -52,10 +54,12 @@ public class PojoMappingDelegateImpl implements PojoMappingDelegate {
 	private final TenancyMode tenancyMode;
 	private final PojoTypeManagerContainer typeManagers;
 	private final PojoSearchQueryElementRegistry searchQueryElementRegistry;
+	private final ExecutorService documentBuildingExecutor;
 
 	public PojoMappingDelegateImpl(ThreadPoolProvider threadPoolProvider,
 			FailureHandler failureHandler,
 			TenancyMode tenancyMode,
+			int documentBuildingThreads,
 			PojoTypeManagerContainer typeManagers,
 			PojoSearchQueryElementRegistry searchQueryElementRegistry) {
 		this.threadPoolProvider = threadPoolProvider;
@@ -63,11 +67,17 @@ public PojoMappingDelegateImpl(ThreadPoolProvider threadPoolProvider,
 		this.tenancyMode = tenancyMode;
 		this.typeManagers = typeManagers;
 		this.searchQueryElementRegistry = searchQueryElementRegistry;
+		this.documentBuildingExecutor = documentBuildingThreads > 0
+				? threadPoolProvider.newFixedThreadPool( documentBuildingThreads, "Document building" )
+				: null;
 	}
 
 	@Override
 	public void close() {
-		typeManagers.close();
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( ExecutorService::shutdownNow, documentBuildingExecutor );
+			closer.push( PojoTypeManagerContainer::close, typeManagers );
+		}
 	}
 
 	@Override
@@ -185,7 +195,7 @@ public <R extends EntityReference, C> Optional<PojoScopeDelegate<R, Object, C>>
 	public PojoIndexingPlan createIndexingPlan(PojoWorkSessionContext context,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
 		return new PojoIndexingPlanImpl( typeManagers, context,
-				new PojoIndexingPlanLocalStrategy( commitStrategy, refreshStrategy ) );
+				new PojoIndexingPlanLocalStrategy( commitStrategy, refreshStrategy ), documentBuildingExecutor );
 	}
 
 	@Override
@@ -200,7 +210,8 @@ public PojoIndexingQueueEventProcessingPlan createEventProcessingPlan(PojoWorkSe
 			PojoIndexingQueueEventSendingPlan sendingPlan) {
 		return new PojoIndexingQueueEventProcessingPlanImpl( typeManagers, context,
 				new PojoIndexingPlanImpl( typeManagers, context,
-						new PojoIndexingPlanEventProcessingStrategy( commitStrategy, refreshStrategy, sendingPlan ) ) );
+						new PojoIndexingPlanEventProcessingStrategy( commitStrategy, refreshStrategy, sendingPlan ),
+						documentBuildingExecutor ) );
 	}
 
 	@Override
@@ -45,6 +45,7 @@
 	private IdentityMappingMode containedEntityIdentityMappingMode = IdentityMappingMode.OPTIONAL;
 	private TenancyMode tenancyMode = TenancyMode.SINGLE_TENANCY;
 	private ReindexOnUpdate defaultReindexOnUpdate = ReindexOnUpdate.DEFAULT;
+	private int documentBuildingThreads = 0;
 
 	private final AnnotationMappingConfigurationContextImpl annotationMappingConfiguration;
 
@@ -107,6 +108,14 @@ public void defaultReindexOnUpdate(ReindexOnUpdate defaultReindexOnUpdate) {
 		this.defaultReindexOnUpdate = defaultReindexOnUpdate;
 	}
 
+	/**
+	 * @param threads The number of threads used to build documents of a single indexing plan in parallel,
+	 * or {@code 0} to build documents in the thread processing the indexing plan.
+	 */
+	public void documentBuildingThreads(int threads) {
+		this.documentBuildingThreads = threads;
+	}
+
 	/**
 	 * @param enabled {@code true} if Hibernate Search should automatically process mapping annotations
 	 * on types referenced in the mapping of other types (e.g. the target of an {@link IndexedEmbedded}, ...).
@@ -143,7 +152,7 @@ public Mapper<MPBS> createMapper(MappingBuildContext buildContext,
 				extractorBinder, bridgeResolver,
 				providedIdentifierBridge,
 				containedEntityIdentityMappingMode, tenancyMode,
-				defaultReindexOnUpdate,
+				defaultReindexOnUpdate, documentBuildingThreads,
 				createMapperDelegate()
 		);
 	}
@@ -56,6 +56,8 @@ public void afterExecution(Context context) {
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
 	private int documentBuilderThreads = 6;
+	// 0 means loading happens in platform threads
+	private int maxConcurrentVirtualThreadBatches = 0;
 	private Boolean mergeSegmentsOnFinish;
 	private Boolean dropAndCreateSchemaOnStart;
 	private Boolean purgeAtStart;
@@ -99,6 +101,17 @@ public PojoDefaultMassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public PojoDefaultMassIndexer loadObjectsInVirtualThreads(int maxConcurrentBatches) {
+		if ( maxConcurrentBatches < 1 ) {
+			throw new IllegalArgumentException( "maxConcurrentBatches must be at least 1" );
+		}
+		// Fail early if virtual threads are not available
+		PojoMassIndexingVirtualThreads.checkAvailable();
+		this.maxConcurrentVirtualThreadBatches = maxConcurrentBatches;
+		return this;
+	}
+
 	@Override
 	public PojoDefaultMassIndexer mergeSegmentsOnFinish(boolean enable) {
 		this.mergeSegmentsOnFinish = enable;
@@ -199,7 +212,7 @@ private PojoMassIndexingBatchCoordinator createCoordinator() {
 				scopeSchemaManager,
 				pojoScopeDelegate,
 				resolvedMassIndexingEnvironment(),
-				typesToIndexInParallel, documentBuilderThreads,
+				typesToIndexInParallel, documentBuilderThreads, maxConcurrentVirtualThreadBatches,
 				mergeSegmentsOnFinish,
 				// false by default:
 				actualDropAndCreateSchemaOnStart,
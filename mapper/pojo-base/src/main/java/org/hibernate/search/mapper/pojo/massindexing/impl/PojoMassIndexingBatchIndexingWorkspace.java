@@ -42,6 +42,7 @@
 	private final PojoMassIndexingContext massIndexingContext;
 
 	private final int entityExtractingThreads;
+	private final int maxConcurrentVirtualThreadBatches;
 	private final String tenantId;
 
 	PojoMassIndexingBatchIndexingWorkspace(PojoMassIndexingMappingContext mappingContext,
@@ -50,13 +51,14 @@
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassLoadingStrategy<E, I> loadingStrategy,
 			PojoMassIndexingContext massIndexingContext,
-			int entityExtractingThreads, String tenantId) {
+			int entityExtractingThreads, int maxConcurrentVirtualThreadBatches, String tenantId) {
 		super( notifier, environment );
 		this.mappingContext = mappingContext;
 		this.typeGroup = typeGroup;
 		this.loadingStrategy = loadingStrategy;
 		this.massIndexingContext = massIndexingContext;
 		this.entityExtractingThreads = entityExtractingThreads;
+		this.maxConcurrentVirtualThreadBatches = maxConcurrentVirtualThreadBatches;
 		this.tenantId = tenantId;
 	}
 
@@ -69,7 +71,12 @@ public void runWithFailureHandler() throws InterruptedException {
 		PojoProducerConsumerQueue<List<I>> identifierQueue = new PojoProducerConsumerQueue<>( 1 );
 
 		// First start the consumers, then the producers (reverse order):
-		startIndexing( identifierQueue );
+		if ( maxConcurrentVirtualThreadBatches > 0 ) {
+			startIndexingInVirtualThreads( identifierQueue );
+		}
+		else {
+			startIndexing( identifierQueue );
+		}
 		startProducingPrimaryKeys( identifierQueue );
 		// Wait for indexing to finish.
 		List<CompletableFuture<?>> allFutures = new ArrayList<>();
@@ -139,4 +146,26 @@ massIndexingContext, getMassIndexingEnvironment(),
 			indexingExecutor.shutdown();
 		}
 	}
+
+	private void startIndexingInVirtualThreads(PojoProducerConsumerQueue<List<I>> identifierQueue) {
+		String threadNamePrefix = THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - Entity loading";
+		final Runnable runnable = new PojoMassIndexingEntityLoadingDispatchRunnable<>(
+				getNotifier(),
+				massIndexingContext, getMassIndexingEnvironment(),
+				typeGroup, loadingStrategy,
+				identifierQueue, tenantId,
+				threadNamePrefix, maxConcurrentVirtualThreadBatches
+		);
+		// A single platform thread takes identifiers from the queue and spawns one virtual thread per batch.
+		final ThreadPoolExecutor dispatchExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
+				1,
+				threadNamePrefix + " dispatch"
+		);
+		try {
+			indexingFutures.add( Futures.runAsync( runnable, dispatchExecutor ) );
+		}
+		finally {
+			dispatchExecutor.shutdown();
+		}
+	}
 }
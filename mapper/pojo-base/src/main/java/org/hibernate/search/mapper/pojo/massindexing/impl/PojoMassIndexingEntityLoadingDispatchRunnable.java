@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+import org.hibernate.search.mapper.pojo.loading.spi.PojoMassLoadingStrategy;
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
+import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingContext;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Takes batches of identifiers from the queue and loads each batch in its own virtual thread,
+ * limiting the number of batches being loaded concurrently.
+ * <p>
+ * With this runnable, loading concurrency is limited by the number of permits
+ * (which should match the number of available database connections),
+ * instead of by the number of threads.
+ *
+ * @param <E> The type of indexed entities.
+ * @param <I> The type of identifiers.
+ */
+public class PojoMassIndexingEntityLoadingDispatchRunnable<E, I>
+		extends PojoMassIndexingFailureHandledRunnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final PojoMassIndexingContext massIndexingContext;
+	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
+	private final PojoMassLoadingStrategy<E, I> loadingStrategy;
+	private final PojoProducerConsumerQueue<List<I>> identifierQueue;
+	private final String tenantId;
+	private final String threadNamePrefix;
+	private final Semaphore permits;
+
+	private final Set<CompletableFuture<?>> inFlightBatches = ConcurrentHashMap.newKeySet();
+	private volatile CompletableFuture<?> failedBatch;
+
+	PojoMassIndexingEntityLoadingDispatchRunnable(PojoMassIndexingNotifier notifier,
+			PojoMassIndexingContext massIndexingContext, MassIndexingEnvironment environment,
+			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
+			PojoMassLoadingStrategy<E, I> loadingStrategy,
+			PojoProducerConsumerQueue<List<I>> identifierQueue,
+			String tenantId, String threadNamePrefix, int maxConcurrentBatches) {
+		super( notifier, environment );
+		this.massIndexingContext = massIndexingContext;
+		this.typeGroup = typeGroup;
+		this.loadingStrategy = loadingStrategy;
+		this.identifierQueue = identifierQueue;
+		this.tenantId = tenantId;
+		this.threadNamePrefix = threadNamePrefix;
+		this.permits = new Semaphore( maxConcurrentBatches );
+	}
+
+	@Override
+	protected void runWithFailureHandler() throws InterruptedException {
+		log.trace( "started" );
+		ExecutorService executor = PojoMassIndexingVirtualThreads.newThreadPerTaskExecutor( threadNamePrefix );
+		try {
+			List<I> idList = identifierQueue.take();
+			while ( idList != null && failedBatch == null ) {
+				permits.acquire();
+				startLoading( executor, idList );
+				idList = identifierQueue.take();
+			}
+			for ( CompletableFuture<?> batch : new ArrayList<>( inFlightBatches ) ) {
+				Futures.unwrappedExceptionGet( batch );
+			}
+			if ( failedBatch != null ) {
+				// The failure was already reported by the batch itself: just propagate it.
+				Futures.unwrappedExceptionGet( failedBatch );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		log.trace( "finished" );
+	}
+
+	private void startLoading(ExecutorService executor, List<I> idList) throws InterruptedException {
+		// Each batch gets its own loader, and thus its own session/connection,
+		// so we simply reuse the runnable used with platform threads, with a queue containing only this batch.
+		PojoProducerConsumerQueue<List<I>> batchQueue = new PojoProducerConsumerQueue<>( 2, 1 );
+		batchQueue.put( idList );
+		batchQueue.producerStopping();
+		Runnable batchRunnable = new PojoMassIndexingEntityLoadingRunnable<>( getNotifier(),
+				massIndexingContext, getMassIndexingEnvironment(), typeGroup, loadingStrategy,
+				batchQueue, tenantId );
+
+		CompletableFuture<?> batch;
+		try {
+			batch = Futures.runAsync( batchRunnable, executor );
+		}
+		catch (RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+		inFlightBatches.add( batch );
+		batch.whenComplete( (result, throwable) -> {
+			inFlightBatches.remove( batch );
+			if ( throwable != null && failedBatch == null ) {
+				failedBatch = batch;
+			}
+			permits.release();
+		} );
+	}
+
+	@Override
+	protected void cleanUpOnInterruption() {
+		cancelInFlightBatches();
+	}
+
+	@Override
+	protected void cleanUpOnFailure() {
+		cancelInFlightBatches();
+	}
+
+	private void cancelInFlightBatches() {
+		// Threads executing the batches must be interrupted
+		for ( CompletableFuture<?> batch : new ArrayList<>( inFlightBatches ) ) {
+			batch.cancel( true );
+		}
+	}
+
+	@Override
+	protected String operationName() {
+		return log.massIndexingLoadingAndExtractingEntityData( typeGroup.notifiedGroupName() );
+	}
+}
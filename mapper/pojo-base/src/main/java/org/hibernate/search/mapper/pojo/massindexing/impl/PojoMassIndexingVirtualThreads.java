@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Access to virtual threads, which are only available on Java 21+,
+ * while Hibernate Search is compiled for an older version of Java.
+ */
+final class PojoMassIndexingVirtualThreads {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private PojoMassIndexingVirtualThreads() {
+	}
+
+	/**
+	 * @throws org.hibernate.search.util.common.SearchException If virtual threads are not available in this JVM.
+	 */
+	static void checkAvailable() {
+		createThreadFactory( "check" );
+	}
+
+	/**
+	 * @param namePrefix The prefix of thread names.
+	 * @return An executor that starts a new virtual thread for each task.
+	 * Must be shut down after use.
+	 */
+	static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+		ThreadFactory threadFactory = createThreadFactory( namePrefix );
+		try {
+			Method newThreadPerTaskExecutor = Executors.class.getMethod( "newThreadPerTaskExecutor", ThreadFactory.class );
+			return (ExecutorService) newThreadPerTaskExecutor.invoke( null, threadFactory );
+		}
+		catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException | RuntimeException e) {
+			throw log.virtualThreadsNotAvailable( e.getMessage(), e );
+		}
+	}
+
+	// Equivalent to Thread.ofVirtual().name( namePrefix + " - ", 0 ).factory()
+	private static ThreadFactory createThreadFactory(String namePrefix) {
+		try {
+			Object builder = Thread.class.getMethod( "ofVirtual" ).invoke( null );
+			Class<?> builderClass = Class.forName( "java.lang.Thread$Builder" );
+			builder = builderClass.getMethod( "name", String.class, long.class )
+					.invoke( builder, namePrefix + " - ", 0L );
+			return (ThreadFactory) builderClass.getMethod( "factory" ).invoke( builder );
+		}
+		catch (NoSuchMethodException | ClassNotFoundException | IllegalAccessException | InvocationTargetException
+				| RuntimeException e) {
+			throw log.virtualThreadsNotAvailable( e.getMessage(), e );
+		}
+	}
+
+}
@@ -40,6 +40,18 @@ public interface PojoMassIndexer {
 	 */
 	PojoMassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Loads each batch of entities in its own virtual thread, instead of a fixed number of platform threads.
+	 * <p>
+	 * When enabled, {@link #threadsToLoadObjects(int)} is ignored.
+	 * Requires Java 21 or later.
+	 *
+	 * @param maxConcurrentBatches The maximum number of batches loaded concurrently, per entity type group.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	PojoMassIndexer loadObjectsInVirtualThreads(int maxConcurrentBatches);
+
 	/**
 	 * Merges each index into a single segment after indexing.
 	 * <p>
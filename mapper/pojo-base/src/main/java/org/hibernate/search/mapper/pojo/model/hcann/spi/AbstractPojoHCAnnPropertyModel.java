@@ -95,6 +95,11 @@ public final ValueReadHandle<T> handle() {
 		return handleCache;
 	}
 
+	@Override
+	public boolean handleReadsFieldDirectly() {
+		return member() instanceof Field;
+	}
+
 	protected final Member member() {
 		if ( memberCache == null ) {
 			memberCache = members.get( 0 );
@@ -41,4 +41,9 @@ public PojoTypeModel<T> typeModel() {
 	public ValueReadHandle<T> handle() {
 		return (ValueReadHandle<T>) rawPropertyModel.handle();
 	}
+
+	@Override
+	public boolean handleReadsFieldDirectly() {
+		return rawPropertyModel.handleReadsFieldDirectly();
+	}
 }
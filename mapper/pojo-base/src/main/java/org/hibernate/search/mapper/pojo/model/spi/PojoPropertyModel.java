@@ -32,4 +32,13 @@
 	 */
 	ValueReadHandle<T> handle();
 
+	/**
+	 * @return {@code true} if {@link #handle()} reads the value of a field directly,
+	 * without executing any other code (getter, lazy loading interceptor, ...).
+	 * {@code false} otherwise, or if unknown.
+	 */
+	default boolean handleReadsFieldDirectly() {
+		return false;
+	}
+
 }
@@ -36,6 +36,16 @@ public interface PojoRuntimeIntrospector {
 	 */
 	boolean isIgnorableDataAccessThrowable(Throwable throwable);
 
+	/**
+	 * @param value An object: entity, proxy, container, ...
+	 * @return {@code true} if the object can be accessed and {@link #unproxy(Object) unproxied}
+	 * without any further loading, {@code false} otherwise,
+	 * e.g. if it is an uninitialized proxy or container whose access would trigger loading.
+	 */
+	default boolean isInitialized(Object value) {
+		return true;
+	}
+
 	/**
 	 * @return A simple {@link PojoRuntimeIntrospector} that relies on the object's class to return entity types,
 	 * and assumes objects are not proxyfied.
@@ -7,8 +7,10 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
@@ -23,6 +25,7 @@
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexMappingCollectorPropertyNode;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexMappingCollectorTypeNode;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoTypeAdditionalMetadata;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathTypeNode;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorCastedTypeNode;
@@ -91,8 +94,19 @@ public Optional<PojoIndexingProcessor<T>> build(
 	}
 
 	public Optional<PojoIndexingProcessor<T>> build(PojoIndexingDependencyCollectorTypeNode<U> dependencyCollector) {
+		return build( dependencyCollector, null );
+	}
+
+	/**
+	 * @param dependencyCollector The root dependency collector.
+	 * @param partialProcessorBuilder A builder for a partial processor, to which nested processors will be passed,
+	 * or {@code null}.
+	 * @return The processor, if any.
+	 */
+	public Optional<PojoIndexingProcessor<T>> build(PojoIndexingDependencyCollectorTypeNode<U> dependencyCollector,
+			PojoPartialIndexingProcessorBuilder<U> partialProcessorBuilder) {
 		try {
-			return doBuild( dependencyCollector );
+			return doBuild( dependencyCollector, partialProcessorBuilder );
 		}
 		catch (RuntimeException e) {
 			failureCollector().add( e );
@@ -114,18 +128,38 @@ protected abstract PojoIndexingProcessor<T> doBuild(
 			Collection<IndexObjectFieldReference> parentIndexObjectReferences,
 			PojoIndexingProcessor<? super U> nested);
 
-	private Optional<PojoIndexingProcessor<T>> doBuild(PojoIndexingDependencyCollectorTypeNode<U> dependencyCollector) {
+	private Optional<PojoIndexingProcessor<T>> doBuild(PojoIndexingDependencyCollectorTypeNode<U> dependencyCollector,
+			PojoPartialIndexingProcessorBuilder<U> partialProcessorBuilder) {
 		Collection<PojoIndexingProcessor<? super U>> nestedNodes = new ArrayList<>();
 		try {
 			for ( BoundTypeBridge<U> boundBridge : boundBridges ) {
 				nestedNodes.add( new PojoIndexingProcessorTypeBridgeNode<>( boundBridge.getBridgeHolder() ) );
-				boundBridge.contributeDependencies( dependencyCollector );
+				if ( partialProcessorBuilder == null ) {
+					boundBridge.contributeDependencies( dependencyCollector );
+				}
+				else {
+					// Type bridges may add values to any field: they prevent partial updates.
+					Set<PojoModelPathValueNode> dependencies = new LinkedHashSet<>();
+					dependencyCollector.recordSelfDependencies( dependencies, () -> {
+						boundBridge.contributeDependencies( dependencyCollector );
+						return null;
+					} );
+					partialProcessorBuilder.nonPartial( dependencies );
+				}
+			}
+			for ( PojoIndexingProcessorPropertyNodeBuilder<U, ?> builder : propertyNodeBuilders.values() ) {
+				Optional<? extends PojoIndexingProcessor<? super U>> nestedNode;
+				if ( partialProcessorBuilder == null ) {
+					nestedNode = builder.build( dependencyCollector );
+				}
+				else {
+					Set<PojoModelPathValueNode> dependencies = new LinkedHashSet<>();
+					nestedNode = dependencyCollector.recordSelfDependencies( dependencies,
+							() -> builder.build( dependencyCollector ) );
+					nestedNode.ifPresent( node -> partialProcessorBuilder.candidate( node, dependencies ) );
+				}
+				nestedNode.ifPresent( nestedNodes::add );
 			}
-			propertyNodeBuilders.values().stream()
-					.map( builder -> builder.build( dependencyCollector ) )
-					.filter( Optional::isPresent )
-					.map( Optional::get )
-					.forEach( nestedNodes::add );
 
 			if ( parentIndexObjectReferences.isEmpty() && nestedNodes.isEmpty() ) {
 				/*
@@ -195,6 +195,7 @@ private Optional<PojoIndexingProcessorPropertyNode<T, P>> doBuild(
 			else {
 				return Optional.of( new PojoIndexingProcessorPropertyNode<>(
 						modelPath.getPropertyModel().handle(),
+						modelPath.getPropertyModel().handleReadsFieldDirectly(),
 						createNested( nestedNodes ),
 						modelPath.toUnboundPath()
 				) );
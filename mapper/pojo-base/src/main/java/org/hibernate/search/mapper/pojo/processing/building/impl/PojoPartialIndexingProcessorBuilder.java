@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.processing.building.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
+import org.hibernate.search.mapper.pojo.model.path.impl.PojoRuntimePathsBuildingHelper;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoPartialIndexingProcessor;
+
+/**
+ * A builder of {@link PojoPartialIndexingProcessor}.
+ * <p>
+ * Receives the processors nested in the root type node of an indexed type, along with their dependencies,
+ * as they are built.
+ *
+ * @param <T> The processed type
+ */
+public final class PojoPartialIndexingProcessorBuilder<T> {
+
+	private final Set<PojoModelPathValueNode> nonPartialDependencies = new LinkedHashSet<>();
+	private final List<Candidate<T>> candidates = new ArrayList<>();
+
+	/**
+	 * @param dependencies Dependencies that, when dirty, require updating the document as a whole.
+	 */
+	void nonPartial(Set<PojoModelPathValueNode> dependencies) {
+		nonPartialDependencies.addAll( dependencies );
+	}
+
+	/**
+	 * @param processor A processor nested in the root type node.
+	 * @param dependencies The dependencies of that processor to values of the indexed entity itself.
+	 */
+	void candidate(PojoIndexingProcessor<? super T> processor, Set<PojoModelPathValueNode> dependencies) {
+		if ( dependencies.isEmpty() ) {
+			// Changes to the entity never require this processor to be applied again.
+			return;
+		}
+		List<IndexFieldReference<?>> fieldReferences = new ArrayList<>();
+		if ( processor.collectValueFields( fieldReferences ) ) {
+			candidates.add( new Candidate<>( processor, dependencies, fieldReferences ) );
+		}
+		else {
+			nonPartial( dependencies );
+		}
+	}
+
+	public Optional<PojoPartialIndexingProcessor<T>> build(PojoRuntimePathsBuildingHelper pathsBuildingHelper) {
+		if ( candidates.isEmpty() ) {
+			return Optional.empty();
+		}
+		List<PojoPartialIndexingProcessor.Element<T>> elements = new ArrayList<>();
+		for ( Candidate<T> candidate : candidates ) {
+			elements.add( new PojoPartialIndexingProcessor.Element<>(
+					pathsBuildingHelper.createFilter( candidate.dependencies ),
+					candidate.processor, candidate.fieldReferences ) );
+		}
+		return Optional.of( new PojoPartialIndexingProcessor<>(
+				pathsBuildingHelper.createFilter( nonPartialDependencies ), elements ) );
+	}
+
+	private static final class Candidate<T> {
+		private final PojoIndexingProcessor<? super T> processor;
+		private final Set<PojoModelPathValueNode> dependencies;
+		private final List<IndexFieldReference<?>> fieldReferences;
+
+		private Candidate(PojoIndexingProcessor<? super T> processor, Set<PojoModelPathValueNode> dependencies,
+				List<IndexFieldReference<?>> fieldReferences) {
+			this.processor = processor;
+			this.dependencies = dependencies;
+			this.fieldReferences = fieldReferences;
+		}
+	}
+}
@@ -4,7 +4,10 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Collection;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
 import org.hibernate.search.util.common.spi.ToStringTreeAppender;
 
@@ -22,6 +25,16 @@ public void process(DocumentElement target, Object source, PojoIndexingProcessor
 		// No-op
 	}
 
+	@Override
+	public boolean collectValueFields(Collection<IndexFieldReference<?>> collector) {
+		return true;
+	}
+
+	@Override
+	public boolean supportsParallelDocumentBuilding() {
+		return true;
+	}
+
 	@Override
 	public void appendTo(ToStringTreeAppender appender) {
 		appender.attribute( "operation", "no op" );
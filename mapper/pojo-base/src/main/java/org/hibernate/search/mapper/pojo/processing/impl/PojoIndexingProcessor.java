@@ -4,7 +4,10 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Collection;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
 import org.hibernate.search.util.common.spi.ToStringTreeAppendable;
 
@@ -26,6 +29,31 @@ public void close() {
 
 	public abstract void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context);
 
+	/**
+	 * Collects the index fields this processor may add values to,
+	 * provided it only adds values to value fields of the document element passed to {@link #process}.
+	 *
+	 * @param collector A collection to which references to index fields will be added.
+	 * @return {@code true} if this processor only adds values to value fields,
+	 * which were all added to {@code collector}.
+	 * {@code false} if this processor may create object fields, or add values to fields it cannot know in advance
+	 * (e.g. through bridges), in which case the content of {@code collector} should be ignored.
+	 */
+	public boolean collectValueFields(Collection<IndexFieldReference<?>> collector) {
+		return false;
+	}
+
+	/**
+	 * @return {@code true} if this processor can build documents in a thread that does not own the session,
+	 * i.e. if it only reads property values directly from fields,
+	 * passes every value it navigates to {@link PojoIndexingProcessorRootContext#checkInitialized(Object)}
+	 * before using it, and does not execute type or property bridges, which may access arbitrary data.
+	 * {@code false} otherwise.
+	 */
+	public boolean supportsParallelDocumentBuilding() {
+		return false;
+	}
+
 	public static <T> PojoIndexingProcessor<T> noOp() {
 		return NoOpPojoIndexingProcessor.get();
 	}
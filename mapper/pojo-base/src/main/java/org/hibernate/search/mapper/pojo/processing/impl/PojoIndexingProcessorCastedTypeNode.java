@@ -58,6 +58,7 @@ public final void process(DocumentElement target, T source, PojoIndexingProcesso
 		if ( source == null ) {
 			return;
 		}
+		context.checkInitialized( source );
 		source = (T) context.sessionContext().runtimeIntrospector().unproxy( source );
 		// The caster can only cast to the raw type, beyond that we have to use an unchecked cast.
 		@SuppressWarnings("unchecked")
@@ -74,4 +75,9 @@ public final void process(DocumentElement target, T source, PojoIndexingProcesso
 		nested.process( parentObject, castedSource, context );
 	}
 
+	@Override
+	public boolean supportsParallelDocumentBuilding() {
+		return nested.supportsParallelDocumentBuilding();
+	}
+
 }
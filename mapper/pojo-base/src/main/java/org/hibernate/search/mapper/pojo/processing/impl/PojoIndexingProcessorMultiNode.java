@@ -7,6 +7,7 @@
 import java.util.Collection;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.spi.ToStringTreeAppender;
@@ -44,4 +45,24 @@ public final void process(DocumentElement target, T source, PojoIndexingProcesso
 		}
 	}
 
+	@Override
+	public boolean collectValueFields(Collection<IndexFieldReference<?>> collector) {
+		for ( PojoIndexingProcessor<? super T> element : elements ) {
+			if ( !element.collectValueFields( collector ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean supportsParallelDocumentBuilding() {
+		for ( PojoIndexingProcessor<? super T> element : elements ) {
+			if ( !element.supportsParallelDocumentBuilding() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 }
@@ -48,6 +48,7 @@ public final void process(DocumentElement target, T source, PojoIndexingProcesso
 		if ( source == null ) {
 			return;
 		}
+		context.checkInitialized( source );
 		source = (T) context.sessionContext().runtimeIntrospector().unproxy( source );
 		// "isEntityType" is just an optimization to avoid unnecessary calls to isDeleted(),
 		// which may be costly (reflection, ...)
@@ -61,4 +62,9 @@ public final void process(DocumentElement target, T source, PojoIndexingProcesso
 		nested.process( parentObject, source, context );
 	}
 
+	@Override
+	public boolean supportsParallelDocumentBuilding() {
+		return nested.supportsParallelDocumentBuilding();
+	}
+
 }
@@ -5,8 +5,10 @@
 package org.hibernate.search.mapper.pojo.processing.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.common.annotation.impl.SearchProcessingWithContextException;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPath;
@@ -29,13 +31,15 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final ValueReadHandle<P> handle;
+	private final boolean handleReadsFieldDirectly;
 	private final PojoIndexingProcessor<? super P> nested;
 
 	private final PojoModelPath modelPath;
 
-	public PojoIndexingProcessorPropertyNode(ValueReadHandle<P> handle, PojoIndexingProcessor<? super P> nested,
-			PojoModelPath modelPath) {
+	public PojoIndexingProcessorPropertyNode(ValueReadHandle<P> handle, boolean handleReadsFieldDirectly,
+			PojoIndexingProcessor<? super P> nested, PojoModelPath modelPath) {
 		this.handle = handle;
+		this.handleReadsFieldDirectly = handleReadsFieldDirectly;
 		this.nested = nested;
 		this.modelPath = modelPath;
 	}
@@ -58,6 +62,7 @@ public void appendTo(ToStringTreeAppender appender) {
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context) {
 		try {
 			P propertyValue = handle.get( source );
+			context.checkInitialized( propertyValue );
 			nested.process( target, propertyValue, context );
 		}
 		catch (SearchProcessingWithContextException e) {
@@ -68,4 +73,15 @@ public final void process(DocumentElement target, T source, PojoIndexingProcesso
 			throw log.searchProcessingFailure( e, e.getMessage(), PojoEventContexts.fromPath( modelPath ) );
 		}
 	}
+
+	@Override
+	public boolean collectValueFields(Collection<IndexFieldReference<?>> collector) {
+		return nested.collectValueFields( collector );
+	}
+
+	@Override
+	public boolean supportsParallelDocumentBuilding() {
+		// Getters may execute arbitrary code, e.g. navigate lazy associations.
+		return handleReadsFieldDirectly && nested.supportsParallelDocumentBuilding();
+	}
 }
@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
+
+/**
+ * Selects, depending on dirty paths, the parts of the indexing processor of an indexed type
+ * that must be applied to update a document partially,
+ * i.e. to only update the fields that may have changed.
+ *
+ * @param <T> The processed type
+ */
+public final class PojoPartialIndexingProcessor<T> {
+
+	private final PojoPathFilter nonPartialFilter;
+	private final List<Element<T>> elements;
+
+	public PojoPartialIndexingProcessor(PojoPathFilter nonPartialFilter, List<Element<T>> elements) {
+		this.nonPartialFilter = nonPartialFilter;
+		this.elements = elements;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "nonPartialFilter=" + nonPartialFilter
+				+ ", elements=" + elements
+				+ "]";
+	}
+
+	/**
+	 * @param dirtyPaths The dirty paths of the entity to update.
+	 * @return The selection of processors to apply and fields to update,
+	 * or {@code null} if the document must be updated as a whole.
+	 */
+	public Selection<T> select(BitSet dirtyPaths) {
+		if ( nonPartialFilter.test( dirtyPaths ) ) {
+			return null;
+		}
+		List<PojoIndexingProcessor<? super T>> processors = new ArrayList<>();
+		List<IndexFieldReference<?>> fieldReferences = new ArrayList<>();
+		for ( Element<T> element : elements ) {
+			if ( element.filter.test( dirtyPaths ) ) {
+				processors.add( element.processor );
+				fieldReferences.addAll( element.fieldReferences );
+			}
+		}
+		if ( processors.isEmpty() ) {
+			// Should not happen, but let's be safe.
+			return null;
+		}
+		// Indexed types are always entity types.
+		PojoIndexingProcessor<T> processor = new PojoIndexingProcessorOriginalTypeNode<>(
+				Collections.emptyList(), new PojoIndexingProcessorMultiNode<>( processors ), true );
+		return new Selection<>( processor, fieldReferences );
+	}
+
+	public static final class Element<T> {
+		private final PojoPathFilter filter;
+		private final PojoIndexingProcessor<? super T> processor;
+		private final Collection<IndexFieldReference<?>> fieldReferences;
+
+		public Element(PojoPathFilter filter, PojoIndexingProcessor<? super T> processor,
+				Collection<IndexFieldReference<?>> fieldReferences) {
+			this.filter = filter;
+			this.processor = processor;
+			this.fieldReferences = fieldReferences;
+		}
+
+		@Override
+		public String toString() {
+			return "Element[filter=" + filter + ", fieldReferences=" + fieldReferences + "]";
+		}
+	}
+
+	public static final class Selection<T> {
+		private final PojoIndexingProcessor<T> processor;
+		private final Collection<IndexFieldReference<?>> fieldReferences;
+
+		private Selection(PojoIndexingProcessor<T> processor, Collection<IndexFieldReference<?>> fieldReferences) {
+			this.processor = processor;
+			this.fieldReferences = fieldReferences;
+		}
+
+		/**
+		 * @return A processor adding values to the fields to update.
+		 * Must not be closed, as it relies on processors owned by the full indexing processor.
+		 */
+		public PojoIndexingProcessor<T> processor() {
+			return processor;
+		}
+
+		/**
+		 * @return References to the fields to update.
+		 */
+		public Collection<IndexFieldReference<?>> fieldReferences() {
+			return fieldReferences;
+		}
+	}
+}
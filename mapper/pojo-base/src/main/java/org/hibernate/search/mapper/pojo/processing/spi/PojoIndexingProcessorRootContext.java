@@ -21,4 +21,13 @@ public interface PojoIndexingProcessorRootContext {
 	 */
 	boolean isDeleted(Object unproxiedObject);
 
+	/**
+	 * Called on values before they are processed,
+	 * so that document building can be aborted when the value would need to be loaded
+	 * but loading is not possible in the current context, e.g. because the document is being built in a background thread.
+	 *
+	 * @param value A value about to be processed: the value of a property, or an object about to be unproxied.
+	 */
+	void checkInitialized(Object value);
+
 }
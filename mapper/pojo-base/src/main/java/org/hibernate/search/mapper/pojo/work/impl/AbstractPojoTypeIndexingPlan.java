@@ -4,22 +4,21 @@
  */
 package org.hibernate.search.mapper.pojo.work.impl;
 
-import java.lang.invoke.MethodHandles;
 import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
-import org.hibernate.search.engine.common.EntityReference;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingAssociationInverseSideResolverRootContext;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverRootContext;
 import org.hibernate.search.mapper.pojo.automaticindexing.spi.PojoImplicitReindexingResolverSessionContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.DocumentRouter;
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.NoOpDocumentRouter;
-import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -29,7 +28,6 @@
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.SearchException;
-import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
  * @param <I> The type of identifiers of entities in this plan.
@@ -38,7 +36,6 @@
  */
 abstract class AbstractPojoTypeIndexingPlan<I, E, S extends AbstractPojoTypeIndexingPlan<I, E, S>.AbstractEntityState>
 		implements PojoImplicitReindexingAssociationInverseSideResolverRootContext, PojoTypeIndexingPlan {
-	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	final PojoWorkSessionContext sessionContext;
 	final PojoIndexingPlanImpl root;
@@ -241,6 +238,15 @@ boolean isDeleted(Object unproxiedObject) {
 		return state.currentStatus == EntityStatus.ABSENT;
 	}
 
+	boolean hasDeleted() {
+		for ( S state : statesPerId.values() ) {
+			if ( state.currentStatus == EntityStatus.ABSENT ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	abstract class AbstractEntityState
 			implements PojoImplicitReindexingResolverRootContext {
 		final I identifier;
@@ -255,6 +261,9 @@ boolean isDeleted(Object unproxiedObject) {
 		private boolean forceContainingDirty;
 		private BitSet dirtyPaths;
 
+		// Only set while resolving entities to reindex
+		private Set<PojoReindexingResolutionMemo.Visit> reindexingResolutionVisits;
+
 		AbstractEntityState(I identifier) {
 			this.identifier = identifier;
 		}
@@ -278,6 +287,12 @@ public PojoRawTypeIdentifier<?> detectContainingEntityType(Object containingEnti
 			return AbstractPojoTypeIndexingPlan.this.detectContainingEntityType( containingEntity );
 		}
 
+		@Override
+		public boolean isFirstVisit(PojoImplicitReindexingResolverNode<?> node, Object value) {
+			return reindexingResolutionVisits == null
+					|| reindexingResolutionVisits.add( new PojoReindexingResolutionMemo.Visit( node, value ) );
+		}
+
 		// This is used for reindexing resolution only:
 		// for indexing, we always propagate exceptions.
 		@Override
@@ -382,16 +397,20 @@ void resolveDirty(boolean deleteOnly) {
 				// Assume it was deleted before the current transaction started and there's nothing to resolve.
 				return;
 			}
+			PojoReindexingResolutionMemo memo = root.reindexingResolutionMemo();
+			if ( memo != null ) {
+				// Dirtiness may change during resolution (e.g. because of contained associations),
+				// so we need to retrieve the visits now.
+				reindexingResolutionVisits = memo.visits( typeContext().typeIdentifier(),
+						forceContainingDirty, dirtyPaths );
+			}
 			try {
-				typeContext().reindexingResolver().resolveEntitiesToReindex( root, entitySupplier.get(), this );
+				typeContext().resolveEntitiesToReindex( root, sessionContext, identifier,
+						entitySupplier, this );
 			}
-			catch (RuntimeException e) {
-				EntityReference entityReference = sessionContext.mappingContext().entityReferenceFactoryDelegate()
-						.create( typeContext().typeIdentifier(), typeContext().entityName(), identifier );
-				throw log.errorResolvingEntitiesToReindex( entityReference, e.getMessage(), e );
+			finally {
+				reindexingResolutionVisits = null;
 			}
-			typeContext().resolveEntitiesToReindex( root, sessionContext, identifier,
-					entitySupplier, this );
 		}
 
 		void sendCommandsToDelegate(PojoLoadingPlanProvider loadingPlanProvider) {
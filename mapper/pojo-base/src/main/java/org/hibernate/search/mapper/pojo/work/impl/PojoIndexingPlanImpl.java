@@ -12,6 +12,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
@@ -41,6 +42,7 @@
 	private final PojoWorkSessionContext sessionContext;
 	private final PojoRuntimeIntrospector introspector;
 	private final PojoIndexingPlanStrategy strategy;
+	private final Executor documentBuildingExecutor;
 
 	// Use a LinkedHashMap for deterministic iteration
 	protected final Map<PojoRawTypeIdentifier<?>, PojoIndexedTypeIndexingPlan<?, ?>> indexedTypeDelegates =
@@ -50,14 +52,27 @@
 
 	private boolean isProcessing = false;
 	private PojoLoadingPlan<Object> loadingPlan = null;
+	private PojoReindexingResolutionMemo reindexingResolutionMemo = null;
+	private PojoParallelDocumentBuilder parallelDocumentBuilder = null;
 
 	public PojoIndexingPlanImpl(PojoWorkTypeContextProvider typeContextProvider,
 			PojoWorkSessionContext sessionContext,
 			PojoIndexingPlanStrategy strategy) {
+		this( typeContextProvider, sessionContext, strategy, null );
+	}
+
+	/**
+	 * @param documentBuildingExecutor An executor to build documents in parallel,
+	 * or {@code null} to build documents in the calling thread.
+	 */
+	public PojoIndexingPlanImpl(PojoWorkTypeContextProvider typeContextProvider,
+			PojoWorkSessionContext sessionContext,
+			PojoIndexingPlanStrategy strategy, Executor documentBuildingExecutor) {
 		this.typeContextProvider = typeContextProvider;
 		this.sessionContext = sessionContext;
 		this.introspector = sessionContext.runtimeIntrospector();
 		this.strategy = strategy;
+		this.documentBuildingExecutor = documentBuildingExecutor;
 	}
 
 	@Override
@@ -142,6 +157,11 @@ public void process() {
 		}
 
 		isProcessing = true;
+		reindexingResolutionMemo = new PojoReindexingResolutionMemo();
+		if ( documentBuildingExecutor != null ) {
+			parallelDocumentBuilder = new PojoParallelDocumentBuilder( documentBuildingExecutor, this, introspector,
+					this::hasDeleted );
+		}
 		try {
 			for ( PojoContainedTypeIndexingPlan<?, ?> delegate : containedTypeDelegates.values() ) {
 				delegate.planLoading();
@@ -168,10 +188,15 @@ public void process() {
 			for ( PojoIndexedTypeIndexingPlan<?, ?> delegate : indexedTypeDelegates.values() ) {
 				delegate.process( this );
 			}
+			if ( parallelDocumentBuilder != null ) {
+				parallelDocumentBuilder.flush();
+			}
 		}
 		finally {
 			isProcessing = false;
 			loadingPlan = null;
+			reindexingResolutionMemo = null;
+			parallelDocumentBuilder = null;
 			clearStates();
 		}
 	}
@@ -266,6 +291,25 @@ public boolean isDeleted(Object unproxiedObject) {
 		return delegate.isDeleted( unproxiedObject );
 	}
 
+	private boolean hasDeleted() {
+		for ( PojoContainedTypeIndexingPlan<?, ?> delegate : containedTypeDelegates.values() ) {
+			if ( delegate.hasDeleted() ) {
+				return true;
+			}
+		}
+		for ( PojoIndexedTypeIndexingPlan<?, ?> delegate : indexedTypeDelegates.values() ) {
+			if ( delegate.hasDeleted() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void checkInitialized(Object value) {
+		// Documents are built in the current thread: loading is always possible.
+	}
+
 	private AbstractPojoTypeIndexingPlan<?, ?, ?> createDelegate(PojoRawTypeIdentifier<?> typeIdentifier) {
 		if ( !sessionContext.configuredIndexingPlanFilter().isIncluded( typeIdentifier ) ) {
 			throw log.attemptToCreateIndexingPlanForExcludedType( typeIdentifier );
@@ -290,6 +334,14 @@ public boolean isDeleted(Object unproxiedObject) {
 		}
 	}
 
+	PojoReindexingResolutionMemo reindexingResolutionMemo() {
+		return reindexingResolutionMemo;
+	}
+
+	PojoParallelDocumentBuilder parallelDocumentBuilder() {
+		return parallelDocumentBuilder;
+	}
+
 	@Override
 	public PojoLoadingPlan<Object> loadingPlan() {
 		if ( loadingPlan == null ) {
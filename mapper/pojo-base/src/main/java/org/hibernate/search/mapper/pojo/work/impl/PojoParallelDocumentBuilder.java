@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * Builds the documents of an indexing plan in background threads.
+ * <p>
+ * Operations on index indexing plans are {@link #defer(Runnable) deferred} while the indexing plan is processed,
+ * then all documents are built in parallel, and finally operations are {@link #flush() executed} in order
+ * on the calling thread, replaying the content of each document.
+ * <p>
+ * Background threads must not access the session.
+ * Thus, only documents of types whose processor
+ * {@link org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor#supportsParallelDocumentBuilding() supports it}
+ * are passed to this builder, and documents whose building requires loading data
+ * (uninitialized proxies, collections, ...) or detecting the type of a possibly deleted entity
+ * are built again on the calling thread.
+ */
+final class PojoParallelDocumentBuilder implements PojoIndexingProcessorRootContext {
+
+	private final Executor executor;
+	private final PojoIndexingProcessorRootContext delegate;
+	private final PojoRuntimeIntrospector introspector;
+	private final BooleanSupplier hasDeletedEntities;
+
+	private final List<PendingDocument> pendingDocuments = new ArrayList<>();
+	private final List<Runnable> deferredOperations = new ArrayList<>();
+
+	// Only set on the calling thread, before background threads start.
+	private boolean mayHaveDeletedEntities = true;
+
+	/**
+	 * @param hasDeletedEntities Whether the indexing plan contains deleted entities.
+	 * Only ever called on the calling thread.
+	 */
+	PojoParallelDocumentBuilder(Executor executor, PojoIndexingProcessorRootContext delegate,
+			PojoRuntimeIntrospector introspector, BooleanSupplier hasDeletedEntities) {
+		this.executor = executor;
+		this.delegate = delegate;
+		this.introspector = introspector;
+		this.hasDeletedEntities = hasDeletedEntities;
+	}
+
+	@Override
+	public PojoIndexingProcessorSessionContext sessionContext() {
+		return delegate.sessionContext();
+	}
+
+	@Override
+	public boolean isDeleted(Object unproxiedObject) {
+		if ( !mayHaveDeletedEntities ) {
+			return false;
+		}
+		// Detecting the entity type may access the session,
+		// so we can't do that in a background thread: fall back to the calling thread.
+		throw UninitializedValueException.INSTANCE;
+	}
+
+	@Override
+	public void checkInitialized(Object value) {
+		if ( value != null && !introspector.isInitialized( value ) ) {
+			throw UninitializedValueException.INSTANCE;
+		}
+	}
+
+	/**
+	 * @param parallelContributor A contributor relying on this object as its root context,
+	 * to be executed in a background thread.
+	 * @param sequentialContributor A contributor to execute on the calling thread
+	 * if the parallel contributor cannot build the document.
+	 * @return A contributor to pass to the index indexing plan in {@link #defer(Runnable) deferred operations}.
+	 */
+	DocumentContributor contributor(DocumentContributor parallelContributor, DocumentContributor sequentialContributor) {
+		PendingDocument pendingDocument = new PendingDocument( parallelContributor, sequentialContributor );
+		pendingDocuments.add( pendingDocument );
+		return pendingDocument;
+	}
+
+	void defer(Runnable operation) {
+		deferredOperations.add( operation );
+	}
+
+	void flush() {
+		try {
+			// Building a single document in a background thread would only add overhead.
+			if ( pendingDocuments.size() > 1 ) {
+				mayHaveDeletedEntities = hasDeletedEntities.getAsBoolean();
+				for ( PendingDocument pendingDocument : pendingDocuments ) {
+					pendingDocument.start( executor );
+				}
+				// Wait for all background threads before executing operations,
+				// since rebuilding documents on the calling thread may load data into the session
+				// while background threads are still reading from it.
+				for ( PendingDocument pendingDocument : pendingDocuments ) {
+					pendingDocument.awaitQuietly();
+				}
+			}
+			for ( Runnable operation : deferredOperations ) {
+				operation.run();
+			}
+		}
+		finally {
+			// Do not leave background threads reading the indexing plan's state after we return,
+			// even if an operation failed.
+			for ( PendingDocument pendingDocument : pendingDocuments ) {
+				pendingDocument.awaitQuietly();
+			}
+			pendingDocuments.clear();
+			deferredOperations.clear();
+		}
+	}
+
+	private static boolean isUninitializedValue(Throwable throwable) {
+		for ( Throwable current = throwable; current != null; current = current.getCause() ) {
+			if ( current == UninitializedValueException.INSTANCE ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static final class PendingDocument implements DocumentContributor {
+		private final DocumentContributor parallelContributor;
+		private final DocumentContributor sequentialContributor;
+
+		private PojoRecordedDocumentElement recordedDocument;
+		private CompletableFuture<?> future;
+
+		private PendingDocument(DocumentContributor parallelContributor, DocumentContributor sequentialContributor) {
+			this.parallelContributor = parallelContributor;
+			this.sequentialContributor = sequentialContributor;
+		}
+
+		void start(Executor executor) {
+			PojoRecordedDocumentElement document = new PojoRecordedDocumentElement();
+			try {
+				future = CompletableFuture.runAsync( () -> parallelContributor.contribute( document ), executor );
+				recordedDocument = document;
+			}
+			catch (RejectedExecutionException e) {
+				// Most likely shutting down: we'll just build the document on the calling thread.
+				future = null;
+			}
+		}
+
+		void awaitQuietly() {
+			if ( future != null ) {
+				future.handle( (ignored, throwable) -> null ).join();
+			}
+		}
+
+		@Override
+		public void contribute(DocumentElement state) {
+			if ( future != null ) {
+				try {
+					Futures.unwrappedExceptionJoin( future );
+					recordedDocument.replay( state );
+					return;
+				}
+				catch (RuntimeException e) {
+					if ( !isUninitializedValue( e ) ) {
+						throw e;
+					}
+					// Building the document requires loading data: fall back to the calling thread.
+				}
+			}
+			sequentialContributor.contribute( state );
+		}
+	}
+
+	/**
+	 * Thrown when a background thread encounters a value that would need to be loaded.
+	 * Does not hold a stack trace, as it is only used for control flow.
+	 */
+	private static final class UninitializedValueException extends RuntimeException {
+		private static final UninitializedValueException INSTANCE = new UninitializedValueException();
+
+		private UninitializedValueException() {
+			super( "Uninitialized value", null, false, false );
+		}
+	}
+
+}
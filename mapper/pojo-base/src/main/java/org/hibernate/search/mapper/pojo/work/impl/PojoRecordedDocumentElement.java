@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+
+/**
+ * A {@link DocumentElement} that records the values added to it,
+ * so that they can be replayed later on another document element.
+ * <p>
+ * Used to build documents in background threads,
+ * since backends expect documents to be contributed from the thread that populates the indexing plan.
+ */
+final class PojoRecordedDocumentElement implements DocumentElement {
+
+	private final List<Consumer<DocumentElement>> operations = new ArrayList<>();
+
+	@Override
+	public <F> void addValue(IndexFieldReference<F> fieldReference, F value) {
+		operations.add( target -> target.addValue( fieldReference, value ) );
+	}
+
+	@Override
+	public DocumentElement addObject(IndexObjectFieldReference fieldReference) {
+		PojoRecordedDocumentElement nested = new PojoRecordedDocumentElement();
+		operations.add( target -> nested.replay( target.addObject( fieldReference ) ) );
+		return nested;
+	}
+
+	@Override
+	public void addNullObject(IndexObjectFieldReference fieldReference) {
+		operations.add( target -> target.addNullObject( fieldReference ) );
+	}
+
+	@Override
+	public void addValue(String relativeFieldName, Object value) {
+		operations.add( target -> target.addValue( relativeFieldName, value ) );
+	}
+
+	@Override
+	public DocumentElement addObject(String relativeFieldName) {
+		PojoRecordedDocumentElement nested = new PojoRecordedDocumentElement();
+		operations.add( target -> nested.replay( target.addObject( relativeFieldName ) ) );
+		return nested;
+	}
+
+	@Override
+	public void addNullObject(String relativeFieldName) {
+		operations.add( target -> target.addNullObject( relativeFieldName ) );
+	}
+
+	void replay(DocumentElement target) {
+		for ( Consumer<DocumentElement> operation : operations ) {
+			operation.accept( target );
+		}
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+
+/**
+ * Remembers which values were already processed by which nodes of reindexing resolvers
+ * during a single {@link PojoIndexingPlanImpl#process() processing} of an indexing plan.
+ * <p>
+ * The entities to reindex resolved from a given value by a given node only depend on that value
+ * and on the dirtiness of the root entity, so when many dirty entities lead to the same value
+ * (e.g. many dirty children of the same parent),
+ * we only need to process that value once per distinct dirtiness of the root entity.
+ */
+final class PojoReindexingResolutionMemo {
+
+	private final Map<RootDirtiness, Set<Visit>> visitsByRootDirtiness = new HashMap<>();
+
+	/**
+	 * @param typeIdentifier The type of the root entity.
+	 * @param forceContainingDirty Whether the root entity is dirty regardless of its dirty paths.
+	 * @param dirtyPaths The dirty paths of the root entity; will be copied.
+	 * @return The values already visited for roots of the given type with the given dirtiness.
+	 * Callers should add values to that set as they visit them.
+	 */
+	Set<Visit> visits(PojoRawTypeIdentifier<?> typeIdentifier, boolean forceContainingDirty, BitSet dirtyPaths) {
+		RootDirtiness key = new RootDirtiness( typeIdentifier, forceContainingDirty,
+				dirtyPaths == null ? null : (BitSet) dirtyPaths.clone() );
+		return visitsByRootDirtiness.computeIfAbsent( key, ignored -> new HashSet<>() );
+	}
+
+	private static final class RootDirtiness {
+		private final PojoRawTypeIdentifier<?> typeIdentifier;
+		private final boolean forceContainingDirty;
+		private final BitSet dirtyPaths;
+
+		private RootDirtiness(PojoRawTypeIdentifier<?> typeIdentifier, boolean forceContainingDirty,
+				BitSet dirtyPaths) {
+			this.typeIdentifier = typeIdentifier;
+			this.forceContainingDirty = forceContainingDirty;
+			this.dirtyPaths = dirtyPaths;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			RootDirtiness that = (RootDirtiness) o;
+			return forceContainingDirty == that.forceContainingDirty
+					&& typeIdentifier.equals( that.typeIdentifier )
+					&& Objects.equals( dirtyPaths, that.dirtyPaths );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( typeIdentifier, forceContainingDirty, dirtyPaths );
+		}
+	}
+
+	/**
+	 * A value visited by a given node, both compared by identity.
+	 */
+	static final class Visit {
+		private final Object node;
+		private final Object value;
+
+		Visit(Object node, Object value) {
+			this.node = node;
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Visit that = (Visit) o;
+			return node == that.node && value == that.value;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode( node ) + System.identityHashCode( value );
+		}
+	}
+}
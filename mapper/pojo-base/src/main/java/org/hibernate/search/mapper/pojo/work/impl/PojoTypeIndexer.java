@@ -45,6 +45,11 @@ public boolean isDeleted(Object unproxiedObject) {
 		return false;
 	}
 
+	@Override
+	public void checkInitialized(Object value) {
+		// Documents are built in the current thread: loading is always possible.
+	}
+
 	CompletableFuture<?> add(Object providedId, DocumentRoutesDescriptor providedRoutes, Object entity,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy,
 			OperationSubmitter operationSubmitter) {
@@ -7,12 +7,15 @@
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoPartialIndexingProcessor;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
 import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
 import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
@@ -29,15 +32,15 @@
 
 	private final PojoWorkIndexedTypeContext<I, E> typeContext;
 	private final PojoWorkSessionContext sessionContext;
-	private final PojoIndexingProcessorRootContext processorContext;
+	private final PojoIndexingPlanImpl root;
 	private final IndexIndexingPlan indexPlan;
 
 	PojoTypeIndexingPlanIndexDelegate(PojoWorkIndexedTypeContext<I, E> typeContext,
-			PojoWorkSessionContext sessionContext, PojoIndexingProcessorRootContext processorContext,
+			PojoWorkSessionContext sessionContext, PojoIndexingPlanImpl root,
 			IndexIndexingPlan indexPlan) {
 		this.typeContext = typeContext;
 		this.sessionContext = sessionContext;
-		this.processorContext = processorContext;
+		this.root = root;
 		this.indexPlan = indexPlan;
 	}
 
@@ -56,8 +59,8 @@ public void add(I identifier, DocumentRouteDescriptor route, Supplier<E> entityS
 		String documentIdentifier = typeContext.toDocumentIdentifier( sessionContext, identifier );
 		DocumentReferenceProvider referenceProvider = new PojoDocumentReferenceProvider( documentIdentifier,
 				route.routingKey(), identifier );
-		indexPlan.add( referenceProvider,
-				typeContext.toDocumentContributor( sessionContext, processorContext, identifier, entitySupplier ) );
+		DocumentContributor documentContributor = toDocumentContributor( identifier, entitySupplier );
+		runOrDefer( () -> indexPlan.add( referenceProvider, documentContributor ) );
 	}
 
 	@Override
@@ -74,8 +77,18 @@ public void addOrUpdate(I identifier, DocumentRoutesDescriptor routes, Supplier<
 		}
 		DocumentReferenceProvider referenceProvider = new PojoDocumentReferenceProvider( documentIdentifier,
 				routes.currentRoute().routingKey(), identifier );
-		indexPlan.addOrUpdate( referenceProvider,
-				typeContext.toDocumentContributor( sessionContext, processorContext, identifier, entitySupplier ) );
+		PojoPartialIndexingProcessor.Selection<E> partialSelection =
+				selectPartialProcessor( routes, forceSelfDirty, dirtyPaths, updatedBecauseOfContained );
+		if ( partialSelection != null ) {
+			DocumentContributor documentContributor = toDocumentContributor( entitySupplier,
+					context -> typeContext.toPartialDocumentContributor( sessionContext, context,
+							identifier, entitySupplier, partialSelection ) );
+			runOrDefer( () -> indexPlan.updatePartially( referenceProvider, partialSelection.fieldReferences(),
+					documentContributor ) );
+			return;
+		}
+		DocumentContributor documentContributor = toDocumentContributor( identifier, entitySupplier );
+		runOrDefer( () -> indexPlan.addOrUpdate( referenceProvider, documentContributor ) );
 	}
 
 	@Override
@@ -90,7 +103,7 @@ public void delete(I identifier, DocumentRoutesDescriptor routes, Supplier<E> en
 		}
 		DocumentReferenceProvider referenceProvider = new PojoDocumentReferenceProvider( documentIdentifier,
 				routes.currentRoute().routingKey(), identifier );
-		indexPlan.delete( referenceProvider );
+		runOrDefer( () -> indexPlan.delete( referenceProvider ) );
 	}
 
 	@Override
@@ -108,7 +121,59 @@ private void delegateDeletePrevious(I identifier, String documentIdentifier,
 		for ( DocumentRouteDescriptor route : previousRoutes ) {
 			DocumentReferenceProvider referenceProvider = new PojoDocumentReferenceProvider( documentIdentifier,
 					route.routingKey(), identifier );
-			indexPlan.delete( referenceProvider );
+			runOrDefer( () -> indexPlan.delete( referenceProvider ) );
+		}
+	}
+
+	private PojoPartialIndexingProcessor.Selection<E> selectPartialProcessor(DocumentRoutesDescriptor routes,
+			boolean forceSelfDirty, BitSet dirtyPaths, boolean updatedBecauseOfContained) {
+		if ( !indexPlan.supportsPartialUpdates()
+				// We need to know exactly what changed in the entity...
+				|| forceSelfDirty || dirtyPaths == null
+				// ... and nothing must have changed in contained entities...
+				|| updatedBecauseOfContained
+				// ... and the document must not have moved.
+				|| !routes.previousRoutes().isEmpty() ) {
+			return null;
+		}
+		return typeContext.selectPartialProcessor( dirtyPaths );
+	}
+
+	private DocumentContributor toDocumentContributor(I identifier, Supplier<E> entitySupplier) {
+		return toDocumentContributor( entitySupplier,
+				context -> typeContext.toDocumentContributor( sessionContext, context, identifier, entitySupplier ) );
+	}
+
+	private DocumentContributor toDocumentContributor(Supplier<E> entitySupplier,
+			Function<PojoIndexingProcessorRootContext, PojoDocumentContributor<E>> contributorFactory) {
+		PojoDocumentContributor<E> contributor = contributorFactory.apply( root );
+		PojoParallelDocumentBuilder parallelBuilder = root.parallelDocumentBuilder();
+		if ( parallelBuilder == null || !typeContext.supportsParallelDocumentBuilding() ) {
+			// Either parallel building is disabled,
+			// or building documents of this type may execute code (getters, bridges, ...)
+			// that could access the session: build the document in the current thread.
+			return contributor;
+		}
+		try {
+			// Retrieve the entity in the current thread, since this may require accessing the session.
+			entitySupplier.get();
+		}
+		catch (RuntimeException e) {
+			// Let the contributor report the failure as it would normally.
+			return contributor;
+		}
+		return parallelBuilder.contributor( contributorFactory.apply( parallelBuilder ), contributor );
+	}
+
+	private void runOrDefer(Runnable indexPlanOperation) {
+		PojoParallelDocumentBuilder parallelBuilder = root.parallelDocumentBuilder();
+		if ( parallelBuilder == null ) {
+			indexPlanOperation.run();
+		}
+		else {
+			// Documents will be built in parallel later:
+			// defer operations to preserve their order.
+			parallelBuilder.defer( indexPlanOperation );
 		}
 	}
 
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.mapper.pojo.work.impl;
 
+import java.util.BitSet;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -15,6 +16,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.DocumentRouter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoPartialIndexingProcessor;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 
@@ -30,8 +32,25 @@ PojoDocumentContributor<E> toDocumentContributor(PojoWorkSessionContext sessionC
 			PojoIndexingProcessorRootContext processorContext,
 			I identifier, Supplier<E> entitySupplier);
 
+	/**
+	 * @param dirtyPaths The dirty paths of an entity.
+	 * @return The parts of the indexing processor to apply in order to update the document partially,
+	 * or {@code null} if the document must be updated as a whole.
+	 */
+	PojoPartialIndexingProcessor.Selection<E> selectPartialProcessor(BitSet dirtyPaths);
+
+	PojoDocumentContributor<E> toPartialDocumentContributor(PojoWorkSessionContext sessionContext,
+			PojoIndexingProcessorRootContext processorContext,
+			I identifier, Supplier<E> entitySupplier, PojoPartialIndexingProcessor.Selection<E> selection);
+
 	PojoPathFilter dirtySelfFilter();
 
+	/**
+	 * @return {@code true} if documents of this type can be built in a thread that does not own the session,
+	 * see {@link org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor#supportsParallelDocumentBuilding()}.
+	 */
+	boolean supportsParallelDocumentBuilding();
+
 	IndexIndexingPlan createIndexingPlan(PojoWorkSessionContext sessionContext,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy);
 
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class PojoPartialIndexingProcessorTest {
+
+	@Mock
+	private PojoPathFilter nonPartialFilterMock;
+	@Mock
+	private PojoPathFilter filter1Mock;
+	@Mock
+	private PojoPathFilter filter2Mock;
+	@Mock
+	private PojoIndexingProcessor<Object> processor1Mock;
+	@Mock
+	private PojoIndexingProcessor<Object> processor2Mock;
+	@Mock
+	private IndexFieldReference<String> field1Mock;
+	@Mock
+	private IndexFieldReference<String> field2Mock;
+	@Mock
+	private IndexFieldReference<String> field3Mock;
+	@Mock
+	private DocumentElement targetMock;
+	@Mock
+	private PojoIndexingProcessorRootContext contextMock;
+	@Mock
+	private PojoIndexingProcessorSessionContext sessionContextMock;
+	@Mock
+	private PojoRuntimeIntrospector introspectorMock;
+
+	private final BitSet dirtyPaths = new BitSet();
+
+	private PojoPartialIndexingProcessor<Object> partialProcessor;
+
+	@BeforeEach
+	void setup() {
+		partialProcessor = new PojoPartialIndexingProcessor<>( nonPartialFilterMock, List.of(
+				new PojoPartialIndexingProcessor.Element<>( filter1Mock, processor1Mock, List.of( field1Mock ) ),
+				new PojoPartialIndexingProcessor.Element<>( filter2Mock, processor2Mock,
+						List.of( field2Mock, field3Mock ) )
+		) );
+	}
+
+	@Test
+	void select_someElements() {
+		when( nonPartialFilterMock.test( dirtyPaths ) ).thenReturn( false );
+		when( filter1Mock.test( dirtyPaths ) ).thenReturn( false );
+		when( filter2Mock.test( dirtyPaths ) ).thenReturn( true );
+
+		PojoPartialIndexingProcessor.Selection<Object> selection = partialProcessor.select( dirtyPaths );
+
+		assertThat( selection ).isNotNull();
+		assertThat( selection.fieldReferences() ).containsExactly( field2Mock, field3Mock );
+
+		Object entity = entity();
+		selection.processor().process( targetMock, entity, contextMock );
+		verify( processor2Mock ).process( targetMock, entity, contextMock );
+		verifyNoInteractions( processor1Mock );
+	}
+
+	@Test
+	void select_allElements() {
+		when( nonPartialFilterMock.test( dirtyPaths ) ).thenReturn( false );
+		when( filter1Mock.test( dirtyPaths ) ).thenReturn( true );
+		when( filter2Mock.test( dirtyPaths ) ).thenReturn( true );
+
+		PojoPartialIndexingProcessor.Selection<Object> selection = partialProcessor.select( dirtyPaths );
+
+		assertThat( selection ).isNotNull();
+		assertThat( selection.fieldReferences() ).containsExactly( field1Mock, field2Mock, field3Mock );
+
+		Object entity = entity();
+		selection.processor().process( targetMock, entity, contextMock );
+		verify( processor1Mock ).process( targetMock, entity, contextMock );
+		verify( processor2Mock ).process( targetMock, entity, contextMock );
+	}
+
+	@Test
+	void select_nonPartial() {
+		when( nonPartialFilterMock.test( dirtyPaths ) ).thenReturn( true );
+
+		// The document must be updated as a whole.
+		assertThat( partialProcessor.select( dirtyPaths ) ).isNull();
+		verifyNoInteractions( filter1Mock, filter2Mock );
+	}
+
+	@Test
+	void select_noElement() {
+		when( nonPartialFilterMock.test( dirtyPaths ) ).thenReturn( false );
+		when( filter1Mock.test( dirtyPaths ) ).thenReturn( false );
+		when( filter2Mock.test( dirtyPaths ) ).thenReturn( false );
+
+		assertThat( partialProcessor.select( dirtyPaths ) ).isNull();
+	}
+
+	@Test
+	void deletedEntity() {
+		when( nonPartialFilterMock.test( dirtyPaths ) ).thenReturn( false );
+		when( filter1Mock.test( dirtyPaths ) ).thenReturn( true );
+		when( filter2Mock.test( dirtyPaths ) ).thenReturn( false );
+		Object entity = entity();
+		when( contextMock.isDeleted( entity ) ).thenReturn( true );
+
+		PojoPartialIndexingProcessor.Selection<Object> selection = partialProcessor.select( dirtyPaths );
+		selection.processor().process( targetMock, entity, contextMock );
+
+		verifyNoInteractions( processor1Mock, processor2Mock, targetMock );
+	}
+
+	private Object entity() {
+		Object entity = new Object();
+		when( contextMock.sessionContext() ).thenReturn( sessionContextMock );
+		when( sessionContextMock.runtimeIntrospector() ).thenReturn( introspectorMock );
+		when( introspectorMock.unproxy( entity ) ).thenReturn( entity );
+		return entity;
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class PojoParallelDocumentBuilderTest {
+
+	@Mock
+	private PojoIndexingProcessorRootContext rootContextMock;
+	@Mock
+	private PojoRuntimeIntrospector introspectorMock;
+	@Mock
+	private IndexFieldReference<String> fieldReferenceMock;
+	@Mock
+	private DocumentElement target1Mock;
+	@Mock
+	private DocumentElement target2Mock;
+
+	private final Collection<Thread> contributingThreads = new ConcurrentLinkedQueue<>();
+
+	private ExecutorService executor;
+	private boolean hasDeletedEntities = false;
+	private PojoParallelDocumentBuilder builder;
+
+	@BeforeEach
+	void setup() {
+		executor = Executors.newFixedThreadPool( 2 );
+		builder = new PojoParallelDocumentBuilder( executor, rootContextMock, introspectorMock,
+				() -> hasDeletedEntities );
+	}
+
+	@AfterEach
+	void cleanup() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void replay() {
+		defer( target1Mock, builder.contributor( contributor( "parallel1" ), contributor( "sequential1" ) ) );
+		defer( target2Mock, builder.contributor( contributor( "parallel2" ), contributor( "sequential2" ) ) );
+
+		builder.flush();
+
+		verify( target1Mock ).addValue( fieldReferenceMock, "parallel1" );
+		verify( target2Mock ).addValue( fieldReferenceMock, "parallel2" );
+		assertThat( contributingThreads )
+				.hasSize( 2 )
+				.doesNotContain( Thread.currentThread() );
+	}
+
+	@Test
+	void singleDocument_callingThread() {
+		defer( target1Mock, builder.contributor( contributor( "parallel1" ), contributor( "sequential1" ) ) );
+
+		builder.flush();
+
+		// Building a single document in a background thread would only add overhead.
+		verify( target1Mock ).addValue( fieldReferenceMock, "sequential1" );
+		assertThat( contributingThreads ).containsExactly( Thread.currentThread() );
+	}
+
+	@Test
+	void uninitializedValue_fallbackToCallingThread() {
+		Object uninitialized = new Object();
+		Object initialized = new Object();
+		when( introspectorMock.isInitialized( uninitialized ) ).thenReturn( false );
+		when( introspectorMock.isInitialized( initialized ) ).thenReturn( true );
+
+		defer( target1Mock, builder.contributor( document -> {
+			builder.checkInitialized( uninitialized );
+			contributor( "parallel1" ).contribute( document );
+		}, contributor( "sequential1" ) ) );
+		defer( target2Mock, builder.contributor( document -> {
+			builder.checkInitialized( initialized );
+			contributor( "parallel2" ).contribute( document );
+		}, contributor( "sequential2" ) ) );
+
+		builder.flush();
+
+		// Nothing recorded before the failure must leak into the document.
+		verify( target1Mock ).addValue( fieldReferenceMock, "sequential1" );
+		verify( target2Mock ).addValue( fieldReferenceMock, "parallel2" );
+		assertThat( contributingThreads ).containsOnlyOnce( Thread.currentThread() );
+	}
+
+	@Test
+	void isDeleted_noDeletedEntity() {
+		hasDeletedEntities = false;
+		Object entity = new Object();
+
+		defer( target1Mock, builder.contributor( document -> {
+			assertThat( builder.isDeleted( entity ) ).isFalse();
+			contributor( "parallel1" ).contribute( document );
+		}, contributor( "sequential1" ) ) );
+		defer( target2Mock, builder.contributor( contributor( "parallel2" ), contributor( "sequential2" ) ) );
+
+		builder.flush();
+
+		verify( target1Mock ).addValue( fieldReferenceMock, "parallel1" );
+		verify( target2Mock ).addValue( fieldReferenceMock, "parallel2" );
+		// Background threads must not access the session, even indirectly.
+		verifyNoInteractions( rootContextMock, introspectorMock );
+	}
+
+	@Test
+	void isDeleted_someDeletedEntities_fallbackToCallingThread() {
+		hasDeletedEntities = true;
+		Object entity = new Object();
+
+		defer( target1Mock, builder.contributor( document -> {
+			builder.isDeleted( entity );
+			contributor( "parallel1" ).contribute( document );
+		}, contributor( "sequential1" ) ) );
+		defer( target2Mock, builder.contributor( contributor( "parallel2" ), contributor( "sequential2" ) ) );
+
+		builder.flush();
+
+		verify( target1Mock ).addValue( fieldReferenceMock, "sequential1" );
+		verify( target2Mock ).addValue( fieldReferenceMock, "parallel2" );
+		verifyNoInteractions( rootContextMock, introspectorMock );
+	}
+
+	@Test
+	void deferredOperations_executedInOrder() {
+		List<String> events = new ArrayList<>();
+		DocumentContributor contributor1 = builder.contributor( contributor( "parallel1" ), contributor( "sequential1" ) );
+		DocumentContributor contributor2 = builder.contributor( contributor( "parallel2" ), contributor( "sequential2" ) );
+		builder.defer( () -> events.add( "delete previous 1" ) );
+		builder.defer( () -> {
+			contributor1.contribute( target1Mock );
+			events.add( "add 1" );
+		} );
+		builder.defer( () -> events.add( "delete 3" ) );
+		builder.defer( () -> {
+			contributor2.contribute( target2Mock );
+			events.add( "add 2" );
+		} );
+
+		// Operations are deferred until the flush.
+		assertThat( events ).isEmpty();
+
+		builder.flush();
+
+		assertThat( events ).containsExactly( "delete previous 1", "add 1", "delete 3", "add 2" );
+		verify( target1Mock ).addValue( fieldReferenceMock, "parallel1" );
+		verify( target2Mock ).addValue( fieldReferenceMock, "parallel2" );
+	}
+
+	@Test
+	void failure_propagatedFromBackgroundThread() {
+		IllegalStateException failure = new IllegalStateException( "Some failure" );
+		List<String> events = new ArrayList<>();
+		DocumentContributor contributor1 = builder.contributor( document -> {
+			throw failure;
+		}, contributor( "sequential1" ) );
+		DocumentContributor contributor2 = builder.contributor( contributor( "parallel2" ), contributor( "sequential2" ) );
+		builder.defer( () -> {
+			events.add( "add 1" );
+			contributor1.contribute( target1Mock );
+		} );
+		builder.defer( () -> {
+			events.add( "add 2" );
+			contributor2.contribute( target2Mock );
+		} );
+
+		assertThatThrownBy( builder::flush )
+				.isSameAs( failure );
+
+		// Unexpected failures must not trigger a fallback to the calling thread.
+		verifyNoInteractions( target1Mock, target2Mock );
+		assertThat( events ).containsExactly( "add 1" );
+		assertThat( contributingThreads ).doesNotContain( Thread.currentThread() );
+
+		// The builder can be reused after a failure.
+		defer( target1Mock, builder.contributor( contributor( "parallel1" ), contributor( "sequential1" ) ) );
+		builder.flush();
+		verify( target1Mock ).addValue( fieldReferenceMock, "sequential1" );
+	}
+
+	private void defer(DocumentElement target, DocumentContributor contributor) {
+		builder.defer( () -> contributor.contribute( target ) );
+	}
+
+	private DocumentContributor contributor(String value) {
+		return document -> {
+			contributingThreads.add( Thread.currentThread() );
+			document.addValue( fieldReferenceMock, value );
+		};
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+
+import org.junit.jupiter.api.Test;
+
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class PojoRecordedDocumentElementTest {
+
+	@Mock
+	private DocumentElement targetMock;
+	@Mock
+	private DocumentElement nestedTargetMock;
+	@Mock
+	private DocumentElement dynamicNestedTargetMock;
+	@Mock
+	private IndexFieldReference<String> fieldReferenceMock;
+	@Mock
+	private IndexFieldReference<Integer> nestedFieldReferenceMock;
+	@Mock
+	private IndexObjectFieldReference objectFieldReferenceMock;
+	@Mock
+	private IndexObjectFieldReference nullObjectFieldReferenceMock;
+
+	@Test
+	void replay() {
+		PojoRecordedDocumentElement recorded = new PojoRecordedDocumentElement();
+		recorded.addValue( fieldReferenceMock, "value1" );
+		DocumentElement nested = recorded.addObject( objectFieldReferenceMock );
+		nested.addValue( nestedFieldReferenceMock, 42 );
+		recorded.addNullObject( nullObjectFieldReferenceMock );
+		DocumentElement dynamicNested = recorded.addObject( "dynamicObject" );
+		dynamicNested.addValue( "dynamicField", "dynamicValue" );
+		recorded.addNullObject( "dynamicNullObject" );
+		// Values added to a nested element after subsequent operations on its parent
+		// must still end up in the nested element.
+		nested.addValue( nestedFieldReferenceMock, 43 );
+		recorded.addValue( fieldReferenceMock, "value2" );
+
+		// Nothing happens until the document is replayed.
+		verifyNoInteractions( targetMock );
+
+		when( targetMock.addObject( objectFieldReferenceMock ) ).thenReturn( nestedTargetMock );
+		when( targetMock.addObject( "dynamicObject" ) ).thenReturn( dynamicNestedTargetMock );
+
+		recorded.replay( targetMock );
+
+		InOrder inOrder = inOrder( targetMock, nestedTargetMock, dynamicNestedTargetMock );
+		inOrder.verify( targetMock ).addValue( fieldReferenceMock, "value1" );
+		inOrder.verify( targetMock ).addObject( objectFieldReferenceMock );
+		inOrder.verify( nestedTargetMock ).addValue( nestedFieldReferenceMock, 42 );
+		inOrder.verify( nestedTargetMock ).addValue( nestedFieldReferenceMock, 43 );
+		inOrder.verify( targetMock ).addNullObject( nullObjectFieldReferenceMock );
+		inOrder.verify( targetMock ).addObject( "dynamicObject" );
+		inOrder.verify( dynamicNestedTargetMock ).addValue( "dynamicField", "dynamicValue" );
+		inOrder.verify( targetMock ).addNullObject( "dynamicNullObject" );
+		inOrder.verify( targetMock ).addValue( fieldReferenceMock, "value2" );
+		inOrder.verifyNoMoreInteractions();
+	}
+
+	@Test
+	void replay_multipleTimes() {
+		PojoRecordedDocumentElement recorded = new PojoRecordedDocumentElement();
+		recorded.addValue( fieldReferenceMock, "value1" );
+
+		recorded.replay( targetMock );
+		recorded.replay( nestedTargetMock );
+
+		InOrder inOrder = inOrder( targetMock, nestedTargetMock );
+		inOrder.verify( targetMock ).addValue( fieldReferenceMock, "value1" );
+		inOrder.verify( nestedTargetMock ).addValue( fieldReferenceMock, "value1" );
+		inOrder.verifyNoMoreInteractions();
+	}
+
+}
@@ -42,6 +42,25 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Loads each batch of entities in its own virtual thread,
+	 * instead of using a fixed number of {@link #threadsToLoadObjects(int) threads}.
+	 * <p>
+	 * Loading entities is mostly waiting for the database:
+	 * with virtual threads, loading concurrency is limited by the given number of concurrent batches
+	 * instead of by the number of threads,
+	 * and should generally be set to the number of database connections available for mass indexing.
+	 * <p>
+	 * When enabled, {@link #threadsToLoadObjects(int)} is ignored.
+	 * Requires Java 21 or later.
+	 *
+	 * @param maxConcurrentBatches The maximum number of batches loaded concurrently, for each entity type group.
+	 * @return {@code this} for method chaining
+	 * @throws org.hibernate.search.util.common.SearchException If virtual threads are not available in this JVM.
+	 */
+	@Incubating
+	MassIndexer loadObjectsInVirtualThreads(int maxConcurrentBatches);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
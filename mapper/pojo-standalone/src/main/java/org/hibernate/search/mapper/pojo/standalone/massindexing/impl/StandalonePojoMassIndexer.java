@@ -35,6 +35,12 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer loadObjectsInVirtualThreads(int maxConcurrentBatches) {
+		delegate.loadObjectsInVirtualThreads( maxConcurrentBatches );
+		return this;
+	}
+
 	@Override
 	public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		context.batchSize( batchSize );
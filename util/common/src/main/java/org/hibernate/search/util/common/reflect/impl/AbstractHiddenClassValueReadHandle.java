@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.util.common.reflect.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Member;
+
+import org.hibernate.search.util.common.impl.Throwables;
+import org.hibernate.search.util.common.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+/**
+ * A value read handle implemented by a hidden class generated specifically for a given field/method.
+ * <p>
+ * Each hidden class is defined from the bytecode of {@link HiddenClassValueReadHandleTemplate},
+ * with the {@link MethodHandle} of the field/method as class data,
+ * so that the method handle ends up in a {@code static final} field
+ * and can be inlined by the JIT like a direct call to the field/method.
+ * By contrast, a {@link MethodHandleValueReadHandle} stores its method handle in an instance field,
+ * which prevents such inlining.
+ *
+ * @param <T> The value type.
+ */
+public abstract class AbstractHiddenClassValueReadHandle<T> implements ValueReadHandle<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private static final byte[] TEMPLATE_BYTECODE = loadTemplateBytecode();
+
+	/**
+	 * @param member The field/method to read.
+	 * @param getter A method handle reading the field/method.
+	 * @return A handle relying on a hidden class generated specifically for the given field/method,
+	 * or a {@link MethodHandleValueReadHandle} if hidden classes cannot be defined in the current environment.
+	 */
+	public static ValueReadHandle<?> create(Member member, MethodHandle getter) {
+		if ( TEMPLATE_BYTECODE != null ) {
+			try {
+				MethodHandles.Lookup hiddenClassLookup = MethodHandles.lookup()
+						.defineHiddenClassWithClassData( TEMPLATE_BYTECODE, getter.asType( GETTER_TYPE ), true );
+				return (ValueReadHandle<?>) hiddenClassLookup
+						.findConstructor( hiddenClassLookup.lookupClass(),
+								MethodType.methodType( void.class, Member.class ) )
+						.invoke( member );
+			}
+			catch (LinkageError e) {
+				// e.g. VerifyError or ClassFormatError if the template bytecode cannot be used in this JVM.
+				logFallback( member, e );
+			}
+			catch (Error e) {
+				throw e;
+			}
+			catch (Throwable e) {
+				logFallback( member, e );
+			}
+		}
+		return new MethodHandleValueReadHandle<>( member, getter );
+	}
+
+	private static void logFallback(Member member, Throwable e) {
+		log.debugf( e, "Unable to generate a hidden class to read '%1$s'; falling back to a method handle",
+				member );
+	}
+
+	private static byte[] loadTemplateBytecode() {
+		String resourceName = HiddenClassValueReadHandleTemplate.class.getSimpleName() + ".class";
+		try ( InputStream stream = HiddenClassValueReadHandleTemplate.class.getResourceAsStream( resourceName ) ) {
+			// The bytecode may not be available, e.g. in native images.
+			return stream == null ? null : stream.readAllBytes();
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to load the bytecode of '%1$s'; hidden classes will not be used to read values",
+					resourceName );
+			return null;
+		}
+	}
+
+	private final Member member;
+
+	AbstractHiddenClassValueReadHandle(Member member) {
+		this.member = member;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + member + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return member.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		// Each hidden class is different, so we can't rely on getClass() here.
+		if ( !( obj instanceof AbstractHiddenClassValueReadHandle ) ) {
+			return false;
+		}
+		AbstractHiddenClassValueReadHandle<?> other = (AbstractHiddenClassValueReadHandle<?>) obj;
+		return member.equals( other.member );
+	}
+
+	final RuntimeException errorInvokingMember(Throwable e, Object thiz) {
+		if ( e instanceof InterruptedException ) {
+			Thread.currentThread().interrupt();
+		}
+		return log.errorInvokingMember( member, Throwables.safeToString( e, thiz ), e, e.getMessage() );
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.util.common.reflect.impl;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Member;
+
+/**
+ * The template for hidden classes defined by {@link AbstractHiddenClassValueReadHandle#create(Member, MethodHandle)}.
+ * <p>
+ * This class is never instantiated directly:
+ * only hidden classes defined from its bytecode are, each with its own class data.
+ */
+final class HiddenClassValueReadHandleTemplate extends AbstractHiddenClassValueReadHandle<Object> {
+
+	private static final MethodHandle GETTER;
+
+	static {
+		try {
+			GETTER = MethodHandles.classData( MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME,
+					MethodHandle.class );
+		}
+		catch (IllegalAccessException e) {
+			throw new ExceptionInInitializerError( e );
+		}
+	}
+
+	HiddenClassValueReadHandleTemplate(Member member) {
+		super( member );
+	}
+
+	@Override
+	public Object get(Object thiz) {
+		try {
+			return GETTER.invokeExact( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw errorInvokingMember( e, thiz );
+		}
+	}
+
+}
@@ -35,4 +35,16 @@ static ValueHandleFactory usingMethodHandle(MethodHandles.Lookup lookup) {
 		return new MethodHandleValueHandleFactory( lookup );
 	}
 
+	/**
+	 * @param lookup A lookup with sufficient access rights to access all relevant fields and methods.
+	 * @return A factory producing value handles that rely on {@link java.lang.invoke.MethodHandle}
+	 * to get the value of a field/method,
+	 * with one hidden class generated for each field/method so that the JIT can inline the access.
+	 * Falls back to the same behavior as {@link #usingMethodHandle(MethodHandles.Lookup)}
+	 * if hidden classes cannot be generated in the current environment.
+	 */
+	static ValueHandleFactory usingHiddenClasses(MethodHandles.Lookup lookup) {
+		return new HiddenClassValueHandleFactory( lookup );
+	}
+
 }
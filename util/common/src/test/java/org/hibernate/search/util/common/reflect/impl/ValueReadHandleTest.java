@@ -35,6 +35,7 @@ public static List<? extends Arguments> params() {
 		MethodHandles.Lookup lookup = MethodHandles.lookup();
 		return Arrays.asList(
 				Arguments.of( ValueHandleFactory.usingMethodHandle( lookup ) ),
+				Arguments.of( ValueHandleFactory.usingHiddenClasses( lookup ) ),
 				Arguments.of( ValueHandleFactory.usingJavaLangReflect() )
 		);
 	}
@@ -148,7 +149,8 @@ void failure_method_runtimeException(ValueHandleFactory factory) throws Exceptio
 	@MethodSource("params")
 	void failure_method_illegalAccessException(ValueHandleFactory factory) throws Exception {
 		assumeFalse(
-				factory.getClass().getSimpleName().contains( "MethodHandle" ),
+				factory.getClass().getSimpleName().contains( "MethodHandle" )
+						|| factory.getClass().getSimpleName().contains( "HiddenClass" ),
 				"Cannot test IllegalAccessException with MethodHandles: "
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method."
@@ -171,7 +173,8 @@ void failure_method_illegalAccessException(ValueHandleFactory factory) throws Ex
 	@MethodSource("params")
 	void failure_field_illegalAccessException(ValueHandleFactory factory) throws Exception {
 		assumeFalse(
-				factory.getClass().getSimpleName().contains( "MethodHandle" ),
+				factory.getClass().getSimpleName().contains( "MethodHandle" )
+						|| factory.getClass().getSimpleName().contains( "HiddenClass" ),
 				"Cannot test IllegalAccessException with MethodHandles: "
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method."
@@ -223,6 +226,7 @@ private void testFieldValueReadHandleSuccess(ValueHandleFactory factory, String
 		setAccessible( otherField );
 
 		ValueReadHandle<?> valueReadHandle = factory.createForField( field );
+		assertExpectedImplementation( factory, valueReadHandle );
 
 		assertThat( valueReadHandle.get( new EntityType() ) ).isEqualTo( expectedValue );
 
@@ -246,6 +250,7 @@ private void testMethodValueReadHandleSuccess(ValueHandleFactory factory, String
 		setAccessible( otherMethod );
 
 		ValueReadHandle<?> valueReadHandle = factory.createForMethod( method );
+		assertExpectedImplementation( factory, valueReadHandle );
 		assertThat( valueReadHandle.get( new EntityType() ) ).isEqualTo( expectedValue );
 
 		assertThat( valueReadHandle.toString() )
@@ -259,6 +264,14 @@ private void testMethodValueReadHandleSuccess(ValueHandleFactory factory, String
 		assertThat( valueReadHandle ).isNotEqualTo( differentMethodValueReadHandle );
 	}
 
+	private static void assertExpectedImplementation(ValueHandleFactory factory, ValueReadHandle<?> valueReadHandle) {
+		if ( factory.getClass().getSimpleName().contains( "HiddenClass" ) ) {
+			// Make sure we didn't silently fall back to a method handle.
+			assertThat( valueReadHandle ).isInstanceOf( AbstractHiddenClassValueReadHandle.class );
+			assertThat( valueReadHandle.getClass().isHidden() ).isTrue();
+		}
+	}
+
 	private static void setAccessible(Member member) {
 		if ( !Modifier.isPublic( member.getModifiers() ) ) {
 			( (AccessibleObject) member ).setAccessible( true );
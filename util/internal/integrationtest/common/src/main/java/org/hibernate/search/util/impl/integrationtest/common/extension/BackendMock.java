@@ -474,6 +474,11 @@ public DocumentWorkCallListContext addOrUpdate(String id,
 			return documentWork( StubDocumentWork.Type.ADD_OR_UPDATE, id, documentContributor );
 		}
 
+		public DocumentWorkCallListContext updatePartially(String id,
+				Consumer<StubDocumentNode.Builder> documentContributor) {
+			return documentWork( StubDocumentWork.Type.UPDATE_PARTIALLY, id, documentContributor );
+		}
+
 		public DocumentWorkCallListContext delete(String id) {
 			return documentWork( StubDocumentWork.Type.DELETE, b -> b.identifier( id ) );
 		}
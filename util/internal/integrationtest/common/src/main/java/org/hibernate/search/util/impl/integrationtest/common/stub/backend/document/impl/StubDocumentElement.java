@@ -5,6 +5,9 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -20,6 +23,7 @@ public class StubDocumentElement implements DocumentElement {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final StubDocumentNode.Builder builder;
+	private final Set<String> fieldsWithValue = new HashSet<>();
 
 	public StubDocumentElement(StubDocumentNode.Builder builder) {
 		this.builder = builder;
@@ -71,6 +75,26 @@ public void addValue(String relativeFieldName, Object value) {
 		// This will ignore the prefix that may need to be prepended to the field name for dynamic fields
 		// when using @IndexedEmbedded(prefix = ...), but that's fine because it's just for tests.
 		builder.field( relativeFieldName, value );
+		fieldsWithValue.add( relativeFieldName );
+	}
+
+	/**
+	 * Explicitly adds a {@code null} value to the given fields if they did not receive any value,
+	 * similarly to what a backend would do to clear them in a partial update.
+	 *
+	 * @param fieldReferences References to value fields of the node this element is about.
+	 */
+	public void clearFieldsWithoutValue(Collection<? extends IndexFieldReference<?>> fieldReferences) {
+		for ( IndexFieldReference<?> fieldReference : fieldReferences ) {
+			StubIndexFieldReference<?> stubFieldReference = (StubIndexFieldReference<?>) fieldReference;
+			if ( TreeNodeInclusion.EXCLUDED.equals( stubFieldReference.getInclusion() ) ) {
+				continue;
+			}
+			String relativeFieldName = stubFieldReference.getRelativeFieldName();
+			if ( !fieldsWithValue.contains( relativeFieldName ) ) {
+				addValue( relativeFieldName, null );
+			}
+		}
 	}
 
 	@Override
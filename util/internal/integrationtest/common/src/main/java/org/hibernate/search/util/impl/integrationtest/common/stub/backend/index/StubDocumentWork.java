@@ -15,7 +15,7 @@
 public final class StubDocumentWork implements ToStringTreeAppendable {
 
 	public enum Type {
-		ADD, ADD_OR_UPDATE, DELETE
+		ADD, ADD_OR_UPDATE, UPDATE_PARTIALLY, DELETE
 	}
 
 	public static Builder builder(Type type) {
@@ -5,10 +5,12 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -29,19 +31,22 @@ class StubIndexIndexingPlan implements IndexIndexingPlan {
 	private final BackendSessionContext sessionContext;
 	private final DocumentCommitStrategy commitStrategy;
 	private final DocumentRefreshStrategy refreshStrategy;
+	private final boolean partialUpdatesEnabled;
 
 	private final List<StubDocumentWork> works = new ArrayList<>();
 
 	StubIndexIndexingPlan(String indexName, String typeName,
 			StubBackendBehavior behavior,
 			BackendSessionContext sessionContext,
-			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy,
+			boolean partialUpdatesEnabled) {
 		this.indexName = indexName;
 		this.typeName = typeName;
 		this.sessionContext = sessionContext;
 		this.behavior = behavior;
 		this.commitStrategy = commitStrategy;
 		this.refreshStrategy = refreshStrategy;
+		this.partialUpdatesEnabled = partialUpdatesEnabled;
 	}
 
 	@Override
@@ -72,6 +77,27 @@ public void addOrUpdate(DocumentReferenceProvider documentReferenceProvider,
 		addWork( builder.build() );
 	}
 
+	@Override
+	public boolean supportsPartialUpdates() {
+		return partialUpdatesEnabled;
+	}
+
+	@Override
+	public void updatePartially(DocumentReferenceProvider documentReferenceProvider,
+			Collection<? extends IndexFieldReference<?>> fieldReferences,
+			DocumentContributor documentContributor) {
+		StubDocumentWork.Builder builder = StubDocumentWork.builder( StubDocumentWork.Type.UPDATE_PARTIALLY );
+		populate( builder, documentReferenceProvider );
+		StubDocumentNode.Builder documentBuilder = StubDocumentNode.document();
+		StubDocumentElement documentElement = new StubDocumentElement( documentBuilder );
+		documentContributor.contribute( documentElement );
+		documentElement.clearFieldsWithoutValue( fieldReferences );
+		builder.document( documentBuilder.build() );
+		builder.commit( commitStrategy );
+		builder.refresh( refreshStrategy );
+		addWork( builder.build() );
+	}
+
 	@Override
 	public void delete(DocumentReferenceProvider documentReferenceProvider) {
 		StubDocumentWork.Builder builder = StubDocumentWork.builder( StubDocumentWork.Type.DELETE );
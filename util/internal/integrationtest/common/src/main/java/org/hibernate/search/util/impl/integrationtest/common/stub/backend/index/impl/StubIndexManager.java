@@ -27,6 +27,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.model.impl.StubIndexModel;
 import org.hibernate.search.util.impl.test.extension.StaticCounters;
@@ -36,11 +37,23 @@ public class StubIndexManager implements IndexManagerImplementor, IndexManager {
 	public static final StaticCounters.Key INSTANCE_COUNTER_KEY = StaticCounters.createKey();
 	public static final StaticCounters.Key STOP_COUNTER_KEY = StaticCounters.createKey();
 
+	/**
+	 * Whether indexing plans of this index support partial updates.
+	 */
+	public static final String PARTIAL_UPDATES = "indexing.partial_updates";
+
+	private static final ConfigurationProperty<Boolean> PARTIAL_UPDATES_PROPERTY =
+			ConfigurationProperty.forKey( PARTIAL_UPDATES )
+					.asBoolean()
+					.withDefault( false )
+					.build();
+
 	private final StubBackend backend;
 	private final String name;
 	private final StubIndexModel model;
 
 	private State state = State.STOPPED;
+	private boolean partialUpdatesEnabled;
 
 	StubIndexManager(StubBackend backend, String name, StubIndexModel model) {
 		StaticCounters.get().increment( INSTANCE_COUNTER_KEY );
@@ -53,7 +66,7 @@ public class StubIndexManager implements IndexManagerImplementor, IndexManager {
 	@Override
 	public void start(IndexManagerStartContext context) {
 		this.state = State.STARTED;
-		// Nothing to do
+		this.partialUpdatesEnabled = PARTIAL_UPDATES_PROPERTY.get( context.configurationPropertySource() );
 	}
 
 	@Override
@@ -97,7 +110,7 @@ public IndexIndexingPlan createIndexingPlan(BackendSessionContext context,
 		checkStarted();
 		return new StubIndexIndexingPlan(
 				name, model.mappedTypeName(), backend.getBehavior(),
-				context, commitStrategy, refreshStrategy
+				context, commitStrategy, refreshStrategy, partialUpdatesEnabled
 		);
 	}
 